@@ -0,0 +1,92 @@
+package org.example.coursetrackingautomation.config;
+
+import jakarta.annotation.PostConstruct;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.example.coursetrackingautomation.repository.EnrollmentRepository;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+/**
+ * Ensures the {@code (enrollment_id, week_number)} unique constraint of {@code attendance_records} exists
+ * before the application starts.
+ *
+ * <p>The attendance upserts rely on {@code ON CONFLICT (enrollment_id, week_number)}, which fails at runtime
+ * without a matching unique index. {@code ddl-auto=update} only logs a failure to add the constraint, which
+ * is what happens on databases holding the duplicate rows the earlier read-then-insert path could create.
+ * This initializer therefore deletes the duplicates (keeping the most recently updated row of each
+ * enrollment-week), recounts the absenteeism of the affected enrollments from the remaining rows in the
+ * same transaction, adds the constraint, and aborts startup if it is still missing.</p>
+ */
+public class AttendanceRecordSchemaInitializer {
+
+    static final String CONSTRAINT_NAME = "uk_attendance_record_enrollment_week";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EnrollmentRepository enrollmentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public AttendanceRecordSchemaInitializer(JdbcTemplate jdbcTemplate, EnrollmentRepository enrollmentRepository,
+            PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enrollmentRepository = enrollmentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    /**
+     * Removes duplicate enrollment-week rows and adds the unique constraint if it is missing.
+     *
+     * @throws IllegalStateException if the constraint cannot be created
+     */
+    public void ensureUniqueEnrollmentWeek() {
+        if (constraintExists()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // Serializes concurrently starting clients and blocks writers while duplicates are removed.
+                jdbcTemplate.execute("lock table attendance_records in share row exclusive mode");
+                if (constraintExists()) {
+                    return;
+                }
+                List<Long> affectedEnrollmentIds = jdbcTemplate.queryForList(
+                    "delete from attendance_records a using attendance_records b " +
+                    "where a.enrollment_id = b.enrollment_id and a.week_number = b.week_number " +
+                    "and (coalesce(a.updated_at, a.created_at), a.id) < (coalesce(b.updated_at, b.created_at), b.id) " +
+                    "returning a.enrollment_id",
+                    Long.class
+                );
+                if (!affectedEnrollmentIds.isEmpty()) {
+                    Long[] enrollmentIds = affectedEnrollmentIds.stream().distinct().toArray(Long[]::new);
+                    enrollmentRepository.recountAbsenteeismFromRecords(enrollmentIds);
+                    log.warn("Deleted {} duplicate attendance records of {} enrollments before adding {}",
+                        affectedEnrollmentIds.size(), enrollmentIds.length, CONSTRAINT_NAME);
+                }
+                jdbcTemplate.execute("alter table attendance_records add constraint " + CONSTRAINT_NAME +
+                    " unique (enrollment_id, week_number)");
+                log.info("Unique constraint {} added to attendance_records", CONSTRAINT_NAME);
+            });
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("attendance_records tablosuna " + CONSTRAINT_NAME + " kısıtı eklenemedi", e);
+        }
+        if (!constraintExists()) {
+            throw new IllegalStateException("attendance_records tablosunda " + CONSTRAINT_NAME + " kısıtı bulunamadı");
+        }
+    }
+
+    private boolean constraintExists() {
+        Integer count = jdbcTemplate.queryForObject(
+            "select count(*) from pg_constraint where conname = ? and conrelid = 'attendance_records'::regclass",
+            Integer.class,
+            CONSTRAINT_NAME
+        );
+        return count != null && count > 0;
+    }
+}
@@ -12,6 +12,7 @@ import org.example.coursetrackingautomation.dto.CreateUserRequest;
 import org.example.coursetrackingautomation.dto.RoleDTO;
 import org.example.coursetrackingautomation.entity.*;
 import org.example.coursetrackingautomation.repository.*;
+import org.example.coursetrackingautomation.service.AcademicSummaryService;
 import org.example.coursetrackingautomation.service.GradeService;
 import org.example.coursetrackingautomation.service.UserService;
 import org.springframework.boot.CommandLineRunner;
@@ -70,6 +71,7 @@ public class DataSeeder implements CommandLineRunner {
     private final GradeRepository gradeRepository;
     private final AttendanceRecordRepository attendanceRecordRepository;
     private final GradeService gradeService;
+    private final AcademicSummaryService academicSummaryService;
 
     @Override
     @Transactional
@@ -99,6 +101,7 @@ public class DataSeeder implements CommandLineRunner {
         if (enrollmentRepository.count() == 0) {
             log.info("Seeding Enrollments, Grades, and Attendance...");
             seedEnrollmentsGradesAndAttendance(students, courses);
+            academicSummaryService.rebuildAll();
         } else {
             log.info("Enrollment data already exists. Skipping.");
         }
@@ -0,0 +1,139 @@
+package org.example.coursetrackingautomation.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.jvm.JvmGcMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
+import io.micrometer.core.instrument.binder.system.ProcessorMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.example.coursetrackingautomation.diagnostics.HibernateStatisticsMetrics;
+import org.example.coursetrackingautomation.diagnostics.MethodTimingInterceptor;
+import org.example.coursetrackingautomation.diagnostics.MethodTimingPointcut;
+import org.hibernate.SessionFactory;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+@Configuration
+/**
+ * Declares the local Micrometer registry and the instrumentation feeding it.
+ *
+ * <p>The registry is also added to {@link Metrics#globalRegistry} so that static UI helpers such as
+ * {@code FxAsync} can record meters without being Spring beans.</p>
+ */
+public class MetricsConfig {
+
+    @Bean
+    /**
+     * Creates the in-memory registry shared by all instrumentation.
+     *
+     * @return meter registry
+     */
+    public MeterRegistry meterRegistry() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        new JvmMemoryMetrics().bindTo(registry);
+        new JvmThreadMetrics().bindTo(registry);
+        new ProcessorMetrics().bindTo(registry);
+        return registry;
+    }
+
+    @Bean
+    /**
+     * Binds garbage collection metrics; closed together with the context.
+     *
+     * @param meterRegistry target registry
+     * @return GC metrics binder
+     */
+    public JvmGcMetrics jvmGcMetrics(MeterRegistry meterRegistry) {
+        JvmGcMetrics gcMetrics = new JvmGcMetrics();
+        gcMetrics.bindTo(meterRegistry);
+        return gcMetrics;
+    }
+
+    @Bean
+    /**
+     * Binds Hibernate statistics counters.
+     *
+     * @param entityManagerFactory JPA entity manager factory
+     * @param meterRegistry target registry
+     * @return Hibernate statistics binder
+     */
+    public HibernateStatisticsMetrics hibernateStatisticsMetrics(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        HibernateStatisticsMetrics metrics = new HibernateStatisticsMetrics(
+            entityManagerFactory.unwrap(SessionFactory.class).getStatistics()
+        );
+        metrics.bindTo(meterRegistry);
+        return metrics;
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    /**
+     * Times every public service and repository method.
+     *
+     * <p>Declared as an infrastructure advisor so it is applied by the same auto-proxy creator as
+     * {@code @Transactional}; it runs outermost so commit time is included.</p>
+     *
+     * @param meterRegistryProvider lazily resolved registry
+     * @return timing advisor
+     */
+    public static Advisor methodTimingAdvisor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+            new MethodTimingPointcut(),
+            new MethodTimingInterceptor(meterRegistryProvider)
+        );
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    /**
+     * Attaches Hikari pool metrics before the pool is started.
+     *
+     * @param meterRegistryProvider lazily resolved registry
+     * @return bean post-processor registering the registry on Hikari data sources
+     */
+    public static BeanPostProcessor hikariMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                HikariDataSource hikari = unwrapHikari(bean);
+                if (hikari != null
+                    && hikari.getMetricRegistry() == null
+                    && hikari.getMetricsTrackerFactory() == null) {
+                    MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+                    if (registry != null) {
+                        hikari.setMetricRegistry(registry);
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static HikariDataSource unwrapHikari(Object bean) {
+        if (bean instanceof HikariDataSource hikari) {
+            return hikari;
+        }
+        if (bean instanceof DataSource dataSource) {
+            try {
+                return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+            } catch (SQLException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.coursetrackingautomation.config;
+
+import org.example.coursetrackingautomation.diagnostics.SqlStatementTracker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+/**
+ * Applies the {@code app.diagnostics.sql.*} properties to the SQL statement tracker.
+ *
+ * <p>The tracker is fed by a Hibernate statement inspector that is created outside of Spring,
+ * so its settings are pushed into static state once the context starts.</p>
+ */
+public class SqlDiagnosticsConfig {
+
+    /**
+     * Configures the N+1 detector.
+     *
+     * @param nPlusOneDetection whether repeated query shapes should be reported
+     * @param nPlusOneThreshold maximum repetitions of one query shape per transaction before warning
+     */
+    public SqlDiagnosticsConfig(
+        @Value("${app.diagnostics.sql.n-plus-one-detection:true}") boolean nPlusOneDetection,
+        @Value("${app.diagnostics.sql.n-plus-one-threshold:10}") int nPlusOneThreshold
+    ) {
+        SqlStatementTracker.configure(nPlusOneDetection, nPlusOneThreshold);
+    }
+}
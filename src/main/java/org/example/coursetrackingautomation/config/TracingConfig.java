@@ -0,0 +1,49 @@
+package org.example.coursetrackingautomation.config;
+
+import javax.sql.DataSource;
+import org.example.coursetrackingautomation.diagnostics.Tracer;
+import org.example.coursetrackingautomation.diagnostics.TracingDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+/**
+ * Applies the {@code app.diagnostics.tracing.*} properties and wraps the data source for SQL spans.
+ *
+ * <p>The tracer is static so that non-bean UI helpers can propagate trace context; its settings are
+ * pushed into static state once the context starts.</p>
+ */
+public class TracingConfig {
+
+    /**
+     * Enables or disables tracing.
+     *
+     * @param tracingEnabled whether spans should be recorded
+     */
+    public TracingConfig(@Value("${app.diagnostics.tracing.enabled:false}") boolean tracingEnabled) {
+        Tracer.configure(tracingEnabled);
+    }
+
+    @Bean
+    /**
+     * Wraps data sources so that JDBC statements executed inside a trace are recorded as spans.
+     *
+     * @param tracingEnabled whether tracing is enabled; when disabled, data sources are left untouched
+     * @return bean post-processor wrapping data sources in {@link TracingDataSource}
+     */
+    public static BeanPostProcessor tracingDataSourcePostProcessor(
+        @Value("${app.diagnostics.tracing.enabled:false}") boolean tracingEnabled
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (tracingEnabled && bean instanceof DataSource dataSource && !(bean instanceof TracingDataSource)) {
+                    return new TracingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
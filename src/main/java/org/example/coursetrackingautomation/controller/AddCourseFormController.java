@@ -9,7 +9,7 @@ import org.example.coursetrackingautomation.dto.CreateCourseRequest;
 import org.example.coursetrackingautomation.dto.RoleDTO;
 import org.example.coursetrackingautomation.dto.SelectOptionDTO;
 import org.example.coursetrackingautomation.service.CourseService;
-import org.example.coursetrackingautomation.service.UserService;
+import org.example.coursetrackingautomation.service.ReferenceDataService;
 import org.example.coursetrackingautomation.ui.FxAsync;
 import org.example.coursetrackingautomation.ui.UiConstants;
 import org.example.coursetrackingautomation.ui.UiExceptionHandler;
@@ -37,7 +37,7 @@ public class AddCourseFormController {
     @FXML private TextField weeklyPracticeHoursField;
 
     private final CourseService courseService;
-    private final UserService userService;
+    private final ReferenceDataService referenceDataService;
     private final UiExceptionHandler uiExceptionHandler;
 
     @FXML
@@ -52,7 +52,7 @@ public class AddCourseFormController {
         FormValidation.applyDigitsOnly(weeklyPracticeHoursField, 3);
 
         FxAsync.runAsync(
-            () -> userService.getActiveUserOptionsByRole(RoleDTO.INSTRUCTOR),
+            () -> referenceDataService.getActiveUserOptions(RoleDTO.INSTRUCTOR),
             instructors -> instructorComboBox.setItems(FXCollections.observableArrayList(instructors)),
             uiExceptionHandler::handle
         );
@@ -6,6 +6,7 @@ import javafx.scene.control.Label;
 import javafx.scene.control.TableView;
 import javafx.scene.control.TextField;
 import javafx.scene.control.ComboBox;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,7 +14,11 @@ import org.example.coursetrackingautomation.config.UserSession;
 import org.example.coursetrackingautomation.controller.admin.AdminDashboardCoordinator;
 import org.example.coursetrackingautomation.dto.*;
 import org.example.coursetrackingautomation.service.AdminDashboardService;
+import org.example.coursetrackingautomation.service.AttendanceRiskService;
+import org.example.coursetrackingautomation.service.ChangeFeedService;
 import org.example.coursetrackingautomation.service.CourseService;
+import org.example.coursetrackingautomation.service.DiagnosticsService;
+import org.example.coursetrackingautomation.service.DomainEventBus;
 import org.example.coursetrackingautomation.ui.SceneNavigator;
 import org.example.coursetrackingautomation.ui.UiExceptionHandler;
 import org.example.coursetrackingautomation.util.AlertUtil;
@@ -25,12 +30,16 @@ import org.springframework.stereotype.Component;
 /**
  * JavaFX controller for the admin dashboard.
  *
- * <p>Provides navigation between admin views (users/courses/enrollments/attendance), supports
+ * <p>Provides navigation between admin views (users/courses/enrollments/attendance/attendance risk/diagnostics), supports
  * search/filter interactions, and delegates business operations to the service layer.</p>
  */
 public class AdminDashboardController {
     private final AdminDashboardService adminDashboardService;
     private final CourseService courseService;
+    private final DiagnosticsService diagnosticsService;
+    private final AttendanceRiskService attendanceRiskService;
+    private final ChangeFeedService changeFeedService;
+    private final DomainEventBus domainEventBus;
     private final AlertUtil alertUtil;
     private final SceneNavigator sceneNavigator;
     private final UserSession userSession;
@@ -45,6 +54,8 @@ public class AdminDashboardController {
     @FXML private Button enrollStudentButton;
     @FXML private TextField searchField;
     @FXML private Button searchButton;
+    @FXML private Button exportDiagnosticsButton;
+    @FXML private Button flightRecordingButton;
     @FXML private Label contentTitleLabel;
     @FXML private TableView<Object> dataTableView;
     @FXML private Label totalUsersLabel;
@@ -55,6 +66,10 @@ public class AdminDashboardController {
     @FXML private TextField enrollmentStudentNameField;
     @FXML private ComboBox<CourseDTO> enrollmentCourseCombo;
     @FXML private ComboBox<String> enrollmentStatusCombo;
+    @FXML private HBox riskPagerBox;
+    @FXML private Label riskPageLabel;
+    @FXML private Button riskPreviousButton;
+    @FXML private Button riskNextButton;
 
     @FXML
     /**
@@ -66,6 +81,10 @@ public class AdminDashboardController {
         coordinator = new AdminDashboardCoordinator(
             adminDashboardService,
             courseService,
+            diagnosticsService,
+            attendanceRiskService,
+            changeFeedService,
+            domainEventBus,
             alertUtil,
             sceneNavigator,
             userSession,
@@ -73,6 +92,8 @@ public class AdminDashboardController {
             welcomeLabel,
             searchField,
             searchButton,
+            exportDiagnosticsButton,
+            flightRecordingButton,
             contentTitleLabel,
             dataTableView,
             totalUsersLabel,
@@ -82,7 +103,11 @@ public class AdminDashboardController {
             enrollmentsFilterHintLabel,
             enrollmentStudentNameField,
             enrollmentCourseCombo,
-            enrollmentStatusCombo
+            enrollmentStatusCombo,
+            riskPagerBox,
+            riskPageLabel,
+            riskPreviousButton,
+            riskNextButton
         );
         coordinator.initialize();
     }
@@ -105,7 +130,7 @@ public class AdminDashboardController {
 
     @FXML
     /**
-     * Opens the "Add User" modal and refreshes the current table view after closing.
+     * Opens the "Add User" modal; the open table is updated with the created user.
      */
     public void handleAddUser() {
         coordinator.handleAddUser();
@@ -113,7 +138,7 @@ public class AdminDashboardController {
 
     @FXML
     /**
-     * Opens the "Add Course" modal and refreshes the current table view after closing.
+     * Opens the "Add Course" modal; the open table is updated with the created course.
      */
     public void handleAddCourse() {
         coordinator.handleAddCourse();
@@ -121,7 +146,7 @@ public class AdminDashboardController {
 
     @FXML
     /**
-     * Opens the "Enroll Student" modal and refreshes the current table view after closing.
+     * Opens the "Enroll Student" modal; the open table is updated with the created enrollment.
      */
     public void handleOpenEnrollStudent() {
         coordinator.handleOpenEnrollStudent();
@@ -167,6 +192,54 @@ public class AdminDashboardController {
         coordinator.handleAttendanceReports();
     }
 
+    @FXML
+    /**
+     * Switches to the paged attendance risk report.
+     */
+    public void handleAttendanceRisk() {
+        coordinator.handleAttendanceRisk();
+    }
+
+    @FXML
+    /**
+     * Shows the previous page of the attendance risk report.
+     */
+    public void handleRiskPreviousPage() {
+        coordinator.handleRiskPreviousPage();
+    }
+
+    @FXML
+    /**
+     * Shows the next page of the attendance risk report.
+     */
+    public void handleRiskNextPage() {
+        coordinator.handleRiskNextPage();
+    }
+
+    @FXML
+    /**
+     * Switches to the performance diagnostics view.
+     */
+    public void handleDiagnostics() {
+        coordinator.handleDiagnostics();
+    }
+
+    @FXML
+    /**
+     * Exports a diagnostics snapshot bundle for offline analysis.
+     */
+    public void handleExportDiagnostics() {
+        coordinator.handleExportDiagnostics();
+    }
+
+    @FXML
+    /**
+     * Starts or stops the in-app JFR recording.
+     */
+    public void handleToggleFlightRecording() {
+        coordinator.handleToggleFlightRecording();
+    }
+
     @FXML
     /**
      * Executes a search for the active view.
@@ -1,16 +1,20 @@
 package org.example.coursetrackingautomation.controller;
 
+import java.util.List;
+import javafx.animation.PauseTransition;
 import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.scene.control.ComboBox;
 import javafx.stage.Stage;
+import javafx.util.Duration;
+import javafx.util.StringConverter;
 import lombok.RequiredArgsConstructor;
 import org.example.coursetrackingautomation.dto.CourseDTO;
 import org.example.coursetrackingautomation.dto.RoleDTO;
 import org.example.coursetrackingautomation.dto.SelectOptionDTO;
 import org.example.coursetrackingautomation.service.AdminDashboardService;
 import org.example.coursetrackingautomation.service.CourseService;
-import org.example.coursetrackingautomation.service.UserService;
+import org.example.coursetrackingautomation.service.ReferenceDataService;
 import org.example.coursetrackingautomation.ui.FxAsync;
 import org.example.coursetrackingautomation.ui.UiConstants;
 import org.example.coursetrackingautomation.ui.UiExceptionHandler;
@@ -22,28 +26,33 @@ import org.springframework.stereotype.Controller;
  * JavaFX controller for the admin "Enroll Student" form.
  *
  * <p>Allows an admin to select an active student and an active course and create an enrollment
- * through the admin workflow service.</p>
+ * through the admin workflow service. Students are not listed in full: the student box is a type-ahead
+ * that asks the database for the first matches of the typed prefix.</p>
  */
 public class AdminEnrollStudentFormController {
 
     @FXML private ComboBox<SelectOptionDTO> comboStudent;
     @FXML private ComboBox<SelectOptionDTO> comboCourse;
 
-    private final UserService userService;
+    private static final int STUDENT_SEARCH_LIMIT = 50;
+    private static final Duration STUDENT_SEARCH_DELAY = Duration.millis(250);
+
+    private final ReferenceDataService referenceDataService;
     private final CourseService courseService;
     private final AdminDashboardService adminDashboardService;
     private final UiExceptionHandler uiExceptionHandler;
 
+    private final PauseTransition studentSearchDelay = new PauseTransition(STUDENT_SEARCH_DELAY);
+    private String studentQuery;
+    private long studentSearchToken;
+
     @FXML
     /**
      * Initializes the selection lists for students and courses.
      */
     public void initialize() {
-        FxAsync.runAsync(
-            () -> userService.getActiveUserOptionsByRole(RoleDTO.STUDENT),
-            students -> comboStudent.setItems(FXCollections.observableArrayList(students)),
-            uiExceptionHandler::handle
-        );
+        configureStudentSearch();
+        searchStudents("");
 
         FxAsync.runAsync(
             () -> courseService.getAllActiveCourseDTOs().stream()
@@ -59,7 +68,8 @@ public class AdminEnrollStudentFormController {
      * Creates the selected enrollment and closes the window.
      */
     public void handleEnroll() {
-        SelectOptionDTO student = comboStudent.getValue();
+        // The editor text may not have been committed to the value yet.
+        SelectOptionDTO student = findStudentOption(comboStudent.getEditor().getText());
         SelectOptionDTO course = comboCourse.getValue();
 
         if (student == null || student.id() == null) {
@@ -88,7 +98,72 @@ public class AdminEnrollStudentFormController {
         close();
     }
 
+    private void configureStudentSearch() {
+        comboStudent.setConverter(new StringConverter<>() {
+            @Override
+            public String toString(SelectOptionDTO option) {
+                return option == null ? "" : option.label();
+            }
+
+            @Override
+            public SelectOptionDTO fromString(String text) {
+                return findStudentOption(text);
+            }
+        });
+        studentSearchDelay.setOnFinished(e -> searchStudents(comboStudent.getEditor().getText()));
+        comboStudent.getEditor().textProperty().addListener((obs, oldText, newText) -> {
+            // Choosing a suggestion puts its label into the editor; that is not a new query.
+            if (findStudentOption(newText) != null) {
+                return;
+            }
+            studentSearchDelay.playFromStart();
+        });
+    }
+
+    private void searchStudents(String text) {
+        String query = text == null ? "" : text.trim();
+        if (query.equals(studentQuery)) {
+            return;
+        }
+        studentQuery = query;
+        long token = ++studentSearchToken;
+        FxAsync.runAsync(
+            () -> referenceDataService.searchActiveUserOptions(RoleDTO.STUDENT, query, STUDENT_SEARCH_LIMIT),
+            students -> showStudentOptions(token, students),
+            uiExceptionHandler::handle
+        );
+    }
+
+    private void showStudentOptions(long token, List<SelectOptionDTO> students) {
+        if (token != studentSearchToken) {
+            return;
+        }
+        String text = comboStudent.getEditor().getText();
+        comboStudent.setItems(FXCollections.observableArrayList(students));
+        // Replacing the items may reset the editor; keep what the user is typing.
+        if (!comboStudent.getEditor().getText().equals(text)) {
+            comboStudent.getEditor().setText(text);
+            comboStudent.getEditor().positionCaret(text.length());
+        }
+        if (comboStudent.getEditor().isFocused() && !students.isEmpty()) {
+            comboStudent.show();
+        }
+    }
+
+    private SelectOptionDTO findStudentOption(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        for (SelectOptionDTO option : comboStudent.getItems()) {
+            if (text.equals(option.label())) {
+                return option;
+            }
+        }
+        return null;
+    }
+
     private void close() {
+        studentSearchDelay.stop();
         Stage stage = (Stage) comboStudent.getScene().getWindow();
         stage.close();
     }
@@ -0,0 +1,214 @@
+package org.example.coursetrackingautomation.controller;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.collections.FXCollections;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.control.SelectionMode;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TablePosition;
+import javafx.scene.control.TableView;
+import javafx.stage.Stage;
+import lombok.RequiredArgsConstructor;
+import org.example.coursetrackingautomation.dto.AttendanceCellDTO;
+import org.example.coursetrackingautomation.dto.AttendanceMatrixDTO;
+import org.example.coursetrackingautomation.service.InstructorWorkflowService;
+import org.example.coursetrackingautomation.ui.FxAsync;
+import org.example.coursetrackingautomation.ui.UiConstants;
+import org.example.coursetrackingautomation.ui.UiExceptionHandler;
+import org.example.coursetrackingautomation.util.AlertUtil;
+import org.springframework.stereotype.Controller;
+
+@Controller
+@RequiredArgsConstructor
+/**
+ * JavaFX controller for the term attendance matrix popup.
+ *
+ * <p>Shows students × weeks attendance of a course in a virtualized table. Cells can be selected in
+ * bulk and marked present or absent; pending edits are highlighted and saved with one batched call.</p>
+ */
+public class AttendanceMatrixPopupController {
+
+    private static final String MARK_PRESENT = "✓";
+    private static final String MARK_ABSENT = "✗";
+    private static final String STYLE_PENDING_CELL = "matrix-pending";
+    private static final String STYLE_ABSENT_CELL = "matrix-absent";
+
+    @FXML private Label lblCourse;
+    @FXML private Label lblPending;
+    @FXML private TableView<AttendanceMatrixDTO.Row> tableMatrix;
+
+    private final InstructorWorkflowService instructorWorkflowService;
+    private final UiExceptionHandler uiExceptionHandler;
+    private final AlertUtil alertUtil;
+
+    private final Map<Long, Map<Integer, Boolean>> pendingByEnrollmentId = new HashMap<>();
+    private String courseCode;
+    private Consumer<AttendanceMatrixDTO> onSave;
+
+    @FXML
+    public void initialize() {
+        tableMatrix.getSelectionModel().setCellSelectionEnabled(true);
+        tableMatrix.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+    }
+
+    /**
+     * Sets the course of the popup and loads its attendance matrix.
+     *
+     * @param courseCode course code
+     * @param onSave callback invoked with the updated matrix after a successful save; may be {@code null}
+     */
+    public void setContext(String courseCode, Consumer<AttendanceMatrixDTO> onSave) {
+        this.courseCode = courseCode;
+        this.onSave = onSave;
+        FxAsync.runAsync(
+            () -> instructorWorkflowService.getAttendanceMatrix(courseCode),
+            this::showMatrix,
+            uiExceptionHandler::handle
+        );
+    }
+
+    @FXML
+    /**
+     * Marks the selected week cells present.
+     */
+    public void handleMarkPresent() {
+        markSelectedCells(true);
+    }
+
+    @FXML
+    /**
+     * Marks the selected week cells absent.
+     */
+    public void handleMarkAbsent() {
+        markSelectedCells(false);
+    }
+
+    @FXML
+    /**
+     * Saves pending cell edits in one batched call.
+     */
+    public void handleSave() {
+        List<AttendanceCellDTO> cells = new ArrayList<>();
+        pendingByEnrollmentId.forEach((enrollmentId, presentByWeek) ->
+            presentByWeek.forEach((week, present) -> cells.add(new AttendanceCellDTO(enrollmentId, week, present))));
+        if (cells.isEmpty()) {
+            handleClose();
+            return;
+        }
+
+        FxAsync.runAsync(
+            () -> instructorWorkflowService.saveAttendanceMatrix(courseCode, cells),
+            matrix -> {
+                pendingByEnrollmentId.clear();
+                showMatrix(matrix);
+                if (onSave != null) {
+                    onSave.accept(matrix);
+                }
+                alertUtil.showSuccessAlert(UiConstants.ALERT_TITLE_SUCCESS, UiConstants.UI_MESSAGE_CHANGES_SAVED);
+            },
+            uiExceptionHandler::handle
+        );
+    }
+
+    @FXML
+    /**
+     * Closes the popup.
+     */
+    public void handleClose() {
+        Stage stage = (Stage) (tableMatrix != null && tableMatrix.getScene() != null ? tableMatrix.getScene().getWindow() : null);
+        if (stage != null) {
+            stage.close();
+        }
+    }
+
+    private void showMatrix(AttendanceMatrixDTO matrix) {
+        lblCourse.setText(matrix.courseCode());
+        if (tableMatrix.getColumns().isEmpty()) {
+            buildColumns(matrix.weekCount());
+        }
+        tableMatrix.setItems(FXCollections.observableArrayList(matrix.rows()));
+        updatePendingLabel();
+    }
+
+    private void buildColumns(int weekCount) {
+        TableColumn<AttendanceMatrixDTO.Row, String> nameColumn = new TableColumn<>("Ad Soyad");
+        nameColumn.setCellValueFactory(data -> new SimpleStringProperty(data.getValue().studentName()));
+        nameColumn.setPrefWidth(180);
+        tableMatrix.getColumns().add(nameColumn);
+
+        for (int week = 1; week <= weekCount; week++) {
+            int weekNumber = week;
+            TableColumn<AttendanceMatrixDTO.Row, Boolean> weekColumn = new TableColumn<>(String.valueOf(weekNumber));
+            weekColumn.setUserData(weekNumber);
+            weekColumn.setSortable(false);
+            weekColumn.setPrefWidth(40);
+            weekColumn.setCellValueFactory(data -> new ReadOnlyObjectWrapper<>(effectivePresence(data.getValue(), weekNumber)));
+            weekColumn.setCellFactory(column -> new TableCell<>() {
+                @Override
+                protected void updateItem(Boolean present, boolean empty) {
+                    super.updateItem(present, empty);
+                    getStyleClass().removeAll(STYLE_PENDING_CELL, STYLE_ABSENT_CELL);
+                    AttendanceMatrixDTO.Row row = empty ? null : getTableRow().getItem();
+                    if (row == null || present == null) {
+                        setText(null);
+                        return;
+                    }
+                    setText(present ? MARK_PRESENT : MARK_ABSENT);
+                    if (!present) {
+                        getStyleClass().add(STYLE_ABSENT_CELL);
+                    }
+                    if (pendingByEnrollmentId.getOrDefault(row.enrollmentId(), Map.of()).containsKey(weekNumber)) {
+                        getStyleClass().add(STYLE_PENDING_CELL);
+                    }
+                }
+            });
+            tableMatrix.getColumns().add(weekColumn);
+        }
+
+        TableColumn<AttendanceMatrixDTO.Row, Integer> hoursColumn = new TableColumn<>("Devamsızlık");
+        hoursColumn.setCellValueFactory(data -> new ReadOnlyObjectWrapper<>(data.getValue().absentHours()));
+        hoursColumn.setPrefWidth(100);
+        tableMatrix.getColumns().add(hoursColumn);
+    }
+
+    private Boolean effectivePresence(AttendanceMatrixDTO.Row row, int weekNumber) {
+        Map<Integer, Boolean> pending = pendingByEnrollmentId.get(row.enrollmentId());
+        if (pending != null && pending.containsKey(weekNumber)) {
+            return pending.get(weekNumber);
+        }
+        return row.presence(weekNumber);
+    }
+
+    private void markSelectedCells(boolean present) {
+        for (TablePosition<?, ?> position : tableMatrix.getSelectionModel().getSelectedCells()) {
+            if (!(position.getTableColumn() != null && position.getTableColumn().getUserData() instanceof Integer weekNumber)) {
+                continue;
+            }
+            AttendanceMatrixDTO.Row row = tableMatrix.getItems().get(position.getRow());
+            if (Boolean.valueOf(present).equals(row.presence(weekNumber))) {
+                Map<Integer, Boolean> pending = pendingByEnrollmentId.get(row.enrollmentId());
+                if (pending != null) {
+                    pending.remove(weekNumber);
+                }
+            } else {
+                pendingByEnrollmentId.computeIfAbsent(row.enrollmentId(), ignored -> new HashMap<>()).put(weekNumber, present);
+            }
+        }
+        pendingByEnrollmentId.values().removeIf(Map::isEmpty);
+        tableMatrix.refresh();
+        updatePendingLabel();
+    }
+
+    private void updatePendingLabel() {
+        int pendingCount = pendingByEnrollmentId.values().stream().mapToInt(Map::size).sum();
+        lblPending.setText(pendingCount == 0 ? "" : pendingCount + " hücre kaydedilmedi");
+    }
+}
@@ -12,7 +12,7 @@ import org.example.coursetrackingautomation.dto.RoleDTO;
 import org.example.coursetrackingautomation.dto.SelectOptionDTO;
 import org.example.coursetrackingautomation.dto.UpdateCourseRequest;
 import org.example.coursetrackingautomation.service.CourseService;
-import org.example.coursetrackingautomation.service.UserService;
+import org.example.coursetrackingautomation.service.ReferenceDataService;
 import org.example.coursetrackingautomation.ui.FxAsync;
 import org.example.coursetrackingautomation.ui.UiExceptionHandler;
 import org.example.coursetrackingautomation.util.AlertUtil;
@@ -46,7 +46,7 @@ public class EditCourseFormController {
     private final ToggleGroup statusGroup = new ToggleGroup();
 
     private final CourseService courseService;
-    private final UserService userService;
+    private final ReferenceDataService referenceDataService;
     private final UiExceptionHandler uiExceptionHandler;
     private final AlertUtil alertUtil;
     private Long courseId;
@@ -67,7 +67,7 @@ public class EditCourseFormController {
         FormValidation.applyDigitsOnly(weeklyPracticeHoursField, 3);
 
         FxAsync.runAsync(
-            () -> userService.getActiveUserOptionsByRole(RoleDTO.INSTRUCTOR),
+            () -> referenceDataService.getActiveUserOptions(RoleDTO.INSTRUCTOR),
             instructors -> instructorComboBox.setItems(FXCollections.observableArrayList(instructors)),
             uiExceptionHandler::handle
         );
@@ -13,9 +13,13 @@ import org.example.coursetrackingautomation.config.UserSession;
 import org.example.coursetrackingautomation.controller.instructor.InstructorDashboardCoordinator;
 import org.example.coursetrackingautomation.controller.instructor.InstructorGradesTableConfigurer;
 import org.example.coursetrackingautomation.controller.instructor.InstructorRosterRowFactory;
-import org.example.coursetrackingautomation.dto.GradeDTO;
+import org.example.coursetrackingautomation.controller.instructor.RosterModel;
 import org.example.coursetrackingautomation.service.AttendanceService;
+import org.example.coursetrackingautomation.service.ChangeFeedService;
+import org.example.coursetrackingautomation.service.CourseAnalyticsService;
 import org.example.coursetrackingautomation.service.InstructorWorkflowService;
+import org.example.coursetrackingautomation.service.LocalSnapshotStore;
+import org.example.coursetrackingautomation.service.RosterAutosaveService;
 import org.example.coursetrackingautomation.ui.SceneNavigator;
 import org.example.coursetrackingautomation.ui.UiConstants;
 import org.example.coursetrackingautomation.ui.UiExceptionHandler;
@@ -40,21 +44,26 @@ public class InstructorDashboardController {
     @FXML private ComboBox<String> comboCourses;
     @FXML private ComboBox<String> comboWeeks;
     @FXML private Label lblCourseHours;
-    @FXML private TableView<GradeDTO> tableStudents;
-    @FXML private TableColumn<GradeDTO, Long> colStudentNumber;
-    @FXML private TableColumn<GradeDTO, String> colFullName;
-    @FXML private TableColumn<GradeDTO, Double> colMidterm;
-    @FXML private TableColumn<GradeDTO, Double> colFinal;
-    @FXML private TableColumn<GradeDTO, Integer> colAttendance;
-    @FXML private TableColumn<GradeDTO, Boolean> colPresent;
-    @FXML private TableColumn<GradeDTO, Double> colAverage;
-    @FXML private TableColumn<GradeDTO, String> colLetterGrade;
-    @FXML private TableColumn<GradeDTO, String> colStatus;
+    @FXML private Label lblCourseStats;
+    @FXML private TableView<RosterModel.Row> tableStudents;
+    @FXML private TableColumn<RosterModel.Row, Long> colStudentNumber;
+    @FXML private TableColumn<RosterModel.Row, String> colFullName;
+    @FXML private TableColumn<RosterModel.Row, Double> colMidterm;
+    @FXML private TableColumn<RosterModel.Row, Double> colFinal;
+    @FXML private TableColumn<RosterModel.Row, Integer> colAttendance;
+    @FXML private TableColumn<RosterModel.Row, Boolean> colPresent;
+    @FXML private TableColumn<RosterModel.Row, Double> colAverage;
+    @FXML private TableColumn<RosterModel.Row, String> colLetterGrade;
+    @FXML private TableColumn<RosterModel.Row, String> colStatus;
     @FXML private Button btnLogOut;
     @FXML private Button btnProfile;
 
     private final UserSession userSession;
     private final InstructorWorkflowService instructorWorkflowService;
+    private final CourseAnalyticsService courseAnalyticsService;
+    private final RosterAutosaveService rosterAutosaveService;
+    private final ChangeFeedService changeFeedService;
+    private final LocalSnapshotStore localSnapshotStore;
     private final AttendanceService attendanceService;
     private final SceneNavigator sceneNavigator;
     private final UiExceptionHandler uiExceptionHandler;
@@ -74,9 +83,14 @@ public class InstructorDashboardController {
             comboCourses,
             comboWeeks,
             lblCourseHours,
+            lblCourseStats,
             tableStudents,
             userSession,
             instructorWorkflowService,
+            courseAnalyticsService,
+            rosterAutosaveService,
+            changeFeedService,
+            localSnapshotStore,
             sceneNavigator,
             uiExceptionHandler,
             alertUtil
@@ -93,15 +107,10 @@ public class InstructorDashboardController {
             colAverage,
             colLetterGrade,
             colStatus,
-            coordinator::getMidtermProp,
-            coordinator::getFinalProp,
-            coordinator::getAverageProp,
-            coordinator::getLetterProp,
-            coordinator::getStatusProp,
+            coordinator.getRosterModel(),
             coordinator::getSelectedCourse,
             attendanceService,
-            alertUtil,
-            coordinator::markDirtyIfChanged
+            alertUtil
         );
         InstructorRosterRowFactory.configure(
             tableStudents,
@@ -147,4 +156,20 @@ public class InstructorDashboardController {
         coordinator.performSave(Optional.empty());
     }
 
+    @FXML
+    /**
+     * Marks the selected week for the whole class: everyone present except students marked absent.
+     */
+    public void handleMarkWholeClass() {
+        coordinator.performMarkWholeClass();
+    }
+
+    @FXML
+    /**
+     * Opens the term attendance matrix of the selected course.
+     */
+    public void handleOpenAttendanceMatrix() {
+        coordinator.openAttendanceMatrix();
+    }
+
 }
@@ -1,5 +1,8 @@
 package org.example.coursetrackingautomation.controller;
 
+import java.time.Duration;
+import java.util.Locale;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.beans.property.SimpleStringProperty;
@@ -16,19 +19,25 @@ import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.input.MouseButton;
 import javafx.stage.Stage;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.coursetrackingautomation.config.UserSession;
 import org.example.coursetrackingautomation.controller.support.GradeDetailsMessageBuilder;
+import org.example.coursetrackingautomation.dto.ClassRankDTO;
 import org.example.coursetrackingautomation.dto.GradeDTO;
+import org.example.coursetrackingautomation.dto.StudentTranscriptDTO;
+import org.example.coursetrackingautomation.event.StudentRecordChangedEvent;
 import org.example.coursetrackingautomation.service.AttendanceService;
-import org.example.coursetrackingautomation.service.TranscriptService;
-import org.example.coursetrackingautomation.ui.FxAsync;
+import org.example.coursetrackingautomation.service.DomainEventBus;
+import org.example.coursetrackingautomation.service.StudentSnapshotService;
 import org.example.coursetrackingautomation.ui.GradeStatusUiMapper;
 import org.example.coursetrackingautomation.ui.SceneNavigator;
+import org.example.coursetrackingautomation.ui.ScreenLoad;
 import org.example.coursetrackingautomation.ui.UiConstants;
 import org.example.coursetrackingautomation.ui.UiExceptionHandler;
 import org.example.coursetrackingautomation.util.AlertUtil;
 import org.springframework.stereotype.Controller;
 
+@Slf4j
 @Controller
 @RequiredArgsConstructor
 /**
@@ -36,6 +45,11 @@ import org.springframework.stereotype.Controller;
  *
  * <p>Displays transcript rows and GPA for the authenticated student, and provides navigation to
  * profile and enrollment modals.</p>
+ *
+ * <p>The transcript rows, GPA and class rank come from the session's {@link StudentSnapshotService}
+ * snapshot, prefetched at login and loaded as a {@link ScreenLoad}; the dashboard reloads when the
+ * snapshot is invalidated by a change to the student's record. On open, the snapshot stored on disk by
+ * the previous load is shown first and stays on screen, read-only, if the database cannot be reached.</p>
  */
 public class StudentDashboardController {
 
@@ -51,9 +65,11 @@ public class StudentDashboardController {
     private static final String PROPERTY_LETTER_GRADE = "letterGrade";
     private static final String PROPERTY_ATTENDANCE_COUNT = "attendanceCount";
     private static final String PROPERTY_STATUS = "status";
+    private static final Duration SCREEN_LOAD_DEADLINE = Duration.ofSeconds(10);
 
     @FXML private Label lblWelcome;
     @FXML private Label lblGpa;
+    @FXML private Label lblRank;
     @FXML private Button btnLogOut;
     @FXML private TableView<GradeDTO> tableStudentCourses;
     @FXML private TableColumn<GradeDTO, String> colCourseCode;
@@ -70,12 +86,16 @@ public class StudentDashboardController {
     @FXML private TableColumn<GradeDTO, String> colStatus;
 
     private final UserSession userSession;
-    private final TranscriptService transcriptService;
+    private final StudentSnapshotService studentSnapshotService;
+    private final DomainEventBus domainEventBus;
     private final AttendanceService attendanceService;
     private final SceneNavigator sceneNavigator;
     private final UiExceptionHandler uiExceptionHandler;
     private final AlertUtil alertUtil;
 
+    private ScreenLoad screenLoad;
+    private DomainEventBus.Subscription recordChangedSubscription;
+
     @FXML
     /**
      * Initializes the student dashboard and loads transcript data.
@@ -153,9 +173,21 @@ public class StudentDashboardController {
             }
         });
         setupRowFactory();
+        recordChangedSubscription = domainEventBus.subscribe(StudentRecordChangedEvent.class, this::onRecordChanged);
         refresh();
     }
 
+    private void onRecordChanged(StudentRecordChangedEvent event) {
+        Platform.runLater(() -> {
+            boolean ownRecord = userSession.getCurrentUser()
+                .map(user -> user.id().equals(event.studentId()))
+                .orElse(false);
+            if (ownRecord && lblWelcome.getScene() != null) {
+                refresh();
+            }
+        });
+    }
+
     private void setupRowFactory() {
         tableStudentCourses.setRowFactory(tv -> {
             TableRow<GradeDTO> row = new TableRow<>();
@@ -181,6 +213,20 @@ public class StudentDashboardController {
         alertUtil.showInformationAlert("Ders Detayı", GradeDetailsMessageBuilder.buildStudentDashboardMessage(item));
     }
 
+    private static String formatRank(ClassRankDTO rank) {
+        if (rank == null) {
+            return UiConstants.UI_RANK_NOT_AVAILABLE;
+        }
+        return String.format(Locale.ROOT, UiConstants.UI_RANK_FORMAT, rank.rank(), rank.cohortSize(), rank.percentile());
+    }
+
+    private void showTranscript(StudentTranscriptDTO studentTranscript) {
+        ObservableList<GradeDTO> transcript = FXCollections.observableArrayList(studentTranscript.grades());
+        tableStudentCourses.setItems(transcript);
+        lblGpa.setText(studentTranscript.summary() == null ? "0.00" : studentTranscript.summary().gpaText());
+        lblRank.setText(formatRank(studentTranscript.cumulativeRank()));
+    }
+
     private void refresh() {
         try {
             var currentUser = userSession.getCurrentUser()
@@ -188,14 +234,24 @@ public class StudentDashboardController {
 
             lblWelcome.setText(UiConstants.UI_WELCOME_PREFIX + currentUser.fullName());
 
-            FxAsync.runAsync(
-                () -> transcriptService.getTranscriptGradesForStudent(currentUser.id()),
-                transcriptRows -> {
-                    ObservableList<GradeDTO> transcript = FXCollections.observableArrayList(transcriptRows);
-                    tableStudentCourses.setItems(transcript);
-                    lblGpa.setText(transcriptService.calculateGpaText(transcript));
-                },
+            if (screenLoad != null) {
+                screenLoad.cancel();
+            }
+            Long studentId = currentUser.id();
+            if (tableStudentCourses.getItems().isEmpty()) {
+                studentSnapshotService.getStoredTranscript(studentId).ifPresent(this::showTranscript);
+            }
+            boolean showingEarlierData = !tableStudentCourses.getItems().isEmpty();
+            screenLoad = ScreenLoad.start("student-dashboard", SCREEN_LOAD_DEADLINE)
+                .fork("transcript", () -> studentSnapshotService.getTranscript(studentId), this::showTranscript);
+            screenLoad.join(
+                () -> { },
                 failure -> {
+                    if (showingEarlierData) {
+                        log.warn("Student dashboard keeps earlier data; transcript could not be loaded", failure);
+                        alertUtil.showWarningAlert(UiConstants.ALERT_TITLE_WARNING, UiConstants.UI_MESSAGE_SHOWING_STORED_SNAPSHOT);
+                        return;
+                    }
                     uiExceptionHandler.handle(failure);
                     if (lblWelcome.getScene() != null) {
                         Stage stage = (Stage) lblWelcome.getScene().getWindow();
@@ -217,6 +273,12 @@ public class StudentDashboardController {
      * Logs out the current user and navigates back to the login view.
      */
     public void handleLogout() {
+        if (screenLoad != null) {
+            screenLoad.cancel();
+        }
+        if (recordChangedSubscription != null) {
+            recordChangedSubscription.cancel();
+        }
         Stage stage = (Stage) btnLogOut.getScene().getWindow();
         sceneNavigator.performLogout(stage);
     }
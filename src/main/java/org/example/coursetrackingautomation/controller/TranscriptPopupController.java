@@ -15,9 +15,10 @@ import javafx.scene.input.MouseButton;
 import javafx.stage.Stage;
 import lombok.RequiredArgsConstructor;
 import org.example.coursetrackingautomation.dto.GradeDTO;
+import org.example.coursetrackingautomation.dto.StudentTranscriptDTO;
 import org.example.coursetrackingautomation.config.UserSession;
 import org.example.coursetrackingautomation.controller.support.GradeDetailsMessageBuilder;
-import org.example.coursetrackingautomation.service.TranscriptService;
+import org.example.coursetrackingautomation.service.StudentSnapshotService;
 import org.example.coursetrackingautomation.ui.FxAsync;
 import org.example.coursetrackingautomation.ui.GradeStatusUiMapper;
 import org.example.coursetrackingautomation.ui.UiConstants;
@@ -30,7 +31,9 @@ import org.springframework.stereotype.Controller;
 /**
  * JavaFX controller for the transcript popup.
  *
- * <p>Displays transcript rows and GPA for the authenticated student.</p>
+ * <p>Displays transcript rows and GPA for the authenticated student from the session's academic
+ * snapshot, so opening it does not query the transcript again. The copy stored on disk is shown first
+ * and kept if the database cannot be reached.</p>
  */
 public class TranscriptPopupController {
 
@@ -53,7 +56,7 @@ public class TranscriptPopupController {
     @FXML private Label lblGpa;
 
     private final UserSession userSession;
-    private final TranscriptService transcriptService;
+    private final StudentSnapshotService studentSnapshotService;
     private final UiExceptionHandler uiExceptionHandler;
     private final AlertUtil alertUtil;
 
@@ -141,18 +144,28 @@ public class TranscriptPopupController {
         alertUtil.showInformationAlert("Not Detayı", GradeDetailsMessageBuilder.buildTranscriptPopupMessage(item));
     }
 
+    private void showTranscript(StudentTranscriptDTO transcript) {
+        tableTranscript.setItems(FXCollections.observableArrayList(transcript.grades()));
+        lblGpa.setText(transcript.summary() == null ? "0.00" : transcript.summary().gpaText());
+    }
+
     private void refresh() {
         try {
             var currentUser = userSession.getCurrentUser()
                 .orElseThrow(() -> new IllegalStateException(UiConstants.ERROR_KEY_NO_ACTIVE_SESSION));
 
+            studentSnapshotService.getStoredTranscript(currentUser.id()).ifPresent(this::showTranscript);
+            boolean showingStored = !tableTranscript.getItems().isEmpty();
             FxAsync.runAsync(
-                () -> transcriptService.getTranscriptGradesForStudent(currentUser.id()),
-                transcript -> {
-                    tableTranscript.setItems(FXCollections.observableArrayList(transcript));
-                    lblGpa.setText(transcriptService.calculateGpaText(tableTranscript.getItems()));
-                },
-                uiExceptionHandler::handle
+                () -> studentSnapshotService.getTranscript(currentUser.id()),
+                this::showTranscript,
+                failure -> {
+                    if (showingStored) {
+                        alertUtil.showWarningAlert(UiConstants.ALERT_TITLE_WARNING, UiConstants.UI_MESSAGE_SHOWING_STORED_SNAPSHOT);
+                        return;
+                    }
+                    uiExceptionHandler.handle(failure);
+                }
             );
         } catch (IllegalStateException e) {
             uiExceptionHandler.handle(e);
@@ -93,6 +93,10 @@ public final class AdminDashboardColumnFactory {
                     minWidth = 160;
                     prefWidth = 200;
                 }
+                case "Metrik", "Detay" -> {
+                    minWidth = 240;
+                    prefWidth = 340;
+                }
                 default -> {
                     // keep defaults
                 }
@@ -1,9 +1,25 @@
 package org.example.coursetrackingautomation.controller.admin;
 
+import java.io.File;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.PauseTransition;
+import javafx.animation.Timeline;
 import javafx.beans.property.SimpleStringProperty;
+import javafx.application.Platform;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.ComboBox;
@@ -13,21 +29,41 @@ import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.TextField;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import lombok.extern.slf4j.Slf4j;
 import org.example.coursetrackingautomation.config.UserSession;
+import org.example.coursetrackingautomation.diagnostics.Span;
+import org.example.coursetrackingautomation.diagnostics.Tracer;
+import org.example.coursetrackingautomation.dto.AdminAttendanceRiskRowDTO;
 import org.example.coursetrackingautomation.dto.AdminAttendanceRowDTO;
+import org.example.coursetrackingautomation.dto.AdminDiagnosticsRowDTO;
 import org.example.coursetrackingautomation.dto.AdminEnrollmentRowDTO;
+import org.example.coursetrackingautomation.dto.AdminStatistics;
 import org.example.coursetrackingautomation.dto.AdminUserRowDTO;
 import org.example.coursetrackingautomation.dto.CourseDTO;
+import org.example.coursetrackingautomation.dto.EntityChangeDTO;
 import org.example.coursetrackingautomation.dto.RoleDTO;
+import org.example.coursetrackingautomation.dto.SyncDeltaDTO;
+import org.example.coursetrackingautomation.entity.AttendanceRiskLevel;
 import org.example.coursetrackingautomation.entity.EnrollmentStatus;
+import org.example.coursetrackingautomation.event.CourseSavedEvent;
+import org.example.coursetrackingautomation.event.EnrollmentSavedEvent;
+import org.example.coursetrackingautomation.event.UserDeletedEvent;
+import org.example.coursetrackingautomation.event.UserSavedEvent;
 import org.example.coursetrackingautomation.service.AdminDashboardService;
+import org.example.coursetrackingautomation.service.AttendanceRiskService;
+import org.example.coursetrackingautomation.service.ChangeFeedService;
 import org.example.coursetrackingautomation.service.CourseService;
+import org.example.coursetrackingautomation.service.DiagnosticsService;
+import org.example.coursetrackingautomation.service.DomainEventBus;
 import org.example.coursetrackingautomation.ui.FxAsync;
 import org.example.coursetrackingautomation.ui.EnrollmentStatusUiMapper;
 import org.example.coursetrackingautomation.ui.SceneNavigator;
+import org.example.coursetrackingautomation.ui.ScreenLoad;
 import org.example.coursetrackingautomation.ui.UiConstants;
 import org.example.coursetrackingautomation.ui.UiExceptionHandler;
 import org.example.coursetrackingautomation.util.AlertUtil;
@@ -36,10 +72,18 @@ import org.example.coursetrackingautomation.util.AlertUtil;
 /**
  * Coordinates the Admin Dashboard UI workflow.
  *
- * <p>This class owns the state for the currently selected view (users/courses/enrollments/attendance)
+ * <p>This class owns the state for the currently selected view (users/courses/enrollments/attendance/attendance risk/diagnostics)
  * and implements the UI interactions: navigation, search, filtering, statistics refresh and table
  * configuration. The FXML controller delegates to this coordinator to keep controllers small and
  * focused on wiring.</p>
+ *
+ * <p>Each view keeps its own table (see {@link AdminDashboardTableManager}) and, for the user, course and
+ * enrollment views, the delta sync watermark of its rows, so switching back to a view only fetches the rows
+ * changed since it was last shown.</p>
+ *
+ * <p>Changes made from this dashboard are applied from the {@link DomainEventBus}: the user, course and
+ * enrollment views patch only the affected rows and the statistics counters are adjusted by the event
+ * instead of being re-counted.</p>
  */
 public class AdminDashboardCoordinator {
 
@@ -48,6 +92,13 @@ public class AdminDashboardCoordinator {
     private static final String VIEW_COURSES = "courses";
     private static final String VIEW_ENROLLMENTS = "enrollments";
     private static final String VIEW_ATTENDANCE = "attendance";
+    private static final String VIEW_ATTENDANCE_RISK = "attendanceRisk";
+    private static final String VIEW_DIAGNOSTICS = "diagnostics";
+    private static final Duration DIAGNOSTICS_REFRESH_INTERVAL = Duration.seconds(2);
+    private static final Duration REMOTE_CHANGE_REFRESH_DELAY = Duration.millis(300);
+    private static final java.time.Duration SCREEN_LOAD_DEADLINE = java.time.Duration.ofSeconds(15);
+    private static final String SCREEN_NAME = "admin-dashboard";
+    private static final DateTimeFormatter SNAPSHOT_FILE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
     private static final String ACTION_TYPE_USER = "user";
     private static final String ACTION_TYPE_COURSE = "course";
     private static final String ACTION_TYPE_ENROLLMENT = "enrollment";
@@ -60,8 +111,18 @@ public class AdminDashboardCoordinator {
         "CANCELLED"
     );
 
+    /**
+     * Delta sync watermark of the rows on screen and the filter they were loaded with.
+     */
+    private record ViewWatermark(LocalDateTime watermark, String filter) {
+    }
+
     private final AdminDashboardService adminDashboardService;
     private final CourseService courseService;
+    private final DiagnosticsService diagnosticsService;
+    private final AttendanceRiskService attendanceRiskService;
+    private final ChangeFeedService changeFeedService;
+    private final DomainEventBus domainEventBus;
     private final AlertUtil alertUtil;
     private final SceneNavigator sceneNavigator;
     private final UserSession userSession;
@@ -69,6 +130,8 @@ public class AdminDashboardCoordinator {
 
     private final Label welcomeLabel;
     private final Button searchButton;
+    private final Button exportDiagnosticsButton;
+    private final Button flightRecordingButton;
     private final TextField searchField;
     private final Label contentTitleLabel;
     private final TableView<Object> dataTableView;
@@ -83,10 +146,17 @@ public class AdminDashboardCoordinator {
     private final ComboBox<CourseDTO> enrollmentCourseCombo;
     private final ComboBox<String> enrollmentStatusCombo;
 
+    private final HBox riskPagerBox;
+    private final Label riskPageLabel;
+    private final Button riskPreviousButton;
+    private final Button riskNextButton;
+
     private String currentViewMode = VIEW_USERS;
 
     private boolean suppressSearchEvents;
 
+    private final Map<String, ViewWatermark> watermarkByView = new HashMap<>();
+
     private long tableRequestSequence;
     private long activeTableRequestToken;
     private String activeTableRequestViewMode = VIEW_USERS;
@@ -94,12 +164,24 @@ public class AdminDashboardCoordinator {
     private AdminDashboardTableManager tableManager;
     private AdminDashboardActions dashboardActions;
     private AdminDashboardColumnFactory columnFactory;
+    private Timeline diagnosticsRefreshTimeline;
+    private int riskPageNumber;
+    private ChangeFeedService.Listener changeFeedListener;
+    private PauseTransition remoteChangeRefresh;
+    private boolean remoteRowsChanged;
+    private final List<DomainEventBus.Subscription> eventSubscriptions = new ArrayList<>();
+    private AdminStatistics statistics;
+    private ScreenLoad screenLoad;
 
     /**
      * Creates a coordinator instance.
      *
      * @param adminDashboardService service providing admin dashboard data
      * @param courseService service providing course data
+     * @param diagnosticsService service providing performance diagnostics
+     * @param attendanceRiskService service providing the paged attendance risk report
+     * @param changeFeedService feed of the changes made by other clients
+     * @param domainEventBus bus announcing committed changes made by this client
      * @param alertUtil UI alert helper
      * @param sceneNavigator navigation helper for scenes/modals
      * @param userSession current session holder
@@ -107,8 +189,10 @@ public class AdminDashboardCoordinator {
      * @param welcomeLabel label used for greeting text
      * @param searchField global search input
      * @param searchButton global search trigger
+     * @param exportDiagnosticsButton diagnostics-only snapshot export trigger
+     * @param flightRecordingButton diagnostics-only JFR recording start/stop toggle
      * @param contentTitleLabel label showing the current view title
-     * @param dataTableView shared table for displaying the active view
+     * @param dataTableView FXML table whose place in the layout is taken by the table of the active view
      * @param totalUsersLabel statistics label
      * @param totalCoursesLabel statistics label
      * @param activeEnrollmentsLabel statistics label
@@ -117,10 +201,18 @@ public class AdminDashboardCoordinator {
      * @param enrollmentStudentNameField enrollment filter input
      * @param enrollmentCourseCombo enrollment filter input
      * @param enrollmentStatusCombo enrollment filter input
+     * @param riskPagerBox attendance-risk-only pager panel
+     * @param riskPageLabel label showing the current report page
+     * @param riskPreviousButton previous report page trigger
+     * @param riskNextButton next report page trigger
      */
     public AdminDashboardCoordinator(
         AdminDashboardService adminDashboardService,
         CourseService courseService,
+        DiagnosticsService diagnosticsService,
+        AttendanceRiskService attendanceRiskService,
+        ChangeFeedService changeFeedService,
+        DomainEventBus domainEventBus,
         AlertUtil alertUtil,
         SceneNavigator sceneNavigator,
         UserSession userSession,
@@ -128,6 +220,8 @@ public class AdminDashboardCoordinator {
         Label welcomeLabel,
         TextField searchField,
         Button searchButton,
+        Button exportDiagnosticsButton,
+        Button flightRecordingButton,
         Label contentTitleLabel,
         TableView<Object> dataTableView,
         Label totalUsersLabel,
@@ -137,10 +231,18 @@ public class AdminDashboardCoordinator {
         Label enrollmentsFilterHintLabel,
         TextField enrollmentStudentNameField,
         ComboBox<CourseDTO> enrollmentCourseCombo,
-        ComboBox<String> enrollmentStatusCombo
+        ComboBox<String> enrollmentStatusCombo,
+        HBox riskPagerBox,
+        Label riskPageLabel,
+        Button riskPreviousButton,
+        Button riskNextButton
     ) {
         this.adminDashboardService = adminDashboardService;
         this.courseService = courseService;
+        this.diagnosticsService = diagnosticsService;
+        this.attendanceRiskService = attendanceRiskService;
+        this.changeFeedService = changeFeedService;
+        this.domainEventBus = domainEventBus;
         this.alertUtil = alertUtil;
         this.sceneNavigator = sceneNavigator;
         this.userSession = userSession;
@@ -148,6 +250,8 @@ public class AdminDashboardCoordinator {
         this.welcomeLabel = welcomeLabel;
         this.searchField = searchField;
         this.searchButton = searchButton;
+        this.exportDiagnosticsButton = exportDiagnosticsButton;
+        this.flightRecordingButton = flightRecordingButton;
         this.contentTitleLabel = contentTitleLabel;
         this.dataTableView = dataTableView;
         this.totalUsersLabel = totalUsersLabel;
@@ -158,6 +262,10 @@ public class AdminDashboardCoordinator {
         this.enrollmentStudentNameField = enrollmentStudentNameField;
         this.enrollmentCourseCombo = enrollmentCourseCombo;
         this.enrollmentStatusCombo = enrollmentStatusCombo;
+        this.riskPagerBox = riskPagerBox;
+        this.riskPageLabel = riskPageLabel;
+        this.riskPreviousButton = riskPreviousButton;
+        this.riskNextButton = riskNextButton;
     }
 
     /**
@@ -173,16 +281,17 @@ public class AdminDashboardCoordinator {
                 sceneNavigator,
                 uiExceptionHandler,
                 this::getStage,
-                this::refreshCurrentView
+                this::refreshUnpatchedView
             );
             columnFactory = new AdminDashboardColumnFactory(this::translateEnrollmentStatus);
 
             setupUserInfo();
             setupSearchListener();
             setupEnrollmentFilterPanel();
-            updateStatisticsPanel();
+            setupChangeFeed();
+            subscribeToDomainEvents();
 
-            handleUsersManagement();
+            loadScreen();
         } catch (RuntimeException e) {
             log.error("Error initializing Admin Dashboard", e);
             uiExceptionHandler.handle(e);
@@ -193,6 +302,13 @@ public class AdminDashboardCoordinator {
      * Logs out the current user.
      */
     public void handleLogout() {
+        if (screenLoad != null) {
+            screenLoad.cancel();
+        }
+        stopDiagnosticsRefresh();
+        stopChangeFeed();
+        eventSubscriptions.forEach(DomainEventBus.Subscription::cancel);
+        eventSubscriptions.clear();
         attemptOperation(() -> sceneNavigator.performLogout(getStage()));
     }
 
@@ -204,33 +320,38 @@ public class AdminDashboardCoordinator {
     }
 
     /**
-     * Opens the "Add User" modal and refreshes the current view.
+     * Opens the "Add User" modal; the created user is patched into the open view by its domain event.
      */
     public void handleAddUser() {
         dashboardActions.openModal(UiConstants.FXML_ADD_USER_FORM, UiConstants.WINDOW_TITLE_ADD_USER);
-        refreshCurrentView();
+        refreshUnpatchedView();
     }
 
     /**
-     * Opens the "Add Course" modal and refreshes the current view.
+     * Opens the "Add Course" modal; the created course is patched into the open view by its domain event.
      */
     public void handleAddCourse() {
         dashboardActions.openModal(UiConstants.FXML_ADD_COURSE_FORM, UiConstants.WINDOW_TITLE_ADD_COURSE);
-        refreshCurrentView();
+        refreshUnpatchedView();
     }
 
     /**
-     * Opens the "Enroll Student" modal and refreshes the current view.
+     * Opens the "Enroll Student" modal; the created enrollment is patched into the open view by its domain event.
      */
     public void handleOpenEnrollStudent() {
         dashboardActions.openModal(UiConstants.FXML_ADMIN_ENROLL_STUDENT_FORM, UiConstants.WINDOW_TITLE_ADMIN_ENROLL_STUDENT);
-        refreshCurrentView();
+        refreshUnpatchedView();
     }
 
     /**
      * Refreshes the active view and statistics.
      */
     public void handleRefresh() {
+        if (VIEW_ATTENDANCE_RISK.equals(currentViewMode)) {
+            rescanAttendanceRisk();
+            updateStatisticsPanel();
+            return;
+        }
         refreshCurrentView();
         updateStatisticsPanel();
     }
@@ -263,12 +384,102 @@ public class AdminDashboardCoordinator {
         switchView(VIEW_ATTENDANCE, "Yoklama Raporları", this::loadAttendanceIntoTable);
     }
 
+    /**
+     * Switches to the attendance risk report, starting at its first page.
+     */
+    public void handleAttendanceRisk() {
+        riskPageNumber = 0;
+        switchView(VIEW_ATTENDANCE_RISK, "Devamsızlık Riski", this::loadAttendanceRiskIntoTable);
+    }
+
+    /**
+     * Shows the previous page of the attendance risk report.
+     */
+    public void handleRiskPreviousPage() {
+        if (!VIEW_ATTENDANCE_RISK.equals(currentViewMode) || riskPageNumber == 0) {
+            return;
+        }
+        riskPageNumber--;
+        loadAttendanceRiskIntoTable();
+    }
+
+    /**
+     * Shows the next page of the attendance risk report.
+     */
+    public void handleRiskNextPage() {
+        if (!VIEW_ATTENDANCE_RISK.equals(currentViewMode)) {
+            return;
+        }
+        riskPageNumber++;
+        loadAttendanceRiskIntoTable();
+    }
+
+    /**
+     * Switches to the performance diagnostics view, which refreshes itself while visible.
+     */
+    public void handleDiagnostics() {
+        switchView(VIEW_DIAGNOSTICS, "Performans Tanılama", this::loadDiagnosticsIntoTable);
+    }
+
+    /**
+     * Exports a diagnostics snapshot bundle (zip) to a user-selected file.
+     */
+    public void handleExportDiagnostics() {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle("Tanılama Paketini Kaydet");
+        chooser.setInitialFileName("diagnostics-" + SNAPSHOT_FILE_FORMATTER.format(LocalDateTime.now()) + ".zip");
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Zip", "*.zip"));
+        File file = chooser.showSaveDialog(getStage());
+        if (file == null) {
+            return;
+        }
+
+        FxAsync.runAsync(
+            () -> diagnosticsService.exportSnapshotBundle(file.toPath()),
+            path -> alertUtil.showSuccessAlert("Tanılama paketi kaydedildi:\n" + path.toAbsolutePath()),
+            uiExceptionHandler::handle
+        );
+    }
+
+    /**
+     * Starts a JFR recording, or stops the running one and reports the written file.
+     */
+    public void handleToggleFlightRecording() {
+        if (diagnosticsService.isFlightRecordingActive()) {
+            if (flightRecordingButton != null) {
+                flightRecordingButton.setDisable(true);
+            }
+            FxAsync.runAsync(
+                diagnosticsService::stopFlightRecording,
+                path -> {
+                    updateFlightRecordingButton();
+                    alertUtil.showSuccessAlert("JFR kaydı kaydedildi:\n" + path);
+                },
+                error -> {
+                    updateFlightRecordingButton();
+                    uiExceptionHandler.handle(error);
+                }
+            );
+            return;
+        }
+        attemptOperation(() -> {
+            diagnosticsService.startFlightRecording();
+            updateFlightRecordingButton();
+        });
+    }
+
     /**
      * Executes the global search for the active view.
      *
      * <p>When the search query is blank, the view resets to its default dataset.</p>
      */
     public void handleSearch() {
+        try (Span span = Tracer.startTrace("ui", "AdminDashboard.search")) {
+            search();
+        }
+    }
+
+    private void search() {
         attemptOperation(() -> {
             if (searchField == null || !searchField.isVisible() || suppressSearchEvents) {
                 return;
@@ -332,25 +543,65 @@ public class AdminDashboardCoordinator {
             this::translateEnrollmentStatus,
             this::applyEnrollmentFilters
         );
+    }
 
+    /**
+     * Loads statistics, the course filter options and the user view concurrently as one screen load, so the
+     * dashboard becomes interactive after the slowest query instead of after all of them in sequence.
+     */
+    private void loadScreen() {
+        screenLoad = ScreenLoad.start(SCREEN_NAME, SCREEN_LOAD_DEADLINE);
+        screenLoad.fork("statistics", adminDashboardService::getStatistics, this::showStatistics);
         if (enrollmentCourseCombo != null) {
-            FxAsync.runAsync(
-                courseService::getAllCourseDTOs,
-                courses -> enrollmentCourseCombo.setItems(javafx.collections.FXCollections.observableArrayList(courses)),
-                uiExceptionHandler::handle
-            );
+            screenLoad.fork("courses", courseService::getAllCourseDTOs,
+                courses -> enrollmentCourseCombo.setItems(javafx.collections.FXCollections.observableArrayList(courses)));
         }
+        switchView(VIEW_USERS, "Kullanıcı Yönetimi", () -> {
+            String query = currentSearchQuery();
+            long token = beginTableRequest(VIEW_USERS);
+            showTableLoading();
+            screenLoad.fork("users", () -> adminDashboardService.getUserRowChanges(null),
+                delta -> showUserRows(query, token, delta));
+        });
+        screenLoad.join(
+            () -> log.debug("Admin dashboard loaded"),
+            failure -> {
+                showTableError("Veriler yüklenemedi.");
+                uiExceptionHandler.handle(failure);
+            }
+        );
     }
 
     private void switchView(String viewMode, String title, Runnable loader) {
         this.currentViewMode = viewMode;
+        tableManager.showView(viewMode);
         if (contentTitleLabel != null) {
             contentTitleLabel.setText(title);
         }
 
+        boolean isDiagnostics = VIEW_DIAGNOSTICS.equals(viewMode);
+        if (!isDiagnostics) {
+            stopDiagnosticsRefresh();
+        }
+        if (exportDiagnosticsButton != null) {
+            exportDiagnosticsButton.setVisible(isDiagnostics);
+            exportDiagnosticsButton.setManaged(isDiagnostics);
+        }
+        if (flightRecordingButton != null) {
+            flightRecordingButton.setVisible(isDiagnostics);
+            flightRecordingButton.setManaged(isDiagnostics);
+            updateFlightRecordingButton();
+        }
+
         boolean isEnrollments = VIEW_ENROLLMENTS.equals(viewMode);
         setEnrollmentsFilterVisible(isEnrollments);
 
+        boolean isAttendanceRisk = VIEW_ATTENDANCE_RISK.equals(viewMode);
+        if (riskPagerBox != null) {
+            riskPagerBox.setVisible(isAttendanceRisk);
+            riskPagerBox.setManaged(isAttendanceRisk);
+        }
+
         boolean showGlobalSearch = VIEW_USERS.equals(viewMode)
             || VIEW_COURSES.equals(viewMode)
             || VIEW_ATTENDANCE.equals(viewMode);
@@ -365,7 +616,9 @@ public class AdminDashboardCoordinator {
             }
         }
 
-        attemptOperation(loader);
+        try (Span span = Tracer.startTrace("ui", "AdminDashboard.view." + viewMode)) {
+            attemptOperation(loader);
+        }
     }
 
     private void setGlobalSearchVisible(boolean visible) {
@@ -391,86 +644,251 @@ public class AdminDashboardCoordinator {
         switch (currentViewMode) {
             case VIEW_USERS -> loadUsersIntoTable();
             case VIEW_COURSES -> loadCoursesIntoTable();
-            case VIEW_ENROLLMENTS -> loadEnrollmentsIntoTable();
+            case VIEW_ENROLLMENTS -> applyEnrollmentFilters();
             case VIEW_ATTENDANCE -> loadAttendanceIntoTable();
+            case VIEW_ATTENDANCE_RISK -> loadAttendanceRiskIntoTable();
+            case VIEW_DIAGNOSTICS -> loadDiagnosticsIntoTable();
             default -> log.warn("Unknown view mode: {}", currentViewMode);
         }
         updateStatisticsPanel();
     }
 
+    /**
+     * Refreshes the statistics and, in the user, course and enrollment views, the rows changed by other clients.
+     *
+     * <p>Changes arrive in bursts (one entry per row of a saved roster), so they are collected for a short delay
+     * and applied with one delta load.</p>
+     */
+    private void setupChangeFeed() {
+        remoteChangeRefresh = new PauseTransition(REMOTE_CHANGE_REFRESH_DELAY);
+        remoteChangeRefresh.setOnFinished(event -> applyRemoteChanges());
+        changeFeedListener = changes -> Platform.runLater(() -> onRemoteChanges(changes));
+        changeFeedService.addListener(changeFeedListener);
+    }
+
+    private void stopChangeFeed() {
+        if (changeFeedListener != null) {
+            changeFeedService.removeListener(changeFeedListener);
+            changeFeedListener = null;
+        }
+        if (remoteChangeRefresh != null) {
+            remoteChangeRefresh.stop();
+        }
+    }
+
+    private void onRemoteChanges(List<EntityChangeDTO> changes) {
+        if (changeFeedListener == null) {
+            return;
+        }
+        for (EntityChangeDTO change : changes) {
+            remoteRowsChanged |= affectsCurrentView(change);
+        }
+        remoteChangeRefresh.playFromStart();
+    }
+
+    private boolean affectsCurrentView(EntityChangeDTO change) {
+        return switch (currentViewMode) {
+            case VIEW_USERS -> EntityChangeDTO.TYPE_USER.equals(change.entityType());
+            case VIEW_COURSES -> EntityChangeDTO.TYPE_COURSE.equals(change.entityType())
+                || EntityChangeDTO.TYPE_USER.equals(change.entityType());
+            case VIEW_ENROLLMENTS -> true;
+            default -> false;
+        };
+    }
+
+    private void applyRemoteChanges() {
+        boolean rowsChanged = remoteRowsChanged;
+        remoteRowsChanged = false;
+        if (rowsChanged && (VIEW_USERS.equals(currentViewMode)
+            || VIEW_COURSES.equals(currentViewMode)
+            || VIEW_ENROLLMENTS.equals(currentViewMode))) {
+            refreshCurrentView();
+            return;
+        }
+        updateStatisticsPanel();
+    }
+
+    /**
+     * Refreshes the active view after an action unless it is one of the views patched from domain events.
+     */
+    private void refreshUnpatchedView() {
+        if (!isPatchedView(currentViewMode)) {
+            refreshCurrentView();
+        }
+    }
+
+    private static boolean isPatchedView(String viewMode) {
+        return VIEW_USERS.equals(viewMode) || VIEW_COURSES.equals(viewMode) || VIEW_ENROLLMENTS.equals(viewMode);
+    }
+
+    private void subscribeToDomainEvents() {
+        eventSubscriptions.add(domainEventBus.subscribe(UserSavedEvent.class,
+            event -> Platform.runLater(() -> onUserSaved(event))));
+        eventSubscriptions.add(domainEventBus.subscribe(UserDeletedEvent.class,
+            event -> Platform.runLater(() -> onUserDeleted(event))));
+        eventSubscriptions.add(domainEventBus.subscribe(CourseSavedEvent.class,
+            event -> Platform.runLater(() -> onCourseSaved(event))));
+        eventSubscriptions.add(domainEventBus.subscribe(EnrollmentSavedEvent.class,
+            event -> Platform.runLater(() -> onEnrollmentSaved(event))));
+    }
+
+    private void onUserSaved(UserSavedEvent event) {
+        AdminUserRowDTO user = event.user();
+        if (event.created()) {
+            adjustStatistics(1, 0, 0);
+        }
+        String query = currentSearchQuery();
+        patchRows(VIEW_USERS, List.of(user), List.of(), AdminUserRowDTO::id, u -> matchesUserQuery(u, query));
+        String fullName = user.firstName() + " " + user.lastName();
+        updateRows(VIEW_COURSES, item -> {
+            if (item instanceof CourseDTO course && Objects.equals(course.getInstructorId(), user.id())) {
+                course.setInstructorName(fullName);
+            }
+            return item;
+        });
+        updateRows(VIEW_ENROLLMENTS, item -> item instanceof AdminEnrollmentRowDTO row && Objects.equals(row.studentId(), user.id())
+            ? new AdminEnrollmentRowDTO(row.id(), row.studentId(), row.courseId(), fullName, row.courseDisplay(),
+                row.status(), row.enrollmentDate())
+            : item);
+    }
+
+    private void onUserDeleted(UserDeletedEvent event) {
+        adjustStatistics(-1, -event.deletedCourseIds().size(), -event.deletedActiveEnrollments());
+        patchRows(VIEW_USERS, List.<AdminUserRowDTO>of(), List.of(event.userId()), AdminUserRowDTO::id, u -> true);
+        patchRows(VIEW_COURSES, List.<CourseDTO>of(), event.deletedCourseIds(), CourseDTO::getId, c -> true);
+        if (watermarkByView.containsKey(VIEW_ENROLLMENTS)) {
+            Set<Long> deletedCourseIds = new HashSet<>(event.deletedCourseIds());
+            tableManager.getTableView(VIEW_ENROLLMENTS).getItems().removeIf(item -> item instanceof AdminEnrollmentRowDTO row
+                && (Objects.equals(row.studentId(), event.userId()) || deletedCourseIds.contains(row.courseId())));
+        }
+    }
+
+    private void onCourseSaved(CourseSavedEvent event) {
+        if (event.created()) {
+            adjustStatistics(0, 1, 0);
+        }
+        String query = currentSearchQuery();
+        patchRows(VIEW_COURSES, List.of(event.course()), List.of(), CourseDTO::getId, c -> matchesCourseQuery(c, query));
+    }
+
+    private void onEnrollmentSaved(EnrollmentSavedEvent event) {
+        AdminEnrollmentRowDTO enrollment = event.enrollment();
+        adjustStatistics(0, 0, event.activeEnrollmentDelta());
+        patchRows(VIEW_ENROLLMENTS, List.of(enrollment), List.of(), AdminEnrollmentRowDTO::id, this::matchesEnrollmentFilter);
+        if (event.activeEnrollmentDelta() != 0) {
+            updateRows(VIEW_COURSES, item -> {
+                if (item instanceof CourseDTO course && Objects.equals(course.getId(), enrollment.courseId())
+                    && course.getCurrentEnrollmentCount() != null) {
+                    course.setCurrentEnrollmentCount(course.getCurrentEnrollmentCount() + event.activeEnrollmentDelta());
+                    if (course.getAvailableQuota() != null) {
+                        course.setAvailableQuota(course.getAvailableQuota() - event.activeEnrollmentDelta());
+                    }
+                }
+                return item;
+            });
+        }
+    }
+
+    /**
+     * Merges changed and deleted rows into the given view if its rows are loaded, whether or not it is shown.
+     */
+    private <T> void patchRows(String viewMode, List<T> upserts, List<Long> deletedIds, Function<T, Long> keyOf,
+                               Predicate<T> include) {
+        if (!watermarkByView.containsKey(viewMode) || tableManager == null) {
+            return;
+        }
+        tableManager.mergeDelta(viewMode, new SyncDeltaDTO<>(upserts, deletedIds, null, false), keyOf, include);
+        if (VIEW_ENROLLMENTS.equals(viewMode) && VIEW_ENROLLMENTS.equals(currentViewMode)) {
+            showTableEmpty(currentTable().getItems().isEmpty() ? "Kayıt bulunamadı." : "");
+        }
+    }
+
+    /**
+     * Applies an update to every row of the given view if its rows are loaded; the update returns a
+     * replacement row or the row itself, possibly modified in place.
+     */
+    private void updateRows(String viewMode, UnaryOperator<Object> update) {
+        if (!watermarkByView.containsKey(viewMode) || tableManager == null) {
+            return;
+        }
+        TableView<Object> table = tableManager.getTableView(viewMode);
+        var items = table.getItems();
+        for (int i = 0; i < items.size(); i++) {
+            Object updated = update.apply(items.get(i));
+            if (updated != items.get(i)) {
+                items.set(i, updated);
+            }
+        }
+        table.refresh();
+    }
+
+    private boolean matchesUserQuery(AdminUserRowDTO u, String query) {
+        return query.isBlank()
+            || containsIgnoreCase(u.username(), query)
+            || containsIgnoreCase(u.firstName(), query)
+            || containsIgnoreCase(u.lastName(), query)
+            || containsIgnoreCase(u.email(), query);
+    }
+
+    private boolean matchesCourseQuery(CourseDTO c, String query) {
+        return query.isBlank()
+            || containsIgnoreCase(c.getCode(), query)
+            || containsIgnoreCase(c.getName(), query)
+            || containsIgnoreCase(c.getInstructorName(), query);
+    }
+
+    /**
+     * Client-side check of the enrollment filter panel. Rows already shown were matched by the server-side
+     * student search, which also covers fields the row does not carry, so they stay unless the course or
+     * status no longer matches.
+     */
+    private boolean matchesEnrollmentFilter(AdminEnrollmentRowDTO row) {
+        CourseDTO selectedCourse = enrollmentCourseCombo == null ? null : enrollmentCourseCombo.getValue();
+        EnrollmentStatus selectedStatus = parseEnrollmentStatus(enrollmentStatusCombo == null ? null : enrollmentStatusCombo.getValue());
+        String studentQuery = normalizeString(enrollmentStudentNameField == null ? null : enrollmentStudentNameField.getText());
+        if (selectedCourse != null && !Objects.equals(selectedCourse.getId(), row.courseId())) {
+            return false;
+        }
+        if (selectedStatus != null && selectedStatus != row.status()) {
+            return false;
+        }
+        return studentQuery.isBlank()
+            || containsIgnoreCase(row.studentName(), studentQuery)
+            || tableManager.getTableView(VIEW_ENROLLMENTS).getItems().stream()
+                .anyMatch(item -> item instanceof AdminEnrollmentRowDTO shown && Objects.equals(shown.id(), row.id()));
+    }
+
+    private void adjustStatistics(long users, long courses, long enrollments) {
+        if (statistics != null && (users != 0 || courses != 0 || enrollments != 0)) {
+            showStatistics(statistics.plus(users, courses, enrollments));
+        }
+    }
+
     private void updateStatisticsPanel() {
         FxAsync.runAsync(
             adminDashboardService::getStatistics,
-            stats -> {
-                if (totalUsersLabel != null) {
-                    totalUsersLabel.setText(String.valueOf(stats.totalUsers()));
-                }
-                if (totalCoursesLabel != null) {
-                    totalCoursesLabel.setText(String.valueOf(stats.totalCourses()));
-                }
-                if (activeEnrollmentsLabel != null) {
-                    activeEnrollmentsLabel.setText(String.valueOf(stats.activeEnrollments()));
-                }
-            },
+            this::showStatistics,
             failure -> log.error("Failed to update statistics", failure)
         );
     }
 
+    private void showStatistics(AdminStatistics stats) {
+        statistics = stats;
+        if (totalUsersLabel != null) {
+            totalUsersLabel.setText(String.valueOf(stats.totalUsers()));
+        }
+        if (totalCoursesLabel != null) {
+            totalCoursesLabel.setText(String.valueOf(stats.totalCourses()));
+        }
+        if (activeEnrollmentsLabel != null) {
+            activeEnrollmentsLabel.setText(String.valueOf(stats.activeEnrollments()));
+        }
+    }
+
     private void performSearch(String query) {
         switch (currentViewMode) {
-            case VIEW_USERS -> {
-                long token = beginTableRequest(VIEW_USERS);
-                showTableLoading();
-                FxAsync.runAsync(
-                    adminDashboardService::getAllUserRows,
-                    users -> {
-                        if (!isActiveTableRequest(VIEW_USERS, token)) {
-                            return;
-                        }
-                        List<AdminUserRowDTO> filtered = users.stream()
-                            .filter(u -> containsIgnoreCase(u.username(), query)
-                                || containsIgnoreCase(u.firstName(), query)
-                                || containsIgnoreCase(u.lastName(), query)
-                                || containsIgnoreCase(u.email(), query))
-                            .toList();
-                        populateTable(filtered, this::configureUserColumns);
-                        configureRowDoubleClickForCurrentView();
-                    },
-                    failure -> {
-                        if (!isActiveTableRequest(VIEW_USERS, token)) {
-                            return;
-                        }
-                        showTableError("Veriler yüklenemedi.");
-                        uiExceptionHandler.handle(failure);
-                    }
-                );
-            }
-            case VIEW_COURSES -> {
-                long token = beginTableRequest(VIEW_COURSES);
-                showTableLoading();
-                FxAsync.runAsync(
-                    courseService::getAllCourseDTOs,
-                    courses -> {
-                        if (!isActiveTableRequest(VIEW_COURSES, token)) {
-                            return;
-                        }
-                        List<CourseDTO> filtered = courses.stream()
-                            .filter(c -> containsIgnoreCase(c.getCode(), query)
-                                || containsIgnoreCase(c.getName(), query)
-                                || containsIgnoreCase(c.getInstructorName(), query))
-                            .toList();
-                        populateTable(filtered, this::configureCourseColumns);
-                        configureRowDoubleClickForCurrentView();
-                    },
-                    failure -> {
-                        if (!isActiveTableRequest(VIEW_COURSES, token)) {
-                            return;
-                        }
-                        showTableError("Veriler yüklenemedi.");
-                        uiExceptionHandler.handle(failure);
-                    }
-                );
-            }
+            case VIEW_USERS -> loadUsersIntoTable();
+            case VIEW_COURSES -> loadCoursesIntoTable();
             case VIEW_ATTENDANCE -> {
                 long token = beginTableRequest(VIEW_ATTENDANCE);
                 showTableLoading();
@@ -495,7 +913,7 @@ public class AdminDashboardCoordinator {
                             showTableEmpty("");
                         }
 
-                        populateTable(filtered, this::configureAttendanceColumns);
+                        populateTable(filtered, AdminDashboardCoordinator::attendanceKey, this::configureAttendanceColumns);
                         configureRowDoubleClickForCurrentView();
                     },
                     failure -> {
@@ -512,17 +930,15 @@ public class AdminDashboardCoordinator {
     }
 
     private void loadUsersIntoTable() {
+        String query = currentSearchQuery();
         long token = beginTableRequest(VIEW_USERS);
-        showTableLoading();
+        LocalDateTime since = heldWatermark(VIEW_USERS, query);
+        if (since == null) {
+            showTableLoading();
+        }
         FxAsync.runAsync(
-            adminDashboardService::getAllUserRows,
-            rows -> {
-                if (!isActiveTableRequest(VIEW_USERS, token)) {
-                    return;
-                }
-                populateTable(rows, this::configureUserColumns);
-                configureRowDoubleClickForCurrentView();
-            },
+            () -> adminDashboardService.getUserRowChanges(since),
+            delta -> showUserRows(query, token, delta),
             failure -> {
                 if (!isActiveTableRequest(VIEW_USERS, token)) {
                     return;
@@ -533,17 +949,29 @@ public class AdminDashboardCoordinator {
         );
     }
 
+    private void showUserRows(String query, long token, SyncDeltaDTO<AdminUserRowDTO> delta) {
+        if (!isActiveTableRequest(VIEW_USERS, token)) {
+            return;
+        }
+        applyDelta(VIEW_USERS, query, delta, AdminUserRowDTO::id, u -> matchesUserQuery(u, query),
+            this::configureUserColumns);
+    }
+
     private void loadCoursesIntoTable() {
+        String query = currentSearchQuery();
         long token = beginTableRequest(VIEW_COURSES);
-        showTableLoading();
+        LocalDateTime since = heldWatermark(VIEW_COURSES, query);
+        if (since == null) {
+            showTableLoading();
+        }
         FxAsync.runAsync(
-            courseService::getAllCourseDTOs,
-            rows -> {
+            () -> adminDashboardService.getCourseRowChanges(since),
+            delta -> {
                 if (!isActiveTableRequest(VIEW_COURSES, token)) {
                     return;
                 }
-                populateTable(rows, this::configureCourseColumns);
-                configureRowDoubleClickForCurrentView();
+                applyDelta(VIEW_COURSES, query, delta, CourseDTO::getId, c -> matchesCourseQuery(c, query),
+                    this::configureCourseColumns);
             },
             failure -> {
                 if (!isActiveTableRequest(VIEW_COURSES, token)) {
@@ -556,8 +984,6 @@ public class AdminDashboardCoordinator {
     }
 
     private void loadEnrollmentsIntoTable() {
-        beginTableRequest(VIEW_ENROLLMENTS);
-        populateTable(List.of(), this::configureEnrollmentColumns);
         applyEnrollmentFilters();
     }
 
@@ -570,7 +996,7 @@ public class AdminDashboardCoordinator {
                 if (!isActiveTableRequest(VIEW_ATTENDANCE, token)) {
                     return;
                 }
-                populateTable(rows, this::configureAttendanceColumns);
+                populateTable(rows, AdminDashboardCoordinator::attendanceKey, this::configureAttendanceColumns);
                 configureRowDoubleClickForCurrentView();
             },
             failure -> {
@@ -583,11 +1009,152 @@ public class AdminDashboardCoordinator {
         );
     }
 
-    private <T> void populateTable(List<T> data, Consumer<TableView<T>> columnConfigurator) {
+    private void loadAttendanceRiskIntoTable() {
+        long token = beginTableRequest(VIEW_ATTENDANCE_RISK);
+        showTableLoading();
+        int requestedPage = riskPageNumber;
+        FxAsync.runAsync(
+            () -> attendanceRiskService.getRiskReport(requestedPage, null),
+            page -> {
+                if (!isActiveTableRequest(VIEW_ATTENDANCE_RISK, token)) {
+                    return;
+                }
+                if (page.getNumber() > 0 && page.getNumber() >= page.getTotalPages()) {
+                    riskPageNumber = Math.max(0, page.getTotalPages() - 1);
+                    loadAttendanceRiskIntoTable();
+                    return;
+                }
+                showTableEmpty(page.isEmpty() ? "Devamsızlık riski olan kayıt yok." : "");
+                populateTable(page.getContent(), AdminAttendanceRiskRowDTO::enrollmentId, this::configureAttendanceRiskColumns);
+                updateRiskPager(page.getNumber(), page.getTotalPages(), page.getTotalElements());
+            },
+            failure -> {
+                if (!isActiveTableRequest(VIEW_ATTENDANCE_RISK, token)) {
+                    return;
+                }
+                showTableError("Veriler yüklenemedi.");
+                uiExceptionHandler.handle(failure);
+            }
+        );
+    }
+
+    private void rescanAttendanceRisk() {
+        showTableLoading();
+        FxAsync.runAsync(
+            attendanceRiskService::rescanAll,
+            atRisk -> {
+                if (VIEW_ATTENDANCE_RISK.equals(currentViewMode)) {
+                    loadAttendanceRiskIntoTable();
+                }
+            },
+            uiExceptionHandler::handle
+        );
+    }
+
+    private void updateRiskPager(int pageNumber, int totalPages, long totalElements) {
+        if (riskPageLabel != null) {
+            riskPageLabel.setText(totalPages == 0
+                ? "Kayıt yok"
+                : "Sayfa " + (pageNumber + 1) + " / " + totalPages + " (" + totalElements + " kayıt)");
+        }
+        if (riskPreviousButton != null) {
+            riskPreviousButton.setDisable(pageNumber <= 0);
+        }
+        if (riskNextButton != null) {
+            riskNextButton.setDisable(pageNumber + 1 >= totalPages);
+        }
+    }
+
+    private void loadDiagnosticsIntoTable() {
+        long token = beginTableRequest(VIEW_DIAGNOSTICS);
+        showTableLoading();
+        refreshDiagnosticsRows(token);
+
+        if (diagnosticsRefreshTimeline == null) {
+            diagnosticsRefreshTimeline = new Timeline(new KeyFrame(
+                DIAGNOSTICS_REFRESH_INTERVAL,
+                event -> {
+                    if (VIEW_DIAGNOSTICS.equals(currentViewMode)) {
+                        refreshDiagnosticsRows(activeTableRequestToken);
+                    }
+                }
+            ));
+            diagnosticsRefreshTimeline.setCycleCount(Animation.INDEFINITE);
+        }
+        diagnosticsRefreshTimeline.play();
+    }
+
+    private void refreshDiagnosticsRows(long token) {
+        FxAsync.runAsync(
+            diagnosticsService::getDiagnosticsRows,
+            rows -> {
+                if (!isActiveTableRequest(VIEW_DIAGNOSTICS, token)) {
+                    return;
+                }
+                populateTable(rows, row -> row.category() + '/' + row.metric(), this::configureDiagnosticsColumns);
+            },
+            failure -> {
+                if (!isActiveTableRequest(VIEW_DIAGNOSTICS, token)) {
+                    return;
+                }
+                stopDiagnosticsRefresh();
+                showTableError("Tanılama verileri yüklenemedi.");
+                uiExceptionHandler.handle(failure);
+            }
+        );
+    }
+
+    private void stopDiagnosticsRefresh() {
+        if (diagnosticsRefreshTimeline != null) {
+            diagnosticsRefreshTimeline.stop();
+        }
+    }
+
+    private void updateFlightRecordingButton() {
+        if (flightRecordingButton != null) {
+            flightRecordingButton.setDisable(false);
+            flightRecordingButton.setText(diagnosticsService.isFlightRecordingActive() ? "JFR Kaydını Durdur" : "JFR Kaydını Başlat");
+        }
+    }
+
+    /**
+     * Shows the given rows in the active view's table as a keyed diff. The rows no longer come from a delta,
+     * so the view's watermark is dropped.
+     */
+    private <T> void populateTable(List<T> data, Function<T, ?> keyOf, Consumer<TableView<T>> columnConfigurator) {
+        watermarkByView.remove(currentViewMode);
         if (tableManager == null) {
             return;
         }
-        tableManager.populateTable(data, columnConfigurator, currentViewMode);
+        tableManager.populateTable(currentViewMode, data, keyOf, columnConfigurator);
+    }
+
+    private static String attendanceKey(AdminAttendanceRowDTO row) {
+        return row.studentId() + ":" + row.courseId() + ":" + row.weekNumber();
+    }
+
+    /**
+     * Shows a delta of the given view: merges it into the rows on screen when they were loaded for the same
+     * filter, otherwise replaces them. Remembers the delta's watermark for the next refresh.
+     */
+    private <T> void applyDelta(String viewMode, String filter, SyncDeltaDTO<T> delta, Function<T, Long> keyOf,
+                                Predicate<T> include, Consumer<TableView<T>> columnConfigurator) {
+        if (delta.complete() || heldWatermark(viewMode, filter) == null || tableManager == null) {
+            populateTable(delta.upserts().stream().filter(include).toList(), keyOf, columnConfigurator);
+        } else {
+            tableManager.mergeDelta(viewMode, delta, keyOf, include);
+        }
+        watermarkByView.put(viewMode, new ViewWatermark(delta.watermark(), filter));
+        configureRowDoubleClickForCurrentView();
+    }
+
+    private LocalDateTime heldWatermark(String viewMode, String filter) {
+        ViewWatermark held = watermarkByView.get(viewMode);
+        return held == null || !held.filter().equals(filter) ? null : held.watermark();
+    }
+
+    private String currentSearchQuery() {
+        return searchField == null || !searchField.isVisible() ? "" : normalizeString(searchField.getText());
     }
 
     private void configureUserColumns(TableView<AdminUserRowDTO> table) {
@@ -743,6 +1310,57 @@ public class AdminDashboardCoordinator {
         table.getColumns().add(columnFactory.createColumn("Tarih", AdminAttendanceRowDTO::date));
     }
 
+    private void configureAttendanceRiskColumns(TableView<AdminAttendanceRiskRowDTO> table) {
+        table.getColumns().add(columnFactory.createColumn("Öğrenci", AdminAttendanceRiskRowDTO::studentName));
+        table.getColumns().add(columnFactory.createColumn("Ders", AdminAttendanceRiskRowDTO::courseDisplay));
+
+        TableColumn<AdminAttendanceRiskRowDTO, String> levelCol = new TableColumn<>("Risk");
+        levelCol.setCellValueFactory(cell ->
+            new SimpleStringProperty(cell.getValue().level() == AttendanceRiskLevel.CRITICAL ? "Kritik" : "Uyarı"));
+        levelCol.setCellFactory(col -> new TableCell<>() {
+            @Override
+            protected void updateItem(String value, boolean empty) {
+                super.updateItem(value, empty);
+                if (empty || value == null || value.isBlank()) {
+                    setText(null);
+                    setGraphic(null);
+                    return;
+                }
+                Label badge = new Label(value);
+                badge.getStyleClass().addAll("badge", "Kritik".equals(value) ? "badge-danger" : "badge-warning");
+                setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+                setGraphic(badge);
+                setAlignment(Pos.CENTER);
+            }
+        });
+        levelCol.setMinWidth(120);
+        levelCol.setPrefWidth(140);
+        table.getColumns().add(levelCol);
+
+        TableColumn<AdminAttendanceRiskRowDTO, String> hoursCol = new TableColumn<>("Devamsızlık");
+        hoursCol.setCellValueFactory(cell ->
+            new SimpleStringProperty(cell.getValue().absentHours() + " / " + cell.getValue().totalHours() + " saat"));
+        hoursCol.setMinWidth(140);
+        hoursCol.setPrefWidth(160);
+        table.getColumns().add(hoursCol);
+
+        TableColumn<AdminAttendanceRiskRowDTO, String> detectedCol = new TableColumn<>("Tespit");
+        detectedCol.setCellValueFactory(cell -> {
+            var detectedAt = cell.getValue().detectedAt();
+            return new SimpleStringProperty(detectedAt != null ? DATE_TIME_FORMATTER.format(detectedAt) : "-");
+        });
+        detectedCol.setMinWidth(160);
+        detectedCol.setPrefWidth(180);
+        table.getColumns().add(detectedCol);
+    }
+
+    private void configureDiagnosticsColumns(TableView<AdminDiagnosticsRowDTO> table) {
+        table.getColumns().add(columnFactory.createColumn("Kategori", AdminDiagnosticsRowDTO::category));
+        table.getColumns().add(columnFactory.createColumn("Metrik", AdminDiagnosticsRowDTO::metric));
+        table.getColumns().add(columnFactory.createColumn("Değer", AdminDiagnosticsRowDTO::value));
+        table.getColumns().add(columnFactory.createColumn("Detay", AdminDiagnosticsRowDTO::detail));
+    }
+
     private void applyEnrollmentFilters() {
         if (!VIEW_ENROLLMENTS.equals(currentViewMode)) {
             return;
@@ -766,26 +1384,27 @@ public class AdminDashboardCoordinator {
 
         if (!hasAnyFilter) {
             showTableEmpty("");
-            populateTable(List.of(), this::configureEnrollmentColumns);
+            populateTable(List.of(), AdminEnrollmentRowDTO::id, this::configureEnrollmentColumns);
             configureRowDoubleClickForCurrentView();
             return;
         }
 
-        showTableLoading();
-        populateTable(List.of(), this::configureEnrollmentColumns);
+        String filter = studentQuery + '|' + selectedCourseId + '|' + (selectedStatus == null ? "" : selectedStatus.name());
+        LocalDateTime since = heldWatermark(VIEW_ENROLLMENTS, filter);
+        if (since == null) {
+            showTableLoading();
+            populateTable(List.of(), AdminEnrollmentRowDTO::id, this::configureEnrollmentColumns);
+        }
 
         FxAsync.runAsync(
-            () -> adminDashboardService.searchEnrollmentRows(studentQuery, selectedCourseId, selectedStatus),
-            rows -> {
+            () -> adminDashboardService.getEnrollmentRowChanges(studentQuery, selectedCourseId, selectedStatus, since),
+            delta -> {
                 if (!isActiveTableRequest(VIEW_ENROLLMENTS, token)) {
                     return;
                 }
-                if (rows == null || rows.isEmpty()) {
-                    showTableEmpty("Kayıt bulunamadı.");
-                } else {
-                    showTableEmpty("");
-                }
-                populateTable(rows, this::configureEnrollmentColumns);
+                applyDelta(VIEW_ENROLLMENTS, filter, delta, AdminEnrollmentRowDTO::id, row -> true,
+                    this::configureEnrollmentColumns);
+                showTableEmpty(currentTable().getItems().isEmpty() ? "Kayıt bulunamadı." : "");
                 configureRowDoubleClickForCurrentView();
             },
             failure -> {
@@ -800,9 +1419,6 @@ public class AdminDashboardCoordinator {
 
     private void showTableEmpty(String message) {
         setTablePlaceholder(message == null ? "" : message);
-        if (tableManager != null) {
-            tableManager.clearRowFactory();
-        }
     }
 
     private EnrollmentStatus parseEnrollmentStatus(String statusCode) {
@@ -831,9 +1447,6 @@ public class AdminDashboardCoordinator {
 
     private void showTableLoading() {
         setTablePlaceholder("Yükleniyor...");
-        if (tableManager != null) {
-            tableManager.clearRowFactory();
-        }
     }
 
     private void showTableError(String message) {
@@ -841,22 +1454,32 @@ public class AdminDashboardCoordinator {
     }
 
     private void setTablePlaceholder(String text) {
-        if (dataTableView == null) {
+        TableView<Object> table = currentTable();
+        if (table == null) {
             return;
         }
         Label label = new Label(text == null ? "" : text);
         label.setWrapText(true);
-        dataTableView.setPlaceholder(label);
+        table.setPlaceholder(label);
+    }
+
+    private TableView<Object> currentTable() {
+        return tableManager == null ? dataTableView : tableManager.getTableView();
     }
 
     private void configureRowDoubleClickForCurrentView() {
-        switch (currentViewMode) {
-            case VIEW_USERS -> AdminDashboardRowHandlers.configureEditOnDoubleClick(dataTableView, ACTION_TYPE_USER, (item, type) -> dashboardActions.handleEdit(item, type));
-            case VIEW_COURSES -> AdminDashboardRowHandlers.configureEditOnDoubleClick(dataTableView, ACTION_TYPE_COURSE, (item, type) -> dashboardActions.handleEdit(item, type));
-            case VIEW_ENROLLMENTS -> AdminDashboardRowHandlers.configureEditOnDoubleClick(dataTableView, ACTION_TYPE_ENROLLMENT, (item, type) -> dashboardActions.handleEdit(item, type));
-            case VIEW_ATTENDANCE -> AdminDashboardRowHandlers.configureAttendanceDetailsPopup(dataTableView, this::showAttendanceDetails);
-            default -> dataTableView.setRowFactory(null);
+        if (tableManager == null) {
+            return;
         }
+        tableManager.configureRows(currentViewMode, table -> {
+            switch (currentViewMode) {
+                case VIEW_USERS -> AdminDashboardRowHandlers.configureEditOnDoubleClick(table, ACTION_TYPE_USER, (item, type) -> dashboardActions.handleEdit(item, type));
+                case VIEW_COURSES -> AdminDashboardRowHandlers.configureEditOnDoubleClick(table, ACTION_TYPE_COURSE, (item, type) -> dashboardActions.handleEdit(item, type));
+                case VIEW_ENROLLMENTS -> AdminDashboardRowHandlers.configureEditOnDoubleClick(table, ACTION_TYPE_ENROLLMENT, (item, type) -> dashboardActions.handleEdit(item, type));
+                case VIEW_ATTENDANCE -> AdminDashboardRowHandlers.configureAttendanceDetailsPopup(table, this::showAttendanceDetails);
+                default -> table.setRowFactory(null);
+            }
+        });
     }
 
     private void showAttendanceDetails(AdminAttendanceRowDTO attendanceRow) {
@@ -885,9 +1508,10 @@ public class AdminDashboardCoordinator {
     }
 
     private Stage getStage() {
-        return dataTableView == null || dataTableView.getScene() == null
+        TableView<Object> table = currentTable();
+        return table == null || table.getScene() == null
             ? null
-            : (Stage) dataTableView.getScene().getWindow();
+            : (Stage) table.getScene().getWindow();
     }
 
     private void attemptOperation(Runnable operation) {
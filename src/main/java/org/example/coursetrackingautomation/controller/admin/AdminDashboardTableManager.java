@@ -1,60 +1,289 @@
 package org.example.coursetrackingautomation.controller.admin;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
-import javafx.collections.FXCollections;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javafx.collections.ObservableList;
+import javafx.scene.Parent;
 import javafx.scene.control.TableView;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import org.example.coursetrackingautomation.dto.SyncDeltaDTO;
 
 /**
- * Handles generic {@link TableView} (re)configuration and data population for Admin Dashboard.
+ * Owns the tables of the Admin Dashboard views and keeps their rows up to date.
  *
- * <p>This component manages type casting for the shared table and reconfigures columns when the
- * current view mode changes.</p>
+ * <p>Every view gets its own {@link TableView}, configured once on first use and swapped into the place of
+ * the FXML table when the view is shown, so switching views keeps columns, cell factories, skins, row
+ * factories, selection and scroll position of each table. Rows are updated with keyed diffs (update in place,
+ * append and remove by key) instead of replacing the item list, so unchanged rows keep their cells and the
+ * selection survives reloads; only a reordering replaces the list.</p>
  */
 public final class AdminDashboardTableManager {
 
-    private final TableView<Object> dataTableView;
-    private String tableConfiguredForViewMode;
+    private final TableView<Object> templateTable;
+    private final Map<String, TableView<Object>> tableByViewMode = new HashMap<>();
+    private final Set<String> configuredViewModes = new HashSet<>();
+    private final Set<String> rowFactoryViewModes = new HashSet<>();
+    private TableView<Object> shownTable;
 
+    /**
+     * Creates a manager whose first view uses the FXML table; later views get tables with the same style
+     * and layout constraints placed at its position in the scene graph.
+     *
+     * @param dataTableView table declared in the FXML layout
+     */
     public AdminDashboardTableManager(TableView<Object> dataTableView) {
-        this.dataTableView = dataTableView;
+        this.templateTable = dataTableView;
+        this.shownTable = dataTableView;
     }
 
     /**
-     * Populates the shared table with the given dataset and installs the appropriate columns.
+     * Shows the table of a view in place of the currently shown one, creating it on first use.
      *
+     * @param viewMode view identifier
+     * @return the view's table
+     */
+    public TableView<Object> showView(String viewMode) {
+        TableView<Object> table = tableFor(viewMode);
+        if (table != shownTable) {
+            Parent parent = shownTable.getParent();
+            if (parent instanceof Pane pane) {
+                int index = pane.getChildren().indexOf(shownTable);
+                pane.getChildren().set(index, table);
+            }
+            shownTable = table;
+        }
+        return table;
+    }
+
+    /**
+     * Populates a view's table with the given rows, installing its columns on first use.
+     *
+     * <p>The rows are applied as a keyed diff against the rows already shown; selected rows that are still
+     * present stay selected.</p>
+     *
+     * @param viewMode view identifier
      * @param data rows to render
+     * @param keyOf unique key of a row
      * @param columnConfigurator callback that adds columns for the given row type
-     * @param currentViewMode active view identifier
      * @param <T> row type
      */
-    public <T> void populateTable(List<T> data, Consumer<TableView<T>> columnConfigurator, String currentViewMode) {
-        dataTableView.getItems().clear();
-        dataTableView.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY_ALL_COLUMNS);
+    public <T> void populateTable(String viewMode, List<T> data, Function<T, ?> keyOf,
+                                  Consumer<TableView<T>> columnConfigurator) {
+        TableView<T> table = typed(tableFor(viewMode));
+        if (configuredViewModes.add(viewMode)) {
+            table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY_ALL_COLUMNS);
+            columnConfigurator.accept(table);
+        }
+        List<Object> selectedKeys = selectedKeys(table, keyOf);
+        applyKeyedDiff(table.getItems(), data, keyOf);
+        restoreSelection(table, keyOf, selectedKeys);
+    }
 
-        @SuppressWarnings("unchecked")
-        TableView<T> specificTable = (TableView<T>) dataTableView;
+    /**
+     * Merges a delta into the rows of a view's table, so the cost follows the number of changed rows.
+     *
+     * <p>Changed rows replace their row in place, new rows are appended and deleted rows removed; rows that
+     * are equal to the shown row are left untouched. A complete delta is applied as a keyed diff of all rows.
+     * The columns must already be configured for the row type by {@link #populateTable}.</p>
+     *
+     * @param viewMode view identifier
+     * @param delta changes since the rows were loaded
+     * @param keyOf key of a row, matching {@link SyncDeltaDTO#deletedIds()}
+     * @param include filter of the view; changed rows that do not match it are removed
+     * @param <T> row type
+     */
+    public <T> void mergeDelta(String viewMode, SyncDeltaDTO<T> delta, Function<T, Long> keyOf, Predicate<T> include) {
+        TableView<T> table = typed(tableFor(viewMode));
+        ObservableList<T> items = table.getItems();
+        List<Object> selectedKeys = selectedKeys(table, keyOf);
+        if (delta.complete()) {
+            applyKeyedDiff(items, delta.upserts().stream().filter(include).toList(), keyOf);
+            restoreSelection(table, keyOf, selectedKeys);
+            return;
+        }
 
-        if (tableConfiguredForViewMode == null || !tableConfiguredForViewMode.equals(currentViewMode)) {
-            specificTable.getColumns().clear();
-            columnConfigurator.accept(specificTable);
-            tableConfiguredForViewMode = currentViewMode;
+        Map<Long, Integer> indexByKey = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            indexByKey.put(keyOf.apply(items.get(i)), i);
+        }
+        Set<Long> removedKeys = new HashSet<>(delta.deletedIds());
+        List<T> added = new ArrayList<>();
+        for (T row : delta.upserts()) {
+            Long key = keyOf.apply(row);
+            if (!include.test(row)) {
+                removedKeys.add(key);
+                continue;
+            }
+            Integer index = indexByKey.get(key);
+            if (index == null) {
+                added.add(row);
+            } else if (!row.equals(items.get(index))) {
+                items.set(index, row);
+            }
         }
+        if (!removedKeys.isEmpty()) {
+            items.removeIf(row -> removedKeys.contains(keyOf.apply(row)));
+        }
+        if (!added.isEmpty()) {
+            items.addAll(added);
+        }
+        restoreSelection(table, keyOf, selectedKeys);
+    }
 
-        specificTable.setItems(FXCollections.observableArrayList(data));
+    /**
+     * Installs the row factory of a view's table once; later calls for the same view do nothing, so rows are
+     * not recreated on every reload.
+     *
+     * @param viewMode view identifier
+     * @param installer callback installing the row factory
+     */
+    public void configureRows(String viewMode, Consumer<TableView<Object>> installer) {
+        if (rowFactoryViewModes.add(viewMode)) {
+            installer.accept(tableFor(viewMode));
+        }
     }
 
     /**
-     * Clears any row factory previously installed for the table.
+     * @param viewMode view identifier
+     * @return the view's table, created on first use
      */
-    public void clearRowFactory() {
-        dataTableView.setRowFactory(null);
+    public TableView<Object> getTableView(String viewMode) {
+        return tableFor(viewMode);
     }
 
     /**
-     * @return the shared dashboard table view
+     * @return the table currently shown
      */
     public TableView<Object> getTableView() {
-        return dataTableView;
+        return shownTable;
+    }
+
+    /**
+     * Updates a list to the given rows with as few list changes as possible, in linear time: rows whose key
+     * disappeared are removed in one change, changed rows are replaced in place and new rows appended in one
+     * change. Rows that are equal to the shown row are left untouched. When the shown rows are in a different
+     * order, or new rows belong between them, the list is replaced as a whole; callers restore the selection.
+     */
+    static <T> void applyKeyedDiff(ObservableList<T> items, List<T> rows, Function<T, ?> keyOf) {
+        Map<Object, T> rowByKey = new LinkedHashMap<>();
+        for (T row : rows) {
+            rowByKey.put(keyOf.apply(row), row);
+        }
+        if (items.isEmpty() || rowByKey.isEmpty()) {
+            items.setAll(rowByKey.values());
+            return;
+        }
+
+        List<Object> keptKeys = new ArrayList<>(items.size());
+        Set<Object> shownKeys = new HashSet<>();
+        for (T item : items) {
+            Object key = keyOf.apply(item);
+            if (rowByKey.containsKey(key) && shownKeys.add(key)) {
+                keptKeys.add(key);
+            }
+        }
+        if (!keepsOrder(keptKeys, shownKeys, rowByKey.keySet())) {
+            items.setAll(rowByKey.values());
+            return;
+        }
+
+        Set<Object> keptOnce = new HashSet<>();
+        items.removeIf(item -> !rowByKey.containsKey(keyOf.apply(item)) || !keptOnce.add(keyOf.apply(item)));
+        for (int i = 0; i < items.size(); i++) {
+            T row = rowByKey.get(keyOf.apply(items.get(i)));
+            if (!row.equals(items.get(i))) {
+                items.set(i, row);
+            }
+        }
+        List<T> added = new ArrayList<>();
+        rowByKey.forEach((key, row) -> {
+            if (!shownKeys.contains(key)) {
+                added.add(row);
+            }
+        });
+        if (!added.isEmpty()) {
+            items.addAll(added);
+        }
+    }
+
+    /**
+     * Tells whether the kept rows appear in the new order as shown and all new rows come after them.
+     */
+    private static boolean keepsOrder(List<Object> keptKeys, Set<Object> shownKeys, Set<Object> rowKeys) {
+        int kept = 0;
+        for (Object key : rowKeys) {
+            if (kept < keptKeys.size() && Objects.equals(keptKeys.get(kept), key)) {
+                kept++;
+            } else if (shownKeys.contains(key) || kept < keptKeys.size()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private TableView<Object> tableFor(String viewMode) {
+        TableView<Object> table = tableByViewMode.get(viewMode);
+        if (table != null) {
+            return table;
+        }
+        table = tableByViewMode.isEmpty() ? templateTable : createTable();
+        tableByViewMode.put(viewMode, table);
+        return table;
+    }
+
+    private TableView<Object> createTable() {
+        TableView<Object> table = new TableView<>();
+        table.getStyleClass().setAll(templateTable.getStyleClass());
+        table.setStyle(templateTable.getStyle());
+        table.setColumnResizePolicy(templateTable.getColumnResizePolicy());
+        Priority vgrow = VBox.getVgrow(templateTable);
+        if (vgrow != null) {
+            VBox.setVgrow(table, vgrow);
+        }
+        return table;
+    }
+
+    private static <T> List<Object> selectedKeys(TableView<T> table, Function<T, ?> keyOf) {
+        List<T> selected = table.getSelectionModel().getSelectedItems();
+        if (selected.isEmpty()) {
+            return List.of();
+        }
+        List<Object> keys = new ArrayList<>(selected.size());
+        for (T row : selected) {
+            if (row != null) {
+                keys.add(keyOf.apply(row));
+            }
+        }
+        return keys;
+    }
+
+    private static <T> void restoreSelection(TableView<T> table, Function<T, ?> keyOf, List<Object> selectedKeys) {
+        if (selectedKeys.isEmpty() || selectedKeys.equals(selectedKeys(table, keyOf))) {
+            return;
+        }
+        Set<Object> wanted = new HashSet<>(selectedKeys);
+        ObservableList<T> items = table.getItems();
+        table.getSelectionModel().clearSelection();
+        for (int i = 0; i < items.size(); i++) {
+            if (wanted.contains(keyOf.apply(items.get(i)))) {
+                table.getSelectionModel().select(i);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> TableView<T> typed(TableView<Object> table) {
+        return (TableView<T>) (TableView<?>) table;
     }
 }
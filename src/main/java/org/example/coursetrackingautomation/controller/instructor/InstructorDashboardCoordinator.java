@@ -1,12 +1,17 @@
 package org.example.coursetrackingautomation.controller.instructor;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import javafx.animation.PauseTransition;
 import javafx.application.Platform;
-import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonBar;
 import javafx.scene.control.ButtonType;
@@ -14,59 +19,94 @@ import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
 import javafx.scene.control.TableView;
 import javafx.stage.Stage;
+import javafx.util.Duration;
+import lombok.extern.slf4j.Slf4j;
 import org.example.coursetrackingautomation.config.UserSession;
+import org.example.coursetrackingautomation.controller.AttendanceMatrixPopupController;
 import org.example.coursetrackingautomation.controller.EditGradePopupController;
+import org.example.coursetrackingautomation.controller.support.CourseAnalyticsLabelFormatter;
 import org.example.coursetrackingautomation.controller.support.CourseHoursLabelFormatter;
 import org.example.coursetrackingautomation.controller.support.WeeksListFactory;
+import org.example.coursetrackingautomation.diagnostics.Span;
+import org.example.coursetrackingautomation.diagnostics.Tracer;
+import org.example.coursetrackingautomation.dto.AttendanceCellDTO;
+import org.example.coursetrackingautomation.dto.AttendanceMatrixDTO;
+import org.example.coursetrackingautomation.dto.ClassAttendanceResultDTO;
 import org.example.coursetrackingautomation.dto.CourseDTO;
+import org.example.coursetrackingautomation.dto.EntityChangeDTO;
 import org.example.coursetrackingautomation.dto.GradeDTO;
-import org.example.coursetrackingautomation.dto.GradeStatus;
 import org.example.coursetrackingautomation.dto.InstructorCourseRosterDTO;
+import org.example.coursetrackingautomation.dto.InstructorRosterChangesDTO;
+import org.example.coursetrackingautomation.dto.RosterEditConflictDTO;
+import org.example.coursetrackingautomation.dto.RosterEditDTO;
+import org.example.coursetrackingautomation.dto.RosterEditField;
+import org.example.coursetrackingautomation.dto.RosterEditResultDTO;
+import org.example.coursetrackingautomation.dto.SyncDeltaDTO;
+import org.example.coursetrackingautomation.service.ChangeFeedService;
+import org.example.coursetrackingautomation.service.CourseAnalyticsService;
 import org.example.coursetrackingautomation.service.InstructorWorkflowService;
+import org.example.coursetrackingautomation.service.LocalSnapshotStore;
+import org.example.coursetrackingautomation.service.RosterAutosaveService;
+import org.example.coursetrackingautomation.service.SnapshotCodecs;
 import org.example.coursetrackingautomation.ui.FxAsync;
-import org.example.coursetrackingautomation.ui.GradeStatusUiMapper;
 import org.example.coursetrackingautomation.ui.SceneNavigator;
 import org.example.coursetrackingautomation.ui.UiConstants;
 import org.example.coursetrackingautomation.ui.UiExceptionHandler;
 import org.example.coursetrackingautomation.util.AlertUtil;
 
+@Slf4j
 public class InstructorDashboardCoordinator {
 
     /**
      * Encapsulates the instructor dashboard workflow and state.
      *
-     * <p>Handles course/week selection, roster loading, attendance application, grade editing,
-     * saving changes and guarding navigation/close when there are unsaved edits. The owning FXML
-     * controller delegates to this class to keep controllers small and modular.</p>
+     * <p>Handles course/week selection, roster loading, attendance application and grade editing.
+     * Edits are handed to {@link RosterAutosaveService} as they are made and written in the background;
+     * edits not written yet are shown on top of reloaded data, and logout/close waits for the queue to
+     * drain. Rosters of courses selected before are kept and re-selecting a course only fetches the rows
+     * changed since; changes other clients make to the selected course are fetched the same way as they
+     * are announced by the {@link ChangeFeedService}. The owning FXML controller delegates to this class to keep controllers small and modular.</p>
+     *
+     * <p>The course list and every loaded roster are also kept in the {@link LocalSnapshotStore}: on open they
+     * are shown from there at once and then revalidated, rosters by fetching the rows changed since the
+     * stored watermark. If the database cannot be reached, the stored data stays on screen.</p>
      */
 
+    private static final int TERM_WEEKS = 14;
+    private static final Duration REMOTE_CHANGE_REFRESH_DELAY = Duration.millis(300);
+    private static final String VIEW_COURSE_CODES = "courses";
+    private static final String VIEW_ROSTER_PREFIX = "roster/";
+
+    /**
+     * Persisted roster of a course as of a delta sync watermark.
+     */
+    private record RosterSnapshot(InstructorCourseRosterDTO roster, LocalDateTime watermark) {
+    }
+
     private final ComboBox<String> comboCourses;
     private final ComboBox<String> comboWeeks;
     private final Label lblCourseHours;
-    private final TableView<GradeDTO> tableStudents;
+    private final Label lblCourseStats;
+    private final TableView<RosterModel.Row> tableStudents;
 
     private final UserSession userSession;
     private final InstructorWorkflowService instructorWorkflowService;
+    private final CourseAnalyticsService courseAnalyticsService;
+    private final RosterAutosaveService rosterAutosaveService;
+    private final ChangeFeedService changeFeedService;
+    private final LocalSnapshotStore localSnapshotStore;
     private final SceneNavigator sceneNavigator;
     private final UiExceptionHandler uiExceptionHandler;
     private final AlertUtil alertUtil;
 
     private CourseDTO selectedCourse;
     private Integer selectedWeekNumber;
-    private final Map<Long, Long> enrollmentIdByStudentId = new HashMap<>();
-    private final Map<Long, Boolean> originalPresentByStudentId = new HashMap<>();
-
-    private final Map<Long, Double> originalMidtermByStudentId = new HashMap<>();
-    private final Map<Long, Double> originalFinalByStudentId = new HashMap<>();
-    private final Map<Long, Integer> originalAttendanceHoursByStudentId = new HashMap<>();
-
-    private final Map<Long, SimpleObjectProperty<Double>> midtermPropByStudentId = new HashMap<>();
-    private final Map<Long, SimpleObjectProperty<Double>> finalPropByStudentId = new HashMap<>();
-    private final Map<Long, SimpleObjectProperty<Double>> averagePropByStudentId = new HashMap<>();
-    private final Map<Long, SimpleObjectProperty<String>> letterPropByStudentId = new HashMap<>();
-    private final Map<Long, SimpleObjectProperty<String>> statusPropByStudentId = new HashMap<>();
-
-    private boolean hasUnsavedChanges = false;
+    private final RosterModel rosterModel = new RosterModel();
+    private final WeekAttendanceCache weekAttendanceCache = new WeekAttendanceCache();
+    private final Map<String, RosterSnapshot> rosterSnapshots = new HashMap<>();
+    private ChangeFeedService.Listener changeFeedListener;
+    private PauseTransition remoteChangeRefresh;
+    private boolean remoteAttendanceChanged;
 
     /**
      * Creates a coordinator instance.
@@ -74,9 +114,14 @@ public class InstructorDashboardCoordinator {
      * @param comboCourses course selector
      * @param comboWeeks week selector
      * @param lblCourseHours label showing the selected course hour breakdown
+     * @param lblCourseStats label showing the selected course grade statistics
      * @param tableStudents table containing roster/grade rows
      * @param userSession current user session
      * @param instructorWorkflowService workflow service used to load/save instructor data
+     * @param courseAnalyticsService service providing cached course grade statistics
+     * @param rosterAutosaveService write-behind queue receiving roster edits
+     * @param changeFeedService feed of the changes made by other clients
+     * @param localSnapshotStore on-disk store of the course list and rosters last shown
      * @param sceneNavigator navigation helper for modals/scenes
      * @param uiExceptionHandler centralized UI exception handling
      * @param alertUtil UI alert helper
@@ -85,9 +130,14 @@ public class InstructorDashboardCoordinator {
         ComboBox<String> comboCourses,
         ComboBox<String> comboWeeks,
         Label lblCourseHours,
-        TableView<GradeDTO> tableStudents,
+        Label lblCourseStats,
+        TableView<RosterModel.Row> tableStudents,
         UserSession userSession,
         InstructorWorkflowService instructorWorkflowService,
+        CourseAnalyticsService courseAnalyticsService,
+        RosterAutosaveService rosterAutosaveService,
+        ChangeFeedService changeFeedService,
+        LocalSnapshotStore localSnapshotStore,
         SceneNavigator sceneNavigator,
         UiExceptionHandler uiExceptionHandler,
         AlertUtil alertUtil
@@ -95,9 +145,14 @@ public class InstructorDashboardCoordinator {
         this.comboCourses = comboCourses;
         this.comboWeeks = comboWeeks;
         this.lblCourseHours = lblCourseHours;
+        this.lblCourseStats = lblCourseStats;
         this.tableStudents = tableStudents;
         this.userSession = userSession;
         this.instructorWorkflowService = instructorWorkflowService;
+        this.courseAnalyticsService = courseAnalyticsService;
+        this.rosterAutosaveService = rosterAutosaveService;
+        this.changeFeedService = changeFeedService;
+        this.localSnapshotStore = localSnapshotStore;
         this.sceneNavigator = sceneNavigator;
         this.uiExceptionHandler = uiExceptionHandler;
         this.alertUtil = alertUtil;
@@ -107,19 +162,48 @@ public class InstructorDashboardCoordinator {
      * Loads initial data and wires selection listeners.
      */
     public void initialize() {
+        try (Span span = Tracer.startTrace("ui", "InstructorDashboard.initialize")) {
+            initializeView();
+        }
+    }
+
+    private void initializeView() {
         clearCourseHoursLabel();
+        rosterModel.setEditListener(this::recordEdit);
+        rosterAutosaveService.setListener(new RosterAutosaveService.Listener() {
+            @Override
+            public void onFlushed(String courseCode, RosterEditResultDTO result) {
+                Platform.runLater(() -> applyAutosaveResult(courseCode, result));
+            }
+
+            @Override
+            public void onFlushFailed(String courseCode, int attempt, RuntimeException error) {
+                if (attempt == 1) {
+                    Platform.runLater(() -> alertUtil.showWarningAlert(
+                        UiConstants.ALERT_TITLE_WARNING, UiConstants.UI_MESSAGE_AUTOSAVE_RETRYING));
+                }
+            }
+        });
+        remoteChangeRefresh = new PauseTransition(REMOTE_CHANGE_REFRESH_DELAY);
+        remoteChangeRefresh.setOnFinished(event -> refreshSelectedRoster());
+        changeFeedListener = changes -> Platform.runLater(() -> onRemoteChanges(changes));
+        changeFeedService.addListener(changeFeedListener);
 
         try {
             var currentUser = userSession.getCurrentUser()
                 .orElseThrow(() -> new IllegalStateException(UiConstants.ERROR_KEY_NO_ACTIVE_SESSION));
+            Long instructorId = currentUser.id();
 
+            configureWeekCombo();
+            localSnapshotStore.read(instructorId, VIEW_COURSE_CODES, SnapshotCodecs.COURSE_CODES)
+                .ifPresent(stored -> configureCourseCombo(stored.value()));
             FxAsync.runAsync(
-                () -> instructorWorkflowService.getActiveCourseCodesForInstructor(currentUser.id()),
+                () -> instructorWorkflowService.getActiveCourseCodesForInstructor(instructorId),
                 courseCodes -> {
                     configureCourseCombo(courseCodes);
-                    configureWeekCombo();
+                    localSnapshotStore.write(instructorId, VIEW_COURSE_CODES, SnapshotCodecs.COURSE_CODES, courseCodes, null);
                 },
-                uiExceptionHandler::handle
+                failure -> handleLoadFailure(failure, comboCourses != null && !comboCourses.getItems().isEmpty())
             );
         } catch (IllegalStateException e) {
             uiExceptionHandler.handle(e);
@@ -136,115 +220,48 @@ public class InstructorDashboardCoordinator {
     }
 
     /**
-     * Returns (and lazily creates) the midterm score property for a table row.
-     *
-     * @param row grade row
-     * @return observable property backing the table cell
-     */
-    public SimpleObjectProperty<Double> getMidtermProp(GradeDTO row) {
-        if (row == null || row.getStudentId() == null) {
-            return new SimpleObjectProperty<>(null);
-        }
-        return midtermPropByStudentId.computeIfAbsent(row.getStudentId(), k -> new SimpleObjectProperty<>(row.getMidtermScore()));
-    }
-
-    /**
-     * Returns (and lazily creates) the final score property for a table row.
-     *
-     * @param row grade row
-     * @return observable property backing the table cell
-     */
-    public SimpleObjectProperty<Double> getFinalProp(GradeDTO row) {
-        if (row == null || row.getStudentId() == null) {
-            return new SimpleObjectProperty<>(null);
-        }
-        return finalPropByStudentId.computeIfAbsent(row.getStudentId(), k -> new SimpleObjectProperty<>(row.getFinalScore()));
-    }
-
-    /**
-     * Returns (and lazily creates) the average score property for a table row.
-     *
-     * @param row grade row
-     * @return observable property backing the table cell
-     */
-    public SimpleObjectProperty<Double> getAverageProp(GradeDTO row) {
-        if (row == null || row.getStudentId() == null) {
-            return new SimpleObjectProperty<>(null);
-        }
-        return averagePropByStudentId.computeIfAbsent(row.getStudentId(), k -> new SimpleObjectProperty<>(row.getAverageScore()));
-    }
-
-    /**
-     * Returns (and lazily creates) the letter grade property for a table row.
-     *
-     * @param row grade row
-     * @return observable property backing the table cell
-     */
-    public SimpleObjectProperty<String> getLetterProp(GradeDTO row) {
-        if (row == null || row.getStudentId() == null) {
-            return new SimpleObjectProperty<>(null);
-        }
-        return letterPropByStudentId.computeIfAbsent(row.getStudentId(), k -> new SimpleObjectProperty<>(row.getLetterGrade()));
-    }
-
-    /**
-     * Returns (and lazily creates) the status property for a table row.
-     *
-     * @param row grade row
-     * @return observable property backing the table cell
+     * @return columnar model backing the roster table
      */
-    public SimpleObjectProperty<String> getStatusProp(GradeDTO row) {
-        if (row == null || row.getStudentId() == null) {
-            return new SimpleObjectProperty<>(null);
-        }
-        return statusPropByStudentId.computeIfAbsent(row.getStudentId(), k -> new SimpleObjectProperty<>(toTurkishStatus(row.getStatus())));
-    }
-
-    private String toTurkishStatus(GradeStatus status) {
-        return status == null ? "" : GradeStatusUiMapper.toTurkish(status);
+    public RosterModel getRosterModel() {
+        return rosterModel;
     }
 
     /**
-     * Marks the screen as dirty when the row differs from the last known saved state.
+     * Handles course selection changes.
      *
-     * @param row grade row that has been edited
+     * <p>Loads the roster for the selected course (only the rows changed since the last visit if it was
+     * selected before), initializes week defaults and updates UI labels.</p>
      */
-    public void markDirtyIfChanged(GradeDTO row) {
-        if (row == null || row.getStudentId() == null) {
-            return;
-        }
-
-        Long sid = row.getStudentId();
-        Double oMidterm = originalMidtermByStudentId.get(sid);
-        Double oFinal = originalFinalByStudentId.get(sid);
-        Integer oAttendance = originalAttendanceHoursByStudentId.get(sid);
-        Boolean oPresent = originalPresentByStudentId.get(sid);
-
-        boolean changed = !equalsNullable(oMidterm, row.getMidtermScore())
-            || !equalsNullable(oFinal, row.getFinalScore())
-            || !equalsNullable(oAttendance, row.getAttendanceCount())
-            || (oPresent != null && row.getPresent() != null && !oPresent.equals(row.getPresent()));
-
-        if (changed) {
-            hasUnsavedChanges = true;
+    public void handleCourseSelection() {
+        try (Span span = Tracer.startTrace("ui", "InstructorDashboard.selectCourse")) {
+            selectCourse();
         }
     }
 
-    /**
-     * Handles course selection changes.
-     *
-     * <p>Loads the roster for the selected course, initializes week defaults and updates UI labels.</p>
-     */
-    public void handleCourseSelection() {
+    private void selectCourse() {
         String courseCode = comboCourses == null ? null : comboCourses.getValue();
         if (courseCode == null || courseCode.isBlank()) {
             resetForNoCourseSelection();
             return;
         }
 
+        RosterSnapshot held = rosterSnapshots.get(courseCode);
+        if (held == null) {
+            RosterSnapshot stored = readStoredRoster(courseCode);
+            if (stored != null) {
+                rosterSnapshots.put(courseCode, stored);
+                applyLoadedRoster(stored.roster());
+                refreshSelectedRoster();
+                return;
+            }
+        }
         FxAsync.runAsync(
-            () -> instructorWorkflowService.getCourseRoster(courseCode),
-            this::applyLoadedRoster,
+            () -> mergeRosterChanges(held,
+                instructorWorkflowService.getCourseRosterChanges(courseCode, held == null ? null : held.watermark())),
+            snapshot -> {
+                keepRosterSnapshot(courseCode, snapshot);
+                applyLoadedRoster(snapshot.roster());
+            },
             uiExceptionHandler::handle
         );
     }
@@ -253,6 +270,12 @@ public class InstructorDashboardCoordinator {
      * Handles week selection changes and applies attendance for the selected week.
      */
     public void handleWeekSelection() {
+        try (Span span = Tracer.startTrace("ui", "InstructorDashboard.selectWeek")) {
+            selectWeek();
+        }
+    }
+
+    private void selectWeek() {
         try {
             if (selectedCourse == null) {
                 return;
@@ -265,12 +288,10 @@ public class InstructorDashboardCoordinator {
             String weekText = comboWeeks.getValue();
             if (weekText == null || weekText.isBlank()) {
                 selectedWeekNumber = null;
-                originalPresentByStudentId.clear();
                 return;
             }
 
             selectedWeekNumber = Integer.parseInt(weekText);
-            originalPresentByStudentId.clear();
             applyAttendanceForSelectedWeekAsync();
         } catch (NumberFormatException e) {
             uiExceptionHandler.handle(e);
@@ -278,12 +299,45 @@ public class InstructorDashboardCoordinator {
     }
 
     /**
-     * Saves changes to grades/attendance for the current course/week.
+     * Writes all queued roster edits now instead of waiting for the autosave.
      *
-     * @param afterSuccessfulSave optional callback executed after a successful save
-     * @return {@code true} when the save completes successfully
+     * @param afterSuccessfulSave optional callback executed once the queue is drained
      */
     public void performSave(Optional<Runnable> afterSuccessfulSave) {
+        try (Span span = Tracer.startTrace("ui", "InstructorDashboard.saveRoster")) {
+            saveRoster(afterSuccessfulSave);
+        }
+    }
+
+    private void saveRoster(Optional<Runnable> afterSuccessfulSave) {
+        FxAsync.runAsync(
+            rosterAutosaveService::flushAll,
+            drained -> {
+                if (!drained) {
+                    alertUtil.showWarningAlert(UiConstants.ALERT_TITLE_WARNING, UiConstants.UI_MESSAGE_AUTOSAVE_RETRYING);
+                    return;
+                }
+                alertUtil.showSuccessAlert(UiConstants.ALERT_TITLE_SUCCESS, UiConstants.UI_MESSAGE_CHANGES_SAVED);
+                afterSuccessfulSave.ifPresent(Runnable::run);
+            },
+            uiExceptionHandler::handle
+        );
+    }
+
+    /**
+     * Marks the selected week for the whole class in one operation.
+     *
+     * <p>Students currently marked absent in the table stay absent; everyone else is marked present.
+     * Presence flags and absent hours of the rows are updated from the result without reloading the
+     * roster; unsaved grade edits are kept.</p>
+     */
+    public void performMarkWholeClass() {
+        try (Span span = Tracer.startTrace("ui", "InstructorDashboard.markWholeClass")) {
+            markWholeClass();
+        }
+    }
+
+    private void markWholeClass() {
         String courseCode = comboCourses == null ? null : comboCourses.getValue();
         if (courseCode == null || courseCode.isBlank()) {
             alertUtil.showWarningAlert(UiConstants.ALERT_TITLE_WARNING, UiConstants.UI_MESSAGE_SELECT_COURSE_FIRST);
@@ -294,116 +348,166 @@ public class InstructorDashboardCoordinator {
             return;
         }
 
-        // Preserve current presence UI state in case persistence fails.
-        Map<Long, Boolean> presentSnapshot = new HashMap<>();
-        if (tableStudents.getItems() != null) {
-            for (GradeDTO row : tableStudents.getItems()) {
-                if (row != null && row.getStudentId() != null) {
-                    presentSnapshot.put(row.getStudentId(), row.getPresent());
-                }
-            }
-        }
-
-        nullOutUnchangedPresenceFlags(tableStudents.getItems());
+        java.util.List<Long> absentStudentIds = rosterModel.absentStudentIds();
 
+        int week = selectedWeekNumber;
+        Long courseId = selectedCourse == null ? null : selectedCourse.getId();
         FxAsync.runAsync(
-            () -> {
-                instructorWorkflowService.saveCourseStudentUpdates(courseCode, selectedWeekNumber, tableStudents.getItems());
-            },
-            () -> {
-                syncUiPropertiesFromRows();
-                tableStudents.refresh();
-                alertUtil.showSuccessAlert(UiConstants.ALERT_TITLE_SUCCESS, UiConstants.UI_MESSAGE_CHANGES_SAVED);
-
-                applyAttendanceForSelectedWeekAsync();
-                resetDirtyTrackingFromCurrentRows();
-                hasUnsavedChanges = false;
-
-                afterSuccessfulSave.ifPresent(Runnable::run);
-            },
-            failure -> {
-                // Restore presence UI state so the table doesn't end up with null values on failure.
-                if (tableStudents.getItems() != null) {
-                    for (GradeDTO row : tableStudents.getItems()) {
-                        if (row != null && row.getStudentId() != null) {
-                            row.setPresent(presentSnapshot.get(row.getStudentId()));
-                        }
+            () -> instructorWorkflowService.markWholeClass(courseCode, week, absentStudentIds),
+            results -> {
+                Map<Long, Boolean> presentByEnrollmentId = new HashMap<>();
+                for (ClassAttendanceResultDTO result : results) {
+                    int index = result.studentId() == null ? -1 : rosterModel.indexOf(result.studentId());
+                    if (index < 0) {
+                        continue;
+                    }
+                    rosterModel.applyPersistedAttendance(index, result.present(), result.absentHours(), result.absentCritically());
+                    Long enrollmentId = rosterModel.enrollmentId(index);
+                    if (enrollmentId != null) {
+                        presentByEnrollmentId.put(enrollmentId, result.present());
                     }
-                    tableStudents.refresh();
                 }
-                uiExceptionHandler.handle(failure);
-            }
+                weekAttendanceCache.replace(courseId, week, presentByEnrollmentId);
+                tableStudents.refresh();
+                alertUtil.showSuccessAlert(UiConstants.ALERT_TITLE_SUCCESS, UiConstants.UI_MESSAGE_CLASS_ATTENDANCE_SAVED);
+            },
+            uiExceptionHandler::handle
+        );
+    }
+
+    /**
+     * Opens the term attendance matrix of the selected course.
+     *
+     * <p>After a save in the matrix, absent hours of all rows and presence flags of the selected week are
+     * updated from the returned matrix without reloading the roster.</p>
+     */
+    public void openAttendanceMatrix() {
+        String courseCode = comboCourses == null ? null : comboCourses.getValue();
+        if (courseCode == null || courseCode.isBlank()) {
+            alertUtil.showWarningAlert(UiConstants.ALERT_TITLE_WARNING, UiConstants.UI_MESSAGE_SELECT_COURSE_FIRST);
+            return;
+        }
+        sceneNavigator.openModalWithController(
+            UiConstants.FXML_ATTENDANCE_MATRIX_POPUP,
+            UiConstants.WINDOW_TITLE_ATTENDANCE_MATRIX,
+            tableStudents.getScene().getWindow(),
+            (AttendanceMatrixPopupController c) -> c.setContext(courseCode, this::applyAttendanceMatrix)
         );
     }
 
     /**
      * Performs a logout attempt.
      *
-     * <p>If there are unsaved changes, prompts the user to save or discard before exiting.</p>
+     * <p>Queued roster edits are written first. If that fails, the user may stay or log out anyway; the
+     * edits stay journaled and are written on the next start.</p>
      *
      * @param stage current stage
      */
     public void attemptExit(Stage stage) {
-        if (!hasUnsavedChanges) {
-            sceneNavigator.performLogout(stage);
+        if (!rosterAutosaveService.hasPendingEdits()) {
+            logout(stage);
             return;
         }
 
-        Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
-        alert.setTitle("Kaydedilmemiş Değişiklikler");
-        alert.setHeaderText("Kaydedilmemiş değişiklikler var.");
-        alert.setContentText("Çıkış yapmadan önce kaydetmek ister misiniz?");
+        FxAsync.runAsync(
+            rosterAutosaveService::flushAll,
+            drained -> {
+                if (drained) {
+                    logout(stage);
+                    return;
+                }
 
-        ButtonType btnSaveAndExit = new ButtonType("Kaydet ve Çık", ButtonBar.ButtonData.YES);
-        ButtonType btnExitWithoutSave = new ButtonType("Kaydetmeden Çık", ButtonBar.ButtonData.NO);
-        ButtonType btnBack = new ButtonType("Geri Dön", ButtonBar.ButtonData.CANCEL_CLOSE);
-        alert.getButtonTypes().setAll(btnSaveAndExit, btnExitWithoutSave, btnBack);
+                Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
+                alert.setTitle("Kaydedilemeyen Değişiklikler");
+                alert.setHeaderText("Bazı değişiklikler henüz kaydedilemedi.");
+                alert.setContentText("Değişiklikler saklandı ve uygulama bir sonraki açılışta yeniden kaydetmeyi deneyecek. Çıkış yapılsın mı?");
 
-        Optional<ButtonType> result = alert.showAndWait();
-        if (result.isEmpty() || result.get() == btnBack) {
-            return;
-        }
+                ButtonType btnExit = new ButtonType("Çık", ButtonBar.ButtonData.YES);
+                ButtonType btnBack = new ButtonType("Geri Dön", ButtonBar.ButtonData.CANCEL_CLOSE);
+                alert.getButtonTypes().setAll(btnExit, btnBack);
 
-        if (result.get() == btnExitWithoutSave) {
-            sceneNavigator.performLogout(stage);
-            return;
-        }
+                Optional<ButtonType> result = alert.showAndWait();
+                if (result.isPresent() && result.get() == btnExit) {
+                    logout(stage);
+                }
+            },
+            uiExceptionHandler::handle
+        );
+    }
 
-        if (result.get() == btnSaveAndExit) {
-            performSave(Optional.of(() -> sceneNavigator.performLogout(stage)));
+    private void logout(Stage stage) {
+        if (changeFeedListener != null) {
+            changeFeedService.removeListener(changeFeedListener);
+            changeFeedListener = null;
         }
+        remoteChangeRefresh.stop();
+        sceneNavigator.performLogout(stage);
     }
 
     /**
-     * Opens the grade edit popup and synchronizes the edited values back to the table.
+     * Opens the grade edit popup and synchronizes the edited values back to the roster model.
      *
-     * @param item the row to edit
+     * @param row the row to edit
      */
-    public void openEditGradePopup(GradeDTO item) {
+    public void openEditGradePopup(RosterModel.Row row) {
+        int index = row.index();
         sceneNavigator.openModalWithController(
             UiConstants.FXML_EDIT_GRADE_POPUP,
             UiConstants.WINDOW_TITLE_EDIT_GRADE,
             tableStudents.getScene().getWindow(),
-            (EditGradePopupController c) -> c.setContext(item, updated -> {
-                getMidtermProp(updated).set(updated.getMidtermScore());
-                getFinalProp(updated).set(updated.getFinalScore());
-                getAverageProp(updated).set(updated.getAverageScore());
-                getLetterProp(updated).set(updated.getLetterGrade());
-                getStatusProp(updated).set(toTurkishStatus(updated.getStatus()));
-                markDirtyIfChanged(updated);
+            (EditGradePopupController c) -> c.setContext(rosterModel.toGradeDTO(index, selectedCourse), updated -> {
+                rosterModel.setGrades(
+                    index,
+                    updated.getMidtermScore(),
+                    updated.getFinalScore(),
+                    updated.getAverageScore(),
+                    updated.getLetterGrade(),
+                    updated.getStatus()
+                );
                 tableStudents.refresh();
             })
         );
     }
 
     private void configureCourseCombo(java.util.List<String> courseCodes) {
-        if (comboCourses == null) {
+        if (comboCourses == null || comboCourses.getItems().equals(courseCodes)) {
             return;
         }
+        String selected = comboCourses.getValue();
+        comboCourses.setOnAction(null);
         comboCourses.setItems(FXCollections.observableArrayList(courseCodes));
+        if (selected != null && courseCodes.contains(selected)) {
+            comboCourses.setValue(selected);
+        }
         comboCourses.setOnAction(e -> handleCourseSelection());
     }
 
+    private RosterSnapshot readStoredRoster(String courseCode) {
+        Long userId = userSession.getCurrentUser().map(user -> user.id()).orElse(null);
+        return localSnapshotStore.read(userId, VIEW_ROSTER_PREFIX + courseCode, SnapshotCodecs.COURSE_ROSTER)
+            .map(stored -> new RosterSnapshot(stored.value(), stored.watermark()))
+            .orElse(null);
+    }
+
+    private void keepRosterSnapshot(String courseCode, RosterSnapshot snapshot) {
+        rosterSnapshots.put(courseCode, snapshot);
+        Long userId = userSession.getCurrentUser().map(user -> user.id()).orElse(null);
+        localSnapshotStore.write(userId, VIEW_ROSTER_PREFIX + courseCode, SnapshotCodecs.COURSE_ROSTER,
+            snapshot.roster(), snapshot.watermark());
+    }
+
+    /**
+     * Keeps stored data on screen when a revalidation fails, instead of reporting an error over it.
+     */
+    private void handleLoadFailure(Throwable failure, boolean showingStoredData) {
+        if (!showingStoredData) {
+            uiExceptionHandler.handle(failure);
+            return;
+        }
+        log.warn("Instructor dashboard keeps stored data; revalidation failed", failure);
+        alertUtil.showWarningAlert(UiConstants.ALERT_TITLE_WARNING, UiConstants.UI_MESSAGE_SHOWING_STORED_SNAPSHOT);
+    }
+
     private void configureWeekCombo() {
         if (comboWeeks == null) {
             return;
@@ -416,15 +520,17 @@ public class InstructorDashboardCoordinator {
         if (lblCourseHours != null) {
             lblCourseHours.setText("");
         }
+        if (lblCourseStats != null) {
+            lblCourseStats.setText("");
+        }
     }
 
     private void resetForNoCourseSelection() {
-        tableStudents.setItems(FXCollections.observableArrayList());
+        rosterModel.clear();
+        tableStudents.setItems(rosterModel.rows());
         selectedCourse = null;
         selectedWeekNumber = null;
-        enrollmentIdByStudentId.clear();
-        originalPresentByStudentId.clear();
-        clearDirtyTracking();
+        weekAttendanceCache.reset(null);
         clearCourseHoursLabel();
 
         if (comboWeeks != null) {
@@ -440,22 +546,15 @@ public class InstructorDashboardCoordinator {
         }
 
         selectedCourse = roster.course();
-        originalPresentByStudentId.clear();
+        weekAttendanceCache.reset(selectedCourse == null ? null : selectedCourse.getId());
 
         setupWeeksForSelectedCourse();
         updateCourseHoursLabel(selectedCourse);
+        refreshCourseStatsAsync();
 
-        ObservableList<GradeDTO> rows = FXCollections.observableArrayList(roster.rows());
-        enrollmentIdByStudentId.clear();
-        enrollmentIdByStudentId.putAll(roster.enrollmentIdByStudentId());
-        originalPresentByStudentId.clear();
-        clearDirtyTracking();
-
-        tableStudents.setItems(rows);
-
-        initializeUiPropertiesForRows(rows);
-        resetDirtyTrackingFromCurrentRows();
-        hasUnsavedChanges = false;
+        rosterModel.load(roster.rows(), roster.enrollmentIdByStudentId());
+        applyPendingEdits();
+        tableStudents.setItems(rosterModel.rows());
 
         FxAsync.runAsync(
             () -> instructorWorkflowService.getNextWeekNumber(selectedCourse == null ? null : selectedCourse.getId()),
@@ -470,6 +569,110 @@ public class InstructorDashboardCoordinator {
         );
     }
 
+    private static RosterSnapshot mergeRosterChanges(RosterSnapshot held, InstructorRosterChangesDTO changes) {
+        SyncDeltaDTO<GradeDTO> delta = changes.rows();
+        if (held == null || delta.complete()) {
+            return new RosterSnapshot(
+                new InstructorCourseRosterDTO(changes.course(), delta.upserts(), changes.enrollmentIdByStudentId()),
+                delta.watermark());
+        }
+
+        Map<Long, Long> enrollmentIdByStudentId = new HashMap<>(held.roster().enrollmentIdByStudentId());
+        Set<Long> deletedEnrollmentIds = new HashSet<>(delta.deletedIds());
+        Set<Long> removedStudentIds = new HashSet<>();
+        enrollmentIdByStudentId.entrySet().removeIf(entry -> {
+            boolean deleted = deletedEnrollmentIds.contains(entry.getValue());
+            if (deleted) {
+                removedStudentIds.add(entry.getKey());
+            }
+            return deleted;
+        });
+        enrollmentIdByStudentId.putAll(changes.enrollmentIdByStudentId());
+
+        Map<Long, GradeDTO> changedByStudentId = new LinkedHashMap<>();
+        delta.upserts().forEach(row -> changedByStudentId.put(row.getStudentId(), row));
+        List<GradeDTO> rows = new ArrayList<>(held.roster().rows().size() + changedByStudentId.size());
+        for (GradeDTO row : held.roster().rows()) {
+            GradeDTO changed = changedByStudentId.remove(row.getStudentId());
+            if (changed != null) {
+                rows.add(changed);
+            } else if (!removedStudentIds.contains(row.getStudentId())) {
+                rows.add(row);
+            }
+        }
+        rows.addAll(changedByStudentId.values());
+        return new RosterSnapshot(new InstructorCourseRosterDTO(changes.course(), rows, enrollmentIdByStudentId),
+            delta.watermark());
+    }
+
+    private void onRemoteChanges(List<EntityChangeDTO> changes) {
+        if (changeFeedListener == null || selectedCourse == null) {
+            return;
+        }
+        Long courseId = selectedCourse.getId();
+        boolean affected = false;
+        for (EntityChangeDTO change : changes) {
+            if (change.affectsCourse(courseId)) {
+                affected = true;
+                remoteAttendanceChanged |= EntityChangeDTO.TYPE_ENROLLMENT.equals(change.entityType());
+            } else if (EntityChangeDTO.TYPE_USER.equals(change.entityType()) && rosterModel.indexOf(change.entityId()) >= 0) {
+                affected = true;
+            }
+        }
+        if (affected) {
+            remoteChangeRefresh.playFromStart();
+        }
+    }
+
+    /**
+     * Fetches the rows of the selected course changed since its snapshot and patches them into the table.
+     *
+     * <p>Changed rows of students already on the roster are updated in place; when students were added or
+     * removed the roster is reloaded from the merged snapshot. Edits not written yet stay on top, and the
+     * selected week's presence is re-read when attendance changed.</p>
+     */
+    private void refreshSelectedRoster() {
+        if (selectedCourse == null) {
+            return;
+        }
+        String courseCode = selectedCourse.getCode();
+        RosterSnapshot held = rosterSnapshots.get(courseCode);
+        boolean attendanceChanged = remoteAttendanceChanged;
+        remoteAttendanceChanged = false;
+        FxAsync.runAsync(
+            () -> instructorWorkflowService.getCourseRosterChanges(courseCode, held == null ? null : held.watermark()),
+            changes -> {
+                if (selectedCourse == null || !courseCode.equals(selectedCourse.getCode())) {
+                    return;
+                }
+                RosterSnapshot snapshot = mergeRosterChanges(rosterSnapshots.get(courseCode), changes);
+                keepRosterSnapshot(courseCode, snapshot);
+                selectedCourse = changes.course();
+
+                SyncDeltaDTO<GradeDTO> delta = changes.rows();
+                boolean rosterChanged = delta.complete() || !delta.deletedIds().isEmpty()
+                    || delta.upserts().stream().anyMatch(row -> rosterModel.indexOf(row.getStudentId()) < 0);
+                if (rosterChanged) {
+                    rosterModel.load(snapshot.roster().rows(), snapshot.roster().enrollmentIdByStudentId());
+                    tableStudents.setItems(rosterModel.rows());
+                } else {
+                    for (GradeDTO row : delta.upserts()) {
+                        rosterModel.applyPersistedRow(rosterModel.indexOf(row.getStudentId()), row);
+                    }
+                }
+                applyPendingEdits();
+                tableStudents.refresh();
+                updateCourseHoursLabel(selectedCourse);
+                refreshCourseStatsAsync();
+                if (attendanceChanged || rosterChanged) {
+                    weekAttendanceCache.reset(selectedCourse.getId());
+                    applyAttendanceForSelectedWeekAsync();
+                }
+            },
+            failure -> handleLoadFailure(failure, !rosterModel.rows().isEmpty())
+        );
+    }
+
     private void updateCourseHoursLabel(CourseDTO course) {
         if (lblCourseHours == null || course == null) {
             return;
@@ -478,13 +681,30 @@ public class InstructorDashboardCoordinator {
         lblCourseHours.setText(CourseHoursLabelFormatter.format(course));
     }
 
+    private void refreshCourseStatsAsync() {
+        if (lblCourseStats == null || selectedCourse == null || selectedCourse.getId() == null) {
+            return;
+        }
+
+        Long courseId = selectedCourse.getId();
+        FxAsync.runAsync(
+            () -> courseAnalyticsService.getCourseAnalytics(courseId),
+            analytics -> {
+                if (selectedCourse != null && courseId.equals(selectedCourse.getId())) {
+                    lblCourseStats.setText(CourseAnalyticsLabelFormatter.format(analytics));
+                }
+            },
+            uiExceptionHandler::handle
+        );
+    }
+
     private void setupWeeksForSelectedCourse() {
         if (comboWeeks == null || selectedCourse == null) {
             selectedWeekNumber = null;
             return;
         }
 
-        comboWeeks.setItems(WeeksListFactory.buildWeeks(1, 14));
+        comboWeeks.setItems(WeeksListFactory.buildWeeks(1, TERM_WEEKS));
 
         selectedWeekNumber = null;
         comboWeeks.setValue(null);
@@ -495,134 +715,171 @@ public class InstructorDashboardCoordinator {
             return;
         }
 
-        var items = tableStudents.getItems();
-        if (items == null || items.isEmpty()) {
+        if (rosterModel.size() == 0) {
             return;
         }
 
-        var enrollmentIds = enrollmentIdByStudentId.values();
-        if (enrollmentIds.isEmpty()) {
+        Long courseId = selectedCourse.getId();
+        int week = selectedWeekNumber;
+        if (!weekAttendanceCache.isFor(courseId)) {
+            weekAttendanceCache.reset(courseId);
+        }
+        Map<Long, Boolean> cached = weekAttendanceCache.get(week);
+        if (cached != null) {
+            applyWeekPresence(cached);
+            prefetchAdjacentWeeks(courseId, week);
             return;
         }
 
-        Integer week = selectedWeekNumber;
+        var enrollmentIds = rosterModel.enrollmentIds();
+        long generation = weekAttendanceCache.generation(week);
         FxAsync.runAsync(
             () -> instructorWorkflowService.getPresentByEnrollmentIdsAndWeekNumber(enrollmentIds, week),
             presentByEnrollmentId -> {
-                for (GradeDTO row : items) {
-                    if (row == null || row.getStudentId() == null) {
-                        continue;
-                    }
-                    Long enrollmentId = enrollmentIdByStudentId.get(row.getStudentId());
-                    boolean present = enrollmentId != null && presentByEnrollmentId.containsKey(enrollmentId)
-                        ? presentByEnrollmentId.get(enrollmentId)
-                        : true;
-                    row.setPresent(present);
-                    originalPresentByStudentId.put(row.getStudentId(), present);
+                weekAttendanceCache.put(courseId, week, generation, presentByEnrollmentId);
+                if (isSelectedWeek(courseId, week)) {
+                    applyWeekPresence(presentByEnrollmentId);
                 }
-                tableStudents.refresh();
+                prefetchAdjacentWeeks(courseId, week);
             },
             uiExceptionHandler::handle
         );
     }
 
-    private void nullOutUnchangedPresenceFlags(java.util.List<GradeDTO> items) {
-        if (items == null || items.isEmpty()) {
-            return;
-        }
-
-        for (GradeDTO row : items) {
-            if (row == null || row.getStudentId() == null) {
+    private void prefetchAdjacentWeeks(Long courseId, int week) {
+        var enrollmentIds = rosterModel.enrollmentIds();
+        for (int adjacentWeek : new int[] {week - 1, week + 1}) {
+            if (adjacentWeek < 1 || adjacentWeek > TERM_WEEKS || !weekAttendanceCache.startPrefetch(adjacentWeek)) {
                 continue;
             }
-            Boolean original = originalPresentByStudentId.get(row.getStudentId());
-            Boolean current = row.getPresent();
-            if (original != null && current != null && original.equals(current)) {
-                row.setPresent(null);
-            }
+            long generation = weekAttendanceCache.generation(adjacentWeek);
+            FxAsync.runInBackground(
+                () -> instructorWorkflowService.getPresentByEnrollmentIdsAndWeekNumber(enrollmentIds, adjacentWeek),
+                presentByEnrollmentId -> weekAttendanceCache.put(courseId, adjacentWeek, generation, presentByEnrollmentId),
+                failure -> weekAttendanceCache.abortPrefetch(adjacentWeek)
+            );
         }
     }
 
-    private void initializeUiPropertiesForRows(ObservableList<GradeDTO> rows) {
-        midtermPropByStudentId.clear();
-        finalPropByStudentId.clear();
-        averagePropByStudentId.clear();
-        letterPropByStudentId.clear();
-        statusPropByStudentId.clear();
+    private boolean isSelectedWeek(Long courseId, int week) {
+        return selectedCourse != null && courseId.equals(selectedCourse.getId())
+            && selectedWeekNumber != null && selectedWeekNumber == week;
+    }
+
+    private void applyWeekPresence(Map<Long, Boolean> presentByEnrollmentId) {
+        rosterModel.applyPersistedPresence(presentByEnrollmentId);
+        applyPendingEdits();
+        tableStudents.refresh();
+    }
 
-        if (rows == null) {
+    private void recordEdit(int index, RosterEditField field) {
+        if (selectedCourse == null) {
             return;
         }
-
-        for (GradeDTO row : rows) {
-            if (row == null || row.getStudentId() == null) {
-                continue;
-            }
-            midtermPropByStudentId.put(row.getStudentId(), new SimpleObjectProperty<>(row.getMidtermScore()));
-            finalPropByStudentId.put(row.getStudentId(), new SimpleObjectProperty<>(row.getFinalScore()));
-            averagePropByStudentId.put(row.getStudentId(), new SimpleObjectProperty<>(row.getAverageScore()));
-            letterPropByStudentId.put(row.getStudentId(), new SimpleObjectProperty<>(row.getLetterGrade()));
-            statusPropByStudentId.put(row.getStudentId(), new SimpleObjectProperty<>(toTurkishStatus(row.getStatus())));
+        Long studentId = rosterModel.studentId(index);
+        RosterEditDTO edit = switch (field) {
+            case MIDTERM -> new RosterEditDTO(studentId, field, 0,
+                rosterModel.midtermScore(index), rosterModel.savedMidtermScore(index));
+            case FINAL -> new RosterEditDTO(studentId, field, 0,
+                rosterModel.finalScore(index), rosterModel.savedFinalScore(index));
+            case ABSENT_HOURS -> new RosterEditDTO(studentId, field, 0,
+                toDouble(rosterModel.absentHours(index)), toDouble(rosterModel.savedAbsentHours(index)));
+            case PRESENT -> selectedWeekNumber == null || rosterModel.present(index) == null
+                ? null
+                : RosterEditDTO.presence(studentId, selectedWeekNumber, rosterModel.present(index), rosterModel.savedPresent(index));
+        };
+        if (edit != null) {
+            rosterAutosaveService.record(selectedCourse.getCode(), edit);
         }
     }
 
-    private void syncUiPropertiesFromRows() {
-        var rows = tableStudents.getItems();
-        if (rows == null) {
+    private void applyPendingEdits() {
+        if (selectedCourse == null) {
             return;
         }
-        for (GradeDTO row : rows) {
-            if (row == null || row.getStudentId() == null) {
+        for (RosterEditDTO edit : rosterAutosaveService.pendingEdits(selectedCourse.getCode())) {
+            int index = rosterModel.indexOf(edit.studentId());
+            if (index < 0) {
                 continue;
             }
-            getMidtermProp(row).set(row.getMidtermScore());
-            getFinalProp(row).set(row.getFinalScore());
-            getAverageProp(row).set(row.getAverageScore());
-            getLetterProp(row).set(row.getLetterGrade());
-            getStatusProp(row).set(toTurkishStatus(row.getStatus()));
+            if (edit.field() != RosterEditField.PRESENT
+                || (selectedWeekNumber != null && selectedWeekNumber == edit.weekNumber())) {
+                rosterModel.applyPendingEdit(index, edit);
+            }
         }
     }
 
-    private void resetDirtyTrackingFromCurrentRows() {
-        originalMidtermByStudentId.clear();
-        originalFinalByStudentId.clear();
-        originalAttendanceHoursByStudentId.clear();
-
-        var rows = tableStudents.getItems();
-        if (rows == null) {
-            return;
-        }
-        for (GradeDTO row : rows) {
-            if (row == null || row.getStudentId() == null) {
-                continue;
+    private void applyAutosaveResult(String courseCode, RosterEditResultDTO result) {
+        if (selectedCourse != null && courseCode.equals(selectedCourse.getCode())) {
+            Map<Integer, Map<Long, Boolean>> presentByWeek = new HashMap<>();
+            for (AttendanceCellDTO cell : result.cells()) {
+                presentByWeek.computeIfAbsent(cell.weekNumber(), ignored -> new HashMap<>())
+                    .put(cell.enrollmentId(), cell.present());
+            }
+            presentByWeek.forEach(weekAttendanceCache::merge);
+
+            Map<Long, Boolean> selectedWeekPresence = selectedWeekNumber == null
+                ? Map.of()
+                : presentByWeek.getOrDefault(selectedWeekNumber, Map.of());
+            for (GradeDTO row : result.rows()) {
+                int index = rosterModel.indexOf(row.getStudentId());
+                if (index < 0) {
+                    continue;
+                }
+                rosterModel.applyPersistedRow(index, row);
+                Boolean present = selectedWeekPresence.get(rosterModel.enrollmentId(index));
+                if (present != null) {
+                    rosterModel.applyPersistedAttendance(index, present, rosterModel.absentHours(index), rosterModel.isAbsentCritically(index));
+                }
+            }
+            applyPendingEdits();
+            tableStudents.refresh();
+            refreshCourseStatsAsync();
+        }
+
+        if (!result.conflicts().isEmpty()) {
+            StringBuilder message = new StringBuilder(UiConstants.UI_MESSAGE_AUTOSAVE_CONFLICTS);
+            for (RosterEditConflictDTO conflict : result.conflicts()) {
+                int index = selectedCourse != null && courseCode.equals(selectedCourse.getCode())
+                    ? rosterModel.indexOf(conflict.edit().studentId())
+                    : -1;
+                String student = index < 0 ? String.valueOf(conflict.edit().studentId()) : rosterModel.studentName(index);
+                message.append('\n').append(courseCode).append(" - ").append(student).append(": ").append(conflict.reason());
             }
-            Long sid = row.getStudentId();
-            originalMidtermByStudentId.put(sid, row.getMidtermScore());
-            originalFinalByStudentId.put(sid, row.getFinalScore());
-            originalAttendanceHoursByStudentId.put(sid, row.getAttendanceCount());
+            alertUtil.showWarningAlert(UiConstants.ALERT_TITLE_WARNING, message.toString());
         }
     }
 
-    private void clearDirtyTracking() {
-        originalMidtermByStudentId.clear();
-        originalFinalByStudentId.clear();
-        originalAttendanceHoursByStudentId.clear();
-        midtermPropByStudentId.clear();
-        finalPropByStudentId.clear();
-        averagePropByStudentId.clear();
-        letterPropByStudentId.clear();
-        statusPropByStudentId.clear();
-        hasUnsavedChanges = false;
+    private static Double toDouble(Integer value) {
+        return value == null ? null : value.doubleValue();
     }
 
-    private <T> boolean equalsNullable(T a, T b) {
-        if (a == null && b == null) {
-            return true;
+    private void applyAttendanceMatrix(AttendanceMatrixDTO matrix) {
+        if (weekAttendanceCache.isFor(matrix.courseId())) {
+            for (int week = 1; week <= matrix.weekCount(); week++) {
+                Map<Long, Boolean> presentByEnrollmentId = new HashMap<>();
+                for (AttendanceMatrixDTO.Row matrixRow : matrix.rows()) {
+                    Boolean presence = matrixRow.presence(week);
+                    if (presence != null) {
+                        presentByEnrollmentId.put(matrixRow.enrollmentId(), presence);
+                    }
+                }
+                weekAttendanceCache.replace(matrix.courseId(), week, presentByEnrollmentId);
+            }
         }
-        if (a == null || b == null) {
-            return false;
+        for (AttendanceMatrixDTO.Row matrixRow : matrix.rows()) {
+            int index = matrixRow.studentId() == null ? -1 : rosterModel.indexOf(matrixRow.studentId());
+            if (index < 0) {
+                continue;
+            }
+            Boolean present = null;
+            if (selectedWeekNumber != null) {
+                Boolean presence = matrixRow.presence(selectedWeekNumber);
+                present = presence == null || presence;
+            }
+            rosterModel.applyPersistedAttendance(index, present, matrixRow.absentHours(), matrixRow.absentCritically());
         }
-        return a.equals(b);
+        tableStudents.refresh();
     }
 
     private void installStageCloseHandler() {
@@ -635,7 +892,7 @@ public class InstructorDashboardCoordinator {
                 return;
             }
             stage.setOnCloseRequest(evt -> {
-                if (!hasUnsavedChanges) {
+                if (!rosterAutosaveService.hasPendingEdits()) {
                     return;
                 }
                 evt.consume();
@@ -1,88 +1,86 @@
 package org.example.coursetrackingautomation.controller.instructor;
 
-import java.util.function.Consumer;
-import java.util.function.Function;
 import java.util.function.Supplier;
 import javafx.geometry.Pos;
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.property.SimpleBooleanProperty;
-import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.value.ObservableValue;
 import javafx.scene.control.ContentDisplay;
 import javafx.scene.control.Label;
 import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.cell.CheckBoxTableCell;
-import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.control.cell.TextFieldTableCell;
 import javafx.scene.control.TextField;
 import org.example.coursetrackingautomation.controller.support.AttendanceHoursValidator;
 import org.example.coursetrackingautomation.dto.CourseDTO;
-import org.example.coursetrackingautomation.dto.GradeDTO;
+import org.example.coursetrackingautomation.dto.GradeStatus;
 import org.example.coursetrackingautomation.service.AttendanceService;
+import org.example.coursetrackingautomation.ui.GradeStatusUiMapper;
 import org.example.coursetrackingautomation.util.AlertUtil;
 
+/**
+ * Installs cell value factories and editors of the instructor roster table.
+ *
+ * <p>Cells read their values from the {@link RosterModel} arrays when they are rendered; observable
+ * values are created per visible cell and are not retained.</p>
+ */
 public final class InstructorGradesTableConfigurer {
 
-    private static final String PROPERTY_STUDENT_ID = "studentId";
-    private static final String PROPERTY_STUDENT_NAME = "studentName";
-    private static final String PROPERTY_ATTENDANCE_COUNT = "attendanceCount";
-
     private InstructorGradesTableConfigurer() {
     }
 
     public static void configure(
-        TableView<GradeDTO> table,
-        TableColumn<GradeDTO, Long> colStudentNumber,
-        TableColumn<GradeDTO, String> colFullName,
-        TableColumn<GradeDTO, Double> colMidterm,
-        TableColumn<GradeDTO, Double> colFinal,
-        TableColumn<GradeDTO, Integer> colAttendance,
-        TableColumn<GradeDTO, Boolean> colPresent,
-        TableColumn<GradeDTO, Double> colAverage,
-        TableColumn<GradeDTO, String> colLetterGrade,
-        TableColumn<GradeDTO, String> colStatus,
-        Function<GradeDTO, SimpleObjectProperty<Double>> midtermProp,
-        Function<GradeDTO, SimpleObjectProperty<Double>> finalProp,
-        Function<GradeDTO, SimpleObjectProperty<Double>> averageProp,
-        Function<GradeDTO, SimpleObjectProperty<String>> letterProp,
-        Function<GradeDTO, SimpleObjectProperty<String>> statusProp,
+        TableView<RosterModel.Row> table,
+        TableColumn<RosterModel.Row, Long> colStudentNumber,
+        TableColumn<RosterModel.Row, String> colFullName,
+        TableColumn<RosterModel.Row, Double> colMidterm,
+        TableColumn<RosterModel.Row, Double> colFinal,
+        TableColumn<RosterModel.Row, Integer> colAttendance,
+        TableColumn<RosterModel.Row, Boolean> colPresent,
+        TableColumn<RosterModel.Row, Double> colAverage,
+        TableColumn<RosterModel.Row, String> colLetterGrade,
+        TableColumn<RosterModel.Row, String> colStatus,
+        RosterModel model,
         Supplier<CourseDTO> selectedCourseSupplier,
         AttendanceService attendanceService,
-        AlertUtil alertUtil,
-        Consumer<GradeDTO> onRowChanged
+        AlertUtil alertUtil
     ) {
         if (table == null) {
             return;
         }
 
         if (colStudentNumber != null) {
-            colStudentNumber.setCellValueFactory(new PropertyValueFactory<>(PROPERTY_STUDENT_ID));
+            colStudentNumber.setCellValueFactory(cell -> value(model.studentId(cell.getValue().index())));
         }
         if (colFullName != null) {
-            colFullName.setCellValueFactory(new PropertyValueFactory<>(PROPERTY_STUDENT_NAME));
+            colFullName.setCellValueFactory(cell -> value(model.studentName(cell.getValue().index())));
         }
         if (colAverage != null) {
-            colAverage.setCellValueFactory(cell -> averageProp.apply(cell.getValue()));
+            colAverage.setCellValueFactory(cell -> value(model.averageScore(cell.getValue().index())));
         }
         if (colLetterGrade != null) {
-            colLetterGrade.setCellValueFactory(cell -> letterProp.apply(cell.getValue()));
+            colLetterGrade.setCellValueFactory(cell -> value(model.letterGrade(cell.getValue().index())));
         }
         if (colStatus != null) {
-            colStatus.setCellValueFactory(cell -> statusProp.apply(cell.getValue()));
+            colStatus.setCellValueFactory(cell -> {
+                GradeStatus status = model.status(cell.getValue().index());
+                return value(status == null ? "" : GradeStatusUiMapper.toTurkish(status));
+            });
         }
 
         if (colAttendance != null) {
-            colAttendance.setCellValueFactory(new PropertyValueFactory<>(PROPERTY_ATTENDANCE_COUNT));
+            colAttendance.setCellValueFactory(cell -> value(model.absentHours(cell.getValue().index())));
             colAttendance.setCellFactory(col -> new BadgeEditingIntegerCell(selectedCourseSupplier, attendanceService));
             colAttendance.setOnEditCommit(event -> {
-                GradeDTO row = event == null ? null : event.getRowValue();
+                RosterModel.Row row = event == null ? null : event.getRowValue();
                 if (row == null) {
                     return;
                 }
 
                 Integer newHours = event.getNewValue();
-                Integer oldHours = event.getOldValue();
 
                 CourseDTO selectedCourse = selectedCourseSupplier == null ? null : selectedCourseSupplier.get();
                 var validationError = AttendanceHoursValidator.validate(newHours, selectedCourse);
@@ -90,54 +88,48 @@ public final class InstructorGradesTableConfigurer {
                     if (alertUtil != null) {
                         alertUtil.showErrorAlert("Doğrulama Hatası", validationError.get());
                     }
-                    row.setAttendanceCount(oldHours);
                     table.refresh();
                     return;
                 }
 
-                row.setAttendanceCount(newHours);
                 boolean critical = attendanceService != null
                     && attendanceService.isAttendanceCriticalByHours(selectedCourse == null ? null : selectedCourse.getWeeklyTotalHours(), newHours);
-                row.setAbsentCritically(critical);
-
-                if (onRowChanged != null) {
-                    onRowChanged.accept(row);
-                }
+                model.setAbsentHours(row.index(), newHours, critical);
             });
         }
 
         if (colPresent != null) {
-            colPresent.setCellValueFactory(cellData -> buildPresentProperty(cellData.getValue(), onRowChanged));
+            colPresent.setCellValueFactory(cellData -> buildPresentProperty(model, cellData.getValue()));
             colPresent.setCellFactory(CheckBoxTableCell.forTableColumn(colPresent));
         }
 
         if (colMidterm != null) {
-            colMidterm.setCellValueFactory(cell -> midtermProp.apply(cell.getValue()));
+            colMidterm.setCellValueFactory(cell -> value(model.midtermScore(cell.getValue().index())));
             colMidterm.setEditable(false);
         }
 
         if (colFinal != null) {
-            colFinal.setCellValueFactory(cell -> finalProp.apply(cell.getValue()));
+            colFinal.setCellValueFactory(cell -> value(model.finalScore(cell.getValue().index())));
             colFinal.setEditable(false);
         }
     }
 
-    private static BooleanProperty buildPresentProperty(GradeDTO row, Consumer<GradeDTO> onRowChanged) {
-        boolean initial = row != null && row.getPresent() != null ? row.getPresent() : true;
-        BooleanProperty property = new SimpleBooleanProperty(initial);
+    private static <T> ObservableValue<T> value(T value) {
+        return new ReadOnlyObjectWrapper<>(value);
+    }
+
+    private static BooleanProperty buildPresentProperty(RosterModel model, RosterModel.Row row) {
+        Boolean present = row == null ? null : model.present(row.index());
+        BooleanProperty property = new SimpleBooleanProperty(present == null || present);
         property.addListener((obs, oldValue, newValue) -> {
-            if (row == null) {
-                return;
-            }
-            row.setPresent(newValue);
-            if (onRowChanged != null) {
-                onRowChanged.accept(row);
+            if (row != null) {
+                model.setPresent(row.index(), newValue);
             }
         });
         return property;
     }
 
-    private static final class BadgeEditingIntegerCell extends TableCell<GradeDTO, Integer> {
+    private static final class BadgeEditingIntegerCell extends TableCell<RosterModel.Row, Integer> {
         private final Supplier<CourseDTO> selectedCourseSupplier;
         private final AttendanceService attendanceService;
         private final TextField editor = new TextField();
@@ -6,7 +6,6 @@ import javafx.scene.control.TableRow;
 import javafx.scene.control.TableView;
 import javafx.scene.input.MouseButton;
 import org.example.coursetrackingautomation.dto.CourseDTO;
-import org.example.coursetrackingautomation.dto.GradeDTO;
 import org.example.coursetrackingautomation.service.AttendanceService;
 
 public final class InstructorRosterRowFactory {
@@ -15,21 +14,21 @@ public final class InstructorRosterRowFactory {
     }
 
     public static void configure(
-        TableView<GradeDTO> table,
+        TableView<RosterModel.Row> table,
         Supplier<CourseDTO> selectedCourseSupplier,
         AttendanceService attendanceService,
         String criticalStyleClass,
         String warningStyleClass,
-        Consumer<GradeDTO> onEditGrade
+        Consumer<RosterModel.Row> onEditGrade
     ) {
         if (table == null) {
             return;
         }
 
         table.setRowFactory(tv -> {
-            TableRow<GradeDTO> row = new TableRow<>() {
+            TableRow<RosterModel.Row> row = new TableRow<>() {
                 @Override
-                protected void updateItem(GradeDTO item, boolean empty) {
+                protected void updateItem(RosterModel.Row item, boolean empty) {
                     super.updateItem(item, empty);
                     updateAttendanceStyle(this, item, empty, selectedCourseSupplier, attendanceService, criticalStyleClass, warningStyleClass);
                 }
@@ -45,7 +44,7 @@ public final class InstructorRosterRowFactory {
                     } catch (Exception ignored) {
                     }
 
-                    GradeDTO item = row.getItem();
+                    RosterModel.Row item = row.getItem();
                     if (item == null || onEditGrade == null) {
                         return;
                     }
@@ -59,8 +58,8 @@ public final class InstructorRosterRowFactory {
     }
 
     private static void updateAttendanceStyle(
-        TableRow<GradeDTO> row,
-        GradeDTO item,
+        TableRow<RosterModel.Row> row,
+        RosterModel.Row item,
         boolean empty,
         Supplier<CourseDTO> selectedCourseSupplier,
         AttendanceService attendanceService,
@@ -0,0 +1,102 @@
+package org.example.coursetrackingautomation.controller.instructor;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from primitive {@code long} keys to dense {@code int} indexes.
+ *
+ * <p>Keys and indexes are kept in two flat arrays with linear probing, so a lookup neither boxes the key
+ * nor allocates. Entries can only be added; {@link #clear()} resets the map.</p>
+ *
+ * <p>Not thread-safe.</p>
+ */
+final class LongIndexMap {
+
+    static final int MISSING = -1;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys = new long[MIN_CAPACITY];
+    private int[] indexes = newIndexes(MIN_CAPACITY);
+    private int size;
+
+    /**
+     * Drops all entries and sizes the table for the expected number of keys.
+     *
+     * @param expectedSize expected number of keys
+     */
+    void clear(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2 - 1)) << 1;
+        keys = new long[capacity];
+        indexes = newIndexes(capacity);
+        size = 0;
+    }
+
+    /**
+     * Drops all entries.
+     */
+    void clear() {
+        clear(MIN_CAPACITY);
+    }
+
+    /**
+     * Maps a key to an index, replacing an existing mapping.
+     *
+     * @param key key
+     * @param index non-negative index
+     */
+    void put(long key, int index) {
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+        }
+        int slot = slotOf(key);
+        if (indexes[slot] == MISSING) {
+            keys[slot] = key;
+            size++;
+        }
+        indexes[slot] = index;
+    }
+
+    /**
+     * @param key key
+     * @return mapped index, or {@link #MISSING}
+     */
+    int get(long key) {
+        return indexes[slotOf(key)];
+    }
+
+    /**
+     * @return number of keys
+     */
+    int size() {
+        return size;
+    }
+
+    private int slotOf(long key) {
+        int mask = keys.length - 1;
+        int slot = Long.hashCode(key * 0x9E3779B97F4A7C15L) & mask;
+        while (indexes[slot] != MISSING && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldIndexes = indexes;
+        keys = new long[oldKeys.length * 2];
+        indexes = newIndexes(keys.length);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldIndexes[i] != MISSING) {
+                put(oldKeys[i], oldIndexes[i]);
+            }
+        }
+    }
+
+    private static int[] newIndexes(int capacity) {
+        int[] empty = new int[capacity];
+        Arrays.fill(empty, MISSING);
+        return empty;
+    }
+}
@@ -0,0 +1,522 @@
+package org.example.coursetrackingautomation.controller.instructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.example.coursetrackingautomation.dto.CourseDTO;
+import org.example.coursetrackingautomation.dto.GradeDTO;
+import org.example.coursetrackingautomation.dto.GradeStatus;
+import org.example.coursetrackingautomation.dto.RosterEditDTO;
+import org.example.coursetrackingautomation.dto.RosterEditField;
+
+/**
+ * Columnar model of the roster shown in the instructor dashboard.
+ *
+ * <p>Each student is a dense index; student ids are resolved through a primitive {@link LongIndexMap}.
+ * Scores, absent hours and presence flags live in primitive arrays ({@code NaN}, {@code -1} and
+ * {@link #PRESENCE_UNSET} stand for missing values) next to a copy of their last saved values. A
+ * {@link BitSet} tracks which rows differ from the saved state. Table rows are {@link Row} handles that
+ * only carry the index; cells read the arrays directly, so observable values are created on demand for
+ * visible cells only.</p>
+ *
+ * <p>User edits made through the setters are reported to the {@link EditListener}; persisted values applied
+ * by the {@code applyPersisted*} methods are not.</p>
+ *
+ * <p>Not thread-safe; used from the JavaFX UI thread only.</p>
+ */
+public final class RosterModel {
+
+    private static final byte PRESENCE_UNSET = -1;
+    private static final byte PRESENCE_ABSENT = 0;
+    private static final byte PRESENCE_PRESENT = 1;
+    private static final int HOURS_UNSET = -1;
+
+    private final LongIndexMap indexByStudentId = new LongIndexMap();
+    private final ObservableList<Row> rows = FXCollections.observableArrayList();
+    private final BitSet changed = new BitSet();
+    private final BitSet critical = new BitSet();
+
+    private EditListener editListener;
+    private int size;
+    private long[] studentIds = new long[0];
+    private long[] enrollmentIds = new long[0];
+    private String[] studentNames = new String[0];
+    private double[] midtermScores = new double[0];
+    private double[] finalScores = new double[0];
+    private double[] averageScores = new double[0];
+    private String[] letterGrades = new String[0];
+    private GradeStatus[] statuses = new GradeStatus[0];
+    private int[] absentHours = new int[0];
+    private byte[] presence = new byte[0];
+
+    private double[] savedMidtermScores = new double[0];
+    private double[] savedFinalScores = new double[0];
+    private int[] savedAbsentHours = new int[0];
+    private byte[] savedPresence = new byte[0];
+
+    /**
+     * Table row handle: the dense index of a student in the model.
+     */
+    public static final class Row {
+        private final int index;
+
+        private Row(int index) {
+            this.index = index;
+        }
+
+        /**
+         * @return dense index of the student
+         */
+        public int index() {
+            return index;
+        }
+    }
+
+    /**
+     * Receives user edits of a row.
+     */
+    @FunctionalInterface
+    public interface EditListener {
+
+        /**
+         * @param index dense index of the edited row
+         * @param field edited cell
+         */
+        void onEdited(int index, RosterEditField field);
+    }
+
+    /**
+     * Sets the listener notified of user edits.
+     *
+     * @param editListener listener, or {@code null}
+     */
+    public void setEditListener(EditListener editListener) {
+        this.editListener = editListener;
+    }
+
+    /**
+     * Replaces the model contents with a loaded roster; all rows start unchanged.
+     *
+     * @param gradeRows roster rows
+     * @param enrollmentIdByStudentId enrollment id per student id
+     */
+    public void load(List<GradeDTO> gradeRows, Map<Long, Long> enrollmentIdByStudentId) {
+        List<GradeDTO> source = gradeRows.stream()
+            .filter(row -> row != null && row.getStudentId() != null)
+            .toList();
+        allocate(source.size());
+        List<Row> handles = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            GradeDTO row = source.get(i);
+            Long enrollmentId = enrollmentIdByStudentId.get(row.getStudentId());
+            studentIds[i] = row.getStudentId();
+            enrollmentIds[i] = enrollmentId == null ? 0L : enrollmentId;
+            studentNames[i] = row.getStudentName();
+            midtermScores[i] = toPrimitive(row.getMidtermScore());
+            finalScores[i] = toPrimitive(row.getFinalScore());
+            averageScores[i] = toPrimitive(row.getAverageScore());
+            letterGrades[i] = row.getLetterGrade();
+            statuses[i] = row.getStatus();
+            absentHours[i] = toPrimitive(row.getAttendanceCount());
+            presence[i] = toPresence(row.getPresent());
+            critical.set(i, row.isAbsentCritically());
+            indexByStudentId.put(studentIds[i], i);
+            handles.add(new Row(i));
+        }
+        markAllSaved();
+        rows.setAll(handles);
+    }
+
+    /**
+     * Removes all rows.
+     */
+    public void clear() {
+        allocate(0);
+        rows.clear();
+    }
+
+    /**
+     * @return row handles, suitable as table items
+     */
+    public ObservableList<Row> rows() {
+        return rows;
+    }
+
+    /**
+     * @return number of students
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param studentId student identifier
+     * @return dense index, or {@code -1} if the student is not in the roster
+     */
+    public int indexOf(long studentId) {
+        return indexByStudentId.get(studentId);
+    }
+
+    /**
+     * @param index dense index
+     * @return student identifier of a row
+     */
+    public long studentId(int index) {
+        return studentIds[index];
+    }
+
+    /**
+     * @param index dense index
+     * @return enrollment identifier, or {@code null} if unknown
+     */
+    public Long enrollmentId(int index) {
+        return enrollmentIds[index] == 0L ? null : enrollmentIds[index];
+    }
+
+    /**
+     * @param index dense index
+     * @return student full name of a row
+     */
+    public String studentName(int index) {
+        return studentNames[index];
+    }
+
+    /**
+     * @param index dense index
+     * @return midterm score of a row, or {@code null}
+     */
+    public Double midtermScore(int index) {
+        return toBoxed(midtermScores[index]);
+    }
+
+    /**
+     * @param index dense index
+     * @return final score of a row, or {@code null}
+     */
+    public Double finalScore(int index) {
+        return toBoxed(finalScores[index]);
+    }
+
+    /**
+     * @param index dense index
+     * @return average score of a row, or {@code null}
+     */
+    public Double averageScore(int index) {
+        return toBoxed(averageScores[index]);
+    }
+
+    /**
+     * @param index dense index
+     * @return letter grade of a row, or {@code null}
+     */
+    public String letterGrade(int index) {
+        return letterGrades[index];
+    }
+
+    /**
+     * @param index dense index
+     * @return grade status of a row
+     */
+    public GradeStatus status(int index) {
+        return statuses[index];
+    }
+
+    /**
+     * @param index dense index
+     * @return absent hours of a row, or {@code null}
+     */
+    public Integer absentHours(int index) {
+        return absentHours[index] == HOURS_UNSET ? null : absentHours[index];
+    }
+
+    /**
+     * @param index dense index
+     * @return whether the absent hours of a row are critical
+     */
+    public boolean isAbsentCritically(int index) {
+        return critical.get(index);
+    }
+
+    /**
+     * @param index dense index
+     * @return presence in the selected week, or {@code null} if no week is applied
+     */
+    public Boolean present(int index) {
+        return toBoxed(presence[index]);
+    }
+
+    /**
+     * @param index dense index
+     * @return saved midterm score of a row, or {@code null}
+     */
+    public Double savedMidtermScore(int index) {
+        return toBoxed(savedMidtermScores[index]);
+    }
+
+    /**
+     * @param index dense index
+     * @return saved final score of a row, or {@code null}
+     */
+    public Double savedFinalScore(int index) {
+        return toBoxed(savedFinalScores[index]);
+    }
+
+    /**
+     * @param index dense index
+     * @return saved absent hours of a row, or {@code null}
+     */
+    public Integer savedAbsentHours(int index) {
+        return savedAbsentHours[index] == HOURS_UNSET ? null : savedAbsentHours[index];
+    }
+
+    /**
+     * @param index dense index
+     * @return saved presence of a row in the selected week, or {@code null}
+     */
+    public Boolean savedPresent(int index) {
+        return toBoxed(savedPresence[index]);
+    }
+
+    /**
+     * @return {@code true} if any row differs from its saved state
+     */
+    public boolean hasChanges() {
+        return !changed.isEmpty();
+    }
+
+    /**
+     * @return enrollment identifiers of all rows with a known enrollment
+     */
+    public List<Long> enrollmentIds() {
+        List<Long> ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (enrollmentIds[i] != 0L) {
+                ids.add(enrollmentIds[i]);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * @return student identifiers of rows currently marked absent
+     */
+    public List<Long> absentStudentIds() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (presence[i] == PRESENCE_ABSENT) {
+                ids.add(studentIds[i]);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Sets the grade values of a row.
+     */
+    public void setGrades(int index, Double midterm, Double finalScore, Double average, String letterGrade, GradeStatus status) {
+        boolean midtermEdited = Double.compare(midtermScores[index], toPrimitive(midterm)) != 0;
+        boolean finalEdited = Double.compare(finalScores[index], toPrimitive(finalScore)) != 0;
+        midtermScores[index] = toPrimitive(midterm);
+        finalScores[index] = toPrimitive(finalScore);
+        averageScores[index] = toPrimitive(average);
+        letterGrades[index] = letterGrade;
+        statuses[index] = status;
+        updateChanged(index);
+        if (midtermEdited) {
+            notifyEdited(index, RosterEditField.MIDTERM);
+        }
+        if (finalEdited) {
+            notifyEdited(index, RosterEditField.FINAL);
+        }
+    }
+
+    /**
+     * Sets the absent hours of a row as an unsaved edit.
+     */
+    public void setAbsentHours(int index, Integer hours, boolean absentCritically) {
+        absentHours[index] = toPrimitive(hours);
+        critical.set(index, absentCritically);
+        updateChanged(index);
+        notifyEdited(index, RosterEditField.ABSENT_HOURS);
+    }
+
+    /**
+     * Sets the presence of a row in the selected week as an unsaved edit.
+     */
+    public void setPresent(int index, boolean present) {
+        presence[index] = toPresence(present);
+        updateChanged(index);
+        notifyEdited(index, RosterEditField.PRESENT);
+    }
+
+    /**
+     * Applies the persisted presence of a week to all rows; enrollments missing from the map are present.
+     *
+     * @param presentByEnrollmentId persisted presence per enrollment id
+     */
+    public void applyPersistedPresence(Map<Long, Boolean> presentByEnrollmentId) {
+        for (int i = 0; i < size; i++) {
+            Boolean present = enrollmentIds[i] == 0L ? null : presentByEnrollmentId.get(enrollmentIds[i]);
+            presence[i] = toPresence(present == null || present);
+            savedPresence[i] = presence[i];
+            updateChanged(i);
+        }
+    }
+
+    /**
+     * Applies persisted attendance of one row, e.g. after a whole-class mark.
+     *
+     * @param index dense index
+     * @param present persisted presence in the selected week, or {@code null} to keep the current flag
+     * @param hours persisted absent hours
+     * @param absentCritically whether the absent hours are critical
+     */
+    public void applyPersistedAttendance(int index, Boolean present, int hours, boolean absentCritically) {
+        if (present != null) {
+            presence[index] = toPresence(present);
+            savedPresence[index] = presence[index];
+        }
+        absentHours[index] = hours;
+        savedAbsentHours[index] = hours;
+        critical.set(index, absentCritically);
+        updateChanged(index);
+    }
+
+    /**
+     * Applies the persisted grade and attendance state of one row after an autosave; the values become both
+     * the current and the saved state. The presence flag is left unchanged.
+     *
+     * @param index dense index
+     * @param persisted persisted row
+     */
+    public void applyPersistedRow(int index, GradeDTO persisted) {
+        midtermScores[index] = toPrimitive(persisted.getMidtermScore());
+        finalScores[index] = toPrimitive(persisted.getFinalScore());
+        averageScores[index] = toPrimitive(persisted.getAverageScore());
+        letterGrades[index] = persisted.getLetterGrade();
+        statuses[index] = persisted.getStatus();
+        absentHours[index] = toPrimitive(persisted.getAttendanceCount());
+        critical.set(index, persisted.isAbsentCritically());
+
+        savedMidtermScores[index] = midtermScores[index];
+        savedFinalScores[index] = finalScores[index];
+        savedAbsentHours[index] = absentHours[index];
+        updateChanged(index);
+    }
+
+    /**
+     * Shows an edit that has not been written yet on top of the persisted state, without reporting it to
+     * the {@link EditListener}. Presence edits must belong to the selected week.
+     *
+     * @param index dense index
+     * @param edit queued edit
+     */
+    public void applyPendingEdit(int index, RosterEditDTO edit) {
+        switch (edit.field()) {
+            case MIDTERM -> midtermScores[index] = toPrimitive(edit.value());
+            case FINAL -> finalScores[index] = toPrimitive(edit.value());
+            case ABSENT_HOURS -> absentHours[index] = edit.value() == null ? HOURS_UNSET : edit.value().intValue();
+            case PRESENT -> presence[index] = toPresence(edit.present());
+        }
+        updateChanged(index);
+    }
+
+    /**
+     * Builds a standalone row DTO, e.g. for the grade editing popup.
+     *
+     * @param index dense index
+     * @param course selected course; may be {@code null}
+     * @return row DTO
+     */
+    public GradeDTO toGradeDTO(int index, CourseDTO course) {
+        return new GradeDTO(
+            studentIds[index],
+            studentNames[index],
+            course == null ? null : course.getCode(),
+            course == null ? null : course.getName(),
+            course == null ? null : course.getCredit(),
+            course == null ? null : course.getWeeklyTotalHours(),
+            course == null ? null : course.getWeeklyTheoryHours(),
+            course == null ? null : course.getWeeklyPracticeHours(),
+            midtermScore(index),
+            finalScore(index),
+            averageScore(index),
+            letterGrades[index],
+            statuses[index],
+            absentHours(index),
+            critical.get(index),
+            present(index)
+        );
+    }
+
+    private void markAllSaved() {
+        System.arraycopy(midtermScores, 0, savedMidtermScores, 0, size);
+        System.arraycopy(finalScores, 0, savedFinalScores, 0, size);
+        System.arraycopy(absentHours, 0, savedAbsentHours, 0, size);
+        System.arraycopy(presence, 0, savedPresence, 0, size);
+        changed.clear();
+    }
+
+    private void notifyEdited(int index, RosterEditField field) {
+        if (editListener != null) {
+            editListener.onEdited(index, field);
+        }
+    }
+
+    private void updateChanged(int index) {
+        boolean differs = Double.compare(midtermScores[index], savedMidtermScores[index]) != 0
+            || Double.compare(finalScores[index], savedFinalScores[index]) != 0
+            || absentHours[index] != savedAbsentHours[index]
+            || presence[index] != savedPresence[index];
+        changed.set(index, differs);
+    }
+
+    private void allocate(int capacity) {
+        size = capacity;
+        studentIds = new long[capacity];
+        enrollmentIds = new long[capacity];
+        studentNames = new String[capacity];
+        midtermScores = new double[capacity];
+        finalScores = new double[capacity];
+        averageScores = new double[capacity];
+        letterGrades = new String[capacity];
+        statuses = new GradeStatus[capacity];
+        absentHours = new int[capacity];
+        presence = new byte[capacity];
+        Arrays.fill(presence, PRESENCE_UNSET);
+        savedMidtermScores = new double[capacity];
+        savedFinalScores = new double[capacity];
+        savedAbsentHours = new int[capacity];
+        savedPresence = new byte[capacity];
+        changed.clear();
+        critical.clear();
+        indexByStudentId.clear(capacity);
+    }
+
+    private static double toPrimitive(Double value) {
+        return value == null ? Double.NaN : value;
+    }
+
+    private static int toPrimitive(Integer value) {
+        return value == null ? HOURS_UNSET : value;
+    }
+
+    private static Double toBoxed(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
+    private static byte toPresence(Boolean present) {
+        if (present == null) {
+            return PRESENCE_UNSET;
+        }
+        return present ? PRESENCE_PRESENT : PRESENCE_ABSENT;
+    }
+
+    private static Boolean toBoxed(byte presence) {
+        return presence == PRESENCE_UNSET ? null : presence == PRESENCE_PRESENT;
+    }
+}
@@ -0,0 +1,168 @@
+package org.example.coursetrackingautomation.controller.instructor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.example.coursetrackingautomation.service.DiagnosticsService;
+
+/**
+ * Week attendance of the course open in the instructor dashboard, keyed by week number.
+ *
+ * <p>Entries hold the persisted presence per enrollment id (unmarked enrollments are absent from the map),
+ * as returned by the week attendance query. Saves merge their marks into the entry in place; loading a
+ * roster or switching the course resets the cache. Weeks being prefetched are tracked so that each week
+ * is requested at most once at a time.</p>
+ *
+ * <p>Every week has a generation that saves and resets advance. A load captures the generation of its week
+ * when it starts and {@link #put} drops the result if the week has changed since, so a prefetch started
+ * before a save never caches pre-save marks.</p>
+ *
+ * <p>Not thread-safe; used from the JavaFX UI thread only.</p>
+ */
+final class WeekAttendanceCache {
+
+    static final String CACHE_NAME = "week-attendance";
+
+    private static final Counter HITS = Counter.builder(DiagnosticsService.CACHE_REQUESTS_METRIC)
+        .tag("cache", CACHE_NAME)
+        .tag("result", "hit")
+        .register(Metrics.globalRegistry);
+    private static final Counter MISSES = Counter.builder(DiagnosticsService.CACHE_REQUESTS_METRIC)
+        .tag("cache", CACHE_NAME)
+        .tag("result", "miss")
+        .register(Metrics.globalRegistry);
+
+    private final Map<Integer, Map<Long, Boolean>> presentByWeek = new HashMap<>();
+    private final Set<Integer> prefetching = new HashSet<>();
+    private final Map<Integer, Long> generationByWeek = new HashMap<>();
+    private long lastGeneration;
+    private long resetGeneration;
+    private Long courseId;
+
+    /**
+     * Drops all entries and binds the cache to a course.
+     *
+     * @param courseId course identifier, or {@code null} when no course is selected
+     */
+    void reset(Long courseId) {
+        this.courseId = courseId;
+        presentByWeek.clear();
+        prefetching.clear();
+        generationByWeek.clear();
+        resetGeneration = ++lastGeneration;
+    }
+
+    /**
+     * Returns the current generation of a week, to be passed to {@link #put} by the load started now.
+     *
+     * @param weekNumber week number
+     * @return generation of the week
+     */
+    long generation(int weekNumber) {
+        return generationByWeek.getOrDefault(weekNumber, resetGeneration);
+    }
+
+    /**
+     * @param courseId course identifier
+     * @return {@code true} if the cache holds weeks of the given course
+     */
+    boolean isFor(Long courseId) {
+        return courseId != null && courseId.equals(this.courseId);
+    }
+
+    /**
+     * Returns the cached presence of a week and records a hit or miss.
+     *
+     * @param weekNumber week number
+     * @return presence per enrollment id, or {@code null} if the week is not cached
+     */
+    Map<Long, Boolean> get(int weekNumber) {
+        Map<Long, Boolean> cached = presentByWeek.get(weekNumber);
+        (cached == null ? MISSES : HITS).increment();
+        return cached;
+    }
+
+    /**
+     * @param weekNumber week number
+     * @return {@code true} if the week is cached
+     */
+    boolean contains(int weekNumber) {
+        return presentByWeek.containsKey(weekNumber);
+    }
+
+    /**
+     * Stores the loaded presence of a week; ignored if the cache was reset to another course or the week
+     * was saved or reset after the load started.
+     *
+     * @param courseId course the week was loaded for
+     * @param weekNumber week number
+     * @param generation generation of the week when the load started
+     * @param presentByEnrollmentId presence per enrollment id
+     */
+    void put(Long courseId, int weekNumber, long generation, Map<Long, Boolean> presentByEnrollmentId) {
+        if (!Objects.equals(courseId, this.courseId)) {
+            return;
+        }
+        prefetching.remove(weekNumber);
+        if (generation != generation(weekNumber)) {
+            return;
+        }
+        presentByWeek.put(weekNumber, new HashMap<>(presentByEnrollmentId));
+    }
+
+    /**
+     * Stores the complete presence of a week as returned by a save, replacing any cached entry and
+     * invalidating loads of the week still in flight.
+     *
+     * @param courseId course the week was saved for
+     * @param weekNumber week number
+     * @param presentByEnrollmentId presence per enrollment id
+     */
+    void replace(Long courseId, int weekNumber, Map<Long, Boolean> presentByEnrollmentId) {
+        if (!Objects.equals(courseId, this.courseId)) {
+            return;
+        }
+        generationByWeek.put(weekNumber, ++lastGeneration);
+        presentByWeek.put(weekNumber, new HashMap<>(presentByEnrollmentId));
+    }
+
+    /**
+     * Merges saved marks into a cached week.
+     *
+     * <p>Uncached weeks are left uncached, since the merged marks would not be a complete week; loads of the
+     * week still in flight are invalidated either way.</p>
+     *
+     * @param weekNumber week number
+     * @param savedPresentByEnrollmentId saved presence per enrollment id
+     */
+    void merge(int weekNumber, Map<Long, Boolean> savedPresentByEnrollmentId) {
+        generationByWeek.put(weekNumber, ++lastGeneration);
+        Map<Long, Boolean> cached = presentByWeek.get(weekNumber);
+        if (cached != null) {
+            cached.putAll(savedPresentByEnrollmentId);
+        }
+    }
+
+    /**
+     * Marks a week as being prefetched.
+     *
+     * @param weekNumber week number
+     * @return {@code true} if the week is neither cached nor already being prefetched
+     */
+    boolean startPrefetch(int weekNumber) {
+        return !presentByWeek.containsKey(weekNumber) && prefetching.add(weekNumber);
+    }
+
+    /**
+     * Clears the prefetch mark of a week whose prefetch failed.
+     *
+     * @param weekNumber week number
+     */
+    void abortPrefetch(int weekNumber) {
+        prefetching.remove(weekNumber);
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.coursetrackingautomation.controller.support;
+
+import java.util.Locale;
+import java.util.stream.Collectors;
+import org.example.coursetrackingautomation.dto.CourseAnalyticsDTO;
+
+public final class CourseAnalyticsLabelFormatter {
+
+    private CourseAnalyticsLabelFormatter() {
+    }
+
+    public static String format(CourseAnalyticsDTO analytics) {
+        if (analytics == null) {
+            return "";
+        }
+        if (analytics.gradedCount() == 0) {
+            return "Notlanan: 0 / " + analytics.enrolledCount();
+        }
+
+        String histogram = analytics.letterGradeHistogram().entrySet().stream()
+            .filter(entry -> entry.getValue() > 0)
+            .map(entry -> entry.getKey() + " " + entry.getValue())
+            .collect(Collectors.joining(", "));
+        return "Notlanan: " + analytics.gradedCount() + " / " + analytics.enrolledCount()
+            + " • Ort. " + formatScore(analytics.mean())
+            + " • Medyan " + formatScore(analytics.median())
+            + " • SS " + formatScore(analytics.standardDeviation())
+            + " • Geçme %" + String.format(Locale.ROOT, "%.0f", analytics.passRate())
+            + (histogram.isEmpty() ? "" : " • " + histogram);
+    }
+
+    private static String formatScore(Double value) {
+        return value == null ? "-" : String.format(Locale.ROOT, "%.1f", value);
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name("coursetracking.AdminSearch")
+@Label("Admin Search")
+@Category({"Course Tracking", "Domain"})
+@Description("Database-level search from the admin dashboard")
+@Setter
+/**
+ * JFR event: database-level search from the admin dashboard.
+ *
+ * <p>Numeric identifiers are {@code 0} when unknown.</p>
+ */
+public class AdminSearchEvent extends Event {
+
+    @Label("View")
+    private String view;
+
+    @Label("Query")
+    private String query;
+
+    @Label("Course Id")
+    private long courseId;
+
+    @Label("Status")
+    private String status;
+
+    @Label("Row Count")
+    private int rowCount;
+
+    @Label("Success")
+    private boolean success;
+}
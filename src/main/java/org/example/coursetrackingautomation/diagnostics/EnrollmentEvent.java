@@ -0,0 +1,37 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name("coursetracking.Enrollment")
+@Label("Enrollment")
+@Category({"Course Tracking", "Domain"})
+@Description("Enrollment created, dropped or its status changed")
+@Setter
+/**
+ * JFR event: enrollment created, dropped or its status changed.
+ *
+ * <p>Numeric identifiers are {@code 0} when unknown.</p>
+ */
+public class EnrollmentEvent extends Event {
+
+    @Label("Operation")
+    @Description("enroll, drop or status")
+    private String operation;
+
+    @Label("Student Id")
+    private long studentId;
+
+    @Label("Course Id")
+    private long courseId;
+
+    @Label("Enrollment Id")
+    private long enrollmentId;
+
+    @Label("Success")
+    private boolean success;
+}
@@ -0,0 +1,34 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("coursetracking.FxStall")
+@Label("JavaFX Thread Stall")
+@Category({"Course Tracking", "UI"})
+@Description("The JavaFX application thread did not process a Platform.runLater probe within the stall threshold")
+@StackTrace(false)
+/**
+ * JFR event emitted by {@link FxStallWatchdog} when the JavaFX application thread was blocked.
+ *
+ * <p>The event stack trace is disabled because the event is committed from the FX thread after the
+ * stall; the blocked stack captured during the stall is stored in {@link #fxThreadStack} instead.</p>
+ */
+public class FxStallEvent extends Event {
+
+    @Label("Stall Duration")
+    @Timespan(Timespan.MILLISECONDS)
+    long stallMillis;
+
+    @Label("Origin")
+    @Description("First application frame on the FX thread while it was blocked")
+    String origin;
+
+    @Label("FX Thread Stack")
+    String fxThreadStack;
+}
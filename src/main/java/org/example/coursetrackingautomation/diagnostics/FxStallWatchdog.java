@@ -0,0 +1,185 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javafx.application.Platform;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+/**
+ * Detects stalls of the JavaFX application thread.
+ *
+ * <p>A daemon thread posts a probe with {@link Platform#runLater(Runnable)} and measures how long it
+ * takes until the FX thread runs it. The round-trip latency is recorded as {@code app.fx.runlater.latency}.
+ * When the probe is still pending after the stall threshold, the FX thread stack is captured and the
+ * first application frame (the offending controller/action) is logged. Once the FX thread recovers the
+ * stall is recorded as {@code app.fx.stalls} and as a {@link FxStallEvent} JFR event.</p>
+ */
+public class FxStallWatchdog {
+
+    private static final String APPLICATION_PACKAGE = "org.example.coursetrackingautomation.";
+    private static final int LOGGED_STACK_DEPTH = 40;
+    private static final String FX_THREAD_NAME = "JavaFX Application Thread";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long probeIntervalMillis;
+    private final long stallThresholdNanos;
+
+    private final AtomicLong pendingProbeSince = new AtomicLong();
+    private volatile Thread fxThread;
+    private volatile boolean stallReported;
+    private volatile StackTraceElement[] stallStack;
+
+    private ScheduledExecutorService scheduler;
+    private Timer latencyTimer;
+    private Timer stallTimer;
+
+    /**
+     * Creates the watchdog.
+     *
+     * @param meterRegistry registry receiving latency and stall timers
+     * @param enabled whether the watchdog runs
+     * @param probeIntervalMillis interval between probes
+     * @param stallThresholdMillis latency above which the FX thread is considered stalled
+     */
+    public FxStallWatchdog(
+        MeterRegistry meterRegistry,
+        @Value("${app.diagnostics.fx-watchdog.enabled:true}") boolean enabled,
+        @Value("${app.diagnostics.fx-watchdog.probe-interval-ms:250}") long probeIntervalMillis,
+        @Value("${app.diagnostics.fx-watchdog.stall-threshold-ms:500}") long stallThresholdMillis
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.probeIntervalMillis = Math.max(10, probeIntervalMillis);
+        this.stallThresholdNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, stallThresholdMillis));
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        latencyTimer = Timer.builder("app.fx.runlater.latency").register(meterRegistry);
+        stallTimer = Timer.builder("app.fx.stalls").register(meterRegistry);
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fx-stall-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::tick, probeIntervalMillis, probeIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void tick() {
+        try {
+            long now = System.nanoTime();
+            long postedAt = pendingProbeSince.get();
+            if (postedAt == 0L) {
+                postProbe(now);
+                return;
+            }
+            if (!stallReported && now - postedAt >= stallThresholdNanos) {
+                stallReported = true;
+                reportStall(now - postedAt);
+            }
+        } catch (RuntimeException e) {
+            log.debug("FX watchdog tick failed", e);
+        }
+    }
+
+    private void postProbe(long now) {
+        stallReported = false;
+        stallStack = null;
+        pendingProbeSince.set(now);
+        try {
+            Platform.runLater(() -> onProbe(now));
+        } catch (IllegalStateException toolkitNotReady) {
+            pendingProbeSince.set(0L);
+        }
+    }
+
+    private void onProbe(long postedAt) {
+        fxThread = Thread.currentThread();
+        long latency = System.nanoTime() - postedAt;
+        latencyTimer.record(latency, TimeUnit.NANOSECONDS);
+
+        if (latency >= stallThresholdNanos) {
+            stallTimer.record(latency, TimeUnit.NANOSECONDS);
+            StackTraceElement[] stack = stallStack;
+            String origin = findOrigin(stack);
+            long stallMillis = TimeUnit.NANOSECONDS.toMillis(latency);
+
+            FxStallEvent event = new FxStallEvent();
+            if (event.shouldCommit()) {
+                event.stallMillis = stallMillis;
+                event.origin = origin;
+                event.fxThreadStack = formatStack(stack);
+                event.commit();
+            }
+            log.warn("FX thread stall ended after {} ms (origin: {})", stallMillis, origin);
+        }
+        pendingProbeSince.set(0L);
+    }
+
+    private void reportStall(long waitedNanos) {
+        Thread thread = fxThread != null ? fxThread : findFxThread();
+        StackTraceElement[] stack = thread == null ? null : thread.getStackTrace();
+        stallStack = stack;
+        log.warn("FX thread blocked for {} ms in {}\n{}",
+            TimeUnit.NANOSECONDS.toMillis(waitedNanos), findOrigin(stack), formatStack(stack));
+    }
+
+    private static Thread findFxThread() {
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (FX_THREAD_NAME.equals(thread.getName())) {
+                return thread;
+            }
+        }
+        return null;
+    }
+
+    private static String findOrigin(StackTraceElement[] stack) {
+        if (stack == null || stack.length == 0) {
+            return "unknown";
+        }
+        for (StackTraceElement element : stack) {
+            String className = element.getClassName();
+            if (className.startsWith(APPLICATION_PACKAGE) && !className.startsWith(FxStallWatchdog.class.getName())) {
+                return className.substring(APPLICATION_PACKAGE.length()) + "." + element.getMethodName() + ":" + element.getLineNumber();
+            }
+        }
+        return stack[0].getClassName() + "." + stack[0].getMethodName();
+    }
+
+    private static String formatStack(StackTraceElement[] stack) {
+        if (stack == null) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder();
+        int depth = Math.min(stack.length, LOGGED_STACK_DEPTH);
+        for (int i = 0; i < depth; i++) {
+            out.append("    at ").append(stack[i]).append('\n');
+        }
+        if (stack.length > depth) {
+            out.append("    ... ").append(stack.length - depth).append(" more\n");
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+import lombok.Setter;
+
+@Name("coursetracking.FxTask")
+@Label("FX Background Task")
+@Category({"Course Tracking", "UI"})
+@Description("Background task submitted through FxAsync")
+@Setter
+/**
+ * JFR event: background task submitted through FxAsync.
+ *
+ * <p>Numeric identifiers are {@code 0} when unknown.</p>
+ */
+public class FxTaskEvent extends Event {
+
+    @Label("Origin")
+    @Description("Class that submitted the task")
+    private String origin;
+
+    @Label("Queue Wait")
+    @Timespan(Timespan.MILLISECONDS)
+    private long queueMillis;
+
+    @Label("SQL Statements")
+    private int sqlStatements;
+
+    @Label("Outcome")
+    private String outcome;
+}
@@ -0,0 +1,54 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.function.ToDoubleFunction;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Exposes Hibernate {@link Statistics} counters as Micrometer meters.
+ *
+ * <p>Requires {@code hibernate.generate_statistics=true}; otherwise all counters stay at zero.</p>
+ */
+public class HibernateStatisticsMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    /**
+     * Creates the binder.
+     *
+     * @param statistics Hibernate statistics of the session factory
+     */
+    public HibernateStatisticsMetrics(Statistics statistics) {
+        this.statistics = statistics;
+    }
+
+    @Override
+    /**
+     * Registers the Hibernate counters.
+     *
+     * @param registry target registry
+     */
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "hibernate.statements.prepared", Statistics::getPrepareStatementCount);
+        counter(registry, "hibernate.queries.executed", Statistics::getQueryExecutionCount);
+        counter(registry, "hibernate.entities.loaded", Statistics::getEntityLoadCount);
+        counter(registry, "hibernate.entities.fetched", Statistics::getEntityFetchCount);
+        counter(registry, "hibernate.entities.inserted", Statistics::getEntityInsertCount);
+        counter(registry, "hibernate.entities.updated", Statistics::getEntityUpdateCount);
+        counter(registry, "hibernate.collections.loaded", Statistics::getCollectionLoadCount);
+        counter(registry, "hibernate.collections.fetched", Statistics::getCollectionFetchCount);
+        counter(registry, "hibernate.cache.second_level.hits", Statistics::getSecondLevelCacheHitCount);
+        counter(registry, "hibernate.cache.second_level.misses", Statistics::getSecondLevelCacheMissCount);
+        counter(registry, "hibernate.cache.query.hits", Statistics::getQueryCacheHitCount);
+        counter(registry, "hibernate.cache.query.misses", Statistics::getQueryCacheMissCount);
+        counter(registry, "hibernate.transactions", Statistics::getTransactionCount);
+        counter(registry, "hibernate.sessions.opened", Statistics::getSessionOpenCount);
+        counter(registry, "hibernate.flushes", Statistics::getFlushCount);
+    }
+
+    private void counter(MeterRegistry registry, String name, ToDoubleFunction<Statistics> value) {
+        FunctionCounter.builder(name, statistics, value).register(registry);
+    }
+}
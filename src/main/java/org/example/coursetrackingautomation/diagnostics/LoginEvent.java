@@ -0,0 +1,37 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name("coursetracking.Login")
+@Label("Login")
+@Category({"Course Tracking", "Domain"})
+@Description("Authentication attempt from the login screen")
+@Setter
+/**
+ * JFR event: authentication attempt from the login screen.
+ *
+ * <p>Numeric identifiers are {@code 0} when unknown.</p>
+ */
+public class LoginEvent extends Event {
+
+    @Label("Username")
+    private String username;
+
+    @Label("User Id")
+    private long userId;
+
+    @Label("Role")
+    private String role;
+
+    @Label("Success")
+    private boolean success;
+
+    @Label("Failure")
+    @Description("Exception type when the attempt failed")
+    private String failure;
+}
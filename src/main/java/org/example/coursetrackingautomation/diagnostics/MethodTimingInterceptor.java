@@ -0,0 +1,100 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Records a Micrometer timer for every intercepted service or repository call.
+ *
+ * <p>Calls are recorded as {@code app.service.calls} or {@code app.repository.calls}, tagged with the
+ * component name, method name and outcome. Failures additionally increment
+ * {@code app.service.failures} / {@code app.repository.failures} tagged with the exception type.
+ * Every call is also appended to {@link RecentCallLog} and, while a trace is active, recorded as a
+ * {@link Span} of kind {@code service} or {@code repository}.</p>
+ */
+public class MethodTimingInterceptor implements MethodInterceptor {
+
+    public static final String SERVICE_CALLS = "app.service.calls";
+    public static final String REPOSITORY_CALLS = "app.repository.calls";
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final Map<Class<?>, String> componentNames = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the interceptor.
+     *
+     * @param meterRegistryProvider lazily resolved registry; the interceptor is created before the registry
+     */
+    public MethodTimingInterceptor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Override
+    /**
+     * Times the invocation and records its outcome.
+     *
+     * @param invocation intercepted call
+     * @return the call result
+     * @throws Throwable any failure raised by the call
+     */
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MeterRegistry registry = meterRegistryProvider.getIfAvailable();
+        if (registry == null) {
+            return invocation.proceed();
+        }
+
+        Object target = invocation.getThis();
+        boolean repository = target instanceof Repository<?, ?>;
+        String metricName = repository ? REPOSITORY_CALLS : SERVICE_CALLS;
+        String component = target == null ? "unknown" : componentNames.computeIfAbsent(target.getClass(), MethodTimingInterceptor::resolveComponentName);
+        String method = invocation.getMethod().getName();
+
+        long start = System.nanoTime();
+        String outcome = "success";
+        Span span = Tracer.startSpan(repository ? "repository" : "service", component + "." + method);
+        try {
+            return invocation.proceed();
+        } catch (Throwable failure) {
+            outcome = "error";
+            span.markError();
+            Counter.builder(repository ? "app.repository.failures" : "app.service.failures")
+                .tag("component", component)
+                .tag("method", method)
+                .tag("exception", failure.getClass().getSimpleName())
+                .register(registry)
+                .increment();
+            throw failure;
+        } finally {
+            span.close();
+            long duration = System.nanoTime() - start;
+            RecentCallLog.record(repository ? "repository" : "service", component, method, duration);
+            Timer.builder(metricName)
+                .tag("component", component)
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(duration, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static String resolveComponentName(Class<?> targetClass) {
+        if (Repository.class.isAssignableFrom(targetClass)) {
+            for (Class<?> candidate : targetClass.getInterfaces()) {
+                if (Repository.class.isAssignableFrom(candidate)
+                    && !candidate.getName().startsWith("org.springframework.")) {
+                    return candidate.getSimpleName();
+                }
+            }
+        }
+        return ClassUtils.getUserClass(targetClass).getSimpleName();
+    }
+}
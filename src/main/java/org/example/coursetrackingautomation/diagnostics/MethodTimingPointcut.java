@@ -0,0 +1,42 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Matches public methods of {@link Service} beans and Spring Data repositories.
+ */
+public class MethodTimingPointcut extends StaticMethodMatcherPointcut {
+
+    private static final ClassFilter SERVICES_AND_REPOSITORIES = clazz ->
+        Repository.class.isAssignableFrom(clazz)
+            || AnnotatedElementUtils.hasAnnotation(ClassUtils.getUserClass(clazz), Service.class);
+
+    @Override
+    /**
+     * Restricts the pointcut to services and repositories.
+     *
+     * @return class filter
+     */
+    public ClassFilter getClassFilter() {
+        return SERVICES_AND_REPOSITORIES;
+    }
+
+    @Override
+    /**
+     * Matches public, non-{@link Object} methods.
+     *
+     * @param method candidate method
+     * @param targetClass target class
+     * @return {@code true} when the method should be timed
+     */
+    public boolean matches(Method method, Class<?> targetClass) {
+        return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+    }
+}
@@ -0,0 +1,149 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+/**
+ * Renders the local meter registry as plain text and makes it available outside the application.
+ *
+ * <p>Two optional outputs are supported so lab machines can be compared:</p>
+ * <ul>
+ *     <li>A dump file written on shutdown ({@code app.diagnostics.metrics.dump-file}).</li>
+ *     <li>A scrape endpoint bound to the loopback interface only ({@code app.diagnostics.metrics.http-port}).</li>
+ * </ul>
+ */
+public class MetricsExporter {
+
+    private static final String SCRAPE_PATH = "/metrics";
+
+    private final MeterRegistry meterRegistry;
+    private final String dumpFile;
+    private final int httpPort;
+
+    private HttpServer httpServer;
+
+    /**
+     * Creates the exporter.
+     *
+     * @param meterRegistry registry to export
+     * @param dumpFile file written on shutdown; blank disables the dump
+     * @param httpPort loopback port for the scrape endpoint; {@code 0} disables it
+     */
+    public MetricsExporter(
+        MeterRegistry meterRegistry,
+        @Value("${app.diagnostics.metrics.dump-file:}") String dumpFile,
+        @Value("${app.diagnostics.metrics.http-port:0}") int httpPort
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.dumpFile = dumpFile;
+        this.httpPort = httpPort;
+    }
+
+    @PostConstruct
+    void startEndpoint() {
+        if (httpPort <= 0) {
+            return;
+        }
+        try {
+            httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), httpPort), 0);
+            httpServer.createContext(SCRAPE_PATH, exchange -> {
+                byte[] body = render().getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            httpServer.start();
+            log.info("Metrics endpoint listening on http://127.0.0.1:{}{}", httpPort, SCRAPE_PATH);
+        } catch (IOException e) {
+            log.warn("Metrics endpoint could not be started on port {}", httpPort, e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (httpServer != null) {
+            httpServer.stop(0);
+        }
+        if (dumpFile != null && !dumpFile.isBlank()) {
+            try {
+                dumpTo(Path.of(dumpFile));
+            } catch (IOException e) {
+                log.warn("Metrics dump could not be written to {}", dumpFile, e);
+            }
+        }
+    }
+
+    /**
+     * Writes the current metrics to a file.
+     *
+     * @param target target file; parent directories are created when missing
+     * @return the written file
+     * @throws IOException if the file cannot be written
+     */
+    public Path dumpTo(Path target) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(target, render(), StandardCharsets.UTF_8);
+        log.info("Metrics written to {}", target.toAbsolutePath());
+        return target;
+    }
+
+    /**
+     * Renders all meters, one measurement per line, in a Prometheus-like text format.
+     *
+     * @return rendered metrics
+     */
+    public String render() {
+        List<Meter> meters = meterRegistry.getMeters().stream()
+            .sorted(Comparator.comparing((Meter meter) -> meter.getId().getName())
+                .thenComparing(meter -> meter.getId().getTags().toString()))
+            .toList();
+
+        StringBuilder out = new StringBuilder();
+        for (Meter meter : meters) {
+            String name = meter.getId().getName().replace('.', '_');
+            String tags = meter.getId().getTags().stream()
+                .map(MetricsExporter::formatTag)
+                .collect(Collectors.joining(","));
+            for (Measurement measurement : meter.measure()) {
+                out.append(name)
+                    .append('_')
+                    .append(measurement.getStatistic().getTagValueRepresentation())
+                    .append('{').append(tags).append('}')
+                    .append(' ')
+                    .append(String.format(Locale.ROOT, "%.6f", measurement.getValue()))
+                    .append('\n');
+            }
+        }
+        return out.toString();
+    }
+
+    private static String formatTag(Tag tag) {
+        return tag.getKey() + "=\"" + tag.getValue().replace("\"", "'") + "\"";
+    }
+}
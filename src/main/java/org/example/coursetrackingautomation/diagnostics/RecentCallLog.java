@@ -0,0 +1,72 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Bounded in-memory log of the most recent service and repository calls.
+ *
+ * <p>Fed by {@link MethodTimingInterceptor}; read by the admin diagnostics view to list the slowest
+ * recent calls. Only the last {@value #CAPACITY} calls are kept.</p>
+ */
+public final class RecentCallLog {
+
+    private static final int CAPACITY = 1024;
+
+    private static final RecentCall[] BUFFER = new RecentCall[CAPACITY];
+    private static int nextIndex;
+    private static int size;
+
+    private RecentCallLog() {
+    }
+
+    /**
+     * A single recorded call.
+     *
+     * @param kind {@code service} or {@code repository}
+     * @param component component simple name
+     * @param method method name
+     * @param durationNanos call duration in nanoseconds
+     * @param finishedAt completion time
+     * @param thread name of the calling thread
+     */
+    public record RecentCall(
+        String kind,
+        String component,
+        String method,
+        long durationNanos,
+        Instant finishedAt,
+        String thread
+    ) {
+    }
+
+    static void record(String kind, String component, String method, long durationNanos) {
+        RecentCall call = new RecentCall(kind, component, method, durationNanos, Instant.now(), Thread.currentThread().getName());
+        synchronized (BUFFER) {
+            BUFFER[nextIndex] = call;
+            nextIndex = (nextIndex + 1) % CAPACITY;
+            if (size < CAPACITY) {
+                size++;
+            }
+        }
+    }
+
+    /**
+     * Returns the slowest calls among the recently recorded ones.
+     *
+     * @param limit maximum number of calls to return
+     * @return calls ordered by duration, slowest first
+     */
+    public static List<RecentCall> slowest(int limit) {
+        List<RecentCall> snapshot = new ArrayList<>(CAPACITY);
+        synchronized (BUFFER) {
+            for (int i = 0; i < size; i++) {
+                snapshot.add(BUFFER[i]);
+            }
+        }
+        snapshot.sort(Comparator.comparingLong(RecentCall::durationNanos).reversed());
+        return snapshot.size() <= limit ? snapshot : List.copyOf(snapshot.subList(0, limit));
+    }
+}
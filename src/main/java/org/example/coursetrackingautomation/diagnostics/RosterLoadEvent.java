@@ -0,0 +1,33 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name("coursetracking.RosterLoad")
+@Label("Roster Load")
+@Category({"Course Tracking", "Domain"})
+@Description("Instructor course roster loaded")
+@Setter
+/**
+ * JFR event: instructor course roster loaded.
+ *
+ * <p>Numeric identifiers are {@code 0} when unknown.</p>
+ */
+public class RosterLoadEvent extends Event {
+
+    @Label("Course Code")
+    private String courseCode;
+
+    @Label("Course Id")
+    private long courseId;
+
+    @Label("Row Count")
+    private int rowCount;
+
+    @Label("Success")
+    private boolean success;
+}
@@ -0,0 +1,37 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name("coursetracking.RosterSave")
+@Label("Roster Save")
+@Category({"Course Tracking", "Domain"})
+@Description("Instructor grade and attendance updates saved for a course")
+@Setter
+/**
+ * JFR event: instructor grade and attendance updates saved for a course.
+ *
+ * <p>Numeric identifiers are {@code 0} when unknown.</p>
+ */
+public class RosterSaveEvent extends Event {
+
+    @Label("Course Code")
+    private String courseCode;
+
+    @Label("Course Id")
+    private long courseId;
+
+    @Label("Week Number")
+    @Description("0 when no week-level presence was saved")
+    private int weekNumber;
+
+    @Label("Row Count")
+    private int rowCount;
+
+    @Label("Success")
+    private boolean success;
+}
@@ -0,0 +1,32 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name("coursetracking.ScreenLoad")
+@Label("Screen Load")
+@Category({"Course Tracking", "UI"})
+@Description("Concurrent initial load of a screen, from start until it is interactive")
+@Setter
+/**
+ * JFR event: concurrent initial load of a screen; the event duration is the time to interactive.
+ *
+ * <p>Numeric identifiers are {@code 0} when unknown.</p>
+ */
+public class ScreenLoadEvent extends Event {
+
+    @Label("Screen")
+    private String screen;
+
+    @Label("Parts")
+    @Description("Number of queries the screen load ran")
+    private int parts;
+
+    @Label("Outcome")
+    @Description("success, error, timeout or cancelled")
+    private String outcome;
+}
@@ -0,0 +1,75 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+/**
+ * A running trace span; closing it records it in {@link TraceLog} and restores the previous span of the thread.
+ *
+ * <p>Spans are created through {@link Tracer}. When tracing is disabled or no trace is active, a no-op
+ * span is returned so call sites can always use try-with-resources.</p>
+ */
+public final class Span implements AutoCloseable {
+
+    static final Span NOOP = new Span(0, 0, 0, null, null, null);
+
+    private final long traceId;
+    private final long spanId;
+    private final long parentSpanId;
+    private final String kind;
+    private final String name;
+    private final Span previous;
+    private final long startNanos;
+    private String detail;
+    private boolean error;
+
+    Span(long traceId, long spanId, long parentSpanId, String kind, String name, Span previous) {
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.kind = kind;
+        this.name = name;
+        this.previous = previous;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * @return propagation context of this span, or {@code null} for the no-op span
+     */
+    public Tracer.SpanContext context() {
+        return this == NOOP ? null : new Tracer.SpanContext(traceId, spanId);
+    }
+
+    /**
+     * Attaches free-text detail shown next to the span.
+     *
+     * @param detail detail text
+     */
+    public void setDetail(String detail) {
+        this.detail = detail;
+    }
+
+    /**
+     * Marks the span as failed.
+     */
+    public void markError() {
+        this.error = true;
+    }
+
+    @Override
+    /**
+     * Ends the span and restores the previously active span of the current thread.
+     */
+    public void close() {
+        if (this == NOOP) {
+            return;
+        }
+        Tracer.restore(previous);
+        TraceLog.record(traceId, spanId, parentSpanId, kind, name, startNanos, System.nanoTime(), detail, error);
+    }
+
+    long traceId() {
+        return traceId;
+    }
+
+    long spanId() {
+        return spanId;
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import java.util.Map;
+
+/**
+ * Result of running an action under {@link SqlStatementTracker#capture(java.util.function.Supplier)}.
+ *
+ * @param result value returned by the captured action
+ * @param statementCount number of SQL statements prepared on the calling thread
+ * @param statementsByShape statement counts keyed by normalized query shape
+ * @param <T> result type
+ */
+public record SqlCapture<T>(
+    T result,
+    int statementCount,
+    Map<String, Integer> statementsByShape
+) {
+}
@@ -0,0 +1,24 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate {@link StatementInspector} that reports every prepared SQL statement to {@link SqlStatementTracker}.
+ *
+ * <p>Registered through {@code hibernate.session_factory.statement_inspector}; Hibernate instantiates it
+ * reflectively, therefore all state lives in the static tracker. The SQL is returned unchanged.</p>
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    /**
+     * Records the statement and returns it untouched.
+     *
+     * @param sql SQL prepared by Hibernate
+     * @return the same SQL
+     */
+    public String inspect(String sql) {
+        SqlStatementTracker.record(sql);
+        return sql;
+    }
+}
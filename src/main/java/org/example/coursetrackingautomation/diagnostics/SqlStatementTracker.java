@@ -0,0 +1,164 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+/**
+ * Counts SQL statements per thread and per transaction.
+ *
+ * <p>Two kinds of scopes are maintained:</p>
+ * <ul>
+ *     <li>Capture scopes opened explicitly via {@link #capture(Supplier)}, used to enforce statement budgets.</li>
+ *     <li>Transaction scopes opened implicitly for the active Spring transaction, used by the N+1 detector.
+ *     When one transaction prepares the same normalized query shape more than the configured threshold,
+ *     a warning is logged once per shape together with the stack trace of the offending call.</li>
+ * </ul>
+ */
+public final class SqlStatementTracker {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final ThreadLocal<Deque<CaptureScope>> CAPTURES = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ThreadLocal<TransactionScope> TRANSACTION = new ThreadLocal<>();
+
+    private static volatile boolean nPlusOneDetectionEnabled = true;
+    private static volatile int repeatThreshold = 10;
+
+    private SqlStatementTracker() {
+    }
+
+    /**
+     * Configures the N+1 detector.
+     *
+     * @param enabled whether transaction scopes should be tracked
+     * @param threshold maximum allowed repetitions of one query shape per transaction
+     */
+    public static void configure(boolean enabled, int threshold) {
+        nPlusOneDetectionEnabled = enabled;
+        repeatThreshold = Math.max(1, threshold);
+    }
+
+    /**
+     * Runs an action and counts the statements it prepares on the current thread.
+     *
+     * <p>Scopes may be nested; a statement is counted in every open scope.</p>
+     *
+     * @param action action to run
+     * @param <T> result type
+     * @return the action result together with statement counts
+     */
+    public static <T> SqlCapture<T> capture(Supplier<T> action) {
+        Objects.requireNonNull(action, "action");
+
+        CaptureScope scope = new CaptureScope();
+        Deque<CaptureScope> captures = CAPTURES.get();
+        captures.push(scope);
+        try {
+            T result = action.get();
+            return new SqlCapture<>(result, scope.total, Map.copyOf(scope.byShape));
+        } finally {
+            captures.remove(scope);
+            if (captures.isEmpty()) {
+                CAPTURES.remove();
+            }
+        }
+    }
+
+    /**
+     * Normalizes a SQL string to its query shape by replacing literals and collapsing IN lists.
+     *
+     * @param sql raw SQL
+     * @return normalized shape
+     */
+    public static String normalize(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        shape = WHITESPACE.matcher(shape).replaceAll(" ");
+        return shape.trim().toLowerCase(Locale.ROOT);
+    }
+
+    static void record(String sql) {
+        Deque<CaptureScope> captures = CAPTURES.get();
+        TransactionScope transaction = currentTransactionScope();
+        if (captures.isEmpty() && transaction == null) {
+            CAPTURES.remove();
+            return;
+        }
+
+        String shape = normalize(sql);
+        for (CaptureScope capture : captures) {
+            capture.record(shape);
+        }
+        if (transaction != null) {
+            transaction.record(shape);
+        }
+    }
+
+    private static TransactionScope currentTransactionScope() {
+        if (!nPlusOneDetectionEnabled || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+
+        TransactionScope scope = TRANSACTION.get();
+        if (scope == null) {
+            TransactionScope created = new TransactionScope(TransactionSynchronizationManager.getCurrentTransactionName());
+            TRANSACTION.set(created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TRANSACTION.remove();
+                }
+            });
+            scope = created;
+        }
+        return scope;
+    }
+
+    private static final class CaptureScope {
+        private final Map<String, Integer> byShape = new HashMap<>();
+        private int total;
+
+        private void record(String shape) {
+            total++;
+            byShape.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    private static final class TransactionScope {
+        private final String transactionName;
+        private final Map<String, Integer> byShape = new HashMap<>();
+        private final Set<String> reported = new HashSet<>();
+
+        private TransactionScope(String transactionName) {
+            this.transactionName = transactionName;
+        }
+
+        private void record(String shape) {
+            int count = byShape.merge(shape, 1, Integer::sum);
+            int threshold = repeatThreshold;
+            if (count > threshold && reported.add(shape)) {
+                log.warn("Possible N+1: query shape executed {} times in transaction '{}' (threshold {}): {}",
+                    count, transactionName, threshold, shape, new Throwable("N+1 query call site"));
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Bounded in-memory store of finished trace spans.
+ *
+ * <p>Fed by {@link Tracer}; read by the admin diagnostics view and the diagnostics snapshot bundle.
+ * Only the last {@value #CAPACITY} spans are kept, so old traces may be incomplete.</p>
+ */
+public final class TraceLog {
+
+    private static final int CAPACITY = 8192;
+
+    private static final FinishedSpan[] BUFFER = new FinishedSpan[CAPACITY];
+    private static int nextIndex;
+    private static int size;
+
+    private TraceLog() {
+    }
+
+    /**
+     * A finished span.
+     *
+     * @param traceId trace identifier
+     * @param spanId span identifier
+     * @param parentSpanId parent span identifier, {@code 0} for roots
+     * @param kind span kind ({@code ui}, {@code queue}, {@code task}, {@code service}, {@code repository}, {@code sql}, ...)
+     * @param name span name
+     * @param startNanos {@link System#nanoTime()} at span start
+     * @param durationNanos span duration in nanoseconds
+     * @param startedAt wall-clock start time
+     * @param thread name of the thread that finished the span
+     * @param detail optional detail text
+     * @param error whether the span failed
+     */
+    public record FinishedSpan(
+        long traceId,
+        long spanId,
+        long parentSpanId,
+        String kind,
+        String name,
+        long startNanos,
+        long durationNanos,
+        Instant startedAt,
+        String thread,
+        String detail,
+        boolean error
+    ) {
+    }
+
+    /**
+     * Summary of one recorded trace.
+     *
+     * @param traceId trace identifier
+     * @param rootName name of the root span
+     * @param startedAt wall-clock start of the earliest span
+     * @param durationNanos time from the earliest span start to the latest span end
+     * @param spanCount number of recorded spans
+     * @param selfNanosByKind exclusive time per span kind (time not covered by nested child spans)
+     * @param sqlStatements number of SQL spans
+     */
+    public record TraceSummary(
+        long traceId,
+        String rootName,
+        Instant startedAt,
+        long durationNanos,
+        int spanCount,
+        Map<String, Long> selfNanosByKind,
+        int sqlStatements
+    ) {
+    }
+
+    static void record(long traceId, long spanId, long parentSpanId, String kind, String name,
+                       long startNanos, long endNanos, String detail, boolean error) {
+        long durationNanos = Math.max(0, endNanos - startNanos);
+        Instant startedAt = Instant.now().minusNanos(System.nanoTime() - startNanos);
+        FinishedSpan span = new FinishedSpan(traceId, spanId, parentSpanId, kind, name, startNanos, durationNanos,
+            startedAt, Thread.currentThread().getName(), detail, error);
+        synchronized (BUFFER) {
+            BUFFER[nextIndex] = span;
+            nextIndex = (nextIndex + 1) % CAPACITY;
+            if (size < CAPACITY) {
+                size++;
+            }
+        }
+    }
+
+    /**
+     * Returns summaries of the most recent traces.
+     *
+     * @param limit maximum number of traces
+     * @return trace summaries, most recent first
+     */
+    public static List<TraceSummary> recentTraces(int limit) {
+        Map<Long, List<FinishedSpan>> traces = groupByTrace();
+        List<TraceSummary> summaries = new ArrayList<>();
+        List<Long> traceIds = new ArrayList<>(traces.keySet());
+        for (int i = traceIds.size() - 1; i >= 0 && summaries.size() < limit; i--) {
+            summaries.add(summarize(traceIds.get(i), traces.get(traceIds.get(i))));
+        }
+        return summaries;
+    }
+
+    /**
+     * Renders the most recent traces as indented span trees.
+     *
+     * @param limit maximum number of traces
+     * @return plain-text rendering
+     */
+    public static String render(int limit) {
+        Map<Long, List<FinishedSpan>> traces = groupByTrace();
+        List<Long> traceIds = new ArrayList<>(traces.keySet());
+        StringBuilder out = new StringBuilder();
+        for (int i = traceIds.size() - 1, rendered = 0; i >= 0 && rendered < limit; i--, rendered++) {
+            List<FinishedSpan> spans = traces.get(traceIds.get(i));
+            TraceSummary summary = summarize(traceIds.get(i), spans);
+            out.append(String.format(Locale.ROOT, "trace %d %s %s %.1f ms%n",
+                summary.traceId(), summary.rootName(), summary.startedAt(), summary.durationNanos() / 1_000_000.0));
+            long traceStart = spans.stream().mapToLong(FinishedSpan::startNanos).min().orElse(0);
+            renderChildren(out, spans, 0, traceStart, 1);
+            out.append(System.lineSeparator());
+        }
+        return out.toString();
+    }
+
+    private static Map<Long, List<FinishedSpan>> groupByTrace() {
+        Map<Long, List<FinishedSpan>> traces = new TreeMap<>();
+        synchronized (BUFFER) {
+            for (int i = 0; i < size; i++) {
+                FinishedSpan span = BUFFER[i];
+                traces.computeIfAbsent(span.traceId(), ignored -> new ArrayList<>()).add(span);
+            }
+        }
+        return traces;
+    }
+
+    private static TraceSummary summarize(long traceId, List<FinishedSpan> spans) {
+        long start = Long.MAX_VALUE;
+        long end = Long.MIN_VALUE;
+        FinishedSpan root = null;
+        int sqlStatements = 0;
+        for (FinishedSpan span : spans) {
+            start = Math.min(start, span.startNanos());
+            end = Math.max(end, span.startNanos() + span.durationNanos());
+            if (root == null || span.startNanos() < root.startNanos()) {
+                root = span;
+            }
+            if ("sql".equals(span.kind())) {
+                sqlStatements++;
+            }
+        }
+
+        Map<String, Long> selfNanosByKind = new LinkedHashMap<>();
+        for (FinishedSpan span : spans) {
+            long self = span.durationNanos();
+            for (FinishedSpan child : spans) {
+                if (child.parentSpanId() == span.spanId() && isNested(child, span)) {
+                    self -= child.durationNanos();
+                }
+            }
+            selfNanosByKind.merge(span.kind(), Math.max(0, self), Long::sum);
+        }
+
+        Instant startedAt = root == null ? Instant.now() : root.startedAt();
+        String rootName = root == null ? "-" : root.name();
+        return new TraceSummary(traceId, rootName, startedAt, Math.max(0, end - start), spans.size(), selfNanosByKind, sqlStatements);
+    }
+
+    private static boolean isNested(FinishedSpan child, FinishedSpan parent) {
+        return child.startNanos() >= parent.startNanos()
+            && child.startNanos() + child.durationNanos() <= parent.startNanos() + parent.durationNanos();
+    }
+
+    private static void renderChildren(StringBuilder out, List<FinishedSpan> spans, long parentSpanId, long traceStart, int depth) {
+        List<FinishedSpan> children = new ArrayList<>();
+        for (FinishedSpan span : spans) {
+            if (span.parentSpanId() == parentSpanId
+                || (parentSpanId == 0 && spans.stream().noneMatch(candidate -> candidate.spanId() == span.parentSpanId()))) {
+                children.add(span);
+            }
+        }
+        children.sort(Comparator.comparingLong(FinishedSpan::startNanos));
+        for (FinishedSpan child : children) {
+            out.append("  ".repeat(depth))
+                .append(String.format(Locale.ROOT, "+%.1f ms [%s] %s %.1f ms (%s)%s%s",
+                    (child.startNanos() - traceStart) / 1_000_000.0,
+                    child.kind(),
+                    child.name(),
+                    child.durationNanos() / 1_000_000.0,
+                    child.thread(),
+                    child.error() ? " HATA" : "",
+                    child.detail() == null ? "" : " " + child.detail()))
+                .append(System.lineSeparator());
+            renderChildren(out, spans, child.spanId(), traceStart, depth + 1);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Minimal in-process tracer correlating a UI action with the background work, service calls and SQL it causes.
+ *
+ * <p>A trace is started at a coordinator action with {@link #startTrace(String, String)}. The active span
+ * is kept per thread; {@link #currentContext()} captures it so it can be resumed on another thread
+ * (see {@code FxAsync}). Service and repository calls ({@link MethodTimingInterceptor}) and JDBC statements
+ * ({@link TracingDataSource}) only create spans while a trace is active, so untraced work has no overhead
+ * beyond a thread-local lookup. Finished spans are kept in {@link TraceLog}.</p>
+ */
+public final class Tracer {
+
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+    private static final AtomicLong IDS = new AtomicLong();
+
+    private static volatile boolean enabled;
+
+    private Tracer() {
+    }
+
+    /**
+     * Identifies a span so that child spans can be created on other threads.
+     *
+     * @param traceId trace identifier
+     * @param spanId parent span identifier
+     */
+    public record SpanContext(long traceId, long spanId) {
+    }
+
+    /**
+     * Enables or disables tracing.
+     *
+     * @param tracingEnabled whether spans should be recorded
+     */
+    public static void configure(boolean tracingEnabled) {
+        enabled = tracingEnabled;
+    }
+
+    /**
+     * Starts a span that becomes the root of a new trace, or a child if a trace is already active on this thread.
+     *
+     * @param kind span kind, e.g. {@code ui}
+     * @param name span name, e.g. {@code InstructorDashboard.saveRoster}
+     * @return the started span; must be closed on the same thread
+     */
+    public static Span startTrace(String kind, String name) {
+        if (!enabled) {
+            return Span.NOOP;
+        }
+        Span parent = CURRENT.get();
+        long traceId = parent == null ? IDS.incrementAndGet() : parent.traceId();
+        long parentSpanId = parent == null ? 0 : parent.spanId();
+        return activate(new Span(traceId, IDS.incrementAndGet(), parentSpanId, kind, name, parent));
+    }
+
+    /**
+     * Starts a child span of the span active on this thread; returns a no-op span if no trace is active.
+     *
+     * @param kind span kind
+     * @param name span name
+     * @return the started span; must be closed on the same thread
+     */
+    public static Span startSpan(String kind, String name) {
+        Span parent = CURRENT.get();
+        if (!enabled || parent == null) {
+            return Span.NOOP;
+        }
+        return activate(new Span(parent.traceId(), IDS.incrementAndGet(), parent.spanId(), kind, name, parent));
+    }
+
+    /**
+     * Starts a child span of a context captured on another thread.
+     *
+     * @param parent captured context, may be {@code null}
+     * @param kind span kind
+     * @param name span name
+     * @return the started span, or a no-op span if {@code parent} is {@code null}
+     */
+    public static Span resume(SpanContext parent, String kind, String name) {
+        if (!enabled || parent == null) {
+            return Span.NOOP;
+        }
+        return activate(new Span(parent.traceId(), IDS.incrementAndGet(), parent.spanId(), kind, name, CURRENT.get()));
+    }
+
+    /**
+     * Records an already finished interval as a child span, e.g. queue wait time.
+     *
+     * @param parent parent context, may be {@code null}
+     * @param kind span kind
+     * @param name span name
+     * @param startNanos {@link System#nanoTime()} at the start of the interval
+     * @param endNanos {@link System#nanoTime()} at the end of the interval
+     * @param detail optional detail text
+     */
+    public static void recordSpan(SpanContext parent, String kind, String name, long startNanos, long endNanos, String detail) {
+        if (!enabled || parent == null) {
+            return;
+        }
+        TraceLog.record(parent.traceId(), IDS.incrementAndGet(), parent.spanId(), kind, name, startNanos, endNanos, detail, false);
+    }
+
+    /**
+     * @return context of the span active on this thread, or {@code null}
+     */
+    public static SpanContext currentContext() {
+        Span current = CURRENT.get();
+        return current == null ? null : current.context();
+    }
+
+    /**
+     * @return {@code true} if a trace is active on this thread
+     */
+    public static boolean isActive() {
+        return enabled && CURRENT.get() != null;
+    }
+
+    static void restore(Span previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    private static Span activate(Span span) {
+        CURRENT.set(span);
+        return span;
+    }
+}
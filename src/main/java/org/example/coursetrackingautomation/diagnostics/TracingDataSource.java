@@ -0,0 +1,100 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Data source wrapper that records a {@code sql} span for every statement executed while a trace is active.
+ *
+ * <p>Connections and statements obtained while a trace is active are wrapped in JDK proxies; the span name
+ * is the normalized statement ({@link SqlStatementTracker#normalize(String)}) and the span covers the JDBC
+ * {@code execute*} call. Connections and statements obtained without an active trace are returned
+ * unwrapped, so untraced work does not pay for the reflective proxy calls.</p>
+ */
+public class TracingDataSource extends DelegatingDataSource {
+
+    private static final int MAX_SPAN_NAME_LENGTH = 160;
+
+    /**
+     * Wraps the given data source.
+     *
+     * @param targetDataSource pool to delegate to
+     */
+    public TracingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        if (!Tracer.isActive()) {
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(
+            TracingDataSource.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+                Object result = invoke(connection, method, args);
+                if (result instanceof Statement statement && Tracer.isActive()) {
+                    String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                    return wrapStatement(statement, sql);
+                }
+                return result;
+            }
+        );
+    }
+
+    private static Statement wrapStatement(Statement statement, String preparedSql) {
+        Class<?> statementType = statement instanceof CallableStatement ? CallableStatement.class
+            : statement instanceof PreparedStatement ? PreparedStatement.class
+            : Statement.class;
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute") || !Tracer.isActive()) {
+                return invoke(statement, method, args);
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            try (Span span = Tracer.startSpan("sql", spanName(sql, method.getName()))) {
+                try {
+                    return invoke(statement, method, args);
+                } catch (SQLException | RuntimeException e) {
+                    span.markError();
+                    throw e;
+                }
+            }
+        };
+        return (Statement) Proxy.newProxyInstance(TracingDataSource.class.getClassLoader(), new Class<?>[] {statementType}, handler);
+    }
+
+    private static String spanName(String sql, String methodName) {
+        if (sql == null) {
+            return methodName;
+        }
+        String normalized = SqlStatementTracker.normalize(sql);
+        return normalized.length() <= MAX_SPAN_NAME_LENGTH ? normalized : normalized.substring(0, MAX_SPAN_NAME_LENGTH) + "...";
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name("coursetracking.TranscriptLoad")
+@Label("Transcript Load")
+@Category({"Course Tracking", "Domain"})
+@Description("Transcript rows loaded for a student")
+@Setter
+/**
+ * JFR event: transcript rows loaded for a student.
+ *
+ * <p>Numeric identifiers are {@code 0} when unknown.</p>
+ */
+public class TranscriptLoadEvent extends Event {
+
+    @Label("Student Id")
+    private long studentId;
+
+    @Label("Row Count")
+    private int rowCount;
+
+    @Label("Success")
+    private boolean success;
+}
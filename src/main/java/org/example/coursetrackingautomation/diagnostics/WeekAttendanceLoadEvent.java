@@ -0,0 +1,36 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import lombok.Setter;
+
+@Name("coursetracking.WeekAttendanceLoad")
+@Label("Week Attendance Load")
+@Category({"Course Tracking", "Domain"})
+@Description("Attendance flags of one week loaded for a set of enrollments")
+@Setter
+/**
+ * JFR event: attendance flags of one week loaded for a set of enrollments.
+ *
+ * <p>Numeric identifiers are {@code 0} when unknown.</p>
+ */
+public class WeekAttendanceLoadEvent extends Event {
+
+    @Label("Course Id")
+    private long courseId;
+
+    @Label("Week Number")
+    private int weekNumber;
+
+    @Label("Enrollment Count")
+    private int enrollmentCount;
+
+    @Label("Record Count")
+    private int recordCount;
+
+    @Label("Success")
+    private boolean success;
+}
@@ -0,0 +1,30 @@
+package org.example.coursetrackingautomation.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Read model of a student's persisted academic totals.
+ *
+ * @param studentId student identifier
+ * @param term term name, or {@code *} for the cumulative summary
+ * @param qualityPoints sum of grade points multiplied by course credit
+ * @param attemptedCredits credits counted in the GPA
+ * @param earnedCredits credits of passed courses
+ * @param gpa grade point average (2 decimal places)
+ */
+public record AcademicSummaryDTO(
+    Long studentId,
+    String term,
+    BigDecimal qualityPoints,
+    int attemptedCredits,
+    int earnedCredits,
+    BigDecimal gpa
+) {
+
+    /**
+     * @return GPA formatted with 2 decimal places, e.g. {@code 3.25}
+     */
+    public String gpaText() {
+        return gpa == null ? "0.00" : gpa.toPlainString();
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.coursetrackingautomation.dto;
+
+import java.time.LocalDateTime;
+import org.example.coursetrackingautomation.entity.AttendanceRiskLevel;
+
+/**
+ * Row model for the admin attendance risk report.
+ *
+ * @param enrollmentId enrollment identifier
+ * @param studentId student identifier
+ * @param courseId course identifier
+ * @param studentName student display name
+ * @param courseDisplay course display text (code and name)
+ * @param level risk level
+ * @param absentHours absent hours
+ * @param totalHours total hours of the term
+ * @param detectedAt time the current level was first detected
+ */
+public record AdminAttendanceRiskRowDTO(
+    Long enrollmentId,
+    Long studentId,
+    Long courseId,
+    String studentName,
+    String courseDisplay,
+    AttendanceRiskLevel level,
+    Integer absentHours,
+    Integer totalHours,
+    LocalDateTime detectedAt
+) {
+}
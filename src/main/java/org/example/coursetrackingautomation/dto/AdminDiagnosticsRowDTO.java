@@ -0,0 +1,17 @@
+package org.example.coursetrackingautomation.dto;
+
+/**
+ * Row used by the admin diagnostics view.
+ *
+ * @param category metric group shown in the first column (e.g. slow calls, connection pool)
+ * @param metric metric name
+ * @param value formatted current value
+ * @param detail optional additional context
+ */
+public record AdminDiagnosticsRowDTO(
+    String category,
+    String metric,
+    String value,
+    String detail
+) {
+}
@@ -4,4 +4,17 @@ package org.example.coursetrackingautomation.dto;
  * Aggregated statistics displayed on the admin dashboard.
  */
 public record AdminStatistics(long totalUsers, long totalCourses, long activeEnrollments) {
+
+    /**
+     * Returns the statistics adjusted by the given changes, used to keep the dashboard counters current from
+     * domain events without re-counting.
+     *
+     * @param users change of the user count
+     * @param courses change of the course count
+     * @param enrollments change of the active enrollment count
+     * @return adjusted statistics
+     */
+    public AdminStatistics plus(long users, long courses, long enrollments) {
+        return new AdminStatistics(totalUsers + users, totalCourses + courses, activeEnrollments + enrollments);
+    }
 }
@@ -0,0 +1,15 @@
+package org.example.coursetrackingautomation.dto;
+
+/**
+ * One cell of the attendance matrix: the presence of an enrollment in a week.
+ *
+ * @param enrollmentId enrollment identifier
+ * @param weekNumber week number
+ * @param present whether the student attended
+ */
+public record AttendanceCellDTO(
+    Long enrollmentId,
+    int weekNumber,
+    boolean present
+) {
+}
@@ -0,0 +1,58 @@
+package org.example.coursetrackingautomation.dto;
+
+import java.util.List;
+
+/**
+ * Students × weeks attendance of a course.
+ *
+ * <p>Each row keeps the term's marks as two week bitsets (bit {@code week - 1}): one for marked weeks and
+ * one for weeks marked present.</p>
+ *
+ * @param courseId course identifier
+ * @param courseCode course code
+ * @param weekCount number of weeks in the term
+ * @param rows one row per enrollment, ordered by student name
+ */
+public record AttendanceMatrixDTO(
+    Long courseId,
+    String courseCode,
+    int weekCount,
+    List<Row> rows
+) {
+
+    /**
+     * Attendance of one enrollment over the term.
+     *
+     * @param enrollmentId enrollment identifier
+     * @param studentId student identifier
+     * @param studentName student full name
+     * @param markedWeeks bitset of weeks with recorded attendance
+     * @param presentWeeks bitset of weeks marked present
+     * @param absentHours total absent hours
+     * @param absentCritically whether the absent hours reached the critical threshold
+     */
+    public record Row(
+        Long enrollmentId,
+        Long studentId,
+        String studentName,
+        int markedWeeks,
+        int presentWeeks,
+        int absentHours,
+        boolean absentCritically
+    ) {
+
+        /**
+         * Returns the presence of the student in a week.
+         *
+         * @param weekNumber week number (1-based)
+         * @return {@code true}/{@code false} if marked, {@code null} if the week is not marked
+         */
+        public Boolean presence(int weekNumber) {
+            int bit = 1 << (weekNumber - 1);
+            if ((markedWeeks & bit) == 0) {
+                return null;
+            }
+            return (presentWeeks & bit) != 0;
+        }
+    }
+}
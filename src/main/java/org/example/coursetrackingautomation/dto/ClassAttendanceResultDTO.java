@@ -0,0 +1,17 @@
+package org.example.coursetrackingautomation.dto;
+
+/**
+ * Attendance of one student after a whole-class week has been marked.
+ *
+ * @param studentId student identifier
+ * @param present whether the student was marked present for the week
+ * @param absentHours total absent hours after the update
+ * @param absentCritically whether the absent hours reached the critical threshold
+ */
+public record ClassAttendanceResultDTO(
+    Long studentId,
+    boolean present,
+    int absentHours,
+    boolean absentCritically
+) {
+}
@@ -0,0 +1,23 @@
+package org.example.coursetrackingautomation.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Class rank of a student within a cohort.
+ *
+ * @param studentId student identifier
+ * @param term cohort term, or {@code *} for the cumulative ranking
+ * @param gpa GPA used for ranking
+ * @param rank competition rank (1 = highest GPA; equal GPAs share a rank)
+ * @param cohortSize number of ranked students in the cohort
+ * @param percentile share of the cohort with a GPA at or below this student's GPA (0–100)
+ */
+public record ClassRankDTO(
+    Long studentId,
+    String term,
+    BigDecimal gpa,
+    int rank,
+    int cohortSize,
+    double percentile
+) {
+}
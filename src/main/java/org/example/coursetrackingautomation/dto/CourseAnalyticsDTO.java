@@ -0,0 +1,27 @@
+package org.example.coursetrackingautomation.dto;
+
+import java.util.Map;
+
+/**
+ * Grade statistics of a course, computed from stored average scores.
+ *
+ * @param courseId course identifier
+ * @param enrolledCount number of active enrollments
+ * @param gradedCount number of enrollments with a letter grade
+ * @param mean mean average score, or {@code null} if nothing is graded
+ * @param median median average score, or {@code null} if nothing is graded
+ * @param standardDeviation population standard deviation of average scores, or {@code null} if nothing is graded
+ * @param passRate share of graded enrollments that passed (0–100), or {@code null} if nothing is graded
+ * @param letterGradeHistogram number of enrollments per letter grade, ordered from {@code AA} to {@code FF}
+ */
+public record CourseAnalyticsDTO(
+    Long courseId,
+    long enrolledCount,
+    long gradedCount,
+    Double mean,
+    Double median,
+    Double standardDeviation,
+    Double passRate,
+    Map<String, Long> letterGradeHistogram
+) {
+}
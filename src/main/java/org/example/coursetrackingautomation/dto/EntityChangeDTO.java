@@ -0,0 +1,35 @@
+package org.example.coursetrackingautomation.dto;
+
+/**
+ * Row-level change announced by the change feed.
+ *
+ * @param entityType one of the {@code TYPE_*} constants
+ * @param entityId id of the changed row; the enrollment id for grades
+ * @param scopeId course id for enrollments and grades, otherwise {@code null}
+ * @param deleted whether the row was deleted
+ */
+public record EntityChangeDTO(
+    String entityType,
+    Long entityId,
+    Long scopeId,
+    boolean deleted
+) {
+    public static final String TYPE_USER = "USER";
+    public static final String TYPE_COURSE = "COURSE";
+    public static final String TYPE_ENROLLMENT = "ENROLLMENT";
+    public static final String TYPE_GRADE = "GRADE";
+
+    /**
+     * Tells whether the change affects a row of the given course (the course itself, one of its enrollments
+     * or grades).
+     *
+     * @param courseId course identifier
+     * @return whether the change is scoped to the course
+     */
+    public boolean affectsCourse(Long courseId) {
+        if (courseId == null) {
+            return false;
+        }
+        return TYPE_COURSE.equals(entityType) ? courseId.equals(entityId) : courseId.equals(scopeId);
+    }
+}
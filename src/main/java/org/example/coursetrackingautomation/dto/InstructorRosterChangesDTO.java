@@ -0,0 +1,17 @@
+package org.example.coursetrackingautomation.dto;
+
+import java.util.Map;
+
+/**
+ * Roster rows of a course that changed since a client watermark.
+ *
+ * @param course current course details
+ * @param rows changed roster rows keyed by student id; {@code deletedIds} are enrollment ids
+ * @param enrollmentIdByStudentId enrollment ids of the students in {@code rows.upserts()}
+ */
+public record InstructorRosterChangesDTO(
+    CourseDTO course,
+    SyncDeltaDTO<GradeDTO> rows,
+    Map<Long, Long> enrollmentIdByStudentId
+) {
+}
@@ -0,0 +1,13 @@
+package org.example.coursetrackingautomation.dto;
+
+/**
+ * An autosaved edit that was not applied.
+ *
+ * @param edit rejected edit
+ * @param reason user-facing reason
+ */
+public record RosterEditConflictDTO(
+    RosterEditDTO edit,
+    String reason
+) {
+}
@@ -0,0 +1,52 @@
+package org.example.coursetrackingautomation.dto;
+
+/**
+ * One instructor edit of a roster cell, as queued by the autosave pipeline.
+ *
+ * <p>Values are carried as numbers so that every field fits one journal line: absent hours are whole
+ * numbers and presence is {@code 1} (present) or {@code 0} (absent). {@code expected} is the persisted value
+ * the edit was made against; a score or absent hours edit conflicts when the stored value has changed in
+ * the meantime. Presence edits are not checked.</p>
+ *
+ * @param studentId student identifier
+ * @param field edited cell
+ * @param weekNumber week of a presence edit; {@code 0} for the other fields
+ * @param value new value; a {@code null} score is ignored
+ * @param expected persisted value the edit is based on, may be {@code null}
+ */
+public record RosterEditDTO(
+    Long studentId,
+    RosterEditField field,
+    int weekNumber,
+    Double value,
+    Double expected
+) {
+
+    /**
+     * Creates a presence edit.
+     *
+     * @param studentId student identifier
+     * @param weekNumber week number
+     * @param present new presence
+     * @param savedPresent persisted presence, may be {@code null}
+     * @return the edit
+     */
+    public static RosterEditDTO presence(Long studentId, int weekNumber, boolean present, Boolean savedPresent) {
+        return new RosterEditDTO(studentId, RosterEditField.PRESENT, weekNumber, present ? 1.0 : 0.0,
+            savedPresent == null ? null : savedPresent ? 1.0 : 0.0);
+    }
+
+    /**
+     * @return {@code true} if applying the edit would not change the persisted value
+     */
+    public boolean isNoOp() {
+        return value == null ? expected == null : value.equals(expected);
+    }
+
+    /**
+     * @return presence value of a {@link RosterEditField#PRESENT} edit
+     */
+    public boolean present() {
+        return value != null && value != 0.0;
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.coursetrackingautomation.dto;
+
+/**
+ * Roster cell an instructor edit applies to.
+ *
+ * <p>Scores and absent hours belong to the enrollment; presence belongs to one week of it.</p>
+ */
+public enum RosterEditField {
+    MIDTERM,
+    FINAL,
+    ABSENT_HOURS,
+    PRESENT
+}
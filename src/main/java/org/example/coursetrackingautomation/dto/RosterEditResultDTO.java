@@ -0,0 +1,18 @@
+package org.example.coursetrackingautomation.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of applying one batch of roster edits.
+ *
+ * @param rows persisted grade and attendance state of every student the batch touched, including students
+ *             whose edits conflicted
+ * @param cells presence cells written
+ * @param conflicts edits that were not applied
+ */
+public record RosterEditResultDTO(
+    List<GradeDTO> rows,
+    List<AttendanceCellDTO> cells,
+    List<RosterEditConflictDTO> conflicts
+) {
+}
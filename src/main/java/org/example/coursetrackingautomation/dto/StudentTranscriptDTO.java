@@ -0,0 +1,16 @@
+package org.example.coursetrackingautomation.dto;
+
+import java.util.List;
+
+/**
+ * Composite payload for transcript screens.
+ *
+ * <p>Contains the transcript rows, the cumulative academic summary shown in the header and the
+ * cumulative class rank ({@code null} while the student has no GPA).
+ */
+public record StudentTranscriptDTO(
+    List<GradeDTO> grades,
+    AcademicSummaryDTO summary,
+    ClassRankDTO cumulativeRank
+) {
+}
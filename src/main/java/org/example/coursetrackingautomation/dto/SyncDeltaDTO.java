@@ -0,0 +1,38 @@
+package org.example.coursetrackingautomation.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Rows of a table that changed since a client watermark.
+ *
+ * <p>Clients merge {@code upserts} by key into the rows they hold and remove the {@code deletedIds}; when
+ * {@code complete} is set the upserts are the whole table and replace the held rows. The returned
+ * {@code watermark} is passed back on the next request. Deltas may repeat rows already merged, so merging
+ * must be idempotent.</p>
+ *
+ * @param upserts rows created or updated since the watermark, or all rows if {@code complete}
+ * @param deletedIds keys of rows deleted (or no longer matching the request) since the watermark
+ * @param watermark watermark for the next request
+ * @param complete whether {@code upserts} is a full snapshot
+ * @param <T> row type
+ */
+public record SyncDeltaDTO<T>(
+    List<T> upserts,
+    List<Long> deletedIds,
+    LocalDateTime watermark,
+    boolean complete
+) {
+
+    /**
+     * Creates a full snapshot.
+     *
+     * @param rows all rows
+     * @param watermark watermark for the next request
+     * @param <T> row type
+     * @return complete delta
+     */
+    public static <T> SyncDeltaDTO<T> snapshot(List<T> rows, LocalDateTime watermark) {
+        return new SyncDeltaDTO<>(rows, List.of(), watermark, true);
+    }
+}
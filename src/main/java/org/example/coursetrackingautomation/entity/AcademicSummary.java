@@ -0,0 +1,66 @@
+package org.example.coursetrackingautomation.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Persisted academic totals of a student, either for one term or cumulative.
+ *
+ * <p>Holds the sums needed to derive the GPA without walking all enrollments: quality points
+ * (grade points multiplied by credit), credits counted in the GPA (attempted) and credits of passed
+ * courses (earned). Rows are maintained incrementally whenever a grade or an enrollment status
+ * changes and can be rebuilt from enrollments at any time.
+ *
+ * <p>The cumulative row of a student uses {@link #CUMULATIVE_TERM} as its term.
+ */
+@Entity
+@Table(
+    name = "academic_summaries",
+    uniqueConstraints = @UniqueConstraint(name = "uk_academic_summary_student_term", columnNames = {"student_id", "term"})
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class AcademicSummary extends BaseEntity {
+    public static final String CUMULATIVE_TERM = "*";
+    public static final int QUALITY_POINTS_PRECISION = 12;
+    public static final int GPA_PRECISION = 4;
+    public static final int GPA_SCALE = 2;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", nullable = false)
+    @ToString.Exclude
+    private User student;
+
+    @Column(name = "term", nullable = false, length = Course.MAX_TERM_LENGTH)
+    private String term;
+
+    @Column(name = "quality_points", nullable = false, precision = QUALITY_POINTS_PRECISION, scale = GPA_SCALE)
+    private BigDecimal qualityPoints;
+
+    @Column(name = "attempted_credits", nullable = false)
+    private Integer attemptedCredits;
+
+    @Column(name = "earned_credits", nullable = false)
+    private Integer earnedCredits;
+
+    @Column(name = "gpa", nullable = false, precision = GPA_PRECISION, scale = GPA_SCALE)
+    private BigDecimal gpa;
+}
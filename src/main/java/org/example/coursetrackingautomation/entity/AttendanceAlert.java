@@ -0,0 +1,67 @@
+package org.example.coursetrackingautomation.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Persisted attendance alert of an active enrollment at warning or critical level.
+ *
+ * <p>Enrollments below the warning threshold have no row. Rows are written by a set-based scan over all
+ * active enrollments and kept up to date incrementally when instructors save attendance.
+ *
+ * <p>The enrollment, student and course are stored as plain identifiers (no foreign keys) so that deleting
+ * enrollments, courses or users is not blocked by alerts; reports join to live enrollments and the next scan
+ * removes orphaned rows.
+ */
+@Entity
+@Table(
+    name = "attendance_alerts",
+    indexes = {
+        @Index(name = "idx_attendance_alert_level", columnList = "level"),
+        @Index(name = "idx_attendance_alert_course", columnList = "course_id")
+    }
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class AttendanceAlert extends BaseEntity {
+    public static final int LEVEL_MAX_LENGTH = 16;
+
+    @Column(name = "enrollment_id", nullable = false, unique = true)
+    private Long enrollmentId;
+
+    @Column(name = "student_id", nullable = false)
+    private Long studentId;
+
+    @Column(name = "course_id", nullable = false)
+    private Long courseId;
+
+    @Column(name = "level", nullable = false, length = LEVEL_MAX_LENGTH)
+    @Enumerated(EnumType.STRING)
+    private AttendanceRiskLevel level;
+
+    @Column(name = "absent_hours", nullable = false)
+    private Integer absentHours;
+
+    @Column(name = "total_hours", nullable = false)
+    private Integer totalHours;
+
+    @Column(name = "detected_at", nullable = false)
+    private LocalDateTime detectedAt;
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDate;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,9 +22,15 @@ import lombok.ToString;
  * <p>Attendance is tracked as a week number and a boolean presence flag, along with the calendar
  * date of the session. Aggregations (e.g., absenteeism counts and warning thresholds) are computed
  * in service-layer logic.
+ *
+ * <p>At most one record exists per enrollment and week; the unique constraint backing the attendance upserts
+ * is enforced at startup by {@code AttendanceRecordSchemaInitializer}.
  */
 @Entity
-@Table(name = "attendance_records")
+@Table(
+    name = "attendance_records",
+    uniqueConstraints = @UniqueConstraint(name = "uk_attendance_record_enrollment_week", columnNames = {"enrollment_id", "week_number"})
+)
 @Getter
 @Setter
 @Builder
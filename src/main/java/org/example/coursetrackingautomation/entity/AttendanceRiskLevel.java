@@ -0,0 +1,12 @@
+package org.example.coursetrackingautomation.entity;
+
+/**
+ * Attendance risk level of an enrollment, derived from absent hours relative to total term hours.
+ *
+ * <p>Values are persisted as strings via {@code @Enumerated(EnumType.STRING)}.
+ * Keep names stable to preserve database compatibility.</p>
+ */
+public enum AttendanceRiskLevel {
+    WARNING,
+    CRITICAL
+}
@@ -10,13 +10,16 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SourceType;
 import org.hibernate.annotations.UpdateTimestamp;
 
 /**
  * Base type for all persistent entities in the application.
  *
  * <p>Provides a surrogate primary key as well as automatically managed audit timestamps.
- * The timestamps are populated/updated by Hibernate when the entity is persisted.
+ * The timestamps are populated/updated by Hibernate when the entity is persisted, from the database clock
+ * rather than the client's, so that they are comparable with the delta sync watermarks and the timestamps
+ * written by native statements across clients.
  */
 @MappedSuperclass
 @Getter
@@ -27,11 +30,11 @@ public abstract class BaseEntity {
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 
-	@CreationTimestamp
+	@CreationTimestamp(source = SourceType.DB)
 	@Column(name = "created_at", nullable = false, updatable = false)
 	private LocalDateTime createdAt;
 
-	@UpdateTimestamp
+	@UpdateTimestamp(source = SourceType.DB)
 	@Column(name = "updated_at", nullable = false)
 	private LocalDateTime updatedAt;
 }
\ No newline at end of file
@@ -3,7 +3,9 @@ package org.example.coursetrackingautomation.entity;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -19,7 +21,13 @@ import lombok.Setter;
 import lombok.ToString;
 
 @Entity
-@Table(name = "courses")
+@EntityListeners({TombstoneListener.class, EntityChangeListener.class})
+@Table(
+    name = "courses",
+    indexes = {
+        @Index(name = "idx_course_updated_at", columnList = "updated_at")
+    }
+)
 @Getter
 @Setter
 @Builder
@@ -73,5 +81,6 @@ public class Course extends BaseEntity {
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @Builder.Default
     @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Set<Enrollment> enrollments = new HashSet<>();
 }
\ No newline at end of file
@@ -3,9 +3,11 @@ package org.example.coursetrackingautomation.entity;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -33,7 +35,13 @@ import lombok.ToString;
  * {@link AttendanceRecord attendance records} (one-to-many).
  */
 @Entity
-@Table(name = "enrollments")
+@EntityListeners({TombstoneListener.class, EntityChangeListener.class})
+@Table(
+    name = "enrollments",
+    indexes = {
+        @Index(name = "idx_enrollment_updated_at", columnList = "updated_at")
+    }
+)
 @Getter
 @Setter
 @Builder
@@ -62,12 +70,30 @@ public class Enrollment extends BaseEntity {
     @Column(name = "enrollment_date", nullable = false)
     private LocalDateTime enrollmentDate;
 
+    /**
+     * Weeks with recorded attendance, bit {@code week - 1} per week (bitmask storage mode only).
+     * Written exclusively by atomic SQL updates.
+     */
+    @Column(name = "attendance_marked_weeks", nullable = false, insertable = false, updatable = false,
+        columnDefinition = "integer default 0")
+    private Integer attendanceMarkedWeeks;
+
+    /**
+     * Weeks marked present, bit {@code week - 1} per week (bitmask storage mode only).
+     * Written exclusively by atomic SQL updates.
+     */
+    @Column(name = "attendance_present_weeks", nullable = false, insertable = false, updatable = false,
+        columnDefinition = "integer default 0")
+    private Integer attendancePresentWeeks;
+
     @OneToOne(mappedBy = "enrollment", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Grade grade;
 
     @OneToMany(mappedBy = "enrollment", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @Builder.Default
     @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Set<AttendanceRecord> attendanceRecords = new HashSet<>();
 }
\ No newline at end of file
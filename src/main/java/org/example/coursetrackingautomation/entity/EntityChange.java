@@ -0,0 +1,59 @@
+package org.example.coursetrackingautomation.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Change-feed entry announcing that a row was written or deleted by one of the running clients.
+ *
+ * <p>Entries are written in the changing transaction just before it commits and read by the other clients,
+ * which invalidate caches and refresh the affected rows of their open tables. Changes recorded too late for
+ * that, by the commit flush or in read-only transactions, are written after the commit in a separate
+ * transaction and may be lost if that write fails. Grades are announced by enrollment id, since every view
+ * shows them as part of the enrollment row; enrollment and grade entries carry the course id as scope. The
+ * writing client's instance id lets clients skip their own changes.
+ *
+ * <p>Entries are short-lived and purged after the change-feed retention period.
+ */
+@Entity
+@Table(
+    name = "entity_changes",
+    indexes = {
+        @Index(name = "idx_entity_change_created", columnList = "created_at")
+    }
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class EntityChange extends BaseEntity {
+    public static final int ENTITY_TYPE_MAX_LENGTH = 16;
+    public static final int ORIGIN_MAX_LENGTH = 36;
+
+    @Column(name = "entity_type", nullable = false, length = ENTITY_TYPE_MAX_LENGTH)
+    private String entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "scope_id")
+    private Long scopeId;
+
+    @Column(name = "is_deleted", nullable = false)
+    private boolean deleted;
+
+    @Column(name = "origin", nullable = false, length = ORIGIN_MAX_LENGTH)
+    private String origin;
+}
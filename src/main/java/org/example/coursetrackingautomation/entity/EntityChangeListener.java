@@ -0,0 +1,66 @@
+package org.example.coursetrackingautomation.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PreRemove;
+import org.example.coursetrackingautomation.dto.EntityChangeDTO;
+import org.example.coursetrackingautomation.service.ChangeFeedService;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * JPA entity listener that reports written and removed users, courses, enrollments and grades to the
+ * {@link ChangeFeedService}, which announces them to the other clients after the transaction commits.
+ *
+ * <p>Rows changed by native bulk statements do not pass through here; the services issuing them record the
+ * changes themselves.
+ *
+ * <p>Instantiated by Hibernate through the Spring bean container; the service is resolved lazily because
+ * listeners are created while the entity manager factory is still being built.
+ */
+public class EntityChangeListener {
+
+    private final ObjectProvider<ChangeFeedService> changeFeedService;
+
+    public EntityChangeListener(ObjectProvider<ChangeFeedService> changeFeedService) {
+        this.changeFeedService = changeFeedService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void recordWrite(BaseEntity entity) {
+        record(entity, false);
+    }
+
+    @PreRemove
+    void recordRemoval(BaseEntity entity) {
+        record(entity, true);
+    }
+
+    private void record(BaseEntity entity, boolean deleted) {
+        EntityChangeDTO change = toChange(entity, deleted);
+        if (change != null) {
+            changeFeedService.getObject().record(change);
+        }
+    }
+
+    private static EntityChangeDTO toChange(BaseEntity entity, boolean deleted) {
+        if (entity instanceof User && entity.getId() != null) {
+            return new EntityChangeDTO(EntityChangeDTO.TYPE_USER, entity.getId(), null, deleted);
+        }
+        if (entity instanceof Course && entity.getId() != null) {
+            return new EntityChangeDTO(EntityChangeDTO.TYPE_COURSE, entity.getId(), null, deleted);
+        }
+        if (entity instanceof Enrollment enrollment && enrollment.getId() != null) {
+            return new EntityChangeDTO(EntityChangeDTO.TYPE_ENROLLMENT, enrollment.getId(), courseIdOf(enrollment), deleted);
+        }
+        if (entity instanceof Grade grade && grade.getEnrollment() != null && grade.getEnrollment().getId() != null) {
+            Enrollment enrollment = grade.getEnrollment();
+            return new EntityChangeDTO(EntityChangeDTO.TYPE_GRADE, enrollment.getId(), courseIdOf(enrollment), deleted);
+        }
+        return null;
+    }
+
+    private static Long courseIdOf(Enrollment enrollment) {
+        return enrollment.getCourse() == null ? null : enrollment.getCourse().getId();
+    }
+}
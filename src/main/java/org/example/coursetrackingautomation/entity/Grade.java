@@ -2,7 +2,9 @@ package org.example.coursetrackingautomation.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
@@ -25,7 +27,13 @@ import lombok.ToString;
  * ensuring that each enrollment has at most one grade record.
  */
 @Entity
-@Table(name = "grades")
+@EntityListeners(EntityChangeListener.class)
+@Table(
+    name = "grades",
+    indexes = {
+        @Index(name = "idx_grade_updated_at", columnList = "updated_at")
+    }
+)
 @Getter
 @Setter
 @Builder
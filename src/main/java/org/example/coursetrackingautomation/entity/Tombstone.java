@@ -0,0 +1,77 @@
+package org.example.coursetrackingautomation.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Record of a deleted {@link User}, {@link Course} or {@link Enrollment}.
+ *
+ * <p>Tombstones are written by {@link TombstoneListener} in the deleting transaction and let delta
+ * sync clients remove rows that no longer exist. The deletion time is the inherited creation timestamp.
+ * The deleted row is referenced by plain identifier; for enrollments the course id is kept as scope so
+ * that course-level views (rosters, enrollment counts) can pick up their deletions.
+ *
+ * <p>Tombstones older than the retention window are purged; clients whose watermark is older than that
+ * receive a full snapshot instead of a delta.
+ */
+@Entity
+@Table(
+    name = "tombstones",
+    indexes = {
+        @Index(name = "idx_tombstone_type_created", columnList = "entity_type, created_at")
+    }
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class Tombstone extends BaseEntity {
+    public static final int ENTITY_TYPE_MAX_LENGTH = 16;
+    public static final String TYPE_USER = "USER";
+    public static final String TYPE_COURSE = "COURSE";
+    public static final String TYPE_ENROLLMENT = "ENROLLMENT";
+
+    @Column(name = "entity_type", nullable = false, length = ENTITY_TYPE_MAX_LENGTH)
+    private String entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "scope_id")
+    private Long scopeId;
+
+    /**
+     * Creates the tombstone of a deleted entity.
+     *
+     * @param entity entity being removed
+     * @return tombstone, or {@code null} if the entity type is not tracked or has no id
+     */
+    public static Tombstone of(BaseEntity entity) {
+        if (entity == null || entity.getId() == null) {
+            return null;
+        }
+        if (entity instanceof User) {
+            return Tombstone.builder().entityType(TYPE_USER).entityId(entity.getId()).build();
+        }
+        if (entity instanceof Course) {
+            return Tombstone.builder().entityType(TYPE_COURSE).entityId(entity.getId()).build();
+        }
+        if (entity instanceof Enrollment enrollment) {
+            Long courseId = enrollment.getCourse() == null ? null : enrollment.getCourse().getId();
+            return Tombstone.builder().entityType(TYPE_ENROLLMENT).entityId(entity.getId()).scopeId(courseId).build();
+        }
+        return null;
+    }
+}
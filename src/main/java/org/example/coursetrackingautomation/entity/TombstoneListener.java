@@ -0,0 +1,59 @@
+package org.example.coursetrackingautomation.entity;
+
+import jakarta.persistence.PreRemove;
+import java.util.ArrayList;
+import java.util.List;
+import org.example.coursetrackingautomation.repository.TombstoneRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that writes a {@link Tombstone} for every removed user, course and enrollment.
+ *
+ * <p>Removal callbacks also fire for entities deleted by cascade or orphan removal. Tombstones are
+ * collected per transaction and saved just before it commits, so they exist exactly when the deletion
+ * does. Removals outside a transaction are not recorded.
+ *
+ * <p>Instantiated by Hibernate through the Spring bean container; the repository is resolved lazily
+ * because listeners are created while the entity manager factory is still being built.
+ */
+public class TombstoneListener {
+
+    private final ObjectProvider<TombstoneRepository> tombstoneRepository;
+
+    public TombstoneListener(ObjectProvider<TombstoneRepository> tombstoneRepository) {
+        this.tombstoneRepository = tombstoneRepository;
+    }
+
+    @PreRemove
+    void recordRemoval(BaseEntity entity) {
+        Tombstone tombstone = Tombstone.of(entity);
+        if (tombstone == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        pendingTombstones().add(tombstone);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Tombstone> pendingTombstones() {
+        List<Tombstone> pending = (List<Tombstone>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        List<Tombstone> created = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                tombstoneRepository.getObject().saveAll(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TombstoneListener.this);
+            }
+        });
+        return created;
+    }
+}
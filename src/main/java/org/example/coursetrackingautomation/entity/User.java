@@ -3,9 +3,11 @@ package org.example.coursetrackingautomation.entity;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import java.util.HashSet;
@@ -29,7 +31,14 @@ import lombok.ToString;
  * flag is used to prevent authentication and participation for deactivated accounts.
  */
 @Entity
-@Table(name = "users")
+@EntityListeners({TombstoneListener.class, EntityChangeListener.class})
+@Table(
+    name = "users",
+    indexes = {
+        @Index(name = "idx_user_updated_at", columnList = "updated_at"),
+        @Index(name = "idx_user_role_active", columnList = "role, is_active")
+    }
+)
 @Getter
 @Setter
 @Builder
@@ -77,10 +86,12 @@ public class User extends BaseEntity {
     @OneToMany(mappedBy = "instructor", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @Builder.Default
     @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Set<Course> instructedCourses = new HashSet<>();
 
     @OneToMany(mappedBy = "student", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @Builder.Default
     @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Set<Enrollment> enrollments = new HashSet<>();
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package org.example.coursetrackingautomation.event;
+
+import org.example.coursetrackingautomation.dto.CourseDTO;
+
+/**
+ * Published after a transaction that created, updated, re-activated or deactivated a course has committed.
+ *
+ * @param course course as committed, with its enrollment counts
+ * @param created whether a new course row was created by the transaction
+ */
+public record CourseSavedEvent(CourseDTO course, boolean created) {
+}
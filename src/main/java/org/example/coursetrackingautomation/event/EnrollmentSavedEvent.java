@@ -0,0 +1,15 @@
+package org.example.coursetrackingautomation.event;
+
+import org.example.coursetrackingautomation.dto.AdminEnrollmentRowDTO;
+
+/**
+ * Published after a transaction that created an enrollment or changed its status has committed.
+ *
+ * @param enrollment admin row of the enrollment as committed
+ * @param created whether the enrollment was created by the transaction
+ * @param activeEnrollmentDelta change of the number of active enrollments of the course: {@code 1} when
+ *                              the enrollment became active, {@code -1} when it stopped being active,
+ *                              otherwise {@code 0}
+ */
+public record EnrollmentSavedEvent(AdminEnrollmentRowDTO enrollment, boolean created, int activeEnrollmentDelta) {
+}
@@ -0,0 +1,10 @@
+package org.example.coursetrackingautomation.event;
+
+/**
+ * Published when the grades, enrollments or attendance of a student changed, locally or on another client,
+ * and the cached academic snapshot of the student was dropped.
+ *
+ * @param studentId identifier of the student
+ */
+public record StudentRecordChangedEvent(Long studentId) {
+}
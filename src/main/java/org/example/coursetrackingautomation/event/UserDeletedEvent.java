@@ -0,0 +1,16 @@
+package org.example.coursetrackingautomation.event;
+
+import java.util.List;
+
+/**
+ * Published after a transaction that deleted a user has committed.
+ *
+ * <p>Deleting an instructor removes their courses, and deleting any user removes the enrollments they
+ * took part in; the event lists what was removed along with the user.</p>
+ *
+ * @param userId id of the deleted user
+ * @param deletedCourseIds ids of the courses removed with the user
+ * @param deletedActiveEnrollments number of active enrollments removed with the user
+ */
+public record UserDeletedEvent(Long userId, List<Long> deletedCourseIds, long deletedActiveEnrollments) {
+}
@@ -0,0 +1,12 @@
+package org.example.coursetrackingautomation.event;
+
+import org.example.coursetrackingautomation.dto.AdminUserRowDTO;
+
+/**
+ * Published after a transaction that created or updated a user has committed.
+ *
+ * @param user admin row of the user as committed
+ * @param created whether the user was created by the transaction
+ */
+public record UserSavedEvent(AdminUserRowDTO user, boolean created) {
+}
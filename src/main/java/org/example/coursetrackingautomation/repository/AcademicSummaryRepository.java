@@ -0,0 +1,162 @@
+package org.example.coursetrackingautomation.repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.example.coursetrackingautomation.entity.AcademicSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+/**
+ * Spring Data repository for {@link AcademicSummary} persistence and queries.
+ */
+public interface AcademicSummaryRepository extends JpaRepository<AcademicSummary, Long> {
+	/**
+	 * Finds the summary of a student for a term.
+	 *
+	 * @param studentId student identifier
+	 * @param term term name, or {@link AcademicSummary#CUMULATIVE_TERM}
+	 * @return summary if present
+	 */
+	Optional<AcademicSummary> findByStudentIdAndTerm(Long studentId, String term);
+
+	@Query(value = "select a.id as id, a.student_id as studentId, a.term as term, a.quality_points as qualityPoints, " +
+			"a.attempted_credits as attemptedCredits, a.earned_credits as earnedCredits, a.gpa as gpa from academic_summaries a " +
+			"where a.student_id in (:studentIds) and a.term in (:terms) order by a.student_id, a.term for no key update",
+			nativeQuery = true)
+	/**
+	 * Loads and write-locks the totals of the given students for the given terms in one statement.
+	 *
+	 * <p>Rows are locked in (student, term) order so that concurrent batches cannot deadlock each other.</p>
+	 *
+	 * @param studentIds student identifiers
+	 * @param terms term names
+	 * @return existing totals; missing (student, term) pairs are not returned
+	 */
+	List<SummaryTotals> findTotalsForUpdateByStudentIdIn(
+		@Param("studentIds") Collection<Long> studentIds,
+		@Param("terms") Collection<String> terms
+	);
+
+	@Modifying(flushAutomatically = true)
+	@Query(value = "update academic_summaries a set quality_points = c.quality_points, " +
+			"attempted_credits = c.attempted_credits, earned_credits = c.earned_credits, gpa = c.gpa, updated_at = now() " +
+			"from unnest(cast(:ids as bigint[]), cast(:qualityPoints as numeric[]), cast(:attemptedCredits as integer[]), " +
+			"cast(:earnedCredits as integer[]), cast(:gpas as numeric[])) " +
+			"as c(id, quality_points, attempted_credits, earned_credits, gpa) " +
+			"where a.id = c.id",
+			nativeQuery = true)
+	/**
+	 * Overwrites the totals of a batch of existing summaries in a single statement.
+	 *
+	 * <p>All arrays are index-aligned; each summary must appear once.</p>
+	 *
+	 * @param ids summary identifiers
+	 * @param qualityPoints quality points, per summary
+	 * @param attemptedCredits attempted credits, per summary
+	 * @param earnedCredits earned credits, per summary
+	 * @param gpas GPAs, per summary
+	 * @return number of updated rows
+	 */
+	int updateTotals(
+		@Param("ids") Long[] ids,
+		@Param("qualityPoints") BigDecimal[] qualityPoints,
+		@Param("attemptedCredits") Integer[] attemptedCredits,
+		@Param("earnedCredits") Integer[] earnedCredits,
+		@Param("gpas") BigDecimal[] gpas
+	);
+
+	@Modifying(flushAutomatically = true)
+	@Query(value = "insert into academic_summaries (student_id, term, quality_points, attempted_credits, earned_credits, gpa, " +
+			"created_at, updated_at) " +
+			"select c.student_id, c.term, c.quality_points, c.attempted_credits, c.earned_credits, c.gpa, now(), now() " +
+			"from unnest(cast(:studentIds as bigint[]), cast(:terms as varchar[]), cast(:qualityPoints as numeric[]), " +
+			"cast(:attemptedCredits as integer[]), cast(:earnedCredits as integer[]), cast(:gpas as numeric[])) " +
+			"as c(student_id, term, quality_points, attempted_credits, earned_credits, gpa)",
+			nativeQuery = true)
+	/**
+	 * Inserts a batch of summaries in a single statement.
+	 *
+	 * <p>All arrays are index-aligned; a (student, term) pair that already exists fails the statement.</p>
+	 *
+	 * @param studentIds student identifiers
+	 * @param terms term names, or {@link AcademicSummary#CUMULATIVE_TERM}
+	 * @param qualityPoints quality points, per summary
+	 * @param attemptedCredits attempted credits, per summary
+	 * @param earnedCredits earned credits, per summary
+	 * @param gpas GPAs, per summary
+	 * @return number of inserted rows
+	 */
+	int insertAll(
+		@Param("studentIds") Long[] studentIds,
+		@Param("terms") String[] terms,
+		@Param("qualityPoints") BigDecimal[] qualityPoints,
+		@Param("attemptedCredits") Integer[] attemptedCredits,
+		@Param("earnedCredits") Integer[] earnedCredits,
+		@Param("gpas") BigDecimal[] gpas
+	);
+
+	@Modifying(flushAutomatically = true)
+	@Query("delete from AcademicSummary a where a.student.id in :studentIds")
+	/**
+	 * Deletes all summaries of the given students.
+	 *
+	 * @param studentIds student identifiers
+	 * @return number of deleted rows
+	 */
+	int deleteByStudentIdIn(@Param("studentIds") Collection<Long> studentIds);
+
+	@Query("select a.student.id as studentId, a.term as term, a.gpa as gpa from AcademicSummary a " +
+			"where a.attemptedCredits > 0")
+	/**
+	 * Returns the GPA of every summary with at least one counted credit, for building ranking indexes.
+	 *
+	 * @return one row per student and term (including the cumulative term)
+	 */
+	List<StudentGpa> findRankableGpas();
+
+	@Query("select a.student.id as studentId, a.term as term, a.gpa as gpa from AcademicSummary a " +
+			"where a.attemptedCredits > 0 and a.student.id in :studentIds")
+	/**
+	 * Returns the rankable GPAs of the given students, for updating ranking indexes.
+	 *
+	 * @param studentIds student identifiers
+	 * @return one row per student and term (including the cumulative term)
+	 */
+	List<StudentGpa> findRankableGpasByStudentIdIn(@Param("studentIds") Collection<Long> studentIds);
+
+	/**
+	 * Projection row for {@link #findRankableGpas()} and {@link #findRankableGpasByStudentIdIn(Collection)}.
+	 */
+	interface StudentGpa {
+		Long getStudentId();
+
+		String getTerm();
+
+		BigDecimal getGpa();
+	}
+
+	/**
+	 * Projection row for {@link #findTotalsForUpdateByStudentIdIn(Collection, Collection)}.
+	 */
+	interface SummaryTotals {
+		Long getId();
+
+		Long getStudentId();
+
+		String getTerm();
+
+		BigDecimal getQualityPoints();
+
+		Integer getAttemptedCredits();
+
+		Integer getEarnedCredits();
+
+		BigDecimal getGpa();
+	}
+}
@@ -0,0 +1,133 @@
+package org.example.coursetrackingautomation.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.example.coursetrackingautomation.entity.AttendanceAlert;
+import org.example.coursetrackingautomation.entity.AttendanceRiskLevel;
+import org.example.coursetrackingautomation.entity.EnrollmentStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+/**
+ * Spring Data repository for {@link AttendanceAlert} persistence, the set-based risk scan and the paged report.
+ */
+public interface AttendanceAlertRepository extends JpaRepository<AttendanceAlert, Long> {
+	/**
+	 * Returns the alerts of the given enrollments.
+	 *
+	 * @param enrollmentIds enrollment identifiers
+	 * @return existing alerts
+	 */
+	List<AttendanceAlert> findByEnrollmentIdIn(Collection<Long> enrollmentIds);
+
+	@Modifying(flushAutomatically = true)
+	@Query(value = "insert into attendance_alerts " +
+			"(enrollment_id, student_id, course_id, level, absent_hours, total_hours, detected_at, created_at, updated_at) " +
+			"select r.enrollment_id, r.student_id, r.course_id, " +
+			"case when r.absent_hours >= r.total_hours * :criticalRatio then 'CRITICAL' else 'WARNING' end, " +
+			"r.absent_hours, r.total_hours, :scannedAt, :scannedAt, :scannedAt " +
+			"from (select e.id as enrollment_id, e.student_id as student_id, e.course_id as course_id, " +
+			"greatest(coalesce(e.absenteeism_count, 0), 0) * " +
+			"(case when c.weekly_total_hours > 0 then c.weekly_total_hours else 1 end) as absent_hours, " +
+			"case when c.weekly_total_hours > 0 then c.weekly_total_hours * :termWeeks else :defaultTotalHours end as total_hours " +
+			"from enrollments e join courses c on c.id = e.course_id " +
+			"where e.status in (:activeStatuses)) r " +
+			"where r.total_hours > 0 and r.absent_hours >= r.total_hours * :warningRatio " +
+			"on conflict (enrollment_id) do update set " +
+			"student_id = excluded.student_id, course_id = excluded.course_id, " +
+			"absent_hours = excluded.absent_hours, total_hours = excluded.total_hours, " +
+			"detected_at = case when attendance_alerts.level = excluded.level " +
+			"then attendance_alerts.detected_at else excluded.detected_at end, " +
+			"level = excluded.level, updated_at = excluded.updated_at",
+			nativeQuery = true)
+	/**
+	 * Computes the risk level of every active enrollment in one statement and upserts the alerts at warning or
+	 * critical level. The detection time is kept for alerts whose level did not change.
+	 *
+	 * @param activeStatuses enrollment status names that are scanned
+	 * @param termWeeks number of weeks in a term
+	 * @param defaultTotalHours total term hours of courses without weekly hours
+	 * @param warningRatio absent-hours ratio of the warning level
+	 * @param criticalRatio absent-hours ratio of the critical level
+	 * @param scannedAt scan time; written to every upserted row
+	 * @return number of upserted rows
+	 */
+	int upsertAtRiskEnrollments(
+		@Param("activeStatuses") Collection<String> activeStatuses,
+		@Param("termWeeks") int termWeeks,
+		@Param("defaultTotalHours") int defaultTotalHours,
+		@Param("warningRatio") double warningRatio,
+		@Param("criticalRatio") double criticalRatio,
+		@Param("scannedAt") LocalDateTime scannedAt
+	);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("delete from AttendanceAlert a where a.updatedAt < :scannedAt")
+	/**
+	 * Deletes alerts that were not touched by the scan started at {@code scannedAt}.
+	 *
+	 * @param scannedAt scan time
+	 * @return number of deleted rows
+	 */
+	int deleteNotScannedSince(@Param("scannedAt") LocalDateTime scannedAt);
+
+	@Query(value = "select a.id as alertId, a.enrollmentId as enrollmentId, s.id as studentId, " +
+			"s.firstName as studentFirstName, s.lastName as studentLastName, " +
+			"c.id as courseId, c.code as courseCode, c.name as courseName, " +
+			"a.level as level, a.absentHours as absentHours, a.totalHours as totalHours, a.detectedAt as detectedAt " +
+			"from AttendanceAlert a, Enrollment e join e.student s join e.course c " +
+			"where e.id = a.enrollmentId and e.status in :activeStatuses " +
+			"and (:level is null or a.level = :level)",
+			countQuery = "select count(a) from AttendanceAlert a, Enrollment e " +
+					"where e.id = a.enrollmentId and e.status in :activeStatuses " +
+					"and (:level is null or a.level = :level)")
+	/**
+	 * Returns one page of alerts of live active enrollments with student and course details.
+	 *
+	 * @param activeStatuses enrollment statuses that are reported
+	 * @param level optional level filter; {@code null} returns both levels
+	 * @param pageable page request, including sort
+	 * @return page of report rows
+	 */
+	Page<AttendanceRiskRow> findReport(
+		@Param("activeStatuses") Collection<EnrollmentStatus> activeStatuses,
+		@Param("level") AttendanceRiskLevel level,
+		Pageable pageable
+	);
+
+	/**
+	 * Projection row for {@link #findReport(Collection, AttendanceRiskLevel, Pageable)}.
+	 */
+	interface AttendanceRiskRow {
+		Long getAlertId();
+
+		Long getEnrollmentId();
+
+		Long getStudentId();
+
+		String getStudentFirstName();
+
+		String getStudentLastName();
+
+		Long getCourseId();
+
+		String getCourseCode();
+
+		String getCourseName();
+
+		AttendanceRiskLevel getLevel();
+
+		Integer getAbsentHours();
+
+		Integer getTotalHours();
+
+		LocalDateTime getDetectedAt();
+	}
+}
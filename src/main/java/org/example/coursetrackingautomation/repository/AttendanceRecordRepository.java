@@ -1,9 +1,11 @@
 package org.example.coursetrackingautomation.repository;
 
 import org.example.coursetrackingautomation.entity.AttendanceRecord;
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -32,9 +34,37 @@ public interface AttendanceRecordRepository extends JpaRepository<AttendanceReco
 	 */
 	Optional<AttendanceRecord> findByEnrollmentIdAndWeekNumber(Long enrollmentId, Integer weekNumber);
 
-	@Query("select ar from AttendanceRecord ar join fetch ar.enrollment e where e.id in :enrollmentIds and ar.weekNumber = :weekNumber")
+	@Modifying(flushAutomatically = true)
+	@Query(value = "insert into attendance_records (enrollment_id, week_number, is_present, date, created_at, updated_at) " +
+			"select c.enrollment_id, c.week_number, c.is_present, :date, now(), now() " +
+			"from unnest(cast(:enrollmentIds as bigint[]), cast(:weekNumbers as integer[]), cast(:presentFlags as boolean[])) " +
+			"as c(enrollment_id, week_number, is_present) " +
+			"on conflict (enrollment_id, week_number) do update set " +
+			"is_present = excluded.is_present, date = excluded.date, updated_at = excluded.updated_at",
+			nativeQuery = true)
 	/**
-	 * Loads attendance records for a set of enrollments in a specific week, fetching the enrollment association.
+	 * Inserts or updates a batch of attendance records in a single statement.
+	 *
+	 * <p>All arrays are index-aligned; each (enrollment, week) pair must appear once.</p>
+	 *
+	 * @param enrollmentIds enrollment identifiers
+	 * @param weekNumbers week numbers
+	 * @param presentFlags presence flags
+	 * @param date session date to store
+	 * @return number of inserted or updated rows
+	 */
+	int upsertCells(
+		@Param("enrollmentIds") Long[] enrollmentIds,
+		@Param("weekNumbers") Integer[] weekNumbers,
+		@Param("presentFlags") Boolean[] presentFlags,
+		@Param("date") LocalDate date
+	);
+
+	@Query("select ar from AttendanceRecord ar join fetch ar.enrollment e left join fetch e.grade g " +
+			"where e.id in :enrollmentIds and ar.weekNumber = :weekNumber")
+	/**
+	 * Loads attendance records for a set of enrollments in a specific week, fetching the enrollment association
+	 * and its grade.
 	 *
 	 * @param enrollmentIds enrollment identifiers
 	 * @param weekNumber week number
@@ -53,4 +83,16 @@ public interface AttendanceRecordRepository extends JpaRepository<AttendanceReco
 	 * @return maximum week number, or {@code null} if no attendance is recorded
 	 */
 	Integer findMaxWeekNumberByCourseId(@Param("courseId") Long courseId);
-}
\ No newline at end of file
+
+	@Query("select ar from AttendanceRecord ar " +
+			"join fetch ar.enrollment e " +
+			"join fetch e.student s " +
+			"join fetch e.course c " +
+			"left join fetch e.grade g")
+	/**
+	 * Loads all attendance records with enrollment, grade, student and course fetched in the same query.
+	 *
+	 * @return all attendance records
+	 */
+	List<AttendanceRecord> findAllWithEnrollmentDetails();
+}
@@ -1,10 +1,14 @@
 package org.example.coursetrackingautomation.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.example.coursetrackingautomation.entity.Course;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -37,10 +41,56 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
      */
     List<Course> findByInstructorIdAndActiveTrue(Long instructorId);
 
+    @Query("select c.id from Course c where c.instructor.id = :instructorId")
+    /**
+     * Returns the ids of all courses (active and inactive) taught by a given instructor.
+     *
+     * @param instructorId instructor identifier
+     * @return course ids
+     */
+    List<Long> findIdsByInstructorId(@Param("instructorId") Long instructorId);
+
     /**
      * Returns all active courses.
      *
      * @return list of active courses
      */
     List<Course> findByActiveTrue();
-}
\ No newline at end of file
+
+    @Query("select c from Course c left join fetch c.instructor")
+    /**
+     * Returns all courses with the instructor association fetched in the same query.
+     *
+     * @return list of courses
+     */
+    List<Course> findAllWithInstructor();
+
+    @Query("select c from Course c left join fetch c.instructor where c.active = true")
+    /**
+     * Returns all active courses with the instructor association fetched in the same query.
+     *
+     * @return list of active courses
+     */
+    List<Course> findActiveWithInstructor();
+
+    @Query("select c from Course c left join fetch c.instructor where c.id in :ids")
+    /**
+     * Returns the given courses with the instructor association fetched in the same query.
+     *
+     * @param ids course identifiers
+     * @return matching courses
+     */
+    List<Course> findWithInstructorByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select c.id from Course c left join c.instructor i " +
+        "where c.updatedAt >= :since or i.updatedAt >= :since " +
+        "or c.id in (select e.course.id from Enrollment e where e.updatedAt >= :since)")
+    /**
+     * Returns the ids of courses whose admin row may have changed at or after the given time: the course,
+     * its instructor or one of its enrollments was written.
+     *
+     * @param since inclusive lower bound of {@code updatedAt}
+     * @return course identifiers
+     */
+    List<Long> findIdsChangedSince(@Param("since") LocalDateTime since);
+}
@@ -1,10 +1,12 @@
 package org.example.coursetrackingautomation.repository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.example.coursetrackingautomation.entity.Enrollment;
 import org.example.coursetrackingautomation.entity.EnrollmentStatus;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.query.Param;
@@ -22,13 +24,26 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
 	 * @return enrollments for the student
 	 */
 	List<Enrollment> findByStudentId(Long studentId);
+	@Query("select e from Enrollment e left join fetch e.grade g where e.course.id = :courseId")
 	/**
-	 * Returns all enrollments for a course.
+	 * Returns all enrollments for a course with the grade association fetched in the same query.
+	 *
+	 * <p>The grade is the inverse side of a one-to-one association and is otherwise loaded with one
+	 * query per enrollment.</p>
 	 *
 	 * @param courseId course identifier
 	 * @return enrollments for the course
 	 */
-	List<Enrollment> findByCourseId(Long courseId);
+	List<Enrollment> findByCourseId(@Param("courseId") Long courseId);
+
+	@Query("select e from Enrollment e left join fetch e.grade g where e.id in :ids")
+	/**
+	 * Returns the given enrollments with the grade association fetched in the same query.
+	 *
+	 * @param ids enrollment identifiers
+	 * @return matching enrollments
+	 */
+	List<Enrollment> findWithGradeByIdIn(@Param("ids") Collection<Long> ids);
 
 	@Query("select e from Enrollment e " +
 			"join fetch e.student s " +
@@ -42,9 +57,41 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
 	 */
 	List<Enrollment> findByCourseIdWithStudentAndGrade(@Param("courseId") Long courseId);
 
+	@Query("select e from Enrollment e " +
+			"join fetch e.student s " +
+			"left join fetch e.grade g " +
+			"where e.course.id = :courseId " +
+			"and (e.updatedAt >= :since or s.updatedAt >= :since or g.updatedAt >= :since)")
+	/**
+	 * Loads the enrollments of a course whose roster row may have changed at or after the given time, with
+	 * student and grade fetched.
+	 *
+	 * @param courseId course identifier
+	 * @param since inclusive lower bound of the enrollment, student or grade {@code updatedAt}
+	 * @return changed enrollments with associated student and grade loaded
+	 */
+	List<Enrollment> findByCourseIdWithStudentAndGradeChangedSince(
+		@Param("courseId") Long courseId,
+		@Param("since") LocalDateTime since
+	);
+
+	@Query("select e from Enrollment e " +
+			"join fetch e.student s " +
+			"join fetch e.course c " +
+			"left join fetch e.grade g " +
+			"where s.id = :studentId")
+	/**
+	 * Loads a student's enrollments and eagerly fetches student, course and grade associations.
+	 *
+	 * @param studentId student identifier
+	 * @return enrollments with associated student, course and grade loaded
+	 */
+	List<Enrollment> findByStudentIdWithCourseAndGrade(@Param("studentId") Long studentId);
+
 	@Query("select e from Enrollment e " +
 			"join fetch e.student s " +
 			"join fetch e.course c " +
+			"left join fetch e.grade g " +
 			"where (:courseId is null or c.id = :courseId) " +
 			"and (:status is null or e.status = :status) " +
 			"and (:studentQuery is null or trim(:studentQuery) = '' " +
@@ -54,13 +101,14 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
 	/**
 	 * Searches enrollments for admin views using optional filters.
 	 *
-	 * <p>All parameters are optional. When a parameter is {@code null} (or blank for studentQuery),
-	 * the corresponding filter is not applied.</p>
+	 * <p>All parameters are optional. When {@code courseId} or {@code status} is {@code null}, or
+	 * {@code studentQuery} is blank, the corresponding filter is not applied.</p>
 	 *
-	 * @param studentQuery partial match against student full name or username (case-insensitive)
+	 * @param studentQuery partial match against student full name or username (case-insensitive); pass an
+	 *                     empty string rather than {@code null}, which PostgreSQL cannot type in {@code trim()}
 	 * @param courseId optional course id filter
 	 * @param status optional enrollment status filter
-	 * @return matching enrollments with student and course eagerly fetched
+	 * @return matching enrollments with student, course and grade eagerly fetched
 	 */
 	List<Enrollment> searchAdminEnrollments(
 		@Param("studentQuery") String studentQuery,
@@ -68,6 +116,46 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
 		@Param("status") EnrollmentStatus status
 	);
 
+	@Query("select e.id from Enrollment e join e.student s join e.course c " +
+			"where e.updatedAt >= :since or s.updatedAt >= :since or c.updatedAt >= :since")
+	/**
+	 * Returns the ids of enrollments whose admin row may have changed at or after the given time: the
+	 * enrollment, its student or its course was written.
+	 *
+	 * @param since inclusive lower bound of {@code updatedAt}
+	 * @return enrollment identifiers
+	 */
+	List<Long> findIdsChangedSince(@Param("since") LocalDateTime since);
+
+	@Query("select e from Enrollment e " +
+			"join fetch e.student s " +
+			"join fetch e.course c " +
+			"left join fetch e.grade g " +
+			"where e.id in :ids " +
+			"and (:courseId is null or c.id = :courseId) " +
+			"and (:status is null or e.status = :status) " +
+			"and (:studentQuery is null or trim(:studentQuery) = '' " +
+				"or lower(concat(coalesce(s.firstName, ''), ' ', coalesce(s.lastName, ''))) like concat('%', lower(:studentQuery), '%') " +
+				"or lower(coalesce(s.username, '')) like concat('%', lower(:studentQuery), '%')) " +
+			"order by e.enrollmentDate desc")
+	/**
+	 * Applies the {@link #searchAdminEnrollments(String, Long, EnrollmentStatus) admin search} filters to the
+	 * given enrollments only.
+	 *
+	 * @param ids enrollment identifiers
+	 * @param studentQuery partial match against student full name or username (case-insensitive); blank, not
+	 *                     {@code null}, when unfiltered
+	 * @param courseId optional course id filter
+	 * @param status optional enrollment status filter
+	 * @return matching enrollments with student, course and grade eagerly fetched
+	 */
+	List<Enrollment> searchAdminEnrollmentsByIdIn(
+		@Param("ids") Collection<Long> ids,
+		@Param("studentQuery") String studentQuery,
+		@Param("courseId") Long courseId,
+		@Param("status") EnrollmentStatus status
+	);
+
 	/**
 	 * Finds a student's enrollment in a given course.
 	 *
@@ -92,6 +180,18 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
 	 * @return number of matching enrollments
 	 */
 	long countByCourseIdAndStatusIn(Long courseId, Collection<EnrollmentStatus> statuses);
+
+	@Query("select count(e) from Enrollment e " +
+			"where (e.student.id = :userId or e.course.instructor.id = :userId) and e.status in :statuses")
+	/**
+	 * Counts enrollments a user takes part in, as the student or as the instructor of the course, by a set of
+	 * statuses.
+	 *
+	 * @param userId user identifier
+	 * @param statuses allowed statuses
+	 * @return number of matching enrollments
+	 */
+	long countByParticipantIdAndStatusIn(@Param("userId") Long userId, @Param("statuses") Collection<EnrollmentStatus> statuses);
 	/**
 	 * Returns whether an enrollment exists for the student/course pair in any of the given statuses.
 	 *
@@ -101,6 +201,16 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
 	 * @return {@code true} if such an enrollment exists
 	 */
 	boolean existsByStudentIdAndCourseIdAndStatusIn(Long studentId, Long courseId, Collection<EnrollmentStatus> statuses);
+
+	/**
+	 * Checks whether any of the given enrollments belongs to the student.
+	 *
+	 * @param ids enrollment identifiers
+	 * @param studentId student identifier
+	 * @return {@code true} if at least one of the enrollments is the student's
+	 */
+	boolean existsByIdInAndStudentId(Collection<Long> ids, Long studentId);
+
 	/**
 	 * Returns the first enrollment matching the student/course pair and any of the given statuses.
 	 *
@@ -110,20 +220,339 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
 	 * @return the first matching enrollment
 	 */
 	Optional<Enrollment> findFirstByStudentIdAndCourseIdAndStatusIn(Long studentId, Long courseId, Collection<EnrollmentStatus> statuses);
+	@Query("select e from Enrollment e left join fetch e.grade g where e.course.id = :courseId and e.status in :statuses")
 	/**
-	 * Returns enrollments for a course filtered by status.
+	 * Returns enrollments for a course filtered by status, with the grade association fetched in the same query.
 	 *
 	 * @param courseId course identifier
 	 * @param statuses allowed statuses
 	 * @return matching enrollments
 	 */
-	List<Enrollment> findByCourseIdAndStatusIn(Long courseId, Collection<EnrollmentStatus> statuses);
+	List<Enrollment> findByCourseIdAndStatusIn(
+		@Param("courseId") Long courseId,
+		@Param("statuses") Collection<EnrollmentStatus> statuses
+	);
+
+	@Query("select e from Enrollment e left join fetch e.grade g where e.student.id = :studentId and e.status in :statuses")
 	/**
-	 * Returns enrollments for a student filtered by status.
+	 * Returns enrollments for a student filtered by status, with the grade association fetched in the same query.
 	 *
 	 * @param studentId student identifier
 	 * @param statuses allowed statuses
 	 * @return matching enrollments
 	 */
-	List<Enrollment> findByStudentIdAndStatusIn(Long studentId, Collection<EnrollmentStatus> statuses);
-}
\ No newline at end of file
+	List<Enrollment> findByStudentIdAndStatusIn(
+		@Param("studentId") Long studentId,
+		@Param("statuses") Collection<EnrollmentStatus> statuses
+	);
+
+	@Query("select e.course.id as courseId, count(e) as enrollmentCount from Enrollment e " +
+			"where e.status in :statuses " +
+			"group by e.course.id")
+	/**
+	 * Counts enrollments per course for a set of statuses in a single grouped query.
+	 *
+	 * @param statuses allowed statuses
+	 * @return one row per course that has at least one matching enrollment
+	 */
+	List<CourseEnrollmentCount> countByStatusInGroupedByCourse(@Param("statuses") Collection<EnrollmentStatus> statuses);
+
+	@Query("select e.course.id as courseId, count(e) as enrollmentCount from Enrollment e " +
+			"where e.status in :statuses and e.course.id in :courseIds " +
+			"group by e.course.id")
+	/**
+	 * Counts enrollments per course for a set of statuses, restricted to the given courses.
+	 *
+	 * @param statuses allowed statuses
+	 * @param courseIds course identifiers
+	 * @return one row per given course that has at least one matching enrollment
+	 */
+	List<CourseEnrollmentCount> countByStatusInAndCourseIdInGroupedByCourse(
+		@Param("statuses") Collection<EnrollmentStatus> statuses,
+		@Param("courseIds") Collection<Long> courseIds
+	);
+
+	/**
+	 * Projection row for {@link #countByStatusInGroupedByCourse(Collection)}.
+	 */
+	interface CourseEnrollmentCount {
+		Long getCourseId();
+
+		long getEnrollmentCount();
+	}
+
+	@Query("select e.student.id as studentId, c.term as term, c.credit as credit, " +
+			"g.letterGrade as letterGrade, g.passed as passed " +
+			"from Enrollment e join e.course c join e.grade g " +
+			"where e.status not in :excludedStatuses and g.letterGrade is not null")
+	/**
+	 * Returns the letter-graded enrollments of all students as flat rows for academic summary rebuilds.
+	 *
+	 * @param excludedStatuses statuses that do not count towards academic totals
+	 * @return one row per graded enrollment
+	 */
+	List<GradedCredit> findGradedCredits(@Param("excludedStatuses") Collection<EnrollmentStatus> excludedStatuses);
+
+	@Query("select e.student.id as studentId, c.term as term, c.credit as credit, " +
+			"g.letterGrade as letterGrade, g.passed as passed " +
+			"from Enrollment e join e.course c join e.grade g " +
+			"where e.student.id in :studentIds and e.status not in :excludedStatuses and g.letterGrade is not null")
+	/**
+	 * Returns the letter-graded enrollments of the given students as flat rows for academic summary rebuilds.
+	 *
+	 * @param studentIds student identifiers
+	 * @param excludedStatuses statuses that do not count towards academic totals
+	 * @return one row per graded enrollment
+	 */
+	List<GradedCredit> findGradedCreditsByStudentIdIn(
+		@Param("studentIds") Collection<Long> studentIds,
+		@Param("excludedStatuses") Collection<EnrollmentStatus> excludedStatuses
+	);
+
+	@Query("select distinct e.student.id from Enrollment e where e.course.id = :courseId")
+	/**
+	 * Returns the ids of students enrolled in a course, whatever the enrollment status.
+	 *
+	 * @param courseId course identifier
+	 * @return distinct student ids
+	 */
+	List<Long> findStudentIdsByCourseId(@Param("courseId") Long courseId);
+
+	@Query("select distinct e.student.id from Enrollment e where e.course.instructor.id = :instructorId")
+	/**
+	 * Returns the ids of students enrolled in any course of an instructor.
+	 *
+	 * @param instructorId instructor identifier
+	 * @return distinct student ids
+	 */
+	List<Long> findStudentIdsByInstructorId(@Param("instructorId") Long instructorId);
+
+	@Modifying(flushAutomatically = true)
+	@Query(value = "update enrollments e set " +
+			"attendance_marked_weeks = e.attendance_marked_weeks | c.marked_bits, " +
+			"attendance_present_weeks = (e.attendance_present_weeks | c.present_bits) & ~c.absent_bits, " +
+			"absenteeism_count = case when c.recount then length(replace(cast(cast(" +
+			"(e.attendance_marked_weeks | c.marked_bits) & ~((e.attendance_present_weeks | c.present_bits) & ~c.absent_bits) " +
+			"as bit(32)) as text), '0', '')) else e.absenteeism_count end, " +
+			"updated_at = now() " +
+			"from unnest(cast(:enrollmentIds as bigint[]), cast(:markedBits as integer[]), " +
+			"cast(:presentBits as integer[]), cast(:absentBits as integer[]), cast(:recount as boolean[])) " +
+			"as c(enrollment_id, marked_bits, present_bits, absent_bits, recount) " +
+			"where e.id = c.enrollment_id",
+			nativeQuery = true)
+	/**
+	 * Atomically marks weeks of a set of enrollments present or absent in the attendance bitmasks.
+	 *
+	 * <p>Where requested, the absenteeism count is derived in the same statement from the new bitmasks (the
+	 * number of marked and not present weeks), so concurrent markers cannot overwrite each other's counts.
+	 * All arrays are index-aligned; each enrollment must appear once.</p>
+	 *
+	 * @param enrollmentIds enrollment identifiers
+	 * @param markedBits weeks to mark, per enrollment
+	 * @param presentBits weeks marked present, per enrollment
+	 * @param absentBits weeks marked absent, per enrollment
+	 * @param recount whether the absenteeism count is recomputed, per enrollment
+	 * @return number of updated rows
+	 */
+	int markAttendanceWeeks(
+		@Param("enrollmentIds") Long[] enrollmentIds,
+		@Param("markedBits") Integer[] markedBits,
+		@Param("presentBits") Integer[] presentBits,
+		@Param("absentBits") Integer[] absentBits,
+		@Param("recount") Boolean[] recount
+	);
+
+	@Modifying(flushAutomatically = true)
+	@Query(value = "update enrollments e set " +
+			"absenteeism_count = (select count(*) from attendance_records ar " +
+			"where ar.enrollment_id = e.id and not ar.is_present), " +
+			"updated_at = now() " +
+			"where e.id = any(cast(:enrollmentIds as bigint[]))",
+			nativeQuery = true)
+	/**
+	 * Recomputes the absenteeism count of enrollments as the number of absent attendance records.
+	 *
+	 * @param enrollmentIds enrollment identifiers
+	 * @return number of updated rows
+	 */
+	int recountAbsenteeismFromRecords(@Param("enrollmentIds") Long[] enrollmentIds);
+
+	@Query(value = "select e.id as enrollmentId, u.id as studentId, u.first_name as firstName, u.last_name as lastName, " +
+			"e.absenteeism_count as absenteeismCount, " +
+			"coalesce(bit_or(1 << (ar.week_number - 1)), 0) as markedWeeks, " +
+			"coalesce(bit_or(case when ar.is_present then 1 << (ar.week_number - 1) else 0 end), 0) as presentWeeks " +
+			"from enrollments e " +
+			"join users u on u.id = e.student_id " +
+			"left join attendance_records ar on ar.enrollment_id = e.id and ar.week_number between 1 and :maxWeek " +
+			"where e.course_id = :courseId " +
+			"group by e.id, u.id, u.first_name, u.last_name, e.absenteeism_count " +
+			"order by u.last_name, u.first_name",
+			nativeQuery = true)
+	/**
+	 * Returns the attendance matrix of a course, folding its attendance records into week bitsets.
+	 *
+	 * @param courseId course identifier
+	 * @param maxWeek highest week number that fits the bitset
+	 * @return one row per enrollment of the course
+	 */
+	List<AttendanceMatrixRow> findAttendanceMatrixFromRecords(@Param("courseId") Long courseId, @Param("maxWeek") int maxWeek);
+
+	@Query("select e.id as enrollmentId, s.id as studentId, s.firstName as firstName, s.lastName as lastName, " +
+			"e.absenteeismCount as absenteeismCount, " +
+			"e.attendanceMarkedWeeks as markedWeeks, e.attendancePresentWeeks as presentWeeks " +
+			"from Enrollment e join e.student s " +
+			"where e.course.id = :courseId " +
+			"order by s.lastName, s.firstName")
+	/**
+	 * Returns the attendance matrix of a course from the enrollments' attendance bitmasks.
+	 *
+	 * @param courseId course identifier
+	 * @return one row per enrollment of the course
+	 */
+	List<AttendanceMatrixRow> findAttendanceMatrixFromBits(@Param("courseId") Long courseId);
+
+	@Query("select e.id as enrollmentId, e.student.id as studentId from Enrollment e where e.course.id = :courseId")
+	/**
+	 * Returns the enrollment and student identifiers of a course's roster without loading entities.
+	 *
+	 * @param courseId course identifier
+	 * @return one row per enrollment of the course
+	 */
+	List<RosterEntry> findRosterEntriesByCourseId(@Param("courseId") Long courseId);
+
+	@Query("select e.id as enrollmentId, e.student.id as studentId from Enrollment e where e.id in :ids")
+	/**
+	 * Returns the student identifiers of the given enrollments without loading entities.
+	 *
+	 * @param ids enrollment identifiers
+	 * @return one row per existing enrollment
+	 */
+	List<RosterEntry> findRosterEntriesByIdIn(@Param("ids") Collection<Long> ids);
+
+	@Query("select e.id as enrollmentId, e.absenteeismCount as absenteeismCount " +
+			"from Enrollment e where e.id in :enrollmentIds")
+	/**
+	 * Returns the stored absenteeism counts of the given enrollments.
+	 *
+	 * @param enrollmentIds enrollment identifiers
+	 * @return one row per existing enrollment
+	 */
+	List<AbsenteeismCount> findAbsenteeismCountsByIdIn(@Param("enrollmentIds") Collection<Long> enrollmentIds);
+
+	@Query("select e.id as enrollmentId, e.course.id as courseId, " +
+			"e.attendanceMarkedWeeks as markedWeeks, e.attendancePresentWeeks as presentWeeks " +
+			"from Enrollment e where e.id in :enrollmentIds")
+	/**
+	 * Returns the attendance bitmasks of the given enrollments.
+	 *
+	 * @param enrollmentIds enrollment identifiers
+	 * @return one row per existing enrollment
+	 */
+	List<AttendanceBits> findAttendanceBitsByIdIn(@Param("enrollmentIds") Collection<Long> enrollmentIds);
+
+	@Query(value = "select coalesce(bit_or(attendance_marked_weeks), 0) from enrollments where course_id = :courseId",
+			nativeQuery = true)
+	/**
+	 * Returns the union of the marked-week bitmasks of a course's enrollments.
+	 *
+	 * @param courseId course identifier
+	 * @return bitmask of weeks with any recorded attendance
+	 */
+	int findMarkedWeeksByCourseId(@Param("courseId") Long courseId);
+
+	@Query("select e from Enrollment e " +
+			"join fetch e.student s " +
+			"join fetch e.course c " +
+			"where e.attendanceMarkedWeeks <> 0")
+	/**
+	 * Loads enrollments with any recorded attendance bit, fetching student and course.
+	 *
+	 * @return enrollments with attendance
+	 */
+	List<Enrollment> findWithAttendanceBits();
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query(value = "update enrollments e set " +
+			"attendance_marked_weeks = m.marked_weeks, attendance_present_weeks = m.present_weeks " +
+			"from (select ar.enrollment_id, " +
+			"bit_or(1 << (ar.week_number - 1)) as marked_weeks, " +
+			"bit_or(case when ar.is_present then 1 << (ar.week_number - 1) else 0 end) as present_weeks " +
+			"from attendance_records ar " +
+			"where ar.week_number between 1 and :maxWeek " +
+			"group by ar.enrollment_id) m " +
+			"where e.id = m.enrollment_id and e.attendance_marked_weeks = 0",
+			nativeQuery = true)
+	/**
+	 * Folds per-week attendance records into the bitmasks of enrollments that have no bits yet.
+	 *
+	 * @param maxWeek highest week number that fits the bitmask
+	 * @return number of migrated enrollments
+	 */
+	int migrateAttendanceRecordsToBits(@Param("maxWeek") int maxWeek);
+
+	/**
+	 * Projection row for {@link #findAttendanceBitsByIdIn(Collection)}.
+	 */
+	interface AttendanceBits {
+		Long getEnrollmentId();
+
+		Long getCourseId();
+
+		Integer getMarkedWeeks();
+
+		Integer getPresentWeeks();
+	}
+
+	/**
+	 * Projection row for {@link #findAttendanceMatrixFromRecords(Long, int)} and
+	 * {@link #findAttendanceMatrixFromBits(Long)}.
+	 */
+	interface AttendanceMatrixRow {
+		Long getEnrollmentId();
+
+		Long getStudentId();
+
+		String getFirstName();
+
+		String getLastName();
+
+		Integer getAbsenteeismCount();
+
+		Integer getMarkedWeeks();
+
+		Integer getPresentWeeks();
+	}
+
+	/**
+	 * Projection row for {@link #findRosterEntriesByCourseId(Long)} and {@link #findRosterEntriesByIdIn(Collection)}.
+	 */
+	interface RosterEntry {
+		Long getEnrollmentId();
+
+		Long getStudentId();
+	}
+
+	/**
+	 * Projection row for {@link #findAbsenteeismCountsByIdIn(Collection)}.
+	 */
+	interface AbsenteeismCount {
+		Long getEnrollmentId();
+
+		Integer getAbsenteeismCount();
+	}
+
+	/**
+	 * Projection row for {@link #findGradedCredits(Collection)}.
+	 */
+	interface GradedCredit {
+		Long getStudentId();
+
+		String getTerm();
+
+		Integer getCredit();
+
+		String getLetterGrade();
+
+		Boolean getPassed();
+	}
+}
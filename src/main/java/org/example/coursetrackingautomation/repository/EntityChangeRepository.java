@@ -0,0 +1,60 @@
+package org.example.coursetrackingautomation.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.example.coursetrackingautomation.entity.EntityChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+/**
+ * Spring Data repository for {@link EntityChange} change-feed entries.
+ */
+public interface EntityChangeRepository extends JpaRepository<EntityChange, Long> {
+	/**
+	 * Returns the change-feed entries written at or after the given time, oldest first.
+	 *
+	 * @param since inclusive lower bound of {@code createdAt}
+	 * @return entries ordered by id
+	 */
+	List<EntityChange> findByCreatedAtGreaterThanEqualOrderByIdAsc(LocalDateTime since);
+
+	@Modifying
+	@Query(value = "insert into entity_changes (entity_type, entity_id, scope_id, is_deleted, origin, created_at, updated_at) " +
+			"select c.entity_type, c.entity_id, c.scope_id, c.is_deleted, :origin, now(), now() " +
+			"from unnest(cast(:entityTypes as varchar[]), cast(:entityIds as bigint[]), cast(:scopeIds as bigint[]), " +
+			"cast(:deletedFlags as boolean[])) as c(entity_type, entity_id, scope_id, is_deleted)",
+			nativeQuery = true)
+	/**
+	 * Inserts a batch of change-feed entries in a single statement.
+	 *
+	 * <p>All arrays are index-aligned; {@code scopeIds} may contain {@code null} elements.</p>
+	 *
+	 * @param entityTypes entity types
+	 * @param entityIds ids of the changed rows
+	 * @param scopeIds course ids for enrollments and grades, otherwise {@code null}
+	 * @param deletedFlags whether each row was deleted
+	 * @param origin instance id of the writing client
+	 * @return number of inserted entries
+	 */
+	int insertAll(
+		@Param("entityTypes") String[] entityTypes,
+		@Param("entityIds") Long[] entityIds,
+		@Param("scopeIds") Long[] scopeIds,
+		@Param("deletedFlags") Boolean[] deletedFlags,
+		@Param("origin") String origin
+	);
+
+	@Modifying
+	@Query("delete from EntityChange c where c.createdAt < :cutoff")
+	/**
+	 * Deletes change-feed entries older than the cutoff.
+	 *
+	 * @param cutoff exclusive upper bound of {@code createdAt}
+	 * @return number of deleted entries
+	 */
+	int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,13 +1,18 @@
 package org.example.coursetrackingautomation.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.example.coursetrackingautomation.entity.EnrollmentStatus;
 import org.example.coursetrackingautomation.entity.Grade;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 /**
- * Spring Data repository for {@link Grade} persistence.
+ * Spring Data repository for {@link Grade} persistence and per-course grade aggregates.
  */
 public interface GradeRepository extends JpaRepository<Grade, Long> {
 	/**
@@ -17,4 +22,64 @@ public interface GradeRepository extends JpaRepository<Grade, Long> {
 	 * @return grade if present
 	 */
 	Optional<Grade> findByEnrollmentId(Long enrollmentId);
+
+	@Query(value = "select count(*) as gradedCount, " +
+			"avg(g.average_score) as mean, " +
+			"percentile_cont(0.5) within group (order by g.average_score) as median, " +
+			"stddev_pop(g.average_score) as standardDeviation, " +
+			"count(*) filter (where g.is_passed) as passedCount " +
+			"from grades g join enrollments e on e.id = g.enrollment_id " +
+			"where e.course_id = :courseId and e.status not in (:excludedStatuses) " +
+			"and g.average_score is not null and g.letter_grade is not null",
+			nativeQuery = true)
+	/**
+	 * Computes average-score statistics of a course's graded enrollments in a single aggregate query.
+	 *
+	 * @param courseId course identifier
+	 * @param excludedStatuses enrollment status names that are not included
+	 * @return aggregate row; numeric values are {@code null} when nothing is graded
+	 */
+	CourseGradeStatistics findCourseGradeStatistics(
+		@Param("courseId") Long courseId,
+		@Param("excludedStatuses") Collection<String> excludedStatuses
+	);
+
+	@Query("select g.letterGrade as letterGrade, count(g) as gradeCount from Grade g join g.enrollment e " +
+			"where e.course.id = :courseId and e.status not in :excludedStatuses and g.letterGrade is not null " +
+			"group by g.letterGrade")
+	/**
+	 * Counts the letter grades of a course's enrollments.
+	 *
+	 * @param courseId course identifier
+	 * @param excludedStatuses enrollment statuses that are not included
+	 * @return one row per letter grade in use
+	 */
+	List<LetterGradeCount> countLetterGradesByCourseId(
+		@Param("courseId") Long courseId,
+		@Param("excludedStatuses") Collection<EnrollmentStatus> excludedStatuses
+	);
+
+	/**
+	 * Projection row for {@link #findCourseGradeStatistics(Long, Collection)}.
+	 */
+	interface CourseGradeStatistics {
+		Number getGradedCount();
+
+		Number getMean();
+
+		Number getMedian();
+
+		Number getStandardDeviation();
+
+		Number getPassedCount();
+	}
+
+	/**
+	 * Projection row for {@link #countLetterGradesByCourseId(Long, Collection)}.
+	 */
+	interface LetterGradeCount {
+		String getLetterGrade();
+
+		long getGradeCount();
+	}
 }
\ No newline at end of file
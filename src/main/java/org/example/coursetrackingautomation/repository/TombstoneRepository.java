@@ -0,0 +1,65 @@
+package org.example.coursetrackingautomation.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.example.coursetrackingautomation.entity.Tombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+/**
+ * Spring Data repository for {@link Tombstone} records of deleted rows.
+ */
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+
+	@Query("select distinct t.entityId from Tombstone t " +
+			"where t.entityType = :entityType and t.createdAt >= :since")
+	/**
+	 * Returns the ids of entities of a type deleted since the given time.
+	 *
+	 * @param entityType tombstone entity type
+	 * @param since inclusive lower bound of the deletion time
+	 * @return deleted entity ids
+	 */
+	List<Long> findDeletedIdsSince(@Param("entityType") String entityType, @Param("since") LocalDateTime since);
+
+	@Query("select distinct t.entityId from Tombstone t " +
+			"where t.entityType = :entityType and t.scopeId = :scopeId and t.createdAt >= :since")
+	/**
+	 * Returns the ids of entities of a type and scope deleted since the given time.
+	 *
+	 * @param entityType tombstone entity type
+	 * @param scopeId scope identifier (course id for enrollments)
+	 * @param since inclusive lower bound of the deletion time
+	 * @return deleted entity ids
+	 */
+	List<Long> findDeletedIdsInScopeSince(
+		@Param("entityType") String entityType,
+		@Param("scopeId") Long scopeId,
+		@Param("since") LocalDateTime since
+	);
+
+	@Query("select distinct t.scopeId from Tombstone t " +
+			"where t.entityType = :entityType and t.scopeId is not null and t.createdAt >= :since")
+	/**
+	 * Returns the scopes that had entities of a type deleted since the given time.
+	 *
+	 * @param entityType tombstone entity type
+	 * @param since inclusive lower bound of the deletion time
+	 * @return scope identifiers
+	 */
+	List<Long> findScopeIdsWithDeletionsSince(@Param("entityType") String entityType, @Param("since") LocalDateTime since);
+
+	@Modifying
+	@Query("delete from Tombstone t where t.createdAt < :cutoff")
+	/**
+	 * Deletes tombstones older than the cutoff.
+	 *
+	 * @param cutoff exclusive upper bound of the deletion time
+	 * @return number of deleted tombstones
+	 */
+	int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,11 +1,16 @@
 package org.example.coursetrackingautomation.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
 import org.example.coursetrackingautomation.entity.User;
 import org.example.coursetrackingautomation.entity.Role;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -37,4 +42,71 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return active users for the role
      */
     List<User> findByRoleAndActiveTrue(Role role);
-}
\ No newline at end of file
+
+    /**
+     * Returns users created or updated at or after the given time.
+     *
+     * @param since inclusive lower bound of {@code updatedAt}
+     * @return changed users
+     */
+    List<User> findByUpdatedAtGreaterThanEqual(LocalDateTime since);
+
+    @Query("select u.id as id, u.username as username, u.firstName as firstName, u.lastName as lastName, " +
+        "u.role as role, u.active as active " +
+        "from User u where u.role = :role and u.active = true")
+    /**
+     * Returns the option columns of all active users for a role without loading entities.
+     *
+     * @param role role filter
+     * @return one row per active user of the role
+     */
+    List<UserOption> findActiveOptionsByRole(@Param("role") Role role);
+
+    @Query("select u.id as id, u.username as username, u.firstName as firstName, u.lastName as lastName, " +
+        "u.role as role, u.active as active " +
+        "from User u where u.id in :ids")
+    /**
+     * Returns the option columns of the given users, whatever their role and status.
+     *
+     * @param ids user identifiers
+     * @return one row per existing user
+     */
+    List<UserOption> findOptionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select u.id as id, u.username as username, u.firstName as firstName, u.lastName as lastName, " +
+        "u.role as role, u.active as active " +
+        "from User u where u.role = :role and u.active = true " +
+        "and (lower(u.username) like concat(lower(:prefix), '%') escape '!' " +
+        "or lower(u.firstName) like concat(lower(:prefix), '%') escape '!' " +
+        "or lower(u.lastName) like concat(lower(:prefix), '%') escape '!' " +
+        "or u.studentNumber like concat(:prefix, '%') escape '!') " +
+        "order by u.firstName, u.lastName, u.username")
+    /**
+     * Returns the option columns of the active users of a role whose username, first name, last name or
+     * student number starts with the given prefix.
+     *
+     * @param role role filter
+     * @param prefix case-insensitive prefix; {@code %}, {@code _} and {@code !} must be escaped with {@code !}
+     * @param pageable page request limiting the number of rows
+     * @return matching users ordered by name
+     */
+    List<UserOption> searchActiveOptionsByRole(@Param("role") Role role, @Param("prefix") String prefix,
+                                               Pageable pageable);
+
+    /**
+     * Projection row for the option queries.
+     */
+    interface UserOption {
+        Long getId();
+
+        String getUsername();
+
+        String getFirstName();
+
+        String getLastName();
+
+        Role getRole();
+
+        Boolean getActive();
+    }
+}
@@ -0,0 +1,399 @@
+package org.example.coursetrackingautomation.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.coursetrackingautomation.dto.AcademicSummaryDTO;
+import org.example.coursetrackingautomation.entity.AcademicSummary;
+import org.example.coursetrackingautomation.entity.Course;
+import org.example.coursetrackingautomation.entity.EnrollmentStatus;
+import org.example.coursetrackingautomation.repository.AcademicSummaryRepository;
+import org.example.coursetrackingautomation.repository.EnrollmentRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+/**
+ * Maintains the persisted per-student academic summaries (cumulative and per term).
+ *
+ * <p>Grade and enrollment status changes are applied as deltas: the contribution of the enrollment
+ * before the change is subtracted and the new contribution is added, under a row lock. Rows are locked
+ * and written set-wise, so a bulk save costs a constant number of statements. When a summary row is
+ * missing (e.g. data created before summaries existed) the student's summaries are rebuilt from
+ * enrollments instead. Only letter-graded enrollments of courses with positive credit count; dropped and
+ * cancelled enrollments are excluded.</p>
+ *
+ * <p>After commit, changed GPAs are pushed to {@link ClassRankingService}.</p>
+ */
+public class AcademicSummaryService {
+
+    private static final EnumSet<EnrollmentStatus> EXCLUDED_STATUSES = EnumSet.of(
+        EnrollmentStatus.DROPPED,
+        EnrollmentStatus.CANCELLED
+    );
+
+    private final AcademicSummaryRepository academicSummaryRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final GradeService gradeService;
+    private final ClassRankingService classRankingService;
+
+    /**
+     * Contribution of one enrollment to a student's academic totals.
+     *
+     * @param credit course credit counted in the GPA; {@code 0} if the enrollment does not count
+     * @param qualityPoints grade points multiplied by credit
+     * @param passed whether the credit is earned
+     */
+    public record GradeContribution(int credit, BigDecimal qualityPoints, boolean passed) {
+
+        /**
+         * Contribution of an enrollment that does not count (not graded, excluded status, no credit).
+         */
+        public static final GradeContribution NONE = new GradeContribution(0, BigDecimal.ZERO, false);
+    }
+
+    /**
+     * Computes the contribution of an enrollment from its course, status and stored grade.
+     *
+     * @param course enrolled course
+     * @param status enrollment status
+     * @param letterGrade stored letter grade, may be {@code null}
+     * @param passed stored pass flag
+     * @return contribution, or {@link GradeContribution#NONE} if the enrollment does not count
+     */
+    public GradeContribution contributionOf(Course course, EnrollmentStatus status, String letterGrade, boolean passed) {
+        if (course == null || status == null || EXCLUDED_STATUSES.contains(status)) {
+            return GradeContribution.NONE;
+        }
+        return contributionOf(course.getCredit(), letterGrade, passed);
+    }
+
+    /**
+     * Change of one enrollment's contribution, as applied by {@link #applyChanges(Collection)}.
+     *
+     * @param studentId student identifier
+     * @param term term of the enrolled course
+     * @param before contribution before the change
+     * @param after contribution after the change
+     */
+    public record ContributionChange(Long studentId, String term, GradeContribution before, GradeContribution after) {
+    }
+
+    @Transactional
+    /**
+     * Applies the change of one enrollment's contribution to the student's term and cumulative summaries.
+     *
+     * <p>Must be called in the transaction that changes the grade or status, after the change has been
+     * saved, so that a fallback rebuild observes the new state.</p>
+     *
+     * @param studentId student identifier
+     * @param term term of the enrolled course
+     * @param before contribution before the change
+     * @param after contribution after the change
+     * @throws IllegalArgumentException if {@code studentId} or {@code term} is null
+     */
+    public void applyChange(Long studentId, String term, GradeContribution before, GradeContribution after) {
+        applyChanges(List.of(new ContributionChange(studentId, term, before, after)));
+    }
+
+    @Transactional
+    /**
+     * Applies the contribution changes of a batch of enrollments to the students' term and cumulative summaries.
+     *
+     * <p>The deltas are summed per student and term, all affected rows are locked by one query and the new
+     * totals are written by one update and at most one insert. Students whose changes need a missing row are
+     * rebuilt from their enrollments together instead. Must be called in the transaction that changes the grades
+     * or statuses, after the changes have been saved, so that a fallback rebuild observes the new state.</p>
+     *
+     * @param changes contribution changes; unchanged contributions are skipped
+     * @throws IllegalArgumentException if a change has no student id or term
+     */
+    public void applyChanges(Collection<ContributionChange> changes) {
+        Map<Long, List<ContributionChange>> changesByStudent = new LinkedHashMap<>();
+        Set<String> terms = new HashSet<>();
+        terms.add(AcademicSummary.CUMULATIVE_TERM);
+        for (ContributionChange change : changes) {
+            if (change.studentId() == null || change.term() == null) {
+                throw new IllegalArgumentException("Öğrenci id ve dönem boş olamaz");
+            }
+            if (!change.before().equals(change.after())) {
+                changesByStudent.computeIfAbsent(change.studentId(), ignored -> new ArrayList<>()).add(change);
+                terms.add(change.term());
+            }
+        }
+        if (changesByStudent.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Map<String, AcademicSummary>> locked = new HashMap<>();
+        for (AcademicSummaryRepository.SummaryTotals row
+                : academicSummaryRepository.findTotalsForUpdateByStudentIdIn(changesByStudent.keySet(), terms)) {
+            locked.computeIfAbsent(row.getStudentId(), ignored -> new HashMap<>()).put(row.getTerm(), toSummary(row));
+        }
+
+        Set<Long> rebuilt = new LinkedHashSet<>();
+        Map<Long, Map<String, AcademicSummary>> changed = new LinkedHashMap<>();
+        changesByStudent.forEach((studentId, studentChanges) -> {
+            Map<String, AcademicSummary> rows = locked.getOrDefault(studentId, Map.of());
+            AcademicSummary cumulative = rows.get(AcademicSummary.CUMULATIVE_TERM);
+            if (cumulative == null || studentChanges.stream()
+                    .anyMatch(change -> !rows.containsKey(change.term()) && change.before().credit() > 0)) {
+                rebuilt.add(studentId);
+                return;
+            }
+            Map<String, AcademicSummary> byTerm = new HashMap<>();
+            byTerm.put(AcademicSummary.CUMULATIVE_TERM, cumulative);
+            for (ContributionChange change : studentChanges) {
+                AcademicSummary termSummary = byTerm.computeIfAbsent(change.term(),
+                    term -> rows.containsKey(term) ? rows.get(term) : newSummary(term));
+                for (AcademicSummary summary : List.of(cumulative, termSummary)) {
+                    accumulate(summary, change.before(), -1);
+                    accumulate(summary, change.after(), 1);
+                }
+            }
+            changed.put(studentId, byTerm);
+        });
+
+        updateSummaries(changed);
+        insertSummaries(changed);
+        rebuildStudents(rebuilt);
+
+        Map<Long, Map<String, BigDecimal>> gpaByStudent = new HashMap<>();
+        changed.forEach((studentId, byTerm) -> {
+            Map<String, BigDecimal> gpaByTerm = new HashMap<>();
+            byTerm.forEach((term, summary) -> gpaByTerm.put(term, rankableGpa(summary)));
+            gpaByStudent.put(studentId, gpaByTerm);
+        });
+        AfterCommit.run(() -> gpaByStudent.forEach((studentId, gpaByTerm) ->
+            gpaByTerm.forEach((term, gpa) -> classRankingService.updateStudent(studentId, term, gpa))));
+    }
+
+    @Transactional
+    /**
+     * Returns the cumulative summary of a student, building it first if it does not exist yet.
+     *
+     * @param studentId student identifier
+     * @return cumulative summary
+     * @throws IllegalArgumentException if {@code studentId} is null
+     */
+    public AcademicSummaryDTO getCumulativeSummary(Long studentId) {
+        if (studentId == null) {
+            throw new IllegalArgumentException("Öğrenci id boş olamaz");
+        }
+        AcademicSummary summary = academicSummaryRepository.findByStudentIdAndTerm(studentId, AcademicSummary.CUMULATIVE_TERM)
+            .orElseGet(() -> {
+                rebuildStudents(List.of(studentId));
+                return academicSummaryRepository.findByStudentIdAndTerm(studentId, AcademicSummary.CUMULATIVE_TERM)
+                    .orElseThrow(() -> new IllegalStateException("Akademik özet oluşturulamadı: " + studentId));
+            });
+        return toDTO(studentId, summary);
+    }
+
+    @Transactional
+    /**
+     * Rebuilds the summaries of the given students from their enrollments.
+     *
+     * <p>Every student gets a cumulative row (zero if nothing is graded) and one row per term with
+     * counted enrollments.</p>
+     *
+     * @param studentIds student identifiers
+     */
+    public void rebuildStudents(Collection<Long> studentIds) {
+        if (studentIds == null || studentIds.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = new LinkedHashSet<>(studentIds);
+        ids.remove(null);
+        if (ids.isEmpty()) {
+            return;
+        }
+        academicSummaryRepository.deleteByStudentIdIn(ids);
+        Map<Long, Map<String, AcademicSummary>> summaries = buildSummaries(
+            enrollmentRepository.findGradedCreditsByStudentIdIn(ids, EXCLUDED_STATUSES)
+        );
+        for (Long studentId : ids) {
+            summaries.computeIfAbsent(studentId, ignored -> new HashMap<>())
+                .computeIfAbsent(AcademicSummary.CUMULATIVE_TERM, AcademicSummaryService::newSummary);
+        }
+        insertSummaries(summaries);
+
+        Map<Long, Map<String, BigDecimal>> gpaByStudent = new HashMap<>();
+        summaries.forEach((studentId, byTerm) -> {
+            Map<String, BigDecimal> gpaByTerm = new HashMap<>();
+            byTerm.forEach((term, summary) -> {
+                BigDecimal gpa = rankableGpa(summary);
+                if (gpa != null) {
+                    gpaByTerm.put(term, gpa);
+                }
+            });
+            gpaByStudent.put(studentId, gpaByTerm);
+        });
+        AfterCommit.run(() -> gpaByStudent.forEach(classRankingService::replaceStudent));
+    }
+
+    @Transactional
+    /**
+     * Deletes all summaries of a student, e.g. before the student is deleted.
+     *
+     * @param studentId student identifier
+     */
+    public void deleteStudentSummaries(Long studentId) {
+        if (studentId != null) {
+            academicSummaryRepository.deleteByStudentIdIn(List.of(studentId));
+            AfterCommit.run(() -> classRankingService.replaceStudent(studentId, Map.of()));
+        }
+    }
+
+    @Transactional
+    /**
+     * Rebuilds the summaries of all students with graded enrollments.
+     *
+     * <p>Students without graded enrollments get their (zero) cumulative row on first read.</p>
+     *
+     * @return number of students with rebuilt summaries
+     */
+    public int rebuildAll() {
+        academicSummaryRepository.deleteAllInBatch();
+        Map<Long, Map<String, AcademicSummary>> summaries = buildSummaries(enrollmentRepository.findGradedCredits(EXCLUDED_STATUSES));
+        insertSummaries(summaries);
+        log.info("Academic summaries rebuilt for {} students", summaries.size());
+        AfterCommit.run(classRankingService::rebuild);
+        return summaries.size();
+    }
+
+    private Map<Long, Map<String, AcademicSummary>> buildSummaries(List<EnrollmentRepository.GradedCredit> rows) {
+        Map<Long, Map<String, AcademicSummary>> summaries = new HashMap<>();
+        for (EnrollmentRepository.GradedCredit row : rows) {
+            GradeContribution contribution = contributionOf(row.getCredit(), row.getLetterGrade(), Boolean.TRUE.equals(row.getPassed()));
+            if (contribution.credit() == 0) {
+                continue;
+            }
+            Map<String, AcademicSummary> byTerm = summaries.computeIfAbsent(row.getStudentId(), ignored -> new HashMap<>());
+            accumulate(byTerm.computeIfAbsent(AcademicSummary.CUMULATIVE_TERM, AcademicSummaryService::newSummary), contribution, 1);
+            accumulate(byTerm.computeIfAbsent(row.getTerm(), AcademicSummaryService::newSummary), contribution, 1);
+        }
+        return summaries;
+    }
+
+    private GradeContribution contributionOf(Integer credit, String letterGrade, boolean passed) {
+        if (credit == null || credit <= 0 || letterGrade == null || letterGrade.isBlank()) {
+            return GradeContribution.NONE;
+        }
+        BigDecimal points = gradeService.gradePoints(letterGrade);
+        if (points == null) {
+            return GradeContribution.NONE;
+        }
+        return new GradeContribution(credit, points.multiply(BigDecimal.valueOf(credit)), passed);
+    }
+
+    /**
+     * Writes the totals of the already persisted summaries (those with an id) with one statement.
+     */
+    private void updateSummaries(Map<Long, Map<String, AcademicSummary>> summaries) {
+        List<AcademicSummary> rows = summaries.values().stream()
+            .flatMap(byTerm -> byTerm.values().stream())
+            .filter(summary -> summary.getId() != null)
+            .toList();
+        if (rows.isEmpty()) {
+            return;
+        }
+        academicSummaryRepository.updateTotals(
+            rows.stream().map(AcademicSummary::getId).toArray(Long[]::new),
+            rows.stream().map(AcademicSummary::getQualityPoints).toArray(BigDecimal[]::new),
+            rows.stream().map(AcademicSummary::getAttemptedCredits).toArray(Integer[]::new),
+            rows.stream().map(AcademicSummary::getEarnedCredits).toArray(Integer[]::new),
+            rows.stream().map(AcademicSummary::getGpa).toArray(BigDecimal[]::new)
+        );
+    }
+
+    /**
+     * Inserts the new summaries (those without an id) with one statement.
+     */
+    private void insertSummaries(Map<Long, Map<String, AcademicSummary>> summaries) {
+        List<Long> studentIds = new ArrayList<>();
+        List<AcademicSummary> rows = new ArrayList<>();
+        summaries.forEach((studentId, byTerm) -> byTerm.values().forEach(summary -> {
+            if (summary.getId() == null) {
+                studentIds.add(studentId);
+                rows.add(summary);
+            }
+        }));
+        if (rows.isEmpty()) {
+            return;
+        }
+        academicSummaryRepository.insertAll(
+            studentIds.toArray(Long[]::new),
+            rows.stream().map(AcademicSummary::getTerm).toArray(String[]::new),
+            rows.stream().map(AcademicSummary::getQualityPoints).toArray(BigDecimal[]::new),
+            rows.stream().map(AcademicSummary::getAttemptedCredits).toArray(Integer[]::new),
+            rows.stream().map(AcademicSummary::getEarnedCredits).toArray(Integer[]::new),
+            rows.stream().map(AcademicSummary::getGpa).toArray(BigDecimal[]::new)
+        );
+    }
+
+    private static AcademicSummary toSummary(AcademicSummaryRepository.SummaryTotals row) {
+        AcademicSummary summary = AcademicSummary.builder()
+            .term(row.getTerm())
+            .qualityPoints(row.getQualityPoints())
+            .attemptedCredits(row.getAttemptedCredits())
+            .earnedCredits(row.getEarnedCredits())
+            .gpa(row.getGpa())
+            .build();
+        summary.setId(row.getId());
+        return summary;
+    }
+
+    private static AcademicSummary newSummary(String term) {
+        return AcademicSummary.builder()
+            .term(term)
+            .qualityPoints(BigDecimal.ZERO)
+            .attemptedCredits(0)
+            .earnedCredits(0)
+            .gpa(BigDecimal.ZERO.setScale(AcademicSummary.GPA_SCALE))
+            .build();
+    }
+
+    private static void accumulate(AcademicSummary summary, GradeContribution contribution, int sign) {
+        if (contribution.credit() == 0) {
+            return;
+        }
+        int attempted = Math.max(0, summary.getAttemptedCredits() + sign * contribution.credit());
+        int earned = summary.getEarnedCredits() + (contribution.passed() ? sign * contribution.credit() : 0);
+        BigDecimal qualityPoints = summary.getQualityPoints().add(contribution.qualityPoints().multiply(BigDecimal.valueOf(sign)));
+
+        summary.setAttemptedCredits(attempted);
+        summary.setEarnedCredits(Math.max(0, earned));
+        summary.setQualityPoints(attempted == 0 ? BigDecimal.ZERO : qualityPoints);
+        summary.setGpa(attempted == 0
+            ? BigDecimal.ZERO.setScale(AcademicSummary.GPA_SCALE)
+            : qualityPoints.divide(BigDecimal.valueOf(attempted), AcademicSummary.GPA_SCALE, RoundingMode.HALF_UP));
+    }
+
+    private static BigDecimal rankableGpa(AcademicSummary summary) {
+        return summary.getAttemptedCredits() > 0 ? summary.getGpa() : null;
+    }
+
+    private static AcademicSummaryDTO toDTO(Long studentId, AcademicSummary summary) {
+        return new AcademicSummaryDTO(
+            studentId,
+            summary.getTerm(),
+            summary.getQualityPoints(),
+            summary.getAttemptedCredits(),
+            summary.getEarnedCredits(),
+            summary.getGpa()
+        );
+    }
+}
@@ -1,16 +1,22 @@
 package org.example.coursetrackingautomation.service;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.example.coursetrackingautomation.diagnostics.AdminSearchEvent;
 import org.example.coursetrackingautomation.dto.AdminAttendanceRowDTO;
 import org.example.coursetrackingautomation.dto.AdminEnrollmentRowDTO;
 import org.example.coursetrackingautomation.dto.AdminStatistics;
 import org.example.coursetrackingautomation.dto.AdminUserRowDTO;
 import org.example.coursetrackingautomation.dto.CourseDTO;
-import org.example.coursetrackingautomation.dto.RoleDTO;
+import org.example.coursetrackingautomation.dto.SyncDeltaDTO;
 import org.example.coursetrackingautomation.entity.EnrollmentStatus;
 import org.example.coursetrackingautomation.entity.Enrollment;
-import org.example.coursetrackingautomation.repository.AttendanceRecordRepository;
+import org.example.coursetrackingautomation.entity.Role;
+import org.example.coursetrackingautomation.entity.Tombstone;
+import org.example.coursetrackingautomation.event.UserDeletedEvent;
 import org.example.coursetrackingautomation.repository.CourseRepository;
 import org.example.coursetrackingautomation.repository.EnrollmentRepository;
 import org.example.coursetrackingautomation.repository.UserRepository;
@@ -24,6 +30,9 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * <p>This service aggregates statistics and returns flattened DTO rows used by JavaFX table views.
  * It also delegates enrollment actions to {@link EnrollmentService} to reuse the core business rules.</p>
+ *
+ * <p>The user, course and enrollment tables also have delta sync variants that return only the rows
+ * changed since a client watermark (see {@link DeltaSyncService}).</p>
  */
 public class AdminDashboardService {
 
@@ -36,9 +45,13 @@ public class AdminDashboardService {
     private final UserRepository userRepository;
     private final CourseRepository courseRepository;
     private final EnrollmentRepository enrollmentRepository;
-    private final AttendanceRecordRepository attendanceRecordRepository;
+    private final AttendanceStore attendanceStore;
     private final CourseService courseService;
     private final EnrollmentService enrollmentService;
+    private final AcademicSummaryService academicSummaryService;
+    private final CourseAnalyticsService courseAnalyticsService;
+    private final DeltaSyncService deltaSyncService;
+    private final DomainEventBus domainEventBus;
 
     @Transactional(readOnly = true)
     /**
@@ -61,21 +74,37 @@ public class AdminDashboardService {
      */
     public List<AdminUserRowDTO> getAllUserRows() {
         return userRepository.findAll().stream()
-            .map(u -> new AdminUserRowDTO(
-                u.getId(),
-                u.getUsername(),
-                u.getFirstName(),
-                u.getLastName(),
-                RoleDTO.valueOf(u.getRole().name()),
-                u.getEmail()
-            ))
+            .map(AdminRowMapper::toUserRow)
+            .toList();
+    }
+
+    @Transactional(readOnly = true)
+    /**
+     * Returns the user rows created, updated or deleted since a client watermark.
+     *
+     * @param since watermark returned by the previous call; {@code null} requests a full snapshot
+     * @return changed rows keyed by user id
+     */
+    public SyncDeltaDTO<AdminUserRowDTO> getUserRowChanges(LocalDateTime since) {
+        LocalDateTime watermark = deltaSyncService.nextWatermark();
+        if (!deltaSyncService.canSyncFrom(since)) {
+            return SyncDeltaDTO.snapshot(getAllUserRows(), watermark);
+        }
+        List<AdminUserRowDTO> upserts = userRepository.findByUpdatedAtGreaterThanEqual(since).stream()
+            .map(AdminRowMapper::toUserRow)
             .toList();
+        return new SyncDeltaDTO<>(upserts, deltaSyncService.deletedIds(Tombstone.TYPE_USER, since), watermark, false);
     }
 
     @Transactional
     /**
      * Deletes a user by id.
      *
+     * <p>Academic summaries of the user are removed as well. When an instructor is deleted, their courses
+     * (and the enrollments in them) are removed by cascade, so the summaries of the affected students are
+     * rebuilt. Cached course grade statistics are dropped. A {@link UserDeletedEvent} listing the removed
+     * courses and active enrollments is published after commit.</p>
+     *
      * @param userId the user identifier
      * @throws IllegalArgumentException if {@code userId} is null or the user cannot be found
      */
@@ -85,7 +114,20 @@ public class AdminDashboardService {
         }
         var user = userRepository.findById(userId)
             .orElseThrow(() -> new IllegalArgumentException("Kullanıcı bulunamadı: " + userId));
+        List<Long> affectedStudentIds = user.getRole() == Role.INSTRUCTOR
+            ? enrollmentRepository.findStudentIdsByInstructorId(userId)
+            : List.of();
+        List<Long> deletedCourseIds = user.getRole() == Role.INSTRUCTOR
+            ? courseRepository.findIdsByInstructorId(userId)
+            : List.of();
+        long deletedActiveEnrollments = enrollmentRepository.countByParticipantIdAndStatusIn(userId, ACTIVE_ENROLLMENT_STATUSES);
+
+        academicSummaryService.deleteStudentSummaries(userId);
         userRepository.delete(user);
+        userRepository.flush();
+        academicSummaryService.rebuildStudents(affectedStudentIds);
+        courseAnalyticsService.invalidateAll();
+        domainEventBus.publishAfterCommit(new UserDeletedEvent(userId, deletedCourseIds, deletedActiveEnrollments));
     }
 
     @Transactional(readOnly = true)
@@ -98,6 +140,28 @@ public class AdminDashboardService {
         return courseService.getAllCourseDTOs();
     }
 
+    @Transactional(readOnly = true)
+    /**
+     * Returns the course rows created, updated or deleted since a client watermark.
+     *
+     * <p>A course row also changes when its instructor is renamed or its enrollment count may have changed,
+     * so courses with written or deleted enrollments are returned as well.</p>
+     *
+     * @param since watermark returned by the previous call; {@code null} requests a full snapshot
+     * @return changed rows keyed by course id
+     */
+    public SyncDeltaDTO<CourseDTO> getCourseRowChanges(LocalDateTime since) {
+        LocalDateTime watermark = deltaSyncService.nextWatermark();
+        if (!deltaSyncService.canSyncFrom(since)) {
+            return SyncDeltaDTO.snapshot(courseService.getAllCourseDTOs(), watermark);
+        }
+        Set<Long> changedIds = new LinkedHashSet<>(courseRepository.findIdsChangedSince(since));
+        changedIds.addAll(deltaSyncService.scopesWithDeletions(Tombstone.TYPE_ENROLLMENT, since));
+        List<Long> deletedIds = deltaSyncService.deletedIds(Tombstone.TYPE_COURSE, since);
+        deletedIds.forEach(changedIds::remove);
+        return new SyncDeltaDTO<>(courseService.getCourseDTOsByIds(changedIds), deletedIds, watermark, false);
+    }
+
     @Transactional(readOnly = true)
     /**
      * Returns all enrollments as admin table rows.
@@ -105,29 +169,8 @@ public class AdminDashboardService {
      * @return list of enrollment row DTOs
      */
     public List<AdminEnrollmentRowDTO> getAllEnrollmentRows() {
-        return enrollmentRepository.findAll().stream()
-            .map(e -> {
-                String studentName = e.getStudent() == null
-                    ? ""
-                    : (e.getStudent().getFirstName() + " " + e.getStudent().getLastName());
-
-                String courseDisplay = e.getCourse() == null
-                    ? ""
-                    : (e.getCourse().getCode() + " - " + e.getCourse().getName());
-
-                Long studentId = e.getStudent() == null ? null : e.getStudent().getId();
-                Long courseId = e.getCourse() == null ? null : e.getCourse().getId();
-
-                return new AdminEnrollmentRowDTO(
-                    e.getId(),
-                    studentId,
-                    courseId,
-                    studentName,
-                    courseDisplay,
-                    e.getStatus(),
-                    e.getEnrollmentDate()
-                );
-            })
+        return enrollmentRepository.searchAdminEnrollments("", null, null).stream()
+            .map(AdminRowMapper::toEnrollmentRow)
             .toList();
     }
 
@@ -144,31 +187,57 @@ public class AdminDashboardService {
      * @return matching enrollment row DTOs
      */
     public List<AdminEnrollmentRowDTO> searchEnrollmentRows(String studentQuery, Long courseId, EnrollmentStatus status) {
-        List<Enrollment> enrollments = enrollmentRepository.searchAdminEnrollments(studentQuery, courseId, status);
-        return enrollments.stream()
-            .map(e -> {
-                String studentName = e.getStudent() == null
-                    ? ""
-                    : (e.getStudent().getFirstName() + " " + e.getStudent().getLastName());
-
-                String courseDisplay = e.getCourse() == null
-                    ? ""
-                    : (e.getCourse().getCode() + " - " + e.getCourse().getName());
-
-                Long studentId = e.getStudent() == null ? null : e.getStudent().getId();
-                Long cId = e.getCourse() == null ? null : e.getCourse().getId();
-
-                return new AdminEnrollmentRowDTO(
-                    e.getId(),
-                    studentId,
-                    cId,
-                    studentName,
-                    courseDisplay,
-                    e.getStatus(),
-                    e.getEnrollmentDate()
-                );
-            })
-            .toList();
+        AdminSearchEvent event = new AdminSearchEvent();
+        event.begin();
+        try {
+            List<Enrollment> enrollments = enrollmentRepository.searchAdminEnrollments(nonNullQuery(studentQuery), courseId, status);
+            List<AdminEnrollmentRowDTO> rows = enrollments.stream()
+                .map(AdminRowMapper::toEnrollmentRow)
+                .toList();
+
+            event.setView("enrollments");
+            event.setQuery(studentQuery);
+            event.setCourseId(courseId == null ? 0L : courseId);
+            event.setStatus(status == null ? null : status.name());
+            event.setRowCount(rows.size());
+            event.setSuccess(true);
+            return rows;
+        } finally {
+            event.commit();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    /**
+     * Returns the enrollment rows matching the admin filters that were created, updated or deleted since a
+     * client watermark.
+     *
+     * <p>Enrollments that changed but no longer match the filters are reported as deleted, so the client
+     * drops them from its filtered table.</p>
+     *
+     * @param studentQuery optional partial student name/username
+     * @param courseId optional course id
+     * @param status optional enrollment status
+     * @param since watermark returned by the previous call; {@code null} requests a full snapshot
+     * @return changed rows keyed by enrollment id
+     */
+    public SyncDeltaDTO<AdminEnrollmentRowDTO> getEnrollmentRowChanges(String studentQuery, Long courseId,
+                                                                      EnrollmentStatus status, LocalDateTime since) {
+        LocalDateTime watermark = deltaSyncService.nextWatermark();
+        if (!deltaSyncService.canSyncFrom(since)) {
+            return SyncDeltaDTO.snapshot(searchEnrollmentRows(studentQuery, courseId, status), watermark);
+        }
+        List<Long> changedIds = enrollmentRepository.findIdsChangedSince(since);
+        List<AdminEnrollmentRowDTO> upserts = changedIds.isEmpty()
+            ? List.of()
+            : enrollmentRepository.searchAdminEnrollmentsByIdIn(changedIds, nonNullQuery(studentQuery), courseId, status).stream()
+                .map(AdminRowMapper::toEnrollmentRow)
+                .toList();
+
+        Set<Long> removedIds = new LinkedHashSet<>(changedIds);
+        upserts.forEach(row -> removedIds.remove(row.id()));
+        removedIds.addAll(deltaSyncService.deletedIds(Tombstone.TYPE_ENROLLMENT, since));
+        return new SyncDeltaDTO<>(upserts, List.copyOf(removedIds), watermark, false);
     }
 
     @Transactional
@@ -200,29 +269,11 @@ public class AdminDashboardService {
      * @return list of attendance row DTOs
      */
     public List<AdminAttendanceRowDTO> getAllAttendanceRows() {
-        return attendanceRecordRepository.findAll().stream()
-            .map(r -> {
-                var enrollment = r.getEnrollment();
-                var student = enrollment == null ? null : enrollment.getStudent();
-                var course = enrollment == null ? null : enrollment.getCourse();
-
-                Long studentId = student == null ? null : student.getId();
-                Long courseId = course == null ? null : course.getId();
-
-                String studentName = student == null ? "" : (student.getFirstName() + " " + student.getLastName());
-                String courseDisplay = course == null ? "" : (course.getCode() + " - " + course.getName());
-
-                return new AdminAttendanceRowDTO(
-                    r.getId(),
-                    studentId,
-                    courseId,
-                    studentName,
-                    courseDisplay,
-                    r.getWeekNumber(),
-                    r.isPresent(),
-                    r.getDate()
-                );
-            })
-            .toList();
+        return attendanceStore.findAllRows();
+    }
+
+    private static String nonNullQuery(String studentQuery) {
+        // PostgreSQL cannot infer the type of a null string parameter inside trim(), so "no filter" is bound as ''.
+        return studentQuery == null ? "" : studentQuery;
     }
 }
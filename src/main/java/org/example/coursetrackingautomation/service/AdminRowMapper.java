@@ -0,0 +1,51 @@
+package org.example.coursetrackingautomation.service;
+
+import org.example.coursetrackingautomation.dto.AdminEnrollmentRowDTO;
+import org.example.coursetrackingautomation.dto.AdminUserRowDTO;
+import org.example.coursetrackingautomation.dto.RoleDTO;
+import org.example.coursetrackingautomation.entity.Enrollment;
+import org.example.coursetrackingautomation.entity.User;
+
+/**
+ * Maps entities to the admin dashboard row DTOs, shared by the dashboard read models and the domain events
+ * published by the user and enrollment services.
+ */
+final class AdminRowMapper {
+
+    private AdminRowMapper() {
+    }
+
+    static AdminUserRowDTO toUserRow(User u) {
+        return new AdminUserRowDTO(
+            u.getId(),
+            u.getUsername(),
+            u.getFirstName(),
+            u.getLastName(),
+            RoleDTO.valueOf(u.getRole().name()),
+            u.getEmail()
+        );
+    }
+
+    static AdminEnrollmentRowDTO toEnrollmentRow(Enrollment e) {
+        String studentName = e.getStudent() == null
+            ? ""
+            : (e.getStudent().getFirstName() + " " + e.getStudent().getLastName());
+
+        String courseDisplay = e.getCourse() == null
+            ? ""
+            : (e.getCourse().getCode() + " - " + e.getCourse().getName());
+
+        Long studentId = e.getStudent() == null ? null : e.getStudent().getId();
+        Long courseId = e.getCourse() == null ? null : e.getCourse().getId();
+
+        return new AdminEnrollmentRowDTO(
+            e.getId(),
+            studentId,
+            courseId,
+            studentName,
+            courseDisplay,
+            e.getStatus(),
+            e.getEnrollmentDate()
+        );
+    }
+}
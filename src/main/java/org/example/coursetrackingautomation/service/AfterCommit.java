@@ -0,0 +1,34 @@
+package org.example.coursetrackingautomation.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers actions with side effects outside the database (caches, in-memory indexes) until the surrounding
+ * transaction has committed.
+ *
+ * <p>Without an active transaction the action runs immediately. Rolled back transactions skip the action.</p>
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Runs the action after the current transaction commits, or immediately if there is none.
+     *
+     * @param action action to run
+     */
+    static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
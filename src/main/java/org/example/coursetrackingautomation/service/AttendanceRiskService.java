@@ -0,0 +1,203 @@
+package org.example.coursetrackingautomation.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.coursetrackingautomation.dto.AdminAttendanceRiskRowDTO;
+import org.example.coursetrackingautomation.entity.AttendanceAlert;
+import org.example.coursetrackingautomation.entity.AttendanceRiskLevel;
+import org.example.coursetrackingautomation.entity.Course;
+import org.example.coursetrackingautomation.entity.Enrollment;
+import org.example.coursetrackingautomation.entity.EnrollmentStatus;
+import org.example.coursetrackingautomation.repository.AttendanceAlertRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+/**
+ * Maintains attendance alerts (warning/critical) for all active enrollments and serves the admin risk report.
+ *
+ * <p>A full scan evaluates every active enrollment in a single set-based SQL statement using the thresholds of
+ * {@link AttendanceService} (absent hours relative to weekly total hours × term weeks). Between scans, alerts
+ * are updated incrementally when instructors save attendance and an enrollment crosses a threshold.</p>
+ */
+public class AttendanceRiskService {
+
+    /**
+     * Number of rows per report page.
+     */
+    public static final int REPORT_PAGE_SIZE = 50;
+
+    private static final List<EnrollmentStatus> ACTIVE_ENROLLMENT_STATUSES = List.of(
+        EnrollmentStatus.ACTIVE,
+        EnrollmentStatus.ENROLLED,
+        EnrollmentStatus.REGISTERED
+    );
+
+    private static final Sort REPORT_SORT = Sort.by(
+        Sort.Order.asc("level"),
+        Sort.Order.desc("absentHours"),
+        Sort.Order.asc("courseCode"),
+        Sort.Order.asc("studentLastName")
+    );
+
+    private final AttendanceAlertRepository attendanceAlertRepository;
+    private final AttendanceService attendanceService;
+    private final PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    /**
+     * Runs the initial scan in the background once the application is ready.
+     */
+    public void scanOnStartup() {
+        Thread.ofVirtual().name("attendance-risk-scan").start(() -> {
+            try {
+                // Called on this bean, not through its proxy, so the transaction of rescanAll() is opened here.
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> rescanAll());
+            } catch (RuntimeException e) {
+                log.error("Attendance risk scan failed", e);
+            }
+        });
+    }
+
+    @Transactional
+    /**
+     * Recomputes the alerts of all active enrollments.
+     *
+     * <p>Alerts whose level is unchanged keep their detection time; enrollments that are no longer at risk
+     * (or no longer exist) lose their alert.</p>
+     *
+     * @return number of enrollments at warning or critical level
+     */
+    public int rescanAll() {
+        LocalDateTime scannedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        int atRisk = attendanceAlertRepository.upsertAtRiskEnrollments(
+            ACTIVE_ENROLLMENT_STATUSES.stream().map(Enum::name).toList(),
+            AttendanceService.DEFAULT_TERM_WEEKS,
+            AttendanceService.DEFAULT_TOTAL_COURSE_HOURS,
+            AttendanceService.WARNING_PERCENTAGE,
+            AttendanceService.CRITICAL_PERCENTAGE,
+            scannedAt
+        );
+        int removed = attendanceAlertRepository.deleteNotScannedSince(scannedAt);
+        log.info("Attendance risk scan finished: {} enrollments at risk, {} alerts cleared", atRisk, removed);
+        return atRisk;
+    }
+
+    @Transactional
+    /**
+     * Updates the alerts of enrollments whose absenteeism count was just saved.
+     *
+     * <p>Must be called in the saving transaction. Existing alerts are loaded in one query; rows are only
+     * written when the level or absent hours change.</p>
+     *
+     * @param course course of the enrollments
+     * @param enrollments saved enrollments of the course
+     */
+    public void refreshEnrollments(Course course, Collection<Enrollment> enrollments) {
+        if (course == null || enrollments == null || enrollments.isEmpty()) {
+            return;
+        }
+        Map<Long, AttendanceAlert> alertsByEnrollmentId = attendanceAlertRepository.findByEnrollmentIdIn(
+                enrollments.stream().map(Enrollment::getId).toList()
+            ).stream()
+            .collect(Collectors.toMap(AttendanceAlert::getEnrollmentId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        int crossings = 0;
+        for (Enrollment enrollment : enrollments) {
+            AttendanceAlert alert = alertsByEnrollmentId.get(enrollment.getId());
+            AttendanceRiskLevel previous = alert == null ? null : alert.getLevel();
+            AttendanceRiskLevel current = ACTIVE_ENROLLMENT_STATUSES.contains(enrollment.getStatus())
+                ? levelOf(course, enrollment.getAbsenteeismCount())
+                : null;
+            if (previous != current) {
+                crossings++;
+            }
+
+            if (current == null) {
+                if (alert != null) {
+                    attendanceAlertRepository.delete(alert);
+                }
+                continue;
+            }
+
+            int absentHours = attendanceService.toAbsentHours(course, enrollment.getAbsenteeismCount());
+            if (alert == null) {
+                alert = AttendanceAlert.builder()
+                    .enrollmentId(enrollment.getId())
+                    .studentId(enrollment.getStudent().getId())
+                    .courseId(course.getId())
+                    .build();
+            } else if (previous == current && alert.getAbsentHours() == absentHours) {
+                continue;
+            }
+            if (previous != current) {
+                alert.setDetectedAt(now);
+            }
+            alert.setLevel(current);
+            alert.setAbsentHours(absentHours);
+            alert.setTotalHours(attendanceService.getTotalCourseHoursForTerm(course));
+            attendanceAlertRepository.save(alert);
+        }
+        if (crossings > 0) {
+            log.info("Attendance risk level changed for {} enrollments of courseId={}", crossings, course.getId());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    /**
+     * Returns one page of the attendance risk report, critical alerts first.
+     *
+     * @param pageNumber zero-based page number
+     * @param level optional level filter; {@code null} returns both levels
+     * @return page of report rows
+     * @throws IllegalArgumentException if {@code pageNumber} is negative
+     */
+    public Page<AdminAttendanceRiskRowDTO> getRiskReport(int pageNumber, AttendanceRiskLevel level) {
+        if (pageNumber < 0) {
+            throw new IllegalArgumentException("Sayfa numarası negatif olamaz");
+        }
+        return attendanceAlertRepository.findReport(
+                ACTIVE_ENROLLMENT_STATUSES,
+                level,
+                PageRequest.of(pageNumber, REPORT_PAGE_SIZE, REPORT_SORT)
+            )
+            .map(row -> new AdminAttendanceRiskRowDTO(
+                row.getEnrollmentId(),
+                row.getStudentId(),
+                row.getCourseId(),
+                row.getStudentFirstName() + " " + row.getStudentLastName(),
+                row.getCourseCode() + " - " + row.getCourseName(),
+                row.getLevel(),
+                row.getAbsentHours(),
+                row.getTotalHours(),
+                row.getDetectedAt()
+            ));
+    }
+
+    private AttendanceRiskLevel levelOf(Course course, Integer absenteeismCount) {
+        if (attendanceService.isAttendanceCritical(course, absenteeismCount)) {
+            return AttendanceRiskLevel.CRITICAL;
+        }
+        if (attendanceService.isAttendanceWarning(course, absenteeismCount)) {
+            return AttendanceRiskLevel.WARNING;
+        }
+        return null;
+    }
+}
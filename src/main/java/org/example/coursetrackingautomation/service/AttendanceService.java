@@ -13,10 +13,10 @@ import org.springframework.stereotype.Service;
  */
 public class AttendanceService {
 
-    private static final int DEFAULT_TOTAL_COURSE_HOURS = 42;
-    private static final int DEFAULT_TERM_WEEKS = 14;
-    private static final double WARNING_PERCENTAGE = 0.10;
-    private static final double CRITICAL_PERCENTAGE = 0.20;
+    static final int DEFAULT_TOTAL_COURSE_HOURS = 42;
+    static final int DEFAULT_TERM_WEEKS = 14;
+    static final double WARNING_PERCENTAGE = 0.10;
+    static final double CRITICAL_PERCENTAGE = 0.20;
 
     /**
      * Converts an absenteeism count into absent hours using the course's weekly total hours.
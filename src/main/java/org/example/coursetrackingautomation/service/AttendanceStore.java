@@ -0,0 +1,91 @@
+package org.example.coursetrackingautomation.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.example.coursetrackingautomation.dto.AdminAttendanceRowDTO;
+import org.example.coursetrackingautomation.dto.AttendanceCellDTO;
+import org.example.coursetrackingautomation.repository.EnrollmentRepository;
+
+/**
+ * Storage of weekly attendance marks.
+ *
+ * <p>Two modes are available, selected by {@code app.attendance.storage}: {@code rows} keeps one
+ * {@code attendance_records} row per enrollment and week; {@code bitmask} keeps a term's marks in two
+ * integer columns of the enrollment.</p>
+ */
+public interface AttendanceStore {
+
+    /**
+     * Presence marks of a set of enrollments for one week.
+     *
+     * @param presentByEnrollmentId presence per enrollment id; unmarked enrollments are absent from the map
+     * @param courseId course of the returned enrollments, or {@code 0} if none
+     */
+    record WeekPresence(Map<Long, Boolean> presentByEnrollmentId, long courseId) {
+    }
+
+    /**
+     * Returns the presence marks of the given enrollments in a week.
+     *
+     * @param enrollmentIds enrollment identifiers
+     * @param weekNumber week number
+     * @return presence marks
+     */
+    WeekPresence findPresence(Collection<Long> enrollmentIds, int weekNumber);
+
+    /**
+     * Marks a set of enrollments present or absent for a week and recomputes absenteeism counts.
+     *
+     * @param weekNumber week number
+     * @param presentByEnrollmentId whether the student attended, per enrollment id
+     * @param recountEnrollmentIds enrollments whose absenteeism count is recomputed
+     * @return recomputed absenteeism count per enrollment id
+     * @see #markCells(Collection, Collection)
+     */
+    default Map<Long, Integer> markWeek(int weekNumber, Map<Long, Boolean> presentByEnrollmentId,
+                                        Collection<Long> recountEnrollmentIds) {
+        List<AttendanceCellDTO> cells = new ArrayList<>(presentByEnrollmentId.size());
+        presentByEnrollmentId.forEach((enrollmentId, present) ->
+            cells.add(new AttendanceCellDTO(enrollmentId, weekNumber, Boolean.TRUE.equals(present))));
+        return markCells(cells, recountEnrollmentIds);
+    }
+
+    /**
+     * Marks a batch of (enrollment, week) cells present or absent and recomputes absenteeism counts.
+     *
+     * <p>All cells are written in one statement without reading the previous marks; when a cell appears
+     * more than once the last one wins. The absenteeism counts of {@code recountEnrollmentIds} are then
+     * recomputed set-wise from the stored marks in the same transaction (unmarked weeks count as
+     * attended).</p>
+     *
+     * @param cells cells to write
+     * @param recountEnrollmentIds enrollments whose absenteeism count is recomputed
+     * @return recomputed absenteeism count per enrollment id
+     */
+    Map<Long, Integer> markCells(Collection<AttendanceCellDTO> cells, Collection<Long> recountEnrollmentIds);
+
+    /**
+     * Returns the students × weeks attendance of a course in one query.
+     *
+     * @param courseId course identifier
+     * @return one row per enrollment, ordered by student name
+     */
+    List<EnrollmentRepository.AttendanceMatrixRow> findMatrix(Long courseId);
+
+    /**
+     * Returns the highest week with recorded attendance in a course.
+     *
+     * @param courseId course identifier
+     * @return week number, or {@code null} if no attendance is recorded
+     */
+    Integer findMaxWeekNumber(Long courseId);
+
+    /**
+     * Returns all attendance marks as admin table rows.
+     *
+     * @return attendance rows
+     */
+    List<AdminAttendanceRowDTO> findAllRows();
+}
@@ -0,0 +1,49 @@
+package org.example.coursetrackingautomation.service;
+
+/**
+ * Bit layout of the per-enrollment attendance bitmasks: week {@code n} is bit {@code n - 1} of an
+ * {@code int}. A week is unmarked, present (marked and present bits set) or absent (only the marked bit set).
+ */
+final class AttendanceWeekBits {
+
+    static final int MAX_WEEK = Integer.SIZE - 1;
+
+    private AttendanceWeekBits() {
+    }
+
+    static int bitOf(int weekNumber) {
+        if (weekNumber < 1 || weekNumber > MAX_WEEK) {
+            throw new IllegalArgumentException("Geçersiz hafta numarası: " + weekNumber);
+        }
+        return 1 << (weekNumber - 1);
+    }
+
+    /**
+     * @return {@code null} if the week is unmarked, otherwise whether it is marked present
+     */
+    static Boolean presence(int markedWeeks, int presentWeeks, int weekNumber) {
+        int bit = bitOf(weekNumber);
+        if ((markedWeeks & bit) == 0) {
+            return null;
+        }
+        return (presentWeeks & bit) != 0;
+    }
+
+    /**
+     * @return number of weeks marked absent (population count of marked and not present)
+     */
+    static int absentWeeks(int markedWeeks, int presentWeeks) {
+        return Integer.bitCount(markedWeeks & ~presentWeeks);
+    }
+
+    /**
+     * @return highest marked week number, or {@code 0} if no week is marked
+     */
+    static int highestWeek(int markedWeeks) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(markedWeeks);
+    }
+
+    static int orZero(Integer bits) {
+        return bits == null ? 0 : bits;
+    }
+}
@@ -3,6 +3,7 @@ package org.example.coursetrackingautomation.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.coursetrackingautomation.config.UserSession;
+import org.example.coursetrackingautomation.diagnostics.LoginEvent;
 import org.example.coursetrackingautomation.dto.RoleDTO;
 import org.example.coursetrackingautomation.dto.SessionUser;
 import org.example.coursetrackingautomation.entity.User;
@@ -22,12 +23,16 @@ import org.springframework.transaction.annotation.Transactional;
  * <p>This service validates credentials, enforces user activation rules, and publishes the
  * authenticated principal into the {@link UserSession}. It is intentionally state-free aside
  * from writing to the session component.</p>
+ *
+ * <p>A student's academic snapshot is prefetched as soon as the login succeeds and dropped at logout
+ * (see {@link StudentSnapshotService}).</p>
  */
 public class AuthService {
 
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
 	private final UserSession userSession;
+	private final StudentSnapshotService studentSnapshotService;
 
 	@Transactional(readOnly = true)
 	/**
@@ -46,6 +51,27 @@ public class AuthService {
 		String safeUsername = username == null ? "" : username.trim();
 		String safePassword = rawPassword == null ? "" : rawPassword;
 
+		LoginEvent event = new LoginEvent();
+		event.begin();
+		event.setUsername(safeUsername);
+		try {
+			SessionUser sessionUser = authenticate(safeUsername, safePassword);
+			event.setUserId(sessionUser.id() == null ? 0L : sessionUser.id());
+			event.setRole(sessionUser.role() == null ? null : sessionUser.role().name());
+			event.setSuccess(true);
+			if (sessionUser.role() == RoleDTO.STUDENT) {
+				studentSnapshotService.prefetch(sessionUser.id());
+			}
+			return sessionUser;
+		} catch (RuntimeException e) {
+			event.setFailure(e.getClass().getSimpleName());
+			throw e;
+		} finally {
+			event.commit();
+		}
+	}
+
+	private SessionUser authenticate(String safeUsername, String safePassword) {
 		if (safeUsername.isBlank() || safePassword.isBlank()) {
 			throw new InvalidCredentialsException();
 		}
@@ -82,5 +108,6 @@ public class AuthService {
 	public void logout() {
 		userSession.getCurrentUser().ifPresent(u -> log.info("User logged out: id={}, username={}", u.id(), u.username()));
 		userSession.cleanUserSession();
+		studentSnapshotService.clear();
 	}
 }
\ No newline at end of file
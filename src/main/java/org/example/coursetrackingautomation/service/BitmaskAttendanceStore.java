@@ -0,0 +1,159 @@
+package org.example.coursetrackingautomation.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.example.coursetrackingautomation.dto.AdminAttendanceRowDTO;
+import org.example.coursetrackingautomation.dto.AttendanceCellDTO;
+import org.example.coursetrackingautomation.entity.Enrollment;
+import org.example.coursetrackingautomation.repository.AttendanceRecordRepository;
+import org.example.coursetrackingautomation.repository.EnrollmentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "app.attendance.storage", havingValue = "bitmask")
+/**
+ * {@link AttendanceStore} keeping a term's attendance of an enrollment in two integer columns of the
+ * enrollment row: one bit per week for "marked" and one for "present".
+ *
+ * <p>A batch of cells is saved with one atomic {@code UPDATE ... SET bits = bits | c.bits FROM unnest(...)}
+ * statement, so concurrent saves of different weeks never overwrite each other. Absent weeks are the
+ * population count of marked and not present bits; the absenteeism count is derived from the new bits in
+ * that same statement.</p>
+ *
+ * <p>On startup, existing {@code attendance_records} rows are folded into the bitmasks of enrollments that
+ * have no bits yet; with {@code app.attendance.bitmask.purge-records=true} the rows are deleted afterwards.</p>
+ */
+public class BitmaskAttendanceStore implements AttendanceStore {
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final AttendanceRecordRepository attendanceRecordRepository;
+    private final boolean purgeRecords;
+
+    public BitmaskAttendanceStore(
+        EnrollmentRepository enrollmentRepository,
+        AttendanceRecordRepository attendanceRecordRepository,
+        @Value("${app.attendance.bitmask.purge-records:false}") boolean purgeRecords
+    ) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.attendanceRecordRepository = attendanceRecordRepository;
+        this.purgeRecords = purgeRecords;
+    }
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    /**
+     * Migrates existing per-week attendance records into the bitmasks.
+     */
+    public void migrateRecords() {
+        int migrated = enrollmentRepository.migrateAttendanceRecordsToBits(AttendanceWeekBits.MAX_WEEK);
+        if (migrated > 0) {
+            log.info("Attendance records of {} enrollments migrated to bitmask storage", migrated);
+        }
+        if (purgeRecords) {
+            long purged = attendanceRecordRepository.count();
+            attendanceRecordRepository.deleteAllInBatch();
+            log.info("{} attendance records purged after bitmask migration", purged);
+        }
+    }
+
+    @Override
+    public WeekPresence findPresence(Collection<Long> enrollmentIds, int weekNumber) {
+        Map<Long, Boolean> presentByEnrollmentId = new HashMap<>();
+        long courseId = 0L;
+        for (EnrollmentRepository.AttendanceBits bits : enrollmentRepository.findAttendanceBitsByIdIn(enrollmentIds)) {
+            Boolean present = AttendanceWeekBits.presence(
+                AttendanceWeekBits.orZero(bits.getMarkedWeeks()),
+                AttendanceWeekBits.orZero(bits.getPresentWeeks()),
+                weekNumber
+            );
+            if (present != null) {
+                presentByEnrollmentId.put(bits.getEnrollmentId(), present);
+                if (courseId == 0L && bits.getCourseId() != null) {
+                    courseId = bits.getCourseId();
+                }
+            }
+        }
+        return new WeekPresence(presentByEnrollmentId, courseId);
+    }
+
+    @Override
+    public Map<Long, Integer> markCells(Collection<AttendanceCellDTO> cells, Collection<Long> recountEnrollmentIds) {
+        if (cells.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, int[]> bitsByEnrollmentId = new LinkedHashMap<>();
+        for (AttendanceCellDTO cell : cells) {
+            int bit = AttendanceWeekBits.bitOf(cell.weekNumber());
+            int[] bits = bitsByEnrollmentId.computeIfAbsent(cell.enrollmentId(), ignored -> new int[3]);
+            bits[0] |= bit;
+            bits[1] = cell.present() ? bits[1] | bit : bits[1] & ~bit;
+            bits[2] = cell.present() ? bits[2] & ~bit : bits[2] | bit;
+        }
+        Set<Long> recountIds = new HashSet<>(recountEnrollmentIds);
+        enrollmentRepository.markAttendanceWeeks(
+            bitsByEnrollmentId.keySet().toArray(Long[]::new),
+            bitsByEnrollmentId.values().stream().map(bits -> bits[0]).toArray(Integer[]::new),
+            bitsByEnrollmentId.values().stream().map(bits -> bits[1]).toArray(Integer[]::new),
+            bitsByEnrollmentId.values().stream().map(bits -> bits[2]).toArray(Integer[]::new),
+            bitsByEnrollmentId.keySet().stream().map(recountIds::contains).toArray(Boolean[]::new)
+        );
+        if (recountEnrollmentIds.isEmpty()) {
+            return Map.of();
+        }
+        return RowAttendanceStore.toCountMap(enrollmentRepository.findAbsenteeismCountsByIdIn(recountEnrollmentIds));
+    }
+
+    @Override
+    public List<EnrollmentRepository.AttendanceMatrixRow> findMatrix(Long courseId) {
+        return enrollmentRepository.findAttendanceMatrixFromBits(courseId);
+    }
+
+    @Override
+    public Integer findMaxWeekNumber(Long courseId) {
+        int highestWeek = AttendanceWeekBits.highestWeek(enrollmentRepository.findMarkedWeeksByCourseId(courseId));
+        return highestWeek == 0 ? null : highestWeek;
+    }
+
+    @Override
+    public List<AdminAttendanceRowDTO> findAllRows() {
+        List<AdminAttendanceRowDTO> rows = new ArrayList<>();
+        for (Enrollment enrollment : enrollmentRepository.findWithAttendanceBits()) {
+            int marked = AttendanceWeekBits.orZero(enrollment.getAttendanceMarkedWeeks());
+            int presentWeeks = AttendanceWeekBits.orZero(enrollment.getAttendancePresentWeeks());
+            var student = enrollment.getStudent();
+            var course = enrollment.getCourse();
+            String studentName = student.getFirstName() + " " + student.getLastName();
+            String courseDisplay = course.getCode() + " - " + course.getName();
+
+            for (int week = 1; week <= AttendanceWeekBits.highestWeek(marked); week++) {
+                Boolean present = AttendanceWeekBits.presence(marked, presentWeeks, week);
+                if (present != null) {
+                    rows.add(new AdminAttendanceRowDTO(
+                        null,
+                        student.getId(),
+                        course.getId(),
+                        studentName,
+                        courseDisplay,
+                        week,
+                        present,
+                        null
+                    ));
+                }
+            }
+        }
+        return rows;
+    }
+}
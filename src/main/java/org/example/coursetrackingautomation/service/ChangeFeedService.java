@@ -0,0 +1,478 @@
+package org.example.coursetrackingautomation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.example.coursetrackingautomation.dto.EntityChangeDTO;
+import org.example.coursetrackingautomation.entity.EntityChange;
+import org.example.coursetrackingautomation.repository.EnrollmentRepository;
+import org.example.coursetrackingautomation.repository.EntityChangeRepository;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+/**
+ * Change feed between clients running against the same database.
+ *
+ * <p>Changed rows are recorded during a transaction (by {@code EntityChangeListener} for JPA writes, by the
+ * services for native bulk updates) and published just before it commits: the pending entity writes are
+ * flushed, then one {@link EntityChange} entry per row is written in the same transaction by a single
+ * {@code INSERT}, followed on PostgreSQL by a {@code NOTIFY} on {@value #CHANNEL}, which is delivered on
+ * commit. Entries therefore exist exactly when the changes do. Changes recorded after that point, by the
+ * commit flush or in read-only transactions, are published after the commit in a new transaction; a failure
+ * there is only logged, so those changes reach the other clients at most once.</p>
+ *
+ * <p>A background thread receives the changes of the other clients. In {@code notify} mode it waits on a
+ * dedicated {@code LISTEN} connection and reads the entries when woken, with a safety read every
+ * {@code app.change-feed.safety-poll-interval-ms}. When the database is not PostgreSQL, the mode is
+ * {@code poll}, or the listen connection is lost, it reads the entries every
+ * {@code app.change-feed.poll-interval-ms} instead. Entries are read by their database-stamped
+ * {@code created_at} with the overlap of {@link DeltaSyncService#nextWatermark()}, which reads the same
+ * clock, and de-duplicated by id. Received changes invalidate the affected
+ * cached course statistics, reload the class rankings of the affected students and are passed to the
+ * registered {@link Listener}s.</p>
+ */
+public class ChangeFeedService {
+
+    static final String CHANNEL = "app_entity_changes";
+    static final String CHANGES_METRIC = "app.change-feed.changes";
+
+    private static final long RECONNECT_DELAY_MILLIS = 30_000;
+    private static final int MAX_RANKING_RELOAD_STUDENTS = 5_000;
+
+    /**
+     * Receives the changes made by other clients. Called on the change-feed thread.
+     */
+    public interface Listener {
+
+        /**
+         * Called with the changes of one read, oldest first.
+         *
+         * @param changes changes made by other clients
+         */
+        void onRemoteChanges(List<EntityChangeDTO> changes);
+    }
+
+    private final EntityChangeRepository entityChangeRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final DeltaSyncService deltaSyncService;
+    private final CourseAnalyticsService courseAnalyticsService;
+    private final ClassRankingService classRankingService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate publishTransaction;
+    private final boolean enabled;
+    private final boolean notifySupported;
+    private final long pollIntervalMillis;
+    private final long safetyPollIntervalMillis;
+    private final long retentionHours;
+    private final String datasourceUrl;
+    private final String datasourceUsername;
+    private final String datasourcePassword;
+    private final Counter publishedChanges;
+    private final Counter receivedChanges;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<Long, LocalDateTime> seenEntryIds = new LinkedHashMap<>();
+
+    private volatile boolean running;
+    private Thread feedThread;
+    private volatile Connection listenConnection;
+    private long reconnectNotBefore;
+    private long lastReadNanos;
+    private LocalDateTime readWatermark;
+
+    /**
+     * Creates the service.
+     *
+     * @param entityChangeRepository repository of change-feed entries
+     * @param enrollmentRepository repository used to map changed enrollments to their students
+     * @param deltaSyncService source of read watermarks and of the database time
+     * @param courseAnalyticsService cache of course grade statistics
+     * @param classRankingService in-memory class ranking indexes
+     * @param jdbcTemplate template used for {@code NOTIFY}
+     * @param transactionManager manager of the publishing transactions
+     * @param meterRegistry registry receiving the change counters
+     * @param enabled whether changes are published and received
+     * @param mode {@code notify} or {@code poll}
+     * @param pollIntervalMillis read interval without a listen connection
+     * @param safetyPollIntervalMillis read interval with a listen connection
+     * @param retentionHours age after which entries are purged
+     * @param datasourceUrl JDBC URL of the database
+     * @param datasourceUsername database user
+     * @param datasourcePassword database password
+     */
+    public ChangeFeedService(
+        EntityChangeRepository entityChangeRepository,
+        EnrollmentRepository enrollmentRepository,
+        DeltaSyncService deltaSyncService,
+        CourseAnalyticsService courseAnalyticsService,
+        ClassRankingService classRankingService,
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${app.change-feed.enabled:true}") boolean enabled,
+        @Value("${app.change-feed.mode:notify}") String mode,
+        @Value("${app.change-feed.poll-interval-ms:2000}") long pollIntervalMillis,
+        @Value("${app.change-feed.safety-poll-interval-ms:30000}") long safetyPollIntervalMillis,
+        @Value("${app.change-feed.retention-hours:24}") long retentionHours,
+        @Value("${spring.datasource.url:}") String datasourceUrl,
+        @Value("${spring.datasource.username:}") String datasourceUsername,
+        @Value("${spring.datasource.password:}") String datasourcePassword
+    ) {
+        this.entityChangeRepository = entityChangeRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.deltaSyncService = deltaSyncService;
+        this.courseAnalyticsService = courseAnalyticsService;
+        this.classRankingService = classRankingService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.publishTransaction = new TransactionTemplate(transactionManager);
+        this.publishTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.notifySupported = "notify".equalsIgnoreCase(mode) && datasourceUrl.startsWith("jdbc:postgresql:");
+        this.pollIntervalMillis = Math.max(100, pollIntervalMillis);
+        this.safetyPollIntervalMillis = Math.max(this.pollIntervalMillis, safetyPollIntervalMillis);
+        this.retentionHours = Math.max(1, retentionHours);
+        this.datasourceUrl = datasourceUrl;
+        this.datasourceUsername = datasourceUsername;
+        this.datasourcePassword = datasourcePassword;
+        this.publishedChanges = Counter.builder(CHANGES_METRIC).tag("direction", "published").register(meterRegistry);
+        this.receivedChanges = Counter.builder(CHANGES_METRIC).tag("direction", "received").register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    /**
+     * Purges expired entries and starts receiving the changes of other clients.
+     */
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Integer purged = publishTransaction.execute(status ->
+                entityChangeRepository.deleteOlderThan(deltaSyncService.databaseTime().minusHours(retentionHours)));
+            if (purged != null && purged > 0) {
+                log.info("Purged {} expired change-feed entries", purged);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Expired change-feed entries could not be purged", e);
+        }
+        readWatermark = deltaSyncService.nextWatermark();
+        running = true;
+        feedThread = Thread.ofPlatform().daemon().name("change-feed").start(this::runFeed);
+        log.info("Change feed started ({})", notifySupported ? "LISTEN/NOTIFY" : "polling");
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        closeListenConnection();
+        if (feedThread != null) {
+            feedThread.interrupt();
+        }
+    }
+
+    /**
+     * Registers a listener for the changes of other clients.
+     *
+     * @param listener listener to add
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param listener listener to remove
+     */
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Records a changed row of the current transaction; it is published when the transaction commits, or
+     * immediately without a transaction.
+     *
+     * @param change changed row
+     */
+    public void record(EntityChangeDTO change) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(List.of(change));
+            return;
+        }
+        pendingChanges().put(change.entityType() + ':' + change.entityId(), change);
+    }
+
+    /**
+     * Records rows of one type written by a native bulk update in the current transaction.
+     *
+     * @param entityType one of the {@code EntityChangeDTO.TYPE_*} constants
+     * @param scopeId course id for enrollments and grades, otherwise {@code null}
+     * @param entityIds ids of the written rows
+     */
+    public void recordAll(String entityType, Long scopeId, Collection<Long> entityIds) {
+        for (Long entityId : entityIds) {
+            record(new EntityChangeDTO(entityType, entityId, scopeId, false));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, EntityChangeDTO> pendingChanges() {
+        Map<String, EntityChangeDTO> pending = (Map<String, EntityChangeDTO>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        Map<String, EntityChangeDTO> created = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private int written;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                if (readOnly) {
+                    return;
+                }
+                // Flushes the remaining entity writes first, so that their listener callbacks are recorded here.
+                entityChangeRepository.flush();
+                List<EntityChangeDTO> changes = List.copyOf(created.values());
+                created.clear();
+                writeEntries(changes);
+                written = changes.size();
+            }
+
+            @Override
+            public void afterCommit() {
+                publishedChanges.increment(written);
+                publish(List.copyOf(created.values()));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ChangeFeedService.this);
+            }
+        });
+        return created;
+    }
+
+    private void publish(List<EntityChangeDTO> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        try {
+            publishTransaction.executeWithoutResult(status -> writeEntries(changes));
+            publishedChanges.increment(changes.size());
+        } catch (RuntimeException e) {
+            log.warn("{} changes could not be published to the change feed", changes.size(), e);
+        }
+    }
+
+    private void writeEntries(List<EntityChangeDTO> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        entityChangeRepository.insertAll(
+            changes.stream().map(EntityChangeDTO::entityType).toArray(String[]::new),
+            changes.stream().map(EntityChangeDTO::entityId).toArray(Long[]::new),
+            changes.stream().map(EntityChangeDTO::scopeId).toArray(Long[]::new),
+            changes.stream().map(EntityChangeDTO::deleted).toArray(Boolean[]::new),
+            instanceId
+        );
+        if (notifySupported) {
+            jdbcTemplate.execute("NOTIFY " + CHANNEL + ", '" + instanceId + "'");
+        }
+    }
+
+    private void runFeed() {
+        while (running) {
+            try {
+                boolean notified = awaitNotification();
+                boolean safetyRead = System.nanoTime() - lastReadNanos >= TimeUnit.MILLISECONDS.toNanos(safetyPollIntervalMillis);
+                if (notified || listenConnection == null || safetyRead) {
+                    readChanges();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Change feed could not be read", e);
+                try {
+                    Thread.sleep(pollIntervalMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for a notification from another client, or for the poll interval without a listen connection.
+     *
+     * @return whether another client announced changes
+     */
+    private boolean awaitNotification() throws InterruptedException {
+        if (!notifySupported || (listenConnection == null && System.currentTimeMillis() < reconnectNotBefore)) {
+            Thread.sleep(pollIntervalMillis);
+            return false;
+        }
+        try {
+            Connection connection = listenConnection;
+            if (connection == null) {
+                connection = DriverManager.getConnection(datasourceUrl, datasourceUsername, datasourcePassword);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                listenConnection = connection;
+                log.info("Change feed is listening on {}", CHANNEL);
+            }
+            PGNotification[] notifications = connection.unwrap(PGConnection.class)
+                .getNotifications((int) safetyPollIntervalMillis);
+            if (notifications == null) {
+                return false;
+            }
+            for (PGNotification notification : notifications) {
+                if (!instanceId.equals(notification.getParameter())) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (SQLException e) {
+            if (running) {
+                log.warn("Change feed listen connection failed; polling until it is re-established", e);
+            }
+            closeListenConnection();
+            reconnectNotBefore = System.currentTimeMillis() + RECONNECT_DELAY_MILLIS;
+            return false;
+        }
+    }
+
+    private void readChanges() {
+        LocalDateTime since = readWatermark;
+        LocalDateTime nextWatermark = deltaSyncService.nextWatermark();
+        List<EntityChange> entries = entityChangeRepository.findByCreatedAtGreaterThanEqualOrderByIdAsc(since);
+        readWatermark = nextWatermark;
+        lastReadNanos = System.nanoTime();
+
+        seenEntryIds.values().removeIf(createdAt -> createdAt.isBefore(since));
+        List<EntityChangeDTO> changes = new ArrayList<>();
+        for (EntityChange entry : entries) {
+            if (seenEntryIds.putIfAbsent(entry.getId(), entry.getCreatedAt()) != null || instanceId.equals(entry.getOrigin())) {
+                continue;
+            }
+            changes.add(new EntityChangeDTO(entry.getEntityType(), entry.getEntityId(), entry.getScopeId(), entry.isDeleted()));
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+        receivedChanges.increment(changes.size());
+        invalidateCaches(changes);
+        for (Listener listener : listeners) {
+            try {
+                listener.onRemoteChanges(changes);
+            } catch (RuntimeException e) {
+                log.warn("Change feed listener failed", e);
+            }
+        }
+    }
+
+    private void invalidateCaches(List<EntityChangeDTO> changes) {
+        Set<Long> rankingEnrollmentIds = new HashSet<>();
+        Set<Long> deletedEnrollmentIds = new HashSet<>();
+        Set<Long> rankingStudentIds = new HashSet<>();
+        for (EntityChangeDTO change : changes) {
+            switch (change.entityType()) {
+                case EntityChangeDTO.TYPE_COURSE -> courseAnalyticsService.invalidate(change.entityId());
+                case EntityChangeDTO.TYPE_ENROLLMENT, EntityChangeDTO.TYPE_GRADE -> {
+                    if (change.scopeId() != null) {
+                        courseAnalyticsService.invalidate(change.scopeId());
+                    }
+                    if (EntityChangeDTO.TYPE_GRADE.equals(change.entityType()) || change.deleted()) {
+                        rankingEnrollmentIds.add(change.entityId());
+                    }
+                    if (EntityChangeDTO.TYPE_ENROLLMENT.equals(change.entityType()) && change.deleted()) {
+                        deletedEnrollmentIds.add(change.entityId());
+                    }
+                }
+                case EntityChangeDTO.TYPE_USER -> {
+                    if (change.deleted()) {
+                        rankingStudentIds.add(change.entityId());
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        refreshRankings(rankingEnrollmentIds, deletedEnrollmentIds, rankingStudentIds);
+    }
+
+    /**
+     * Reloads the rankings of the students behind the changed grades and enrollments. A full rebuild is only
+     * done when a deleted enrollment can no longer be mapped to its student, or when too many students are
+     * affected for a targeted reload to pay off.
+     */
+    private void refreshRankings(Set<Long> enrollmentIds, Set<Long> deletedEnrollmentIds, Set<Long> studentIds) {
+        if (enrollmentIds.isEmpty() && studentIds.isEmpty()) {
+            return;
+        }
+        if (!enrollmentIds.isEmpty()) {
+            Set<Long> resolvedEnrollmentIds = new HashSet<>();
+            for (EnrollmentRepository.RosterEntry entry : enrollmentRepository.findRosterEntriesByIdIn(enrollmentIds)) {
+                resolvedEnrollmentIds.add(entry.getEnrollmentId());
+                studentIds.add(entry.getStudentId());
+            }
+            if (!resolvedEnrollmentIds.containsAll(deletedEnrollmentIds)) {
+                classRankingService.rebuild();
+                return;
+            }
+        }
+        if (studentIds.size() > MAX_RANKING_RELOAD_STUDENTS) {
+            classRankingService.rebuild();
+            return;
+        }
+        classRankingService.reloadStudents(studentIds);
+    }
+
+    private void closeListenConnection() {
+        Connection connection = listenConnection;
+        listenConnection = null;
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Change feed listen connection could not be closed", e);
+        }
+    }
+}
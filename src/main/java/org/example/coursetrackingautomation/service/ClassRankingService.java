@@ -0,0 +1,239 @@
+package org.example.coursetrackingautomation.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.coursetrackingautomation.dto.ClassRankDTO;
+import org.example.coursetrackingautomation.entity.AcademicSummary;
+import org.example.coursetrackingautomation.repository.AcademicSummaryRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+/**
+ * Answers class rank, percentile and top-N queries from in-memory order-statistic indexes.
+ *
+ * <p>One {@link GpaRankIndex} is kept per cohort: each term, plus {@link AcademicSummary#CUMULATIVE_TERM}
+ * for cumulative GPA. The indexes are fed from the persisted academic summaries: they are built once at
+ * startup (cohorts in parallel, off the startup thread) and then updated incrementally by
+ * {@link AcademicSummaryService} after each committed change. Rank and percentile queries are O(log n);
+ * until the startup build has finished they return no ranks rather than waiting for it.</p>
+ *
+ * <p>Rebuilds are serialized; updates that arrive while a rebuild is running are replayed onto the rebuilt
+ * indexes.</p>
+ */
+public class ClassRankingService {
+
+    private final AcademicSummaryRepository academicSummaryRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final CompletableFuture<Void> initialBuild = new CompletableFuture<>();
+    private Map<String, GpaRankIndex> indexesByTerm = new HashMap<>();
+    private List<Runnable> updatesDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    /**
+     * Starts the initial index build in the background once the application is ready.
+     */
+    public void buildOnStartup() {
+        Thread.ofVirtual().name("class-ranking-rebuild").start(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("Class ranking indexes could not be built", e);
+            } finally {
+                initialBuild.complete(null);
+            }
+        });
+    }
+
+    /**
+     * Rebuilds all cohort indexes from the persisted academic summaries.
+     *
+     * <p>Cohorts are built in parallel; queries keep using the previous indexes until the swap.</p>
+     */
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            updatesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<String, GpaRankIndex> rebuilt;
+        try {
+            Map<String, Map<Long, BigDecimal>> gpasByTerm = new HashMap<>();
+            for (AcademicSummaryRepository.StudentGpa row : academicSummaryRepository.findRankableGpas()) {
+                gpasByTerm.computeIfAbsent(row.getTerm(), ignored -> new HashMap<>()).put(row.getStudentId(), row.getGpa());
+            }
+            rebuilt = gpasByTerm.entrySet().parallelStream()
+                .collect(Collectors.toConcurrentMap(Map.Entry::getKey, entry -> GpaRankIndex.build(entry.getValue())));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                updatesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            indexesByTerm = new HashMap<>(rebuilt);
+            updatesDuringRebuild.forEach(Runnable::run);
+            updatesDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Class ranking indexes built for {} cohorts", rebuilt.size());
+    }
+
+    /**
+     * Sets the GPA of a student in one cohort.
+     *
+     * @param studentId student identifier
+     * @param term cohort term, or {@link AcademicSummary#CUMULATIVE_TERM}
+     * @param gpa new GPA, or {@code null} if the student should not be ranked in the cohort
+     */
+    public void updateStudent(Long studentId, String term, BigDecimal gpa) {
+        if (studentId == null || term == null) {
+            return;
+        }
+        applyUpdate(() -> indexesByTerm.computeIfAbsent(term, ignored -> new GpaRankIndex()).update(studentId, gpa));
+    }
+
+    /**
+     * Replaces all rankings of a student, removing the student from cohorts not present in {@code gpaByTerm}.
+     *
+     * @param studentId student identifier
+     * @param gpaByTerm GPA per cohort term
+     */
+    public void replaceStudent(Long studentId, Map<String, BigDecimal> gpaByTerm) {
+        if (studentId == null) {
+            return;
+        }
+        Map<String, BigDecimal> snapshot = Map.copyOf(gpaByTerm);
+        applyUpdate(() -> {
+            indexesByTerm.forEach((term, index) -> {
+                if (!snapshot.containsKey(term)) {
+                    index.update(studentId, null);
+                }
+            });
+            snapshot.forEach((term, gpa) -> indexesByTerm.computeIfAbsent(term, ignored -> new GpaRankIndex()).update(studentId, gpa));
+        });
+    }
+
+    /**
+     * Reloads the rankings of the given students from their persisted academic summaries.
+     *
+     * <p>Used for changes made by other clients; the summaries of all students are read in one query, and
+     * students without rankable summaries are removed from every cohort.</p>
+     *
+     * @param studentIds student identifiers
+     */
+    public void reloadStudents(Collection<Long> studentIds) {
+        if (studentIds == null || studentIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Map<String, BigDecimal>> gpaByStudent = new HashMap<>();
+        for (Long studentId : studentIds) {
+            gpaByStudent.put(studentId, new HashMap<>());
+        }
+        for (AcademicSummaryRepository.StudentGpa row : academicSummaryRepository.findRankableGpasByStudentIdIn(studentIds)) {
+            gpaByStudent.get(row.getStudentId()).put(row.getTerm(), row.getGpa());
+        }
+        gpaByStudent.forEach(this::replaceStudent);
+    }
+
+    /**
+     * Returns the rank of a student in a cohort.
+     *
+     * @param studentId student identifier
+     * @param term cohort term, or {@link AcademicSummary#CUMULATIVE_TERM}
+     * @return rank, or empty if the student has no GPA in the cohort or the indexes are still being built
+     */
+    public Optional<ClassRankDTO> getRank(Long studentId, String term) {
+        if (studentId == null || term == null || !initialBuild.isDone()) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            GpaRankIndex index = indexesByTerm.get(term);
+            if (index == null || !index.contains(studentId)) {
+                return Optional.empty();
+            }
+            return Optional.of(toDTO(index, studentId, term));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the cumulative-GPA rank of a student.
+     *
+     * @param studentId student identifier
+     * @return rank, or empty if the student has no GPA yet or the indexes are still being built
+     */
+    public Optional<ClassRankDTO> getCumulativeRank(Long studentId) {
+        return getRank(studentId, AcademicSummary.CUMULATIVE_TERM);
+    }
+
+    /**
+     * Returns the highest ranked students of a cohort.
+     *
+     * @param term cohort term, or {@link AcademicSummary#CUMULATIVE_TERM}
+     * @param limit maximum number of students
+     * @return ranks, highest GPA first; empty while the indexes are still being built
+     * @throws IllegalArgumentException if {@code limit} is negative
+     */
+    public List<ClassRankDTO> getTopStudents(String term, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit negatif olamaz");
+        }
+        if (!initialBuild.isDone()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            GpaRankIndex index = term == null ? null : indexesByTerm.get(term);
+            if (index == null) {
+                return List.of();
+            }
+            return index.top(limit).stream()
+                .map(studentId -> toDTO(index, studentId, term))
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void applyUpdate(Runnable update) {
+        lock.writeLock().lock();
+        try {
+            update.run();
+            if (updatesDuringRebuild != null) {
+                updatesDuringRebuild.add(update);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static ClassRankDTO toDTO(GpaRankIndex index, Long studentId, String term) {
+        return new ClassRankDTO(studentId, term, index.gpa(studentId), index.rank(studentId), index.size(), index.percentile(studentId));
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.coursetrackingautomation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.example.coursetrackingautomation.dto.CourseAnalyticsDTO;
+import org.example.coursetrackingautomation.entity.EnrollmentStatus;
+import org.example.coursetrackingautomation.repository.EnrollmentRepository;
+import org.example.coursetrackingautomation.repository.GradeRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+/**
+ * Computes and caches per-course grade statistics (mean, median, standard deviation, pass rate and
+ * letter grade histogram).
+ *
+ * <p>Statistics are aggregated by the database in two grouped queries instead of loading the roster.
+ * Results are cached per course and invalidated after commit when grades or enrollments of the course
+ * change. Dropped and cancelled enrollments are excluded.</p>
+ */
+public class CourseAnalyticsService {
+
+    static final String CACHE_NAME = "course-analytics";
+
+    private static final List<String> LETTER_GRADES = List.of("AA", "BA", "BB", "CB", "CC", "DC", "DD", "FD", "FF");
+
+    private static final EnumSet<EnrollmentStatus> EXCLUDED_STATUSES = EnumSet.of(
+        EnrollmentStatus.DROPPED,
+        EnrollmentStatus.CANCELLED
+    );
+
+    private static final List<EnrollmentStatus> ACTIVE_ENROLLMENT_STATUSES = List.of(
+        EnrollmentStatus.ACTIVE,
+        EnrollmentStatus.ENROLLED,
+        EnrollmentStatus.REGISTERED
+    );
+
+    private final GradeRepository gradeRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final Map<Long, CourseAnalyticsDTO> cache = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public CourseAnalyticsService(GradeRepository gradeRepository,
+                                  EnrollmentRepository enrollmentRepository,
+                                  MeterRegistry meterRegistry) {
+        this.gradeRepository = gradeRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.hits = Counter.builder(DiagnosticsService.CACHE_REQUESTS_METRIC)
+            .tag("cache", CACHE_NAME)
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder(DiagnosticsService.CACHE_REQUESTS_METRIC)
+            .tag("cache", CACHE_NAME)
+            .tag("result", "miss")
+            .register(meterRegistry);
+    }
+
+    @Transactional(readOnly = true)
+    /**
+     * Returns the grade statistics of a course, from the cache when available.
+     *
+     * @param courseId course identifier
+     * @return statistics of the course
+     * @throws IllegalArgumentException if {@code courseId} is null
+     */
+    public CourseAnalyticsDTO getCourseAnalytics(Long courseId) {
+        if (courseId == null) {
+            throw new IllegalArgumentException("Ders id boş olamaz");
+        }
+        CourseAnalyticsDTO cached = cache.get(courseId);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        long generationBeforeLoad = generation.get();
+        CourseAnalyticsDTO loaded = load(courseId);
+        if (generation.get() == generationBeforeLoad) {
+            cache.put(courseId, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops the cached statistics of a course once the current transaction commits.
+     *
+     * @param courseId course identifier; ignored if {@code null}
+     */
+    public void invalidate(Long courseId) {
+        if (courseId == null) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            cache.remove(courseId);
+        });
+    }
+
+    /**
+     * Drops all cached statistics once the current transaction commits.
+     */
+    public void invalidateAll() {
+        AfterCommit.run(() -> {
+            generation.incrementAndGet();
+            cache.clear();
+        });
+    }
+
+    private CourseAnalyticsDTO load(Long courseId) {
+        List<String> excludedStatusNames = EXCLUDED_STATUSES.stream().map(Enum::name).toList();
+        GradeRepository.CourseGradeStatistics statistics = gradeRepository.findCourseGradeStatistics(courseId, excludedStatusNames);
+
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        LETTER_GRADES.forEach(letter -> histogram.put(letter, 0L));
+        for (GradeRepository.LetterGradeCount row : gradeRepository.countLetterGradesByCourseId(courseId, EXCLUDED_STATUSES)) {
+            histogram.merge(row.getLetterGrade().trim().toUpperCase(), row.getGradeCount(), Long::sum);
+        }
+
+        long gradedCount = statistics == null ? 0 : toLong(statistics.getGradedCount());
+        long passedCount = statistics == null ? 0 : toLong(statistics.getPassedCount());
+        long enrolledCount = enrollmentRepository.countByCourseIdAndStatusIn(courseId, ACTIVE_ENROLLMENT_STATUSES);
+        log.debug("Course analytics loaded for courseId={} (graded={})", courseId, gradedCount);
+
+        return new CourseAnalyticsDTO(
+            courseId,
+            enrolledCount,
+            gradedCount,
+            gradedCount == 0 ? null : toDouble(statistics.getMean()),
+            gradedCount == 0 ? null : toDouble(statistics.getMedian()),
+            gradedCount == 0 ? null : toDouble(statistics.getStandardDeviation()),
+            gradedCount == 0 ? null : passedCount * 100.0 / gradedCount,
+            Collections.unmodifiableMap(histogram)
+        );
+    }
+
+    private static long toLong(Number value) {
+        return value == null ? 0L : value.longValue();
+    }
+
+    private static Double toDouble(Number value) {
+        return value == null ? null : value.doubleValue();
+    }
+}
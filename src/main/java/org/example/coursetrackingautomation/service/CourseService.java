@@ -9,14 +9,19 @@ import org.example.coursetrackingautomation.entity.Course;
 import org.example.coursetrackingautomation.entity.EnrollmentStatus;
 import org.example.coursetrackingautomation.entity.Role;
 import org.example.coursetrackingautomation.entity.User;
+import org.example.coursetrackingautomation.event.CourseSavedEvent;
 import org.example.coursetrackingautomation.repository.CourseRepository;
 import org.example.coursetrackingautomation.repository.EnrollmentRepository;
 import org.example.coursetrackingautomation.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Locale;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,7 +31,9 @@ import java.util.stream.Collectors;
  * Manages {@link Course} lifecycle and course read models for the application.
  *
  * <p>This service encapsulates validation and business rules around course creation, updates,
- * activation/deactivation, quota management, and conversion to {@link CourseDTO} for UI use.</p>
+ * activation/deactivation, quota management, and conversion to {@link CourseDTO} for UI use. Every
+ * committed change of a course is announced with a {@link CourseSavedEvent}. Changing the credit or term
+ * of a course rebuilds the academic summaries of its students in the same transaction.</p>
  *
  * <p>Validation failures are reported via {@link IllegalArgumentException} with user-friendly
  * messages suitable for surfacing in the UI.</p>
@@ -36,6 +43,8 @@ public class CourseService {
     private final CourseRepository courseRepository;
     private final EnrollmentRepository enrollmentRepository;
     private final UserRepository userRepository;
+    private final AcademicSummaryService academicSummaryService;
+    private final DomainEventBus domainEventBus;
 
     private static final String DEFAULT_TERM = "N/A";
     private static final int DEFAULT_QUOTA = 30;
@@ -73,10 +82,12 @@ public class CourseService {
         }
         
         course.setActive(true);
+        boolean created = course.getId() == null;
         
         Course savedCourse = courseRepository.save(course);
         log.info("Course created successfully with ID: {} and quota: {}", 
             savedCourse.getId(), savedCourse.getQuota());
+        publishSaved(savedCourse, created);
         
         return savedCourse;
     }
@@ -150,6 +161,8 @@ public class CourseService {
         String term = request.term() == null || request.term().isBlank() ? DEFAULT_TERM : request.term().trim();
 
         if (existingByCode != null) {
+            Integer previousCredit = existingByCode.getCredit();
+            String previousTerm = existingByCode.getTerm();
             existingByCode.setName(name);
             existingByCode.setCredit(credit);
             existingByCode.setTerm(term);
@@ -169,7 +182,9 @@ public class CourseService {
 
             existingByCode.setActive(true);
             Course saved = courseRepository.save(existingByCode);
+            rebuildSummariesIfCreditOrTermChanged(saved, previousCredit, previousTerm);
             log.info("Course re-activated: id={}, code={}", saved.getId(), saved.getCode());
+            publishSaved(saved, false);
             return saved;
         }
 
@@ -218,6 +233,7 @@ public class CourseService {
         Course updatedCourse = courseRepository.save(course);
         
         log.info("Quota updated successfully for course ID: {}", courseId);
+        publishSaved(updatedCourse, false);
         return updatedCourse;
     }
 
@@ -244,6 +260,8 @@ public class CourseService {
 
         Course course = courseRepository.findById(courseId)
             .orElseThrow(() -> new IllegalArgumentException("Ders bulunamadı: " + courseId));
+        Integer previousCredit = course.getCredit();
+        String previousTerm = course.getTerm();
 
         if (request.name() != null && !request.name().trim().isBlank()) {
             course.setName(request.name().trim());
@@ -292,6 +310,7 @@ public class CourseService {
 
         if (request.active() != null) {
             if (!request.active()) {
+                rebuildSummariesIfCreditOrTermChanged(course, previousCredit, previousTerm);
                 deactivateCourse(courseId);
                 return courseRepository.findById(courseId)
                     .orElseThrow(() -> new IllegalArgumentException("Ders bulunamadı: " + courseId));
@@ -312,7 +331,9 @@ public class CourseService {
         }
 
         Course saved = courseRepository.save(course);
+        rebuildSummariesIfCreditOrTermChanged(saved, previousCredit, previousTerm);
         log.info("Course updated: id={}, code={}", saved.getId(), saved.getCode());
+        publishSaved(saved, false);
         return saved;
     }
     
@@ -337,7 +358,8 @@ public class CourseService {
         }
         
         course.setActive(false);
-        courseRepository.save(course);
+        Course saved = courseRepository.save(course);
+        publishSaved(saved, false);
 
         log.info("Course ID: {} deactivated successfully", courseId);
     }
@@ -455,6 +477,21 @@ public class CourseService {
         return builder.build();
     }
 
+    private void rebuildSummariesIfCreditOrTermChanged(Course course, Integer previousCredit, String previousTerm) {
+        if (Objects.equals(previousCredit, course.getCredit()) && Objects.equals(previousTerm, course.getTerm())) {
+            return;
+        }
+        // Stored totals were built with the old credit/term; later grade deltas would otherwise drift from them.
+        List<Long> studentIds = enrollmentRepository.findStudentIdsByCourseId(course.getId());
+        academicSummaryService.rebuildStudents(studentIds);
+        log.info("Academic summaries rebuilt for {} students after credit/term change of course id={}",
+            studentIds.size(), course.getId());
+    }
+
+    private void publishSaved(Course course, boolean created) {
+        domainEventBus.publishAfterCommit(new CourseSavedEvent(toDTO(course, getCurrentEnrollmentCount(course)), created));
+    }
+
     private static Integer requireNonNegative(Integer value, String label) {
         if (value == null) {
             throw new IllegalArgumentException(label + " boş bırakılamaz");
@@ -497,14 +534,7 @@ public class CourseService {
      * @return active course DTOs
      */
     public List<CourseDTO> getAllActiveCourseDTOs() {
-        List<Course> courses = courseRepository.findByActiveTrue();
-        
-        return courses.stream()
-            .map(course -> {
-                long currentEnrollments = getCurrentEnrollmentCount(course);
-                return toDTO(course, currentEnrollments);
-            })
-            .collect(Collectors.toList());
+        return toDTOsWithEnrollmentCounts(courseRepository.findActiveWithInstructor());
     }
     
     @Transactional(readOnly = true)
@@ -514,13 +544,40 @@ public class CourseService {
      * @return all course DTOs
      */
     public List<CourseDTO> getAllCourseDTOs() {
-        List<Course> courses = courseRepository.findAll();
-        
+        return toDTOsWithEnrollmentCounts(courseRepository.findAllWithInstructor());
+    }
+
+    @Transactional(readOnly = true)
+    /**
+     * Lists the given courses as DTOs, counting enrollments of these courses only.
+     *
+     * @param courseIds course identifiers; unknown ids are skipped
+     * @return course DTOs
+     */
+    public List<CourseDTO> getCourseDTOsByIds(Collection<Long> courseIds) {
+        if (courseIds == null || courseIds.isEmpty()) {
+            return List.of();
+        }
+        return toDTOsWithEnrollmentCounts(
+            courseRepository.findWithInstructorByIdIn(courseIds),
+            enrollmentRepository.countByStatusInAndCourseIdInGroupedByCourse(ACTIVE_ENROLLMENT_STATUSES, courseIds)
+        );
+    }
+
+    private List<CourseDTO> toDTOsWithEnrollmentCounts(List<Course> courses) {
+        return toDTOsWithEnrollmentCounts(courses,
+            enrollmentRepository.countByStatusInGroupedByCourse(ACTIVE_ENROLLMENT_STATUSES));
+    }
+
+    private List<CourseDTO> toDTOsWithEnrollmentCounts(List<Course> courses,
+                                                       List<EnrollmentRepository.CourseEnrollmentCount> counts) {
+        Map<Long, Long> countsByCourseId = new HashMap<>();
+        for (EnrollmentRepository.CourseEnrollmentCount row : counts) {
+            countsByCourseId.put(row.getCourseId(), row.getEnrollmentCount());
+        }
+
         return courses.stream()
-            .map(course -> {
-                long currentEnrollments = getCurrentEnrollmentCount(course);
-                return toDTO(course, currentEnrollments);
-            })
+            .map(course -> toDTO(course, countsByCourseId.getOrDefault(course.getId(), 0L)))
             .collect(Collectors.toList());
     }
 }
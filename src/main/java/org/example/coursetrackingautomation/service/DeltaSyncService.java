@@ -0,0 +1,134 @@
+package org.example.coursetrackingautomation.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.example.coursetrackingautomation.entity.Tombstone;
+import org.example.coursetrackingautomation.repository.TombstoneRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+/**
+ * Watermarks and deletions for the delta sync read APIs of the admin and instructor services.
+ *
+ * <p>A delta request returns the rows whose {@code updated_at} is at or after the client watermark, plus
+ * the {@link Tombstone tombstones} written since then. Watermarks are taken from the database clock, which
+ * also stamps the rows, so clients with skewed clocks neither miss nor re-read changes because of the skew.
+ * The next watermark lags that clock by
+ * {@code app.sync.watermark-overlap-seconds}, because {@code updated_at} is the time a row was written, not
+ * committed: a transaction that commits shortly after the read may carry an older timestamp. Rows inside the
+ * overlap are sent again, which merging clients tolerate. Tombstones are kept for
+ * {@code app.sync.tombstone-retention-days}; older watermarks get a full snapshot.</p>
+ */
+public class DeltaSyncService {
+
+    private final TombstoneRepository tombstoneRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration watermarkOverlap;
+    private final Duration tombstoneRetention;
+
+    /**
+     * Creates the service.
+     *
+     * @param tombstoneRepository repository of tombstones
+     * @param jdbcTemplate template used to read the database clock
+     * @param watermarkOverlapSeconds lag of the returned watermarks behind the clock
+     * @param tombstoneRetentionDays age after which tombstones are purged
+     */
+    public DeltaSyncService(
+        TombstoneRepository tombstoneRepository,
+        JdbcTemplate jdbcTemplate,
+        @Value("${app.sync.watermark-overlap-seconds:30}") long watermarkOverlapSeconds,
+        @Value("${app.sync.tombstone-retention-days:7}") long tombstoneRetentionDays
+    ) {
+        this.tombstoneRepository = tombstoneRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.watermarkOverlap = Duration.ofSeconds(Math.max(0, watermarkOverlapSeconds));
+        this.tombstoneRetention = Duration.ofDays(Math.max(1, tombstoneRetentionDays));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    /**
+     * Deletes tombstones older than the retention period.
+     */
+    public void purgeExpiredTombstones() {
+        int purged = tombstoneRepository.deleteOlderThan(databaseTime().minus(tombstoneRetention));
+        if (purged > 0) {
+            log.info("Purged {} expired tombstones", purged);
+        }
+    }
+
+    /**
+     * Returns the watermark to hand out with a delta; call it before reading the rows.
+     *
+     * @return current database time minus the overlap
+     */
+    public LocalDateTime nextWatermark() {
+        return databaseTime().minus(watermarkOverlap);
+    }
+
+    /**
+     * Returns the current time of the database clock, in the time zone of the timestamp columns.
+     *
+     * <p>Inside a transaction this is the transaction start time, which is never later than the timestamps
+     * the transaction writes.</p>
+     *
+     * @return database time
+     */
+    public LocalDateTime databaseTime() {
+        return jdbcTemplate.queryForObject("select cast(now() as timestamp)", LocalDateTime.class);
+    }
+
+    /**
+     * Tells whether a delta can be computed from the given watermark.
+     *
+     * @param since client watermark; may be null
+     * @return {@code false} if there is no watermark or its tombstones may have been purged
+     */
+    public boolean canSyncFrom(LocalDateTime since) {
+        // The local clock is precise enough against a retention of days and saves a query per delta.
+        return since != null && since.isAfter(LocalDateTime.now().minus(tombstoneRetention));
+    }
+
+    /**
+     * Returns the ids of entities of a type deleted since the watermark.
+     *
+     * @param entityType tombstone entity type
+     * @param since client watermark
+     * @return deleted ids
+     */
+    public List<Long> deletedIds(String entityType, LocalDateTime since) {
+        return tombstoneRepository.findDeletedIdsSince(entityType, since);
+    }
+
+    /**
+     * Returns the ids of entities of a type and scope deleted since the watermark.
+     *
+     * @param entityType tombstone entity type
+     * @param scopeId scope identifier (course id for enrollments)
+     * @param since client watermark
+     * @return deleted ids
+     */
+    public List<Long> deletedIds(String entityType, Long scopeId, LocalDateTime since) {
+        return tombstoneRepository.findDeletedIdsInScopeSince(entityType, scopeId, since);
+    }
+
+    /**
+     * Returns the scopes that had entities of a type deleted since the watermark.
+     *
+     * @param entityType tombstone entity type
+     * @param since client watermark
+     * @return scope identifiers
+     */
+    public List<Long> scopesWithDeletions(String entityType, LocalDateTime since) {
+        return tombstoneRepository.findScopeIdsWithDeletionsSince(entityType, since);
+    }
+}
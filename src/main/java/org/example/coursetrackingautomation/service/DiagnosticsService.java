@@ -0,0 +1,412 @@
+package org.example.coursetrackingautomation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.management.RuntimeMXBean;
+import java.lang.management.ThreadInfo;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.coursetrackingautomation.diagnostics.MetricsExporter;
+import org.example.coursetrackingautomation.diagnostics.RecentCallLog;
+import org.example.coursetrackingautomation.diagnostics.TraceLog;
+import org.example.coursetrackingautomation.dto.AdminDiagnosticsRowDTO;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+/**
+ * Builds the read model of the admin performance diagnostics view.
+ *
+ * <p>All values are taken from the local meter registry, {@link RecentCallLog} and the JVM management
+ * beans; no database access is performed. Recent traces from {@link TraceLog} are summarized with their time
+ * split by span kind. A snapshot bundle (zip) can be exported for offline analysis; it includes the full
+ * span trees.</p>
+ */
+public class DiagnosticsService {
+
+    public static final String CATEGORY_SLOW_CALLS = "Yavaş Çağrılar";
+    public static final String CATEGORY_TRACES = "İzler";
+    public static final String CATEGORY_SCREEN_SQL = "Ekran SQL";
+    public static final String CATEGORY_CACHE = "Önbellek";
+    public static final String CATEGORY_POOL = "Bağlantı Havuzu";
+    public static final String CATEGORY_FX = "FX İş Parçacığı";
+    public static final String CATEGORY_MEMORY = "Bellek";
+    public static final String CATEGORY_JFR = "JFR";
+
+    /**
+     * Meter name used by application caches; tagged with {@code cache} and {@code result} ({@code hit}/{@code miss}).
+     */
+    public static final String CACHE_REQUESTS_METRIC = "app.cache.requests";
+
+    private static final int SLOW_CALL_LIMIT = 10;
+    private static final int TRACE_LIMIT = 10;
+    private static final int EXPORTED_TRACE_LIMIT = 200;
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss").withZone(ZoneId.systemDefault());
+
+    private final MeterRegistry meterRegistry;
+    private final MetricsExporter metricsExporter;
+    private final FlightRecordingService flightRecordingService;
+
+    /**
+     * Returns the current diagnostics rows, grouped by category.
+     *
+     * @return diagnostics rows
+     */
+    public List<AdminDiagnosticsRowDTO> getDiagnosticsRows() {
+        List<AdminDiagnosticsRowDTO> rows = new ArrayList<>();
+        addSlowCallRows(rows);
+        addTraceRows(rows);
+        addScreenSqlRows(rows);
+        addCacheRows(rows);
+        addPoolRows(rows);
+        addFxRows(rows);
+        addMemoryRows(rows);
+        addFlightRecordingRows(rows);
+        return rows;
+    }
+
+    /**
+     * @return {@code true} if a JFR recording is running
+     */
+    public boolean isFlightRecordingActive() {
+        return flightRecordingService.isRecording();
+    }
+
+    /**
+     * Starts a JFR recording containing the application events.
+     *
+     * @throws IllegalStateException if the recording cannot be started
+     */
+    public void startFlightRecording() {
+        flightRecordingService.startRecording();
+    }
+
+    /**
+     * Stops the running JFR recording and writes it to disk.
+     *
+     * @return written {@code .jfr} file
+     * @throws IllegalStateException if no recording is running or it cannot be written
+     */
+    public Path stopFlightRecording() {
+        return flightRecordingService.stopRecording();
+    }
+
+    /**
+     * Writes a zip bundle containing the diagnostics rows, all metrics, a thread dump and JVM details.
+     *
+     * @param target target zip file
+     * @return the written file
+     * @throws IllegalArgumentException if {@code target} is null
+     * @throws IllegalStateException if the bundle cannot be written
+     */
+    public Path exportSnapshotBundle(Path target) {
+        if (target == null) {
+            throw new IllegalArgumentException("Hedef dosya boş olamaz");
+        }
+        try (OutputStream out = Files.newOutputStream(target);
+             ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8)) {
+            writeEntry(zip, "diagnostics.txt", renderRows(getDiagnosticsRows()));
+            writeEntry(zip, "metrics.txt", metricsExporter.render());
+            writeEntry(zip, "traces.txt", TraceLog.render(EXPORTED_TRACE_LIMIT));
+            writeEntry(zip, "threads.txt", renderThreadDump());
+            writeEntry(zip, "system.txt", renderSystemInfo());
+        } catch (IOException e) {
+            throw new IllegalStateException("Tanılama paketi yazılamadı: " + target, e);
+        }
+        log.info("Diagnostics snapshot exported to {}", target.toAbsolutePath());
+        return target;
+    }
+
+    private void addFlightRecordingRows(List<AdminDiagnosticsRowDTO> rows) {
+        String startedAt = flightRecordingService.getRecordingStartedAt()
+            .map(instant -> "Başlangıç " + TIME_FORMATTER.format(instant))
+            .orElse("Kayıt yok");
+        rows.add(new AdminDiagnosticsRowDTO(
+            CATEGORY_JFR,
+            "Uçuş kaydı",
+            flightRecordingService.isRecording() ? "Çalışıyor" : "Durduruldu",
+            startedAt
+        ));
+    }
+
+    private void addSlowCallRows(List<AdminDiagnosticsRowDTO> rows) {
+        List<RecentCallLog.RecentCall> slowest = RecentCallLog.slowest(SLOW_CALL_LIMIT);
+        if (slowest.isEmpty()) {
+            rows.add(new AdminDiagnosticsRowDTO(CATEGORY_SLOW_CALLS, "-", "-", "Henüz çağrı kaydı yok"));
+            return;
+        }
+        for (RecentCallLog.RecentCall call : slowest) {
+            rows.add(new AdminDiagnosticsRowDTO(
+                CATEGORY_SLOW_CALLS,
+                call.component() + "." + call.method(),
+                formatMillis(call.durationNanos() / 1_000_000.0),
+                call.kind() + " • " + TIME_FORMATTER.format(call.finishedAt()) + " • " + call.thread()
+            ));
+        }
+    }
+
+    private void addTraceRows(List<AdminDiagnosticsRowDTO> rows) {
+        for (TraceLog.TraceSummary trace : TraceLog.recentTraces(TRACE_LIMIT)) {
+            StringBuilder breakdown = new StringBuilder();
+            trace.selfNanosByKind().forEach((kind, nanos) -> {
+                if (!breakdown.isEmpty()) {
+                    breakdown.append(" • ");
+                }
+                breakdown.append(kind).append(' ').append(formatMillis(nanos / 1_000_000.0));
+            });
+            rows.add(new AdminDiagnosticsRowDTO(
+                CATEGORY_TRACES,
+                trace.rootName() + " (" + TIME_FORMATTER.format(trace.startedAt()) + ")",
+                formatMillis(trace.durationNanos() / 1_000_000.0),
+                trace.sqlStatements() + " SQL • " + breakdown
+            ));
+        }
+    }
+
+    private void addScreenSqlRows(List<AdminDiagnosticsRowDTO> rows) {
+        List<DistributionSummary> summaries = new ArrayList<>(meterRegistry.find("app.fx.task.sql").summaries());
+        summaries.sort((a, b) -> Double.compare(b.max(), a.max()));
+        for (DistributionSummary summary : summaries) {
+            rows.add(new AdminDiagnosticsRowDTO(
+                CATEGORY_SCREEN_SQL,
+                summary.getId().getTag("origin"),
+                String.format(Locale.ROOT, "ort. %.1f / maks. %.0f", summary.mean(), summary.max()),
+                summary.count() + " yükleme"
+            ));
+        }
+        rows.add(new AdminDiagnosticsRowDTO(
+            CATEGORY_SCREEN_SQL,
+            "Toplam hazırlanan ifade",
+            formatCount(sumFunctionCounters("hibernate.statements.prepared")),
+            "Hibernate istatistikleri"
+        ));
+    }
+
+    private void addCacheRows(List<AdminDiagnosticsRowDTO> rows) {
+        Map<String, double[]> hitsAndMisses = new TreeMap<>();
+        for (Meter meter : meterRegistry.find(CACHE_REQUESTS_METRIC).meters()) {
+            String cache = meter.getId().getTag("cache");
+            boolean hit = "hit".equals(meter.getId().getTag("result"));
+            double count = countOf(meter);
+            double[] totals = hitsAndMisses.computeIfAbsent(cache == null ? "-" : cache, key -> new double[2]);
+            totals[hit ? 0 : 1] += count;
+        }
+        hitsAndMisses.put("hibernate-l2", new double[] {
+            sumFunctionCounters("hibernate.cache.second_level.hits"),
+            sumFunctionCounters("hibernate.cache.second_level.misses")
+        });
+
+        for (Map.Entry<String, double[]> entry : hitsAndMisses.entrySet()) {
+            double hits = entry.getValue()[0];
+            double misses = entry.getValue()[1];
+            double total = hits + misses;
+            rows.add(new AdminDiagnosticsRowDTO(
+                CATEGORY_CACHE,
+                entry.getKey(),
+                total == 0 ? "-" : String.format(Locale.ROOT, "%%%.1f isabet", hits * 100.0 / total),
+                formatCount(hits) + " isabet / " + formatCount(misses) + " ıska"
+            ));
+        }
+    }
+
+    private void addPoolRows(List<AdminDiagnosticsRowDTO> rows) {
+        Map<String, double[]> pools = new TreeMap<>();
+        collectPoolGauge(pools, "hikaricp.connections.active", 0);
+        collectPoolGauge(pools, "hikaricp.connections.idle", 1);
+        collectPoolGauge(pools, "hikaricp.connections.pending", 2);
+        collectPoolGauge(pools, "hikaricp.connections.max", 3);
+
+        if (pools.isEmpty()) {
+            rows.add(new AdminDiagnosticsRowDTO(CATEGORY_POOL, "-", "-", "Havuz henüz başlatılmadı"));
+            return;
+        }
+        for (Map.Entry<String, double[]> entry : pools.entrySet()) {
+            double[] values = entry.getValue();
+            double saturation = values[3] <= 0 ? 0 : values[0] * 100.0 / values[3];
+            rows.add(new AdminDiagnosticsRowDTO(
+                CATEGORY_POOL,
+                entry.getKey(),
+                String.format(Locale.ROOT, "%.0f/%.0f (%%%.0f)", values[0], values[3], saturation),
+                String.format(Locale.ROOT, "boşta: %.0f, bekleyen: %.0f", values[1], values[2])
+            ));
+        }
+
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").timer();
+        if (acquire != null) {
+            rows.add(new AdminDiagnosticsRowDTO(
+                CATEGORY_POOL,
+                "Bağlantı alma süresi",
+                formatMillis(acquire.max(TimeUnit.MILLISECONDS)),
+                "ort. " + formatMillis(acquire.mean(TimeUnit.MILLISECONDS))
+            ));
+        }
+    }
+
+    private void addFxRows(List<AdminDiagnosticsRowDTO> rows) {
+        Timer stalls = meterRegistry.find("app.fx.stalls").timer();
+        rows.add(new AdminDiagnosticsRowDTO(
+            CATEGORY_FX,
+            "Donma olayları",
+            stalls == null ? "0" : String.valueOf(stalls.count()),
+            stalls == null ? "-" : "en uzun " + formatMillis(stalls.max(TimeUnit.MILLISECONDS))
+        ));
+        rows.add(new AdminDiagnosticsRowDTO(
+            CATEGORY_FX,
+            "Arka plan görevleri",
+            formatCount(gaugeValue("app.fx.tasks.running")) + " çalışıyor",
+            formatCount(gaugeValue("app.fx.tasks.queued")) + " kuyrukta"
+        ));
+
+        double maxQueueWait = 0;
+        for (Timer timer : meterRegistry.find("app.fx.task.queue").timers()) {
+            maxQueueWait = Math.max(maxQueueWait, timer.max(TimeUnit.MILLISECONDS));
+        }
+        rows.add(new AdminDiagnosticsRowDTO(CATEGORY_FX, "En uzun kuyruk bekleme", formatMillis(maxQueueWait), "-"));
+
+        for (Timer timer : meterRegistry.find("app.screen.tti").tag("outcome", "success").timers()) {
+            rows.add(new AdminDiagnosticsRowDTO(
+                CATEGORY_FX,
+                "Ekran açılışı: " + timer.getId().getTag("screen"),
+                formatMillis(timer.max(TimeUnit.MILLISECONDS)),
+                "ort. " + formatMillis(timer.mean(TimeUnit.MILLISECONDS)) + " • " + timer.count() + " yükleme"
+            ));
+        }
+    }
+
+    private void addMemoryRows(List<AdminDiagnosticsRowDTO> rows) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        MemoryUsage heap = memory.getHeapMemoryUsage();
+        MemoryUsage nonHeap = memory.getNonHeapMemoryUsage();
+
+        double heapPercent = heap.getMax() > 0 ? heap.getUsed() * 100.0 / heap.getMax() : 0;
+        rows.add(new AdminDiagnosticsRowDTO(
+            CATEGORY_MEMORY,
+            "Heap",
+            formatMegabytes(heap.getUsed()) + " / " + formatMegabytes(heap.getMax()),
+            String.format(Locale.ROOT, "%%%.0f kullanımda, ayrılan %s", heapPercent, formatMegabytes(heap.getCommitted()))
+        ));
+        rows.add(new AdminDiagnosticsRowDTO(CATEGORY_MEMORY, "Non-heap", formatMegabytes(nonHeap.getUsed()), "-"));
+
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(0, gc.getCollectionCount());
+            gcMillis += Math.max(0, gc.getCollectionTime());
+        }
+        rows.add(new AdminDiagnosticsRowDTO(CATEGORY_MEMORY, "GC", gcCount + " toplama", gcMillis + " ms toplam"));
+    }
+
+    private void collectPoolGauge(Map<String, double[]> pools, String name, int index) {
+        for (Gauge gauge : meterRegistry.find(name).gauges()) {
+            String pool = gauge.getId().getTag("pool");
+            pools.computeIfAbsent(pool == null ? "-" : pool, key -> new double[4])[index] = gauge.value();
+        }
+    }
+
+    private double gaugeValue(String name) {
+        Gauge gauge = meterRegistry.find(name).gauge();
+        return gauge == null ? 0 : gauge.value();
+    }
+
+    private double sumFunctionCounters(String name) {
+        double total = 0;
+        for (FunctionCounter counter : meterRegistry.find(name).functionCounters()) {
+            total += counter.count();
+        }
+        return total;
+    }
+
+    private static double countOf(Meter meter) {
+        if (meter instanceof Counter counter) {
+            return counter.count();
+        }
+        if (meter instanceof FunctionCounter counter) {
+            return counter.count();
+        }
+        return 0;
+    }
+
+    private static String renderRows(List<AdminDiagnosticsRowDTO> rows) {
+        StringBuilder out = new StringBuilder();
+        for (AdminDiagnosticsRowDTO row : rows) {
+            out.append(row.category()).append('\t')
+                .append(row.metric()).append('\t')
+                .append(row.value()).append('\t')
+                .append(row.detail()).append('\n');
+        }
+        return out.toString();
+    }
+
+    private static String renderThreadDump() {
+        StringBuilder out = new StringBuilder();
+        for (ThreadInfo info : ManagementFactory.getThreadMXBean().dumpAllThreads(true, true)) {
+            out.append('"').append(info.getThreadName()).append("\" ")
+                .append(info.getThreadState());
+            if (info.getLockName() != null) {
+                out.append(" on ").append(info.getLockName());
+            }
+            out.append('\n');
+            for (StackTraceElement element : info.getStackTrace()) {
+                out.append("    at ").append(element).append('\n');
+            }
+            out.append('\n');
+        }
+        return out.toString();
+    }
+
+    private static String renderSystemInfo() {
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        return "java.version=" + System.getProperty("java.version") + '\n'
+            + "java.vm=" + runtime.getVmName() + ' ' + runtime.getVmVersion() + '\n'
+            + "os=" + System.getProperty("os.name") + ' ' + System.getProperty("os.version") + ' ' + System.getProperty("os.arch") + '\n'
+            + "processors=" + Runtime.getRuntime().availableProcessors() + '\n'
+            + "uptime.ms=" + runtime.getUptime() + '\n'
+            + "jvm.args=" + String.join(" ", runtime.getInputArguments()) + '\n';
+    }
+
+    private static void writeEntry(ZipOutputStream zip, String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(content.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    private static String formatMillis(double millis) {
+        return String.format(Locale.ROOT, "%.1f ms", millis);
+    }
+
+    private static String formatCount(double value) {
+        return String.format(Locale.ROOT, "%.0f", value);
+    }
+
+    private static String formatMegabytes(long bytes) {
+        if (bytes < 0) {
+            return "-";
+        }
+        return String.format(Locale.ROOT, "%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+}
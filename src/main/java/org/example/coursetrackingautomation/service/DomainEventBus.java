@@ -0,0 +1,76 @@
+package org.example.coursetrackingautomation.service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+/**
+ * In-process bus for typed domain events, such as {@code UserSavedEvent} or {@code EnrollmentSavedEvent}.
+ *
+ * <p>Services publish events carrying the changed DTO once their transaction has committed, so subscribers
+ * never see rolled back changes. Subscribers are called on the publishing thread, in subscription order;
+ * UI subscribers hand the event over to the FX thread themselves. A failing subscriber is logged and does
+ * not affect the others or the publisher.</p>
+ */
+public class DomainEventBus {
+
+    /**
+     * Handle of a subscription.
+     */
+    public interface Subscription {
+
+        /**
+         * Stops delivering events to the subscriber. Calling it again has no effect.
+         */
+        void cancel();
+    }
+
+    private record Subscriber<E>(Class<E> eventType, Consumer<? super E> handler) {
+
+        void deliver(Object event) {
+            if (eventType.isInstance(event)) {
+                handler.accept(eventType.cast(event));
+            }
+        }
+    }
+
+    private final List<Subscriber<?>> subscribers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Subscribes to events of a type, including its subtypes.
+     *
+     * @param eventType event type
+     * @param handler handler called with each published event of the type
+     * @param <E> event type
+     * @return subscription handle used to unsubscribe
+     */
+    public <E> Subscription subscribe(Class<E> eventType, Consumer<? super E> handler) {
+        Subscriber<E> subscriber = new Subscriber<>(eventType, handler);
+        subscribers.add(subscriber);
+        return () -> subscribers.remove(subscriber);
+    }
+
+    /**
+     * Publishes an event after the current transaction commits, or immediately if there is none. Nothing
+     * is published if the transaction rolls back.
+     *
+     * @param event event to publish
+     */
+    public void publishAfterCommit(Object event) {
+        AfterCommit.run(() -> publish(event));
+    }
+
+    private void publish(Object event) {
+        for (Subscriber<?> subscriber : subscribers) {
+            try {
+                subscriber.deliver(event);
+            } catch (RuntimeException e) {
+                log.warn("Domain event subscriber failed for {}", event.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
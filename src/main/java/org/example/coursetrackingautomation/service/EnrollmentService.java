@@ -2,14 +2,18 @@ package org.example.coursetrackingautomation.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.coursetrackingautomation.diagnostics.EnrollmentEvent;
 import org.example.coursetrackingautomation.dto.EnrollmentDetailsDTO;
 import org.example.coursetrackingautomation.entity.Course;
 import org.example.coursetrackingautomation.entity.Enrollment;
 import org.example.coursetrackingautomation.entity.EnrollmentStatus;
+import org.example.coursetrackingautomation.entity.Grade;
 import org.example.coursetrackingautomation.entity.User;
+import org.example.coursetrackingautomation.event.EnrollmentSavedEvent;
 import org.example.coursetrackingautomation.repository.CourseRepository;
 import org.example.coursetrackingautomation.repository.EnrollmentRepository;
 import org.example.coursetrackingautomation.repository.UserRepository;
+import org.example.coursetrackingautomation.service.AcademicSummaryService.GradeContribution;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,13 +28,18 @@ import java.util.List;
  * Manages course enrollments.
  *
  * <p>This service enforces basic enrollment rules such as course activity checks, quota validation,
- * duplicate enrollment prevention, and status transitions.</p>
+ * duplicate enrollment prevention, and status transitions. Status transitions are applied to the
+ * student's persisted academic summary and invalidate the course's cached grade statistics. New enrollments
+ * and status transitions are announced with an {@link EnrollmentSavedEvent} after commit.</p>
  */
 public class EnrollmentService {
     
     private final EnrollmentRepository enrollmentRepository;
     private final CourseRepository courseRepository;
     private final UserRepository userRepository;
+    private final AcademicSummaryService academicSummaryService;
+    private final CourseAnalyticsService courseAnalyticsService;
+    private final DomainEventBus domainEventBus;
     
     private static final List<EnrollmentStatus> ACTIVE_ENROLLMENT_STATUSES = List.of(
         EnrollmentStatus.ACTIVE,
@@ -53,6 +62,18 @@ public class EnrollmentService {
      * @throws IllegalArgumentException if validation fails or referenced entities cannot be found
      */
     public Enrollment enrollStudent(Long studentId, Long courseId) {
+        EnrollmentEvent event = beginEnrollmentEvent("enroll", studentId, courseId);
+        try {
+            Enrollment savedEnrollment = createEnrollment(studentId, courseId);
+            event.setEnrollmentId(savedEnrollment.getId() == null ? 0L : savedEnrollment.getId());
+            event.setSuccess(true);
+            return savedEnrollment;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private Enrollment createEnrollment(Long studentId, Long courseId) {
         log.info("Enrolling student ID: {} to course ID: {}", studentId, courseId);
         
         User student = userRepository.findById(studentId)
@@ -78,6 +99,9 @@ public class EnrollmentService {
             .build();
         
         Enrollment savedEnrollment = enrollmentRepository.save(enrollment);
+        courseAnalyticsService.invalidate(courseId);
+        domainEventBus.publishAfterCommit(new EnrollmentSavedEvent(AdminRowMapper.toEnrollmentRow(savedEnrollment), true,
+            activeCount(savedEnrollment.getStatus())));
         
         log.info("Student ID: {} successfully enrolled to course ID: {}", 
             studentId, courseId);
@@ -160,6 +184,17 @@ public class EnrollmentService {
      * @throws IllegalArgumentException if no active enrollment exists
      */
     public void dropEnrollment(Long studentId, Long courseId) {
+        EnrollmentEvent event = beginEnrollmentEvent("drop", studentId, courseId);
+        try {
+            Enrollment dropped = markDropped(studentId, courseId);
+            event.setEnrollmentId(dropped.getId() == null ? 0L : dropped.getId());
+            event.setSuccess(true);
+        } finally {
+            event.commit();
+        }
+    }
+
+    private Enrollment markDropped(Long studentId, Long courseId) {
         log.info("Dropping enrollment for student ID: {} from course ID: {}", 
             studentId, courseId);
 
@@ -167,11 +202,11 @@ public class EnrollmentService {
             .findFirstByStudentIdAndCourseIdAndStatusIn(studentId, courseId, ACTIVE_ENROLLMENT_STATUSES)
             .orElseThrow(() -> new IllegalArgumentException("Öğrenci bu derse kayıtlı değil"));
         
-        enrollment.setStatus(EnrollmentStatus.DROPPED);
-        enrollmentRepository.save(enrollment);
+        changeStatus(enrollment, EnrollmentStatus.DROPPED);
         
         log.info("Enrollment dropped successfully for student ID: {} from course ID: {}", 
             studentId, courseId);
+        return enrollment;
     }
 
     @Transactional
@@ -204,11 +239,52 @@ public class EnrollmentService {
         Enrollment enrollment = enrollmentRepository.findById(enrollmentId)
             .orElseThrow(() -> new IllegalArgumentException("Kayıt bulunamadı: " + enrollmentId));
 
+        EnrollmentEvent event = beginEnrollmentEvent(
+            "status",
+            enrollment.getStudent() == null ? null : enrollment.getStudent().getId(),
+            enrollment.getCourse() == null ? null : enrollment.getCourse().getId()
+        );
+        event.setEnrollmentId(enrollmentId);
+        try {
+            Enrollment saved = changeStatus(enrollment, newStatus);
+            log.info("Enrollment status updated: id={}, status={}", saved.getId(), saved.getStatus());
+            event.setSuccess(true);
+            return saved;
+        } finally {
+            event.commit();
+        }
+    }
+
+    private Enrollment changeStatus(Enrollment enrollment, EnrollmentStatus newStatus) {
+        Grade grade = enrollment.getGrade();
+        String letterGrade = grade == null ? null : grade.getLetterGrade();
+        boolean passed = grade != null && grade.isPassed();
+        GradeContribution before = academicSummaryService.contributionOf(enrollment.getCourse(), enrollment.getStatus(), letterGrade, passed);
+        int activeBefore = activeCount(enrollment.getStatus());
+
         enrollment.setStatus(newStatus);
         Enrollment saved = enrollmentRepository.save(enrollment);
-        log.info("Enrollment status updated: id={}, status={}", saved.getId(), saved.getStatus());
+
+        GradeContribution after = academicSummaryService.contributionOf(enrollment.getCourse(), newStatus, letterGrade, passed);
+        academicSummaryService.applyChange(enrollment.getStudent().getId(), enrollment.getCourse().getTerm(), before, after);
+        courseAnalyticsService.invalidate(enrollment.getCourse().getId());
+        domainEventBus.publishAfterCommit(new EnrollmentSavedEvent(AdminRowMapper.toEnrollmentRow(saved), false,
+            activeCount(newStatus) - activeBefore));
         return saved;
     }
+
+    private static int activeCount(EnrollmentStatus status) {
+        return ACTIVE_ENROLLMENT_STATUSES.contains(status) ? 1 : 0;
+    }
+
+    private static EnrollmentEvent beginEnrollmentEvent(String operation, Long studentId, Long courseId) {
+        EnrollmentEvent event = new EnrollmentEvent();
+        event.begin();
+        event.setOperation(operation);
+        event.setStudentId(studentId == null ? 0L : studentId);
+        event.setCourseId(courseId == null ? 0L : courseId);
+        return event;
+    }
     
     @Transactional(readOnly = true)
     /**
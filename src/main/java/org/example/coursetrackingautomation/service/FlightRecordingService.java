@@ -0,0 +1,170 @@
+package org.example.coursetrackingautomation.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.example.coursetrackingautomation.diagnostics.AdminSearchEvent;
+import org.example.coursetrackingautomation.diagnostics.EnrollmentEvent;
+import org.example.coursetrackingautomation.diagnostics.FxStallEvent;
+import org.example.coursetrackingautomation.diagnostics.FxTaskEvent;
+import org.example.coursetrackingautomation.diagnostics.LoginEvent;
+import org.example.coursetrackingautomation.diagnostics.RosterLoadEvent;
+import org.example.coursetrackingautomation.diagnostics.RosterSaveEvent;
+import org.example.coursetrackingautomation.diagnostics.TranscriptLoadEvent;
+import org.example.coursetrackingautomation.diagnostics.WeekAttendanceLoadEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+/**
+ * Starts, stops and dumps an in-process Java Flight Recorder recording.
+ *
+ * <p>The recording uses the JDK "default" settings plus all application events, keeps at most
+ * {@code app.diagnostics.jfr.max-age-minutes} of data and is written to
+ * {@code app.diagnostics.jfr.output-dir} when stopped or dumped. This allows profiling production
+ * issues without attaching external tools.</p>
+ */
+public class FlightRecordingService {
+
+    private static final List<Class<? extends Event>> APPLICATION_EVENTS = List.of(
+        LoginEvent.class,
+        RosterLoadEvent.class,
+        WeekAttendanceLoadEvent.class,
+        RosterSaveEvent.class,
+        TranscriptLoadEvent.class,
+        EnrollmentEvent.class,
+        AdminSearchEvent.class,
+        FxTaskEvent.class,
+        FxStallEvent.class
+    );
+
+    private static final DateTimeFormatter FILE_NAME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path outputDirectory;
+    private final Duration maxAge;
+
+    private Recording recording;
+    private Instant startedAt;
+
+    /**
+     * Creates the service.
+     *
+     * @param outputDirectory directory receiving {@code .jfr} files
+     * @param maxAgeMinutes maximum age of data kept in the continuous recording
+     */
+    public FlightRecordingService(
+        @Value("${app.diagnostics.jfr.output-dir:recordings}") String outputDirectory,
+        @Value("${app.diagnostics.jfr.max-age-minutes:30}") long maxAgeMinutes
+    ) {
+        this.outputDirectory = Path.of(outputDirectory);
+        this.maxAge = Duration.ofMinutes(Math.max(1, maxAgeMinutes));
+    }
+
+    /**
+     * @return {@code true} if a recording is currently running
+     */
+    public synchronized boolean isRecording() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+
+    /**
+     * @return start time of the running recording, if any
+     */
+    public synchronized Optional<Instant> getRecordingStartedAt() {
+        return isRecording() ? Optional.ofNullable(startedAt) : Optional.empty();
+    }
+
+    /**
+     * Starts a continuous recording. Does nothing if one is already running.
+     *
+     * @throws IllegalStateException if the JFR configuration cannot be loaded
+     */
+    public synchronized void startRecording() {
+        if (isRecording()) {
+            return;
+        }
+        try {
+            Recording created = new Recording(Configuration.getConfiguration("default"));
+            created.setName("course-tracking");
+            created.setToDisk(true);
+            created.setMaxAge(maxAge);
+            for (Class<? extends Event> eventClass : APPLICATION_EVENTS) {
+                created.enable(eventClass);
+            }
+            created.start();
+            recording = created;
+            startedAt = Instant.now();
+            log.info("Flight recording started (max age {})", maxAge);
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("JFR kaydı başlatılamadı", e);
+        }
+    }
+
+    /**
+     * Writes the data of the running recording to a new file without stopping it.
+     *
+     * @return written file
+     * @throws IllegalStateException if no recording is running or the file cannot be written
+     */
+    public synchronized Path dumpRecording() {
+        if (!isRecording()) {
+            throw new IllegalStateException("Çalışan bir JFR kaydı yok");
+        }
+        return dumpTo(recording);
+    }
+
+    /**
+     * Stops the running recording, writes it to disk and releases its resources.
+     *
+     * @return written file
+     * @throws IllegalStateException if no recording is running or the file cannot be written
+     */
+    public synchronized Path stopRecording() {
+        if (!isRecording()) {
+            throw new IllegalStateException("Çalışan bir JFR kaydı yok");
+        }
+        Recording current = recording;
+        try {
+            current.stop();
+            return dumpTo(current);
+        } finally {
+            current.close();
+            recording = null;
+            startedAt = null;
+        }
+    }
+
+    @PreDestroy
+    synchronized void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private Path dumpTo(Recording source) {
+        Path target = outputDirectory.resolve("course-tracking-" + FILE_NAME_FORMATTER.format(LocalDateTime.now()) + ".jfr");
+        try {
+            Files.createDirectories(outputDirectory);
+            source.dump(target);
+        } catch (IOException e) {
+            throw new IllegalStateException("JFR kaydı yazılamadı: " + target, e);
+        }
+        log.info("Flight recording written to {}", target.toAbsolutePath());
+        return target.toAbsolutePath();
+    }
+}
@@ -0,0 +1,185 @@
+package org.example.coursetrackingautomation.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Order-statistic index over the GPAs of one cohort (a term, or all terms for cumulative GPA).
+ *
+ * <p>GPAs have two decimal places on a 0.00–4.00 scale, so they are discretized losslessly into
+ * {@value #BUCKET_COUNT} buckets. A Fenwick (binary indexed) tree over the bucket counts answers
+ * "how many students have a GPA at or below this bucket" and "which bucket holds the k-th student" in
+ * O(log buckets); updates are O(log buckets) as well.</p>
+ *
+ * <p>Not thread-safe; {@link ClassRankingService} guards access.</p>
+ */
+final class GpaRankIndex {
+
+    static final int BUCKET_COUNT = 401;
+
+    private final long[] tree = new long[BUCKET_COUNT + 1];
+    private final Map<Long, Integer> bucketByStudent = new HashMap<>();
+    private final Map<Integer, TreeSet<Long>> studentsByBucket = new HashMap<>();
+
+    /**
+     * Builds an index from a complete set of GPAs in O(students + buckets).
+     *
+     * @param gpaByStudent GPA per student
+     * @return the built index
+     */
+    static GpaRankIndex build(Map<Long, BigDecimal> gpaByStudent) {
+        GpaRankIndex index = new GpaRankIndex();
+        for (Map.Entry<Long, BigDecimal> entry : gpaByStudent.entrySet()) {
+            int bucket = toBucket(entry.getValue());
+            index.bucketByStudent.put(entry.getKey(), bucket);
+            index.studentsByBucket.computeIfAbsent(bucket, ignored -> new TreeSet<>()).add(entry.getKey());
+            index.tree[bucket + 1]++;
+        }
+        for (int i = 1; i <= BUCKET_COUNT; i++) {
+            int parent = i + (i & -i);
+            if (parent <= BUCKET_COUNT) {
+                index.tree[parent] += index.tree[i];
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Sets or removes the GPA of a student.
+     *
+     * @param studentId student identifier
+     * @param gpa new GPA, or {@code null} to remove the student from the cohort
+     */
+    void update(Long studentId, BigDecimal gpa) {
+        Integer previous = bucketByStudent.remove(studentId);
+        if (previous != null) {
+            add(previous, -1);
+            TreeSet<Long> members = studentsByBucket.get(previous);
+            members.remove(studentId);
+            if (members.isEmpty()) {
+                studentsByBucket.remove(previous);
+            }
+        }
+        if (gpa != null) {
+            int bucket = toBucket(gpa);
+            bucketByStudent.put(studentId, bucket);
+            studentsByBucket.computeIfAbsent(bucket, ignored -> new TreeSet<>()).add(studentId);
+            add(bucket, 1);
+        }
+    }
+
+    /**
+     * @return number of ranked students
+     */
+    int size() {
+        return bucketByStudent.size();
+    }
+
+    /**
+     * @param studentId student identifier
+     * @return {@code true} if the student is ranked in this cohort
+     */
+    boolean contains(Long studentId) {
+        return bucketByStudent.containsKey(studentId);
+    }
+
+    /**
+     * Returns the competition rank (1 = highest GPA; equal GPAs share a rank).
+     *
+     * @param studentId ranked student
+     * @return rank, or {@code 0} if the student is not ranked
+     */
+    int rank(Long studentId) {
+        Integer bucket = bucketByStudent.get(studentId);
+        if (bucket == null) {
+            return 0;
+        }
+        return (int) (size() - prefixCount(bucket) + 1);
+    }
+
+    /**
+     * Returns the share of the cohort with a GPA at or below the student's GPA.
+     *
+     * @param studentId ranked student
+     * @return percentile in the range (0, 100], or {@code 0} if the student is not ranked
+     */
+    double percentile(Long studentId) {
+        Integer bucket = bucketByStudent.get(studentId);
+        if (bucket == null || size() == 0) {
+            return 0;
+        }
+        return prefixCount(bucket) * 100.0 / size();
+    }
+
+    /**
+     * @param studentId student identifier
+     * @return GPA of the student as stored in the index, or {@code null}
+     */
+    BigDecimal gpa(Long studentId) {
+        Integer bucket = bucketByStudent.get(studentId);
+        return bucket == null ? null : fromBucket(bucket);
+    }
+
+    /**
+     * Returns the students with the highest GPAs, highest first; ties are ordered by student id.
+     *
+     * @param limit maximum number of students
+     * @return student ids
+     */
+    List<Long> top(int limit) {
+        List<Long> result = new ArrayList<>(Math.min(limit, size()));
+        long remaining = size();
+        while (result.size() < limit && remaining > 0) {
+            int bucket = bucketOfKth(remaining);
+            TreeSet<Long> members = studentsByBucket.get(bucket);
+            for (Long studentId : members) {
+                if (result.size() >= limit) {
+                    break;
+                }
+                result.add(studentId);
+            }
+            remaining -= members.size();
+        }
+        return result;
+    }
+
+    private void add(int bucket, long delta) {
+        for (int i = bucket + 1; i <= BUCKET_COUNT; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private long prefixCount(int bucket) {
+        long sum = 0;
+        for (int i = bucket + 1; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private int bucketOfKth(long k) {
+        int position = 0;
+        for (int step = Integer.highestOneBit(BUCKET_COUNT); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= BUCKET_COUNT && tree[next] < k) {
+                position = next;
+                k -= tree[next];
+            }
+        }
+        return position;
+    }
+
+    private static int toBucket(BigDecimal gpa) {
+        int bucket = gpa.setScale(2, RoundingMode.HALF_UP).movePointRight(2).intValue();
+        return Math.max(0, Math.min(BUCKET_COUNT - 1, bucket));
+    }
+
+    private static BigDecimal fromBucket(int bucket) {
+        return BigDecimal.valueOf(bucket, 2);
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.coursetrackingautomation.service;
 
+import java.math.BigDecimal;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -76,6 +77,31 @@ public class GradeService {
         return "FF";
     }
 
+    /**
+     * Maps a letter grade to its grade points on the 4.00 scale.
+     *
+     * @param letterGrade letter grade (case-insensitive)
+     * @return grade points, or {@code null} if the letter grade is not supported
+     */
+    public BigDecimal gradePoints(String letterGrade) {
+        if (letterGrade == null) {
+            return null;
+        }
+
+        return switch (letterGrade.trim().toUpperCase()) {
+            case "AA" -> BigDecimal.valueOf(4.00);
+            case "BA" -> BigDecimal.valueOf(3.50);
+            case "BB" -> BigDecimal.valueOf(3.00);
+            case "CB" -> BigDecimal.valueOf(2.50);
+            case "CC" -> BigDecimal.valueOf(2.00);
+            case "DC" -> BigDecimal.valueOf(1.50);
+            case "DD" -> BigDecimal.valueOf(1.00);
+            case "FD" -> BigDecimal.valueOf(0.50);
+            case "FF" -> BigDecimal.valueOf(0.00);
+            default -> null;
+        };
+    }
+
     /**
      * Indicates whether a given letter grade is considered passing.
      *
@@ -1,25 +1,44 @@
 package org.example.coursetrackingautomation.service;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.coursetrackingautomation.diagnostics.RosterLoadEvent;
+import org.example.coursetrackingautomation.diagnostics.RosterSaveEvent;
+import org.example.coursetrackingautomation.diagnostics.WeekAttendanceLoadEvent;
+import org.example.coursetrackingautomation.dto.AttendanceCellDTO;
+import org.example.coursetrackingautomation.dto.AttendanceMatrixDTO;
+import org.example.coursetrackingautomation.dto.ClassAttendanceResultDTO;
 import org.example.coursetrackingautomation.dto.CourseDTO;
+import org.example.coursetrackingautomation.dto.EntityChangeDTO;
 import org.example.coursetrackingautomation.dto.GradeDTO;
 import org.example.coursetrackingautomation.dto.GradeStatus;
 import org.example.coursetrackingautomation.dto.InstructorCourseRosterDTO;
-import org.example.coursetrackingautomation.entity.AttendanceRecord;
+import org.example.coursetrackingautomation.dto.InstructorRosterChangesDTO;
+import org.example.coursetrackingautomation.dto.RosterEditConflictDTO;
+import org.example.coursetrackingautomation.dto.RosterEditDTO;
+import org.example.coursetrackingautomation.dto.RosterEditResultDTO;
+import org.example.coursetrackingautomation.dto.SyncDeltaDTO;
 import org.example.coursetrackingautomation.entity.Course;
 import org.example.coursetrackingautomation.entity.Enrollment;
 import org.example.coursetrackingautomation.entity.Grade;
-import org.example.coursetrackingautomation.repository.AttendanceRecordRepository;
+import org.example.coursetrackingautomation.entity.Tombstone;
 import org.example.coursetrackingautomation.repository.CourseRepository;
 import org.example.coursetrackingautomation.repository.EnrollmentRepository;
 import org.example.coursetrackingautomation.repository.GradeRepository;
+import org.example.coursetrackingautomation.service.AcademicSummaryService.ContributionChange;
+import org.example.coursetrackingautomation.service.AcademicSummaryService.GradeContribution;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +52,8 @@ import org.springframework.transaction.annotation.Transactional;
  * This service assembles course rosters, computes derived grade/attendance
  * indicators for the UI,
  * and persists instructor edits (attendance and grading) back to the database.
+ * Grade edits are also applied to the student's persisted academic summary, and attendance
+ * edits to the enrollment's attendance alert.
  * </p>
  */
 public class InstructorWorkflowService {
@@ -43,9 +64,14 @@ public class InstructorWorkflowService {
     private final CourseRepository courseRepository;
     private final EnrollmentRepository enrollmentRepository;
     private final GradeRepository gradeRepository;
-    private final AttendanceRecordRepository attendanceRecordRepository;
+    private final AttendanceStore attendanceStore;
     private final GradeService gradeService;
     private final AttendanceService attendanceService;
+    private final AcademicSummaryService academicSummaryService;
+    private final CourseAnalyticsService courseAnalyticsService;
+    private final AttendanceRiskService attendanceRiskService;
+    private final DeltaSyncService deltaSyncService;
+    private final ChangeFeedService changeFeedService;
 
     @Transactional(readOnly = true)
     /**
@@ -79,86 +105,56 @@ public class InstructorWorkflowService {
         if (courseCode == null || courseCode.isBlank()) {
             throw new IllegalArgumentException("Ders kodu boş bırakılamaz");
         }
-        Course course = courseRepository.findByCode(courseCode)
-                .orElseThrow(() -> new IllegalArgumentException("Ders bulunamadı"));
+        RosterLoadEvent event = new RosterLoadEvent();
+        event.begin();
+        try {
+            Course course = courseRepository.findByCode(courseCode)
+                    .orElseThrow(() -> new IllegalArgumentException("Ders bulunamadı"));
+
+            CourseDTO courseDto = toRosterCourseDTO(course);
+
+            Map<Long, Long> enrollmentIdByStudentId = new HashMap<>();
+            List<GradeDTO> rows = toRosterRows(course,
+                    enrollmentRepository.findByCourseIdWithStudentAndGrade(course.getId()), enrollmentIdByStudentId);
+
+            event.setCourseCode(course.getCode());
+            event.setCourseId(course.getId());
+            event.setRowCount(rows.size());
+            event.setSuccess(true);
+            return new InstructorCourseRosterDTO(courseDto, rows, enrollmentIdByStudentId);
+        } finally {
+            event.commit();
+        }
+    }
 
-        CourseDTO courseDto = CourseDTO.builder()
-                .id(course.getId())
-                .code(course.getCode())
-                .name(course.getName())
-                .credit(course.getCredit())
-                .quota(course.getQuota())
-                .term(course.getTerm())
-                .active(course.isActive())
-                .weeklyTotalHours(course.getWeeklyTotalHours())
-                .weeklyTheoryHours(course.getWeeklyTheoryHours())
-                .weeklyPracticeHours(course.getWeeklyPracticeHours())
-                .instructorId(course.getInstructor() == null ? null : course.getInstructor().getId())
-                .instructorName(course.getInstructor() == null ? null
-                        : (course.getInstructor().getFirstName() + " " + course.getInstructor().getLastName()))
-                .build();
+    @Transactional(readOnly = true)
+    /**
+     * Returns the roster rows of a course created, updated or deleted since a client watermark.
+     *
+     * <p>A row changes when the enrollment, its grade or the student is written. When the course itself
+     * changed since the watermark (hours or credit feed every row), a full roster is returned.</p>
+     *
+     * @param courseCode course code
+     * @param since watermark returned by the previous call; {@code null} requests the full roster
+     * @return course details and the changed rows keyed by student id; deletions are enrollment ids
+     * @throws IllegalArgumentException if the input is invalid or the course cannot be found
+     */
+    public InstructorRosterChangesDTO getCourseRosterChanges(String courseCode, LocalDateTime since) {
+        LocalDateTime watermark = deltaSyncService.nextWatermark();
+        Course course = findCourseByCode(courseCode);
+        if (!deltaSyncService.canSyncFrom(since) || course.getUpdatedAt() == null || !course.getUpdatedAt().isBefore(since)) {
+            InstructorCourseRosterDTO roster = getCourseRoster(courseCode);
+            return new InstructorRosterChangesDTO(roster.course(), SyncDeltaDTO.snapshot(roster.rows(), watermark),
+                    roster.enrollmentIdByStudentId());
+        }
 
         Map<Long, Long> enrollmentIdByStudentId = new HashMap<>();
-        List<GradeDTO> rows = enrollmentRepository.findByCourseIdWithStudentAndGrade(course.getId()).stream()
-                .map(enrollment -> {
-                    if (enrollment.getStudent() != null && enrollment.getStudent().getId() != null) {
-                        enrollmentIdByStudentId.put(enrollment.getStudent().getId(), enrollment.getId());
-                    }
-
-                    Double midterm = enrollment.getGrade() == null || enrollment.getGrade().getMidtermScore() == null
-                            ? null
-                            : enrollment.getGrade().getMidtermScore().doubleValue();
-                    Double finalScore = enrollment.getGrade() == null || enrollment.getGrade().getFinalScore() == null
-                            ? null
-                            : enrollment.getGrade().getFinalScore().doubleValue();
-
-                    boolean graded = midterm != null && finalScore != null;
-                    Double average = gradeService.calculateAverage(midterm, finalScore);
-                    String letter = graded ? gradeService.determineLetterGrade(average) : null;
-                    boolean passed = graded && gradeService.isPassed(letter);
-
-                    int absentHoursUi = attendanceService.toAbsentHours(course, enrollment.getAbsenteeismCount());
-                    boolean critical = attendanceService.isAttendanceCritical(course, enrollment.getAbsenteeismCount());
-
-                    GradeStatus status;
-                    if (!graded) {
-                        status = GradeStatus.NOT_GRADED;
-                    } else {
-                        status = passed ? GradeStatus.PASSED : GradeStatus.FAILED;
-                    }
-
-                    Long studentId = enrollment.getStudent() == null ? null : enrollment.getStudent().getId();
-                    String studentName = enrollment.getStudent() == null
-                            ? "-"
-                            : (String
-                                    .valueOf(enrollment.getStudent().getFirstName() == null ? ""
-                                            : enrollment.getStudent().getFirstName())
-                                    + " "
-                                    + String.valueOf(enrollment.getStudent().getLastName() == null ? ""
-                                            : enrollment.getStudent().getLastName()))
-                                    .trim();
-
-                    return new GradeDTO(
-                            studentId,
-                            studentName,
-                            course.getCode(),
-                            course.getName(),
-                            course.getCredit(),
-                            course.getWeeklyTotalHours(),
-                            course.getWeeklyTheoryHours(),
-                            course.getWeeklyPracticeHours(),
-                            midterm,
-                            finalScore,
-                            average,
-                            letter,
-                            status,
-                            absentHoursUi,
-                            critical,
-                            true);
-                })
-                .toList();
-
-        return new InstructorCourseRosterDTO(courseDto, rows, enrollmentIdByStudentId);
+        List<GradeDTO> rows = toRosterRows(course,
+                enrollmentRepository.findByCourseIdWithStudentAndGradeChangedSince(course.getId(), since),
+                enrollmentIdByStudentId);
+        List<Long> deletedEnrollmentIds = deltaSyncService.deletedIds(Tombstone.TYPE_ENROLLMENT, course.getId(), since);
+        return new InstructorRosterChangesDTO(toRosterCourseDTO(course),
+                new SyncDeltaDTO<>(rows, deletedEnrollmentIds, watermark, false), enrollmentIdByStudentId);
     }
 
     @Transactional(readOnly = true)
@@ -172,7 +168,7 @@ public class InstructorWorkflowService {
         if (courseId == null) {
             return FIRST_WEEK_NUMBER;
         }
-        Integer maxWeekNumber = attendanceRecordRepository.findMaxWeekNumberByCourseId(courseId);
+        Integer maxWeekNumber = attendanceStore.findMaxWeekNumber(courseId);
         if (maxWeekNumber == null || maxWeekNumber < FIRST_WEEK_NUMBER) {
             return FIRST_WEEK_NUMBER;
         }
@@ -193,15 +189,20 @@ public class InstructorWorkflowService {
         if (enrollmentIds == null || enrollmentIds.isEmpty() || weekNumber == null) {
             return Map.of();
         }
-        List<AttendanceRecord> records = attendanceRecordRepository
-                .findByEnrollmentIdsAndWeekNumberWithEnrollment(enrollmentIds, weekNumber);
-        Map<Long, Boolean> presentByEnrollmentId = new HashMap<>();
-        for (AttendanceRecord record : records) {
-            if (record.getEnrollment() != null && record.getEnrollment().getId() != null) {
-                presentByEnrollmentId.put(record.getEnrollment().getId(), record.isPresent());
-            }
+        WeekAttendanceLoadEvent event = new WeekAttendanceLoadEvent();
+        event.begin();
+        try {
+            AttendanceStore.WeekPresence presence = attendanceStore.findPresence(enrollmentIds, weekNumber);
+
+            event.setCourseId(presence.courseId());
+            event.setWeekNumber(weekNumber);
+            event.setEnrollmentCount(enrollmentIds.size());
+            event.setRecordCount(presence.presentByEnrollmentId().size());
+            event.setSuccess(true);
+            return presence.presentByEnrollmentId();
+        } finally {
+            event.commit();
         }
-        return presentByEnrollmentId;
     }
 
     @Transactional
@@ -211,9 +212,11 @@ public class InstructorWorkflowService {
      * <p>
      * Updates can include grade fields (midterm/final), attendance count (derived
      * from hours),
-     * and per-week presence. When week-level presence is provided and no manual
-     * hours override is
-     * applied, absenteeism count is incremented/decremented accordingly.
+     * and per-week presence. Enrollments are loaded once per course, and the
+     * week's presence marks of all rows are written in a single upsert. When no
+     * manual hours override is applied, absenteeism counts are then recomputed
+     * set-wise from the stored marks in the same transaction and written back to
+     * the rows, so concurrent saves cannot double-count.
      * </p>
      *
      * @param courseCode course code
@@ -240,93 +243,500 @@ public class InstructorWorkflowService {
             normalizedWeekNumber = wk;
         }
 
-        Course course = courseRepository.findByCode(courseCode)
-                .orElseThrow(() -> new IllegalArgumentException("Ders bulunamadı"));
+        RosterSaveEvent event = new RosterSaveEvent();
+        event.begin();
+        try {
+            Course course = courseRepository.findByCode(courseCode)
+                    .orElseThrow(() -> new IllegalArgumentException("Ders bulunamadı"));
 
-        for (GradeDTO row : updates) {
-            if (row == null || row.getStudentId() == null) {
-                continue;
+            Map<Long, Enrollment> enrollmentByStudentId = new HashMap<>();
+            for (Enrollment enrollment : enrollmentRepository.findByCourseIdWithStudentAndGrade(course.getId())) {
+                enrollmentByStudentId.put(enrollment.getStudent().getId(), enrollment);
             }
-            processStudentUpdate(course, normalizedWeekNumber, row);
+
+            List<GradeDTO> savedRows = new ArrayList<>();
+            List<Enrollment> updatedEnrollments = new ArrayList<>();
+            Map<Long, Boolean> presentByEnrollmentId = new LinkedHashMap<>();
+            List<Long> recountEnrollmentIds = new ArrayList<>();
+            List<ContributionChange> contributionChanges = new ArrayList<>();
+            for (GradeDTO row : updates) {
+                if (row == null || row.getStudentId() == null) {
+                    continue;
+                }
+                Enrollment enrollment = enrollmentByStudentId.get(row.getStudentId());
+                if (enrollment == null) {
+                    throw new IllegalArgumentException("Kayıt bulunamadı");
+                }
+                boolean manualAttendanceHoursOverride = applyManualAttendanceHours(course, enrollment, row);
+                if (normalizedWeekNumber != null && row.getPresent() != null) {
+                    presentByEnrollmentId.put(enrollment.getId(), row.getPresent());
+                    if (!manualAttendanceHoursOverride) {
+                        recountEnrollmentIds.add(enrollment.getId());
+                    }
+                }
+                contributionChanges.add(updateGrade(course, enrollment, row));
+                savedRows.add(row);
+                updatedEnrollments.add(enrollment);
+            }
+            academicSummaryService.applyChanges(contributionChanges);
+
+            Map<Long, Integer> recountedAbsences = normalizedWeekNumber == null || presentByEnrollmentId.isEmpty()
+                    ? Map.of()
+                    : attendanceStore.markWeek(normalizedWeekNumber, presentByEnrollmentId, recountEnrollmentIds);
+            changeFeedService.recordAll(EntityChangeDTO.TYPE_ENROLLMENT, course.getId(), presentByEnrollmentId.keySet());
+            for (int i = 0; i < savedRows.size(); i++) {
+                GradeDTO row = savedRows.get(i);
+                Enrollment enrollment = updatedEnrollments.get(i);
+                Integer recounted = recountedAbsences.get(enrollment.getId());
+                if (recounted != null) {
+                    enrollment.setAbsenteeismCount(recounted);
+                }
+                int absentCount = enrollment.getAbsenteeismCount() == null ? 0 : enrollment.getAbsenteeismCount();
+                row.setAbsentCritically(attendanceService.isAttendanceCritical(course, absentCount));
+                row.setAttendanceCount(attendanceService.toAbsentHours(course, absentCount));
+            }
+
+            int rowCount = updatedEnrollments.size();
+            if (rowCount > 0) {
+                attendanceRiskService.refreshEnrollments(course, updatedEnrollments);
+                courseAnalyticsService.invalidate(course.getId());
+            }
+
+            event.setCourseCode(course.getCode());
+            event.setCourseId(course.getId());
+            event.setWeekNumber(normalizedWeekNumber == null ? 0 : normalizedWeekNumber);
+            event.setRowCount(rowCount);
+            event.setSuccess(true);
+            log.info("Instructor updates saved for courseCode={}", courseCode);
+        } finally {
+            event.commit();
+        }
+    }
+
+    @Transactional
+    /**
+     * Marks a whole course-week at once: every enrolled student is present except the given students.
+     *
+     * <p>The marks of the whole roster are written with one batched statement and absenteeism counts
+     * are recomputed set-wise in the same transaction; attendance alerts are refreshed from the result.
+     * The returned rows let the caller update an open roster without reloading it.</p>
+     *
+     * @param courseCode course code
+     * @param weekNumber week number (1..term weeks)
+     * @param absentStudentIds students to mark absent; may be empty
+     * @return attendance of every enrolled student after the update
+     * @throws IllegalArgumentException if the course cannot be found, the week number is invalid or an
+     *                                  absent student is not enrolled in the course
+     */
+    public List<ClassAttendanceResultDTO> markWholeClass(String courseCode, int weekNumber,
+            Collection<Long> absentStudentIds) {
+        if (courseCode == null || courseCode.isBlank()) {
+            throw new IllegalArgumentException("Ders kodu boş bırakılamaz");
+        }
+        if (weekNumber < FIRST_WEEK_NUMBER || weekNumber > DEFAULT_TERM_WEEKS) {
+            throw new IllegalArgumentException("Geçersiz hafta numarası: " + weekNumber);
+        }
+        Set<Long> absentIds = new HashSet<>();
+        if (absentStudentIds != null) {
+            absentIds.addAll(absentStudentIds);
+            absentIds.remove(null);
         }
 
-        log.info("Instructor updates saved for courseCode={}", courseCode);
+        RosterSaveEvent event = new RosterSaveEvent();
+        event.begin();
+        try {
+            Course course = courseRepository.findByCode(courseCode)
+                    .orElseThrow(() -> new IllegalArgumentException("Ders bulunamadı"));
+
+            Map<Long, Long> studentIdByEnrollmentId = new HashMap<>();
+            Map<Long, Boolean> presentByEnrollmentId = new LinkedHashMap<>();
+            for (EnrollmentRepository.RosterEntry entry : enrollmentRepository.findRosterEntriesByCourseId(course.getId())) {
+                studentIdByEnrollmentId.put(entry.getEnrollmentId(), entry.getStudentId());
+                presentByEnrollmentId.put(entry.getEnrollmentId(), !absentIds.contains(entry.getStudentId()));
+            }
+            if (!studentIdByEnrollmentId.values().containsAll(absentIds)) {
+                throw new IllegalArgumentException("Derse kayıtlı olmayan öğrenci seçildi");
+            }
+
+            Map<Long, Integer> absenteeismByEnrollmentId = presentByEnrollmentId.isEmpty()
+                    ? Map.of()
+                    : attendanceStore.markWeek(weekNumber, presentByEnrollmentId, presentByEnrollmentId.keySet());
+            changeFeedService.recordAll(EntityChangeDTO.TYPE_ENROLLMENT, course.getId(), presentByEnrollmentId.keySet());
+            if (!presentByEnrollmentId.isEmpty()) {
+                attendanceRiskService.refreshEnrollments(course, enrollmentRepository.findByCourseId(course.getId()));
+            }
+
+            List<ClassAttendanceResultDTO> results = new ArrayList<>(presentByEnrollmentId.size());
+            presentByEnrollmentId.forEach((enrollmentId, present) -> {
+                int absentCount = absenteeismByEnrollmentId.getOrDefault(enrollmentId, 0);
+                results.add(new ClassAttendanceResultDTO(
+                        studentIdByEnrollmentId.get(enrollmentId),
+                        present,
+                        attendanceService.toAbsentHours(course, absentCount),
+                        attendanceService.isAttendanceCritical(course, absentCount)));
+            });
+
+            event.setCourseCode(course.getCode());
+            event.setCourseId(course.getId());
+            event.setWeekNumber(weekNumber);
+            event.setRowCount(results.size());
+            event.setSuccess(true);
+            log.info("Week {} marked for whole class of courseCode={} ({} absent)", weekNumber, courseCode, absentIds.size());
+            return results;
+        } finally {
+            event.commit();
+        }
     }
 
-    private void processStudentUpdate(Course course, Integer weekNumber, GradeDTO row) {
-        Enrollment enrollment = enrollmentRepository.findByStudentIdAndCourseId(row.getStudentId(), course.getId())
-                .orElseThrow(() -> new IllegalArgumentException("Kayıt bulunamadı"));
-        int updatedAbsentCount = updateAttendance(course, enrollment, weekNumber, row);
-        updateGrade(enrollment, row);
-        boolean critical = attendanceService.isAttendanceCritical(course, updatedAbsentCount);
-        row.setAbsentCritically(critical);
-        row.setAttendanceCount(attendanceService.toAbsentHours(course, updatedAbsentCount));
+    @Transactional(readOnly = true)
+    /**
+     * Returns the students × weeks attendance matrix of a course, loaded with a single query.
+     *
+     * @param courseCode course code
+     * @return attendance matrix
+     * @throws IllegalArgumentException if the course cannot be found
+     */
+    public AttendanceMatrixDTO getAttendanceMatrix(String courseCode) {
+        Course course = findCourseByCode(courseCode);
+        return toAttendanceMatrix(course, attendanceStore.findMatrix(course.getId()));
     }
 
-    private int updateAttendance(Course course, Enrollment enrollment, Integer weekNumber, GradeDTO row) {
-        int previousAbsentCount = enrollment.getAbsenteeismCount() == null ? 0
-                : Math.max(0, enrollment.getAbsenteeismCount());
-        int previousAbsentHoursUi = attendanceService.toAbsentHours(course, previousAbsentCount);
-
-        int updatedAbsentCount = previousAbsentCount;
-        boolean manualAttendanceHoursOverride = false;
-
-        if (row.getAttendanceCount() != null) {
-            int desiredAbsentHours = Math.max(0, row.getAttendanceCount());
-            if (desiredAbsentHours != previousAbsentHoursUi) {
-                Integer weekly = course.getWeeklyTotalHours();
-                if (weekly != null && weekly > 0 && (desiredAbsentHours % weekly != 0)) {
-                    throw new IllegalArgumentException(
-                            "Devamsızlık saati, dersin haftalık toplam saatinin katı olmalıdır (" + weekly + ")");
-                }
-                updatedAbsentCount = attendanceService.toAbsentCount(course, desiredAbsentHours);
-                manualAttendanceHoursOverride = true;
+    @Transactional
+    /**
+     * Saves edited attendance matrix cells of a course in one batched write.
+     *
+     * <p>Absenteeism counts of the touched enrollments are recomputed set-wise from the stored marks and
+     * their attendance alerts are refreshed.</p>
+     *
+     * @param courseCode course code
+     * @param cells edited cells; enrollments must belong to the course
+     * @return the attendance matrix after the update
+     * @throws IllegalArgumentException if the course cannot be found, a week number is invalid or a cell
+     *                                  belongs to another course
+     */
+    public AttendanceMatrixDTO saveAttendanceMatrix(String courseCode, Collection<AttendanceCellDTO> cells) {
+        Course course = findCourseByCode(courseCode);
+        if (cells == null || cells.isEmpty()) {
+            return toAttendanceMatrix(course, attendanceStore.findMatrix(course.getId()));
+        }
+
+        Set<Long> courseEnrollmentIds = new HashSet<>();
+        for (EnrollmentRepository.RosterEntry entry : enrollmentRepository.findRosterEntriesByCourseId(course.getId())) {
+            courseEnrollmentIds.add(entry.getEnrollmentId());
+        }
+        Set<Long> touchedEnrollmentIds = new LinkedHashSet<>();
+        for (AttendanceCellDTO cell : cells) {
+            if (cell == null || !courseEnrollmentIds.contains(cell.enrollmentId())) {
+                throw new IllegalArgumentException("Yoklama hücresi bu derse ait değil");
+            }
+            if (cell.weekNumber() < FIRST_WEEK_NUMBER || cell.weekNumber() > DEFAULT_TERM_WEEKS) {
+                throw new IllegalArgumentException("Geçersiz hafta numarası: " + cell.weekNumber());
             }
+            touchedEnrollmentIds.add(cell.enrollmentId());
         }
 
-        Boolean presentInput = row.getPresent();
-        if (weekNumber != null && presentInput != null) {
-            AttendanceRecord existing = attendanceRecordRepository
-                    .findByEnrollmentIdAndWeekNumber(enrollment.getId(), weekNumber)
-                    .orElse(null);
+        attendanceStore.markCells(cells, touchedEnrollmentIds);
+        changeFeedService.recordAll(EntityChangeDTO.TYPE_ENROLLMENT, course.getId(), touchedEnrollmentIds);
+        attendanceRiskService.refreshEnrollments(course, enrollmentRepository.findWithGradeByIdIn(touchedEnrollmentIds));
+        log.info("Attendance matrix saved for courseCode={} ({} cells)", courseCode, cells.size());
+        return toAttendanceMatrix(course, attendanceStore.findMatrix(course.getId()));
+    }
+
+    @Transactional
+    /**
+     * Applies one batch of autosaved roster edits of a course.
+     *
+     * <p>Score and absent hours edits are checked against the value they were made on: if the stored
+     * value changed in the meantime (another session saved the cell), the edit is reported as a conflict
+     * and not applied. Invalid edits and edits of students no longer enrolled are reported the same way,
+     * so one bad cell does not block the rest of the batch. Presence edits of all weeks are written with
+     * one batched statement and absenteeism counts are recomputed set-wise.</p>
+     *
+     * @param courseCode course code
+     * @param edits coalesced edits, at most one per student and cell
+     * @return persisted state of the touched students, written presence cells and rejected edits
+     * @throws IllegalArgumentException if the course cannot be found
+     */
+    public RosterEditResultDTO applyRosterEdits(String courseCode, Collection<RosterEditDTO> edits) {
+        Course course = findCourseByCode(courseCode);
+        if (edits == null || edits.isEmpty()) {
+            return new RosterEditResultDTO(List.of(), List.of(), List.of());
+        }
 
-            if (!manualAttendanceHoursOverride) {
-                boolean previousPresent = existing == null || existing.isPresent();
-                boolean updatedPresent = presentInput;
+        RosterSaveEvent event = new RosterSaveEvent();
+        event.begin();
+        try {
+            Map<Long, Enrollment> enrollmentByStudentId = new HashMap<>();
+            for (Enrollment enrollment : enrollmentRepository.findByCourseIdWithStudentAndGrade(course.getId())) {
+                enrollmentByStudentId.put(enrollment.getStudent().getId(), enrollment);
+            }
+            Map<Long, List<RosterEditDTO>> editsByStudentId = new LinkedHashMap<>();
+            for (RosterEditDTO edit : edits) {
+                if (edit != null && edit.studentId() != null && edit.field() != null) {
+                    editsByStudentId.computeIfAbsent(edit.studentId(), ignored -> new ArrayList<>()).add(edit);
+                }
+            }
 
-                if (previousPresent != updatedPresent) {
-                    if (!updatedPresent) {
-                        updatedAbsentCount = Math.max(0, updatedAbsentCount + 1);
-                    } else {
-                        updatedAbsentCount = Math.max(0, updatedAbsentCount - 1);
+            List<RosterEditConflictDTO> conflicts = new ArrayList<>();
+            List<AttendanceCellDTO> cells = new ArrayList<>();
+            Set<Long> recountEnrollmentIds = new LinkedHashSet<>();
+            List<Enrollment> touchedEnrollments = new ArrayList<>();
+            List<ContributionChange> contributionChanges = new ArrayList<>();
+            for (Map.Entry<Long, List<RosterEditDTO>> entry : editsByStudentId.entrySet()) {
+                Enrollment enrollment = enrollmentByStudentId.get(entry.getKey());
+                if (enrollment == null) {
+                    entry.getValue().forEach(edit -> conflicts.add(new RosterEditConflictDTO(edit, "Öğrenci artık derse kayıtlı değil")));
+                    continue;
+                }
+                touchedEnrollments.add(enrollment);
+
+                Grade grade = enrollment.getGrade();
+                Double midterm = grade == null || grade.getMidtermScore() == null ? null : grade.getMidtermScore().doubleValue();
+                Double finalScore = grade == null || grade.getFinalScore() == null ? null : grade.getFinalScore().doubleValue();
+                boolean gradeEdited = false;
+                boolean hoursEdited = false;
+                boolean presenceEdited = false;
+                for (RosterEditDTO edit : entry.getValue()) {
+                    try {
+                        switch (edit.field()) {
+                            case MIDTERM -> {
+                                if (!Objects.equals(midterm, edit.expected())) {
+                                    conflicts.add(new RosterEditConflictDTO(edit, "Vize notu başka bir oturumda değiştirildi"));
+                                } else if (edit.value() != null) {
+                                    midterm = edit.value();
+                                    gradeEdited = true;
+                                }
+                            }
+                            case FINAL -> {
+                                if (!Objects.equals(finalScore, edit.expected())) {
+                                    conflicts.add(new RosterEditConflictDTO(edit, "Final notu başka bir oturumda değiştirildi"));
+                                } else if (edit.value() != null) {
+                                    finalScore = edit.value();
+                                    gradeEdited = true;
+                                }
+                            }
+                            case ABSENT_HOURS -> {
+                                int storedHours = attendanceService.toAbsentHours(course, enrollment.getAbsenteeismCount());
+                                if (edit.expected() == null || storedHours != edit.expected().intValue()) {
+                                    conflicts.add(new RosterEditConflictDTO(edit, "Devamsızlık başka bir oturumda değiştirildi"));
+                                } else if (edit.value() != null) {
+                                    GradeDTO row = new GradeDTO();
+                                    row.setAttendanceCount(edit.value().intValue());
+                                    hoursEdited |= applyManualAttendanceHours(course, enrollment, row);
+                                }
+                            }
+                            case PRESENT -> {
+                                if (edit.weekNumber() < FIRST_WEEK_NUMBER || edit.weekNumber() > DEFAULT_TERM_WEEKS) {
+                                    throw new IllegalArgumentException("Geçersiz hafta numarası: " + edit.weekNumber());
+                                }
+                                cells.add(new AttendanceCellDTO(enrollment.getId(), edit.weekNumber(), edit.present()));
+                                presenceEdited = true;
+                            }
+                        }
+                    } catch (IllegalArgumentException e) {
+                        conflicts.add(new RosterEditConflictDTO(edit, e.getMessage()));
                     }
                 }
+
+                if (presenceEdited && !hoursEdited) {
+                    recountEnrollmentIds.add(enrollment.getId());
+                }
+                if (gradeEdited) {
+                    GradeDTO row = new GradeDTO();
+                    row.setMidtermScore(midterm);
+                    row.setFinalScore(finalScore);
+                    contributionChanges.add(updateGrade(course, enrollment, row));
+                }
+            }
+            academicSummaryService.applyChanges(contributionChanges);
+
+            Map<Long, Integer> recountedAbsences = cells.isEmpty()
+                    ? Map.of()
+                    : attendanceStore.markCells(cells, recountEnrollmentIds);
+            changeFeedService.recordAll(EntityChangeDTO.TYPE_ENROLLMENT, course.getId(),
+                    cells.stream().map(AttendanceCellDTO::enrollmentId).toList());
+            List<GradeDTO> rows = new ArrayList<>(touchedEnrollments.size());
+            for (Enrollment enrollment : touchedEnrollments) {
+                Integer recounted = recountedAbsences.get(enrollment.getId());
+                if (recounted != null) {
+                    enrollment.setAbsenteeismCount(recounted);
+                }
+                rows.add(toEditedRow(course, enrollment));
+            }
+
+            if (!touchedEnrollments.isEmpty()) {
+                attendanceRiskService.refreshEnrollments(course, touchedEnrollments);
+                courseAnalyticsService.invalidate(course.getId());
+            }
+
+            event.setCourseCode(course.getCode());
+            event.setCourseId(course.getId());
+            event.setRowCount(touchedEnrollments.size());
+            event.setSuccess(true);
+            log.info("Autosaved {} roster edits for courseCode={} ({} conflicts)", edits.size(), courseCode, conflicts.size());
+            return new RosterEditResultDTO(rows, cells, conflicts);
+        } finally {
+            event.commit();
+        }
+    }
+
+    private CourseDTO toRosterCourseDTO(Course course) {
+        return CourseDTO.builder()
+                .id(course.getId())
+                .code(course.getCode())
+                .name(course.getName())
+                .credit(course.getCredit())
+                .quota(course.getQuota())
+                .term(course.getTerm())
+                .active(course.isActive())
+                .weeklyTotalHours(course.getWeeklyTotalHours())
+                .weeklyTheoryHours(course.getWeeklyTheoryHours())
+                .weeklyPracticeHours(course.getWeeklyPracticeHours())
+                .instructorId(course.getInstructor() == null ? null : course.getInstructor().getId())
+                .instructorName(course.getInstructor() == null ? null
+                        : (course.getInstructor().getFirstName() + " " + course.getInstructor().getLastName()))
+                .build();
+    }
+
+    private List<GradeDTO> toRosterRows(Course course, List<Enrollment> enrollments, Map<Long, Long> enrollmentIdByStudentId) {
+        List<GradeDTO> rows = new ArrayList<>(enrollments.size());
+        for (Enrollment enrollment : enrollments) {
+            if (enrollment.getStudent() != null && enrollment.getStudent().getId() != null) {
+                enrollmentIdByStudentId.put(enrollment.getStudent().getId(), enrollment.getId());
             }
+            rows.add(toRosterRow(course, enrollment));
+        }
+        return rows;
+    }
+
+    private GradeDTO toRosterRow(Course course, Enrollment enrollment) {
+        Double midterm = enrollment.getGrade() == null || enrollment.getGrade().getMidtermScore() == null
+                ? null
+                : enrollment.getGrade().getMidtermScore().doubleValue();
+        Double finalScore = enrollment.getGrade() == null || enrollment.getGrade().getFinalScore() == null
+                ? null
+                : enrollment.getGrade().getFinalScore().doubleValue();
+
+        boolean graded = midterm != null && finalScore != null;
+        Double average = gradeService.calculateAverage(midterm, finalScore);
+        String letter = graded ? gradeService.determineLetterGrade(average) : null;
+        boolean passed = graded && gradeService.isPassed(letter);
+
+        int absentHoursUi = attendanceService.toAbsentHours(course, enrollment.getAbsenteeismCount());
+        boolean critical = attendanceService.isAttendanceCritical(course, enrollment.getAbsenteeismCount());
+
+        GradeStatus status;
+        if (!graded) {
+            status = GradeStatus.NOT_GRADED;
+        } else {
+            status = passed ? GradeStatus.PASSED : GradeStatus.FAILED;
+        }
+
+        Long studentId = enrollment.getStudent() == null ? null : enrollment.getStudent().getId();
+        String studentName = enrollment.getStudent() == null
+                ? "-"
+                : (String
+                        .valueOf(enrollment.getStudent().getFirstName() == null ? ""
+                                : enrollment.getStudent().getFirstName())
+                        + " "
+                        + String.valueOf(enrollment.getStudent().getLastName() == null ? ""
+                                : enrollment.getStudent().getLastName()))
+                        .trim();
+
+        return new GradeDTO(
+                studentId,
+                studentName,
+                course.getCode(),
+                course.getName(),
+                course.getCredit(),
+                course.getWeeklyTotalHours(),
+                course.getWeeklyTheoryHours(),
+                course.getWeeklyPracticeHours(),
+                midterm,
+                finalScore,
+                average,
+                letter,
+                status,
+                absentHoursUi,
+                critical,
+                true);
+    }
 
-            AttendanceRecord toSave = existing == null
-                    ? AttendanceRecord.builder()
-                            .enrollment(enrollment)
-                            .weekNumber(weekNumber)
-                            .present(presentInput)
-                            .date(LocalDate.now())
-                            .build()
-                    : existing;
+    private GradeDTO toEditedRow(Course course, Enrollment enrollment) {
+        Grade grade = enrollment.getGrade();
+        Double midterm = grade == null || grade.getMidtermScore() == null ? null : grade.getMidtermScore().doubleValue();
+        Double finalScore = grade == null || grade.getFinalScore() == null ? null : grade.getFinalScore().doubleValue();
+        Double average = grade == null || grade.getAverageScore() == null ? null : grade.getAverageScore().doubleValue();
+        String letter = grade == null ? null : grade.getLetterGrade();
+        GradeStatus status;
+        if (average == null || letter == null) {
+            status = GradeStatus.NOT_GRADED;
+        } else {
+            status = grade.isPassed() ? GradeStatus.PASSED : GradeStatus.FAILED;
+        }
+
+        GradeDTO row = new GradeDTO();
+        row.setStudentId(enrollment.getStudent().getId());
+        row.setMidtermScore(midterm);
+        row.setFinalScore(finalScore);
+        row.setAverageScore(average);
+        row.setLetterGrade(letter);
+        row.setStatus(status);
+        row.setAttendanceCount(attendanceService.toAbsentHours(course, enrollment.getAbsenteeismCount()));
+        row.setAbsentCritically(attendanceService.isAttendanceCritical(course, enrollment.getAbsenteeismCount()));
+        return row;
+    }
 
-            toSave.setPresent(presentInput);
-            toSave.setDate(LocalDate.now());
-            attendanceRecordRepository.save(toSave);
+    private Course findCourseByCode(String courseCode) {
+        if (courseCode == null || courseCode.isBlank()) {
+            throw new IllegalArgumentException("Ders kodu boş bırakılamaz");
         }
+        return courseRepository.findByCode(courseCode)
+                .orElseThrow(() -> new IllegalArgumentException("Ders bulunamadı"));
+    }
 
-        enrollment.setAbsenteeismCount(updatedAbsentCount);
-        enrollmentRepository.save(enrollment);
-        return updatedAbsentCount;
+    private AttendanceMatrixDTO toAttendanceMatrix(Course course, List<EnrollmentRepository.AttendanceMatrixRow> rows) {
+        List<AttendanceMatrixDTO.Row> matrixRows = rows.stream()
+                .map(row -> new AttendanceMatrixDTO.Row(
+                        row.getEnrollmentId(),
+                        row.getStudentId(),
+                        ((row.getFirstName() == null ? "" : row.getFirstName()) + " "
+                                + (row.getLastName() == null ? "" : row.getLastName())).trim(),
+                        row.getMarkedWeeks() == null ? 0 : row.getMarkedWeeks(),
+                        row.getPresentWeeks() == null ? 0 : row.getPresentWeeks(),
+                        attendanceService.toAbsentHours(course, row.getAbsenteeismCount()),
+                        attendanceService.isAttendanceCritical(course, row.getAbsenteeismCount())))
+                .toList();
+        return new AttendanceMatrixDTO(course.getId(), course.getCode(), DEFAULT_TERM_WEEKS, matrixRows);
     }
 
-    private void updateGrade(Enrollment enrollment, GradeDTO row) {
-        Grade grade = gradeRepository.findByEnrollmentId(enrollment.getId()).orElse(null);
+    private boolean applyManualAttendanceHours(Course course, Enrollment enrollment, GradeDTO row) {
+        if (row.getAttendanceCount() == null) {
+            return false;
+        }
+        int previousAbsentCount = enrollment.getAbsenteeismCount() == null ? 0
+                : Math.max(0, enrollment.getAbsenteeismCount());
+        int desiredAbsentHours = Math.max(0, row.getAttendanceCount());
+        if (desiredAbsentHours == attendanceService.toAbsentHours(course, previousAbsentCount)) {
+            return false;
+        }
+        Integer weekly = course.getWeeklyTotalHours();
+        if (weekly != null && weekly > 0 && (desiredAbsentHours % weekly != 0)) {
+            throw new IllegalArgumentException(
+                    "Devamsızlık saati, dersin haftalık toplam saatinin katı olmalıdır (" + weekly + ")");
+        }
+        enrollment.setAbsenteeismCount(attendanceService.toAbsentCount(course, desiredAbsentHours));
+        return true;
+    }
+
+    private ContributionChange updateGrade(Course course, Enrollment enrollment, GradeDTO row) {
+        Grade grade = enrollment.getGrade();
         if (grade == null) {
             grade = Grade.builder().enrollment(enrollment).passed(false).build();
+            enrollment.setGrade(grade);
         }
+        GradeContribution before = academicSummaryService.contributionOf(
+                course, enrollment.getStatus(), grade.getLetterGrade(), grade.isPassed());
 
         if (row.getMidtermScore() != null) {
             grade.setMidtermScore(BigDecimal.valueOf(row.getMidtermScore()));
@@ -358,5 +768,9 @@ public class InstructorWorkflowService {
         }
 
         gradeRepository.save(grade);
+
+        GradeContribution after = academicSummaryService.contributionOf(
+                course, enrollment.getStatus(), grade.getLetterGrade(), grade.isPassed());
+        return new ContributionChange(enrollment.getStudent().getId(), course.getTerm(), before, after);
     }
 }
@@ -0,0 +1,414 @@
+package org.example.coursetrackingautomation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+/**
+ * On-disk store of the data a user last saw in a view, used to render dashboards immediately on open
+ * (stale-while-revalidate) and to keep them readable while the database cannot be reached.
+ *
+ * <p>Entries are keyed by user and view and written in a compact binary layout by a {@link SnapshotCodec}:
+ * a header with magic number, format and codec version, save time, optional delta sync watermark and
+ * payload length, followed by the payload and its CRC-32. Entries whose versions do not match or whose
+ * checksum fails are treated as missing and deleted. Entries of at least
+ * {@value #MAPPED_READ_THRESHOLD_BYTES} bytes are read through a memory mapping, smaller ones are read
+ * directly.</p>
+ *
+ * <p>Writes run on a background thread: the entry is written to a temporary file and atomically moved in
+ * place, so readers never see a partial entry. Entries larger than {@code app.snapshot.max-entry-bytes}
+ * are not stored, and once the store exceeds {@code app.snapshot.max-total-bytes} the least recently
+ * written entries are deleted.</p>
+ *
+ * <p>The entries hold personal data such as grades, so they are kept in the application data directory of
+ * the operating-system user ({@code AppData/Local} on Windows, {@code Library/Application Support} on macOS,
+ * {@code .local/share} elsewhere, all under {@code user.home}) unless {@code app.snapshot.directory} names
+ * another one. On POSIX file systems the directories and entries are created readable by their owner only;
+ * on Windows the user profile's access control already keeps them private.</p>
+ */
+public class LocalSnapshotStore {
+
+    static final String ENTRIES_METRIC = "app.snapshot.entries";
+
+    private static final int MAGIC = 0x43545353;
+    private static final short FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 2 + 4 + 8 + 8 + 4;
+    private static final int MAPPED_READ_THRESHOLD_BYTES = 64 * 1024;
+    private static final long NO_WATERMARK = Long.MIN_VALUE;
+    private static final String ENTRY_SUFFIX = ".snap";
+    private static final String APPLICATION_DIRECTORY_NAME = "CourseTrackingAutomation";
+    private static final Set<PosixFilePermission> OWNER_ONLY_DIRECTORY = PosixFilePermissions.fromString("rwx------");
+    private static final Set<PosixFilePermission> OWNER_ONLY_FILE = PosixFilePermissions.fromString("rw-------");
+
+    /**
+     * Stored value of a view.
+     *
+     * @param value decoded value
+     * @param watermark delta sync watermark the value is current as of, or {@code null}
+     * @param savedAt time the value was stored
+     */
+    public record Stored<T>(T value, LocalDateTime watermark, Instant savedAt) {
+    }
+
+    private final Path directory;
+    private final boolean posix;
+    private final boolean enabled;
+    private final long maxEntryBytes;
+    private final long maxTotalBytes;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter writes;
+    private ExecutorService writer;
+
+    /**
+     * Creates the store.
+     *
+     * @param meterRegistry registry receiving the hit, miss and write counters
+     * @param directory directory holding the entries; blank for the user's application data directory
+     * @param enabled whether entries are read and written
+     * @param maxEntryBytes largest entry that is stored
+     * @param maxTotalBytes size of all entries above which the oldest are deleted
+     */
+    public LocalSnapshotStore(
+        MeterRegistry meterRegistry,
+        @Value("${app.snapshot.directory:}") String directory,
+        @Value("${app.snapshot.enabled:true}") boolean enabled,
+        @Value("${app.snapshot.max-entry-bytes:4194304}") long maxEntryBytes,
+        @Value("${app.snapshot.max-total-bytes:33554432}") long maxTotalBytes
+    ) {
+        this.directory = directory == null || directory.isBlank() ? defaultDirectory() : Path.of(directory);
+        this.posix = this.directory.getFileSystem().supportedFileAttributeViews().contains("posix");
+        this.enabled = enabled;
+        this.maxEntryBytes = Math.max(HEADER_BYTES, maxEntryBytes);
+        this.maxTotalBytes = Math.max(this.maxEntryBytes, maxTotalBytes);
+        this.hits = Counter.builder(ENTRIES_METRIC).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(ENTRIES_METRIC).tag("result", "miss").register(meterRegistry);
+        this.writes = Counter.builder(ENTRIES_METRIC).tag("result", "written").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (enabled) {
+            try {
+                createPrivateDirectories(directory);
+                if (posix) {
+                    // Tightens a directory created by an earlier version with the default permissions.
+                    Files.setPosixFilePermissions(directory, OWNER_ONLY_DIRECTORY);
+                }
+            } catch (IOException e) {
+                log.warn("Snapshot directory {} could not be prepared", directory, e);
+            }
+        }
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "snapshot-store");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stop() {
+        if (writer == null) {
+            return;
+        }
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Reads the stored value of a user's view.
+     *
+     * @param userId user identifier
+     * @param view view name, e.g. {@code transcript} or {@code roster/CS101}
+     * @param codec codec the value was written with
+     * @param <T> value type
+     * @return stored value, or empty if there is none or it cannot be decoded
+     */
+    public <T> Optional<Stored<T>> read(Long userId, String view, SnapshotCodec<T> codec) {
+        if (!enabled || userId == null) {
+            return Optional.empty();
+        }
+        Path file = entryFile(userId, view);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + 4 || size > maxEntryBytes) {
+                return discard(file, "unexpected size " + size);
+            }
+            ByteBuffer buffer;
+            if (size >= MAPPED_READ_THRESHOLD_BYTES) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                buffer = ByteBuffer.allocate((int) size);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) < 0) {
+                        break;
+                    }
+                }
+                buffer.flip();
+            }
+            return decode(file, buffer, codec);
+        } catch (NoSuchFileException e) {
+            misses.increment();
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Snapshot {} could not be read", file, e);
+            return discard(file, "unreadable");
+        }
+    }
+
+    /**
+     * Stores the value of a user's view in the background, replacing the previous one.
+     *
+     * @param userId user identifier
+     * @param view view name
+     * @param codec codec used to encode the value
+     * @param value value to store
+     * @param watermark delta sync watermark the value is current as of, or {@code null}
+     * @param <T> value type
+     */
+    public <T> void write(Long userId, String view, SnapshotCodec<T> codec, T value, LocalDateTime watermark) {
+        if (!enabled || userId == null || value == null || writer == null) {
+            return;
+        }
+        writer.execute(() -> {
+            try {
+                writeNow(entryFile(userId, view), codec, value, watermark);
+            } catch (IOException | RuntimeException e) {
+                log.warn("Snapshot {} of user {} could not be written", view, userId, e);
+            }
+        });
+    }
+
+    /**
+     * Deletes the stored value of a user's view, for example when it is known to be wrong.
+     *
+     * @param userId user identifier
+     * @param view view name
+     */
+    public void delete(Long userId, String view) {
+        if (!enabled || userId == null || writer == null) {
+            return;
+        }
+        writer.execute(() -> deleteQuietly(entryFile(userId, view)));
+    }
+
+    private <T> Optional<Stored<T>> decode(Path file, ByteBuffer buffer, SnapshotCodec<T> codec) {
+        try {
+            if (buffer.getInt() != MAGIC || buffer.getShort() != FORMAT_VERSION) {
+                return discard(file, "unknown format");
+            }
+            if (buffer.getInt() != codec.version()) {
+                return discard(file, "codec version changed");
+            }
+            Instant savedAt = Instant.ofEpochMilli(buffer.getLong());
+            long watermarkMillis = buffer.getLong();
+            int payloadLength = buffer.getInt();
+            if (payloadLength < 0 || payloadLength != buffer.remaining() - 4) {
+                return discard(file, "truncated");
+            }
+
+            ByteBuffer payload = buffer.slice(buffer.position(), payloadLength);
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != buffer.getInt(buffer.position() + payloadLength)) {
+                return discard(file, "checksum mismatch");
+            }
+
+            T value = codec.read(payload);
+            LocalDateTime watermark = watermarkMillis == NO_WATERMARK
+                ? null
+                : LocalDateTime.ofInstant(Instant.ofEpochMilli(watermarkMillis), ZoneOffset.UTC);
+            hits.increment();
+            return Optional.of(new Stored<>(value, watermark, savedAt));
+        } catch (BufferUnderflowException | IllegalArgumentException | IllegalStateException e) {
+            return discard(file, "corrupt payload");
+        }
+    }
+
+    private <T> void writeNow(Path file, SnapshotCodec<T> codec, T value, LocalDateTime watermark) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        DataOutputStream out = new DataOutputStream(bytes);
+        codec.write(out, value);
+        out.flush();
+        byte[] payload = bytes.toByteArray();
+        if (HEADER_BYTES + payload.length + 4L > maxEntryBytes) {
+            log.debug("Snapshot {} not stored: {} bytes exceed the entry limit", file, payload.length);
+            deleteQuietly(file);
+            return;
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        ByteBuffer entry = ByteBuffer.allocate(HEADER_BYTES + payload.length + 4)
+            .putInt(MAGIC)
+            .putShort(FORMAT_VERSION)
+            .putInt(codec.version())
+            .putLong(System.currentTimeMillis())
+            .putLong(watermark == null ? NO_WATERMARK : watermark.toInstant(ZoneOffset.UTC).toEpochMilli())
+            .putInt(payload.length)
+            .put(payload)
+            .putInt((int) crc.getValue())
+            .flip();
+
+        createPrivateDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp,
+            Set.of(StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING),
+            entryFileAttributes())) {
+            while (entry.hasRemaining()) {
+                channel.write(entry);
+            }
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileSystemException e) {
+            // A mapping of the previous entry can keep the file locked on some platforms; try again next time.
+            log.debug("Snapshot {} is in use and was not replaced", file, e);
+            deleteQuietly(temp);
+            return;
+        }
+        writes.increment();
+        evictOverflow();
+    }
+
+    private void evictOverflow() throws IOException {
+        List<Path> entries = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.filter(path -> path.getFileName().toString().endsWith(ENTRY_SUFFIX)).forEach(entries::add);
+        }
+        long total = 0;
+        for (Path entry : entries) {
+            total += sizeOf(entry);
+        }
+        if (total <= maxTotalBytes) {
+            return;
+        }
+        entries.sort(Comparator.comparing(LocalSnapshotStore::modifiedAt));
+        for (Path entry : entries) {
+            if (total <= maxTotalBytes) {
+                break;
+            }
+            long size = sizeOf(entry);
+            if (deleteQuietly(entry)) {
+                total -= size;
+            }
+        }
+    }
+
+    private <T> Optional<Stored<T>> discard(Path file, String reason) {
+        log.debug("Discarding snapshot {}: {}", file, reason);
+        misses.increment();
+        deleteLater(file);
+        return Optional.empty();
+    }
+
+    private void deleteLater(Path file) {
+        if (writer != null) {
+            writer.execute(() -> deleteQuietly(file));
+        }
+    }
+
+    private FileAttribute<?>[] entryFileAttributes() {
+        return posix
+            ? new FileAttribute<?>[] {PosixFilePermissions.asFileAttribute(OWNER_ONLY_FILE)}
+            : new FileAttribute<?>[0];
+    }
+
+    private void createPrivateDirectories(Path path) throws IOException {
+        if (posix) {
+            Files.createDirectories(path, PosixFilePermissions.asFileAttribute(OWNER_ONLY_DIRECTORY));
+        } else {
+            Files.createDirectories(path);
+        }
+    }
+
+    /**
+     * Returns the snapshot directory inside the application data directory of the operating-system user.
+     */
+    static Path defaultDirectory() {
+        Path home = Path.of(System.getProperty("user.home"));
+        String os = System.getProperty("os.name", "").toLowerCase(Locale.ROOT);
+        Path applicationDirectory;
+        if (os.startsWith("windows")) {
+            applicationDirectory = home.resolve("AppData").resolve("Local").resolve(APPLICATION_DIRECTORY_NAME);
+        } else if (os.startsWith("mac")) {
+            applicationDirectory = home.resolve("Library").resolve("Application Support").resolve(APPLICATION_DIRECTORY_NAME);
+        } else {
+            applicationDirectory = home.resolve(".local").resolve("share").resolve(APPLICATION_DIRECTORY_NAME);
+        }
+        return applicationDirectory.resolve("snapshots");
+    }
+
+    private Path entryFile(Long userId, String view) {
+        return directory.resolve(String.valueOf(userId))
+            .resolve(URLEncoder.encode(view, StandardCharsets.UTF_8) + ENTRY_SUFFIX);
+    }
+
+    private static boolean deleteQuietly(Path file) {
+        try {
+            return Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Snapshot {} could not be deleted", file, e);
+            return false;
+        }
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static FileTime modifiedAt(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package org.example.coursetrackingautomation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.coursetrackingautomation.dto.EntityChangeDTO;
+import org.example.coursetrackingautomation.dto.RoleDTO;
+import org.example.coursetrackingautomation.dto.SelectOptionDTO;
+import org.example.coursetrackingautomation.entity.Role;
+import org.example.coursetrackingautomation.event.UserDeletedEvent;
+import org.example.coursetrackingautomation.event.UserSavedEvent;
+import org.example.coursetrackingautomation.repository.UserRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+/**
+ * Shared, incrementally maintained reference data for the selection controls of the forms, such as the
+ * instructor choices of the course forms.
+ *
+ * <p>The active user options of a role are loaded once with a projection query and kept until the
+ * application stops. Users saved on this client or reported by the change feed are only marked stale and
+ * re-read by id on the next request, so a change costs one primary-key lookup instead of a reload of the
+ * role; deleted users are removed right away. Requests are counted in the {@code user-options} cache
+ * metrics.</p>
+ *
+ * <p>Large roles, such as students, should be searched with {@link #searchActiveUserOptions} instead of
+ * being listed.</p>
+ */
+public class ReferenceDataService {
+
+    static final String CACHE_NAME = "user-options";
+
+    private static final Comparator<SelectOptionDTO> OPTION_ORDER =
+        Comparator.comparing(SelectOptionDTO::label, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(SelectOptionDTO::id);
+
+    private final UserRepository userRepository;
+    private final ChangeFeedService changeFeedService;
+    private final DomainEventBus domainEventBus;
+    private final Counter hits;
+    private final Counter misses;
+
+    private final List<DomainEventBus.Subscription> subscriptions = new ArrayList<>();
+    private final ChangeFeedService.Listener changeFeedListener = this::onRemoteChanges;
+    private final Map<Role, List<SelectOptionDTO>> optionsByRole = new EnumMap<>(Role.class);
+    private final Set<Long> staleUserIds = new HashSet<>();
+    private long generation;
+
+    public ReferenceDataService(UserRepository userRepository,
+                                ChangeFeedService changeFeedService,
+                                DomainEventBus domainEventBus,
+                                MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.changeFeedService = changeFeedService;
+        this.domainEventBus = domainEventBus;
+        this.hits = Counter.builder(DiagnosticsService.CACHE_REQUESTS_METRIC)
+            .tag("cache", CACHE_NAME)
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder(DiagnosticsService.CACHE_REQUESTS_METRIC)
+            .tag("cache", CACHE_NAME)
+            .tag("result", "miss")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        changeFeedService.addListener(changeFeedListener);
+        subscriptions.add(domainEventBus.subscribe(UserSavedEvent.class, event -> markStale(event.user().id())));
+        subscriptions.add(domainEventBus.subscribe(UserDeletedEvent.class, event -> remove(event.userId())));
+    }
+
+    @PreDestroy
+    void stop() {
+        changeFeedService.removeListener(changeFeedListener);
+        subscriptions.forEach(DomainEventBus.Subscription::cancel);
+        subscriptions.clear();
+    }
+
+    /**
+     * Returns the options of all active users of a role, from the cache when available. May query the
+     * database, so it must not be called on the UI thread.
+     *
+     * @param role role filter
+     * @return options ordered by label; the list is immutable
+     * @throws IllegalArgumentException if {@code role} is null
+     */
+    public List<SelectOptionDTO> getActiveUserOptions(RoleDTO role) {
+        if (role == null) {
+            throw new IllegalArgumentException("Rol boş olamaz");
+        }
+        Role userRole = Role.valueOf(role.name());
+        refreshStaleUsers();
+
+        long generationBeforeLoad;
+        synchronized (this) {
+            List<SelectOptionDTO> cached = optionsByRole.get(userRole);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            generationBeforeLoad = generation;
+        }
+        misses.increment();
+
+        List<SelectOptionDTO> loaded = userRepository.findActiveOptionsByRole(userRole).stream()
+            .map(UserService::toOption)
+            .sorted(OPTION_ORDER)
+            .toList();
+        log.debug("Loaded {} {} options", loaded.size(), userRole);
+        synchronized (this) {
+            // A user changed while loading may be missing from the result; keep it out of the cache.
+            if (generation == generationBeforeLoad) {
+                optionsByRole.put(userRole, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Returns the options of at most {@code limit} active users of a role whose username, first name, last
+     * name or student number starts with {@code prefix}, as searched by the database.
+     *
+     * @param role role filter
+     * @param prefix case-insensitive prefix; blank returns the first users by name
+     * @param limit maximum number of options
+     * @return matching options ordered by name
+     * @throws IllegalArgumentException if {@code role} is null or {@code limit} is not positive
+     */
+    public List<SelectOptionDTO> searchActiveUserOptions(RoleDTO role, String prefix, int limit) {
+        if (role == null) {
+            throw new IllegalArgumentException("Rol boş olamaz");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit pozitif olmalıdır");
+        }
+        String pattern = escapeLike(prefix == null ? "" : prefix.trim());
+        return userRepository.searchActiveOptionsByRole(Role.valueOf(role.name()), pattern, PageRequest.of(0, limit))
+            .stream()
+            .map(UserService::toOption)
+            .toList();
+    }
+
+    private synchronized void markStale(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        generation++;
+        if (!optionsByRole.isEmpty()) {
+            staleUserIds.add(userId);
+        }
+    }
+
+    private synchronized void remove(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        generation++;
+        staleUserIds.remove(userId);
+        optionsByRole.replaceAll((role, options) -> patch(options, role, Set.of(userId), List.of()));
+    }
+
+    private void refreshStaleUsers() {
+        Set<Long> userIds;
+        synchronized (this) {
+            if (staleUserIds.isEmpty()) {
+                return;
+            }
+            userIds = Set.copyOf(staleUserIds);
+            staleUserIds.clear();
+        }
+
+        List<UserRepository.UserOption> rows;
+        try {
+            rows = userRepository.findOptionsByIdIn(userIds);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                staleUserIds.addAll(userIds);
+            }
+            throw e;
+        }
+        synchronized (this) {
+            optionsByRole.replaceAll((role, options) -> patch(options, role, userIds, rows));
+        }
+        log.debug("Refreshed {} changed users in cached options", userIds.size());
+    }
+
+    private void onRemoteChanges(List<EntityChangeDTO> changes) {
+        for (EntityChangeDTO change : changes) {
+            if (!EntityChangeDTO.TYPE_USER.equals(change.entityType())) {
+                continue;
+            }
+            if (change.deleted()) {
+                remove(change.entityId());
+            } else {
+                markStale(change.entityId());
+            }
+        }
+    }
+
+    private static List<SelectOptionDTO> patch(List<SelectOptionDTO> options, Role role, Set<Long> userIds,
+                                               List<UserRepository.UserOption> rows) {
+        List<SelectOptionDTO> patched = new ArrayList<>(options.size() + rows.size());
+        for (SelectOptionDTO option : options) {
+            if (!userIds.contains(option.id())) {
+                patched.add(option);
+            }
+        }
+        for (UserRepository.UserOption row : rows) {
+            if (row.getRole() == role && Boolean.TRUE.equals(row.getActive())) {
+                patched.add(UserService.toOption(row));
+            }
+        }
+        patched.sort(OPTION_ORDER);
+        return List.copyOf(patched);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
@@ -0,0 +1,449 @@
+package org.example.coursetrackingautomation.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.coursetrackingautomation.dto.RosterEditConflictDTO;
+import org.example.coursetrackingautomation.dto.RosterEditDTO;
+import org.example.coursetrackingautomation.dto.RosterEditField;
+import org.example.coursetrackingautomation.dto.RosterEditResultDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+/**
+ * Write-behind queue for instructor roster edits.
+ *
+ * <p>Edits are recorded in memory, coalesced per (course, student, cell) so that repeated edits of one cell
+ * become a single write, and appended to a {@link RosterEditJournal} on disk (forced before
+ * {@link #record} returns). A background thread writes
+ * them to {@link InstructorWorkflowService#applyRosterEdits} in batches of at most
+ * {@code app.autosave.batch-size} edits of one course, once the user has been idle for
+ * {@code app.autosave.idle-delay-ms} and at the latest every {@code app.autosave.flush-interval-ms}.
+ * Failed batches are put back and retried with exponential backoff; conflicts reported by the service are
+ * dropped from the queue and passed to the {@link Listener}, together with any newer edit of the same cell
+ * made while the conflicting one was being written. Edits journaled before a crash are replayed
+ * at startup.</p>
+ */
+public class RosterAutosaveService {
+
+    static final String EDITS_METRIC = "app.autosave.edits";
+
+    private static final long INITIAL_RETRY_DELAY_MILLIS = 1_000;
+
+    /**
+     * Receives flush outcomes. Called on the autosave thread or the thread calling {@link #flushAll()}.
+     */
+    public interface Listener {
+
+        /**
+         * Called after a batch has been written.
+         *
+         * @param courseCode course of the batch
+         * @param result persisted state of the touched students and rejected edits
+         */
+        void onFlushed(String courseCode, RosterEditResultDTO result);
+
+        /**
+         * Called when a batch could not be written and will be retried.
+         *
+         * @param courseCode course of the batch
+         * @param attempt number of consecutive failed attempts
+         * @param error failure
+         */
+        void onFlushFailed(String courseCode, int attempt, RuntimeException error);
+    }
+
+    private record EditKey(String courseCode, Long studentId, RosterEditField field, int weekNumber) {
+    }
+
+    private final InstructorWorkflowService instructorWorkflowService;
+    private final RosterEditJournal journal;
+    private final long idleDelayMillis;
+    private final long flushIntervalMillis;
+    private final long maxRetryDelayMillis;
+    private final int batchSize;
+    private final Counter recordedEdits;
+    private final Counter coalescedEdits;
+    private final Counter writtenEdits;
+
+    private final Map<EditKey, RosterEditDTO> pending = new LinkedHashMap<>();
+    private final Map<EditKey, RosterEditDTO> inFlight = new LinkedHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> idleFlush;
+    private volatile Listener listener;
+    private int failedAttempts;
+    private long retryNotBefore;
+
+    /**
+     * Creates the service.
+     *
+     * @param instructorWorkflowService service applying the edit batches
+     * @param meterRegistry registry receiving the edit counters
+     * @param journalFile journal file of edits not written yet
+     * @param idleDelayMillis idle time after the last edit before a flush
+     * @param flushIntervalMillis maximum time between flushes while edits keep arriving
+     * @param batchSize maximum number of edits per batch
+     * @param maxRetryDelayMillis upper bound of the retry backoff
+     */
+    public RosterAutosaveService(
+        InstructorWorkflowService instructorWorkflowService,
+        MeterRegistry meterRegistry,
+        @Value("${app.autosave.journal-file:autosave/roster-edits.journal}") String journalFile,
+        @Value("${app.autosave.idle-delay-ms:800}") long idleDelayMillis,
+        @Value("${app.autosave.flush-interval-ms:5000}") long flushIntervalMillis,
+        @Value("${app.autosave.batch-size:50}") int batchSize,
+        @Value("${app.autosave.max-retry-delay-ms:60000}") long maxRetryDelayMillis
+    ) {
+        this.instructorWorkflowService = instructorWorkflowService;
+        this.journal = new RosterEditJournal(Path.of(journalFile));
+        this.idleDelayMillis = Math.max(0, idleDelayMillis);
+        this.flushIntervalMillis = Math.max(100, flushIntervalMillis);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxRetryDelayMillis = Math.max(INITIAL_RETRY_DELAY_MILLIS, maxRetryDelayMillis);
+        this.recordedEdits = Counter.builder(EDITS_METRIC).tag("result", "recorded").register(meterRegistry);
+        this.coalescedEdits = Counter.builder(EDITS_METRIC).tag("result", "coalesced").register(meterRegistry);
+        this.writtenEdits = Counter.builder(EDITS_METRIC).tag("result", "written").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        try {
+            List<RosterEditJournal.Entry> replayed = journal.readAll();
+            synchronized (pending) {
+                replayed.forEach(entry -> merge(entry.courseCode(), entry.edit()));
+            }
+            if (!replayed.isEmpty()) {
+                log.info("Replayed {} journaled roster edits ({} after coalescing)", replayed.size(), pendingCount());
+            }
+        } catch (IOException e) {
+            log.error("Roster edit journal could not be replayed", e);
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "roster-autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushInBackground, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        try {
+            flushAll();
+        } catch (RuntimeException e) {
+            log.warn("Pending roster edits could not be written on shutdown; they stay journaled", e);
+        }
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        writeJournal();
+        journal.close();
+    }
+
+    /**
+     * Sets the listener receiving flush outcomes, replacing the previous one.
+     *
+     * @param listener listener, or {@code null} to remove it
+     */
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Queues an edit for writing and journals it.
+     *
+     * <p>An edit of a cell that is already queued replaces the queued value but keeps its expected value;
+     * an edit back to the persisted value cancels the queued one.</p>
+     *
+     * @param courseCode course code
+     * @param edit the edit
+     * @throws IllegalArgumentException if the course code, student or field is missing
+     */
+    public void record(String courseCode, RosterEditDTO edit) {
+        if (courseCode == null || courseCode.isBlank()) {
+            throw new IllegalArgumentException("Ders kodu boş bırakılamaz");
+        }
+        if (edit == null || edit.studentId() == null || edit.field() == null) {
+            throw new IllegalArgumentException("Geçersiz düzenleme");
+        }
+        // Appended on the calling thread: the autosave thread may be blocked in a slow or retried flush.
+        synchronized (journal) {
+            synchronized (pending) {
+                merge(courseCode, edit);
+            }
+            try {
+                journal.append(courseCode, edit);
+            } catch (IOException e) {
+                log.error("Roster edit could not be journaled", e);
+            }
+        }
+        recordedEdits.increment();
+        if (scheduler == null) {
+            return;
+        }
+        synchronized (pending) {
+            if (idleFlush != null) {
+                idleFlush.cancel(false);
+            }
+            idleFlush = scheduler.schedule(this::flushInBackground, idleDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns the edits of a course that have not been written yet, including those being written.
+     *
+     * @param courseCode course code
+     * @return queued edits, at most one per cell
+     */
+    public List<RosterEditDTO> pendingEdits(String courseCode) {
+        Map<EditKey, RosterEditDTO> edits = new LinkedHashMap<>();
+        synchronized (pending) {
+            inFlight.forEach((key, edit) -> {
+                if (key.courseCode().equals(courseCode)) {
+                    edits.put(key, edit);
+                }
+            });
+            pending.forEach((key, edit) -> {
+                if (key.courseCode().equals(courseCode)) {
+                    edits.put(key, edit);
+                }
+            });
+        }
+        return List.copyOf(edits.values());
+    }
+
+    /**
+     * @return {@code true} if any edit has not been written yet
+     */
+    public boolean hasPendingEdits() {
+        return pendingCount() > 0;
+    }
+
+    /**
+     * Writes all queued edits now, batch by batch, ignoring the retry backoff.
+     *
+     * @return {@code true} if the queue was drained; {@code false} if a batch failed and stays queued
+     */
+    public boolean flushAll() {
+        flushLock.lock();
+        try {
+            while (true) {
+                Boolean flushed = flushNextBatch();
+                if (flushed == null) {
+                    return true;
+                }
+                if (!flushed) {
+                    return false;
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushInBackground() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            if (failedAttempts > 0 && System.nanoTime() - retryNotBefore < 0) {
+                return;
+            }
+            while (true) {
+                Boolean flushed = flushNextBatch();
+                if (flushed == null || !flushed) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Roster autosave failed", e);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the next batch. Must hold {@link #flushLock}.
+     *
+     * @return {@code null} if nothing was queued, otherwise whether the batch was written
+     */
+    private Boolean flushNextBatch() {
+        String courseCode;
+        List<RosterEditDTO> batch = new ArrayList<>();
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return null;
+            }
+            courseCode = pending.keySet().iterator().next().courseCode();
+            Iterator<Map.Entry<EditKey, RosterEditDTO>> iterator = pending.entrySet().iterator();
+            while (iterator.hasNext() && batch.size() < batchSize) {
+                Map.Entry<EditKey, RosterEditDTO> entry = iterator.next();
+                if (entry.getKey().courseCode().equals(courseCode)) {
+                    inFlight.put(entry.getKey(), entry.getValue());
+                    batch.add(entry.getValue());
+                    iterator.remove();
+                }
+            }
+        }
+
+        RosterEditResultDTO result;
+        try {
+            result = instructorWorkflowService.applyRosterEdits(courseCode, batch);
+        } catch (IllegalArgumentException e) {
+            result = new RosterEditResultDTO(List.of(), List.of(),
+                batch.stream().map(edit -> new RosterEditConflictDTO(edit, e.getMessage())).toList());
+        } catch (RuntimeException e) {
+            requeueInFlight();
+            failedAttempts++;
+            long delay = Math.min(maxRetryDelayMillis, INITIAL_RETRY_DELAY_MILLIS << Math.min(failedAttempts - 1, 20));
+            retryNotBefore = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+            log.warn("Roster autosave of {} edits for courseCode={} failed (attempt {}), retrying in {} ms",
+                batch.size(), courseCode, failedAttempts, delay, e);
+            notifyFailed(courseCode, failedAttempts, e);
+            return false;
+        }
+
+        failedAttempts = 0;
+        writtenEdits.increment(batch.size() - result.conflicts().size());
+        result = completeInFlight(courseCode, result);
+        compactJournal();
+        Listener current = listener;
+        if (current != null) {
+            try {
+                current.onFlushed(courseCode, result);
+            } catch (RuntimeException e) {
+                log.warn("Roster autosave listener failed", e);
+            }
+        }
+        return true;
+    }
+
+    private void merge(String courseCode, RosterEditDTO edit) {
+        EditKey key = keyOf(courseCode, edit);
+        RosterEditDTO previous = pending.get(key);
+        RosterEditDTO merged = edit;
+        if (previous != null) {
+            coalescedEdits.increment();
+            merged = new RosterEditDTO(edit.studentId(), edit.field(), key.weekNumber(), edit.value(), previous.expected());
+        }
+        if (merged.isNoOp() && !inFlight.containsKey(key)) {
+            pending.remove(key);
+        } else {
+            pending.put(key, merged);
+        }
+    }
+
+    private void requeueInFlight() {
+        synchronized (pending) {
+            Map<EditKey, RosterEditDTO> requeued = new LinkedHashMap<>(inFlight);
+            pending.forEach(requeued::put);
+            pending.clear();
+            pending.putAll(requeued);
+            inFlight.clear();
+        }
+    }
+
+    /**
+     * Settles the written batch: edits queued for a cell while it was being written are rebased onto the
+     * written value, or rejected together with the written edit if that one conflicted.
+     *
+     * @return the result with the rejected newer edits added to its conflicts
+     */
+    private RosterEditResultDTO completeInFlight(String courseCode, RosterEditResultDTO result) {
+        List<RosterEditConflictDTO> rejected = new ArrayList<>();
+        synchronized (pending) {
+            for (RosterEditConflictDTO conflict : result.conflicts()) {
+                EditKey key = keyOf(courseCode, conflict.edit());
+                inFlight.remove(key);
+                RosterEditDTO newer = pending.remove(key);
+                if (newer != null) {
+                    rejected.add(new RosterEditConflictDTO(newer, conflict.reason()));
+                }
+            }
+            inFlight.forEach((key, written) -> pending.computeIfPresent(key, (ignored, newer) -> {
+                RosterEditDTO rebased = new RosterEditDTO(newer.studentId(), newer.field(), newer.weekNumber(),
+                    newer.value(), written.value());
+                return rebased.isNoOp() ? null : rebased;
+            }));
+            inFlight.clear();
+        }
+        if (rejected.isEmpty()) {
+            return result;
+        }
+        rejected.addAll(0, result.conflicts());
+        return new RosterEditResultDTO(result.rows(), result.cells(), rejected);
+    }
+
+    /**
+     * Compacts the journal on the autosave thread.
+     */
+    private void compactJournal() {
+        if (scheduler != null && !scheduler.isShutdown()) {
+            scheduler.execute(this::writeJournal);
+        }
+    }
+
+    private void writeJournal() {
+        // Holding the journal lock keeps record() from appending between the snapshot and the rewrite, which
+        // would drop the appended edit from the rewritten journal.
+        synchronized (journal) {
+            List<RosterEditJournal.Entry> entries = new ArrayList<>();
+            synchronized (pending) {
+                inFlight.forEach((key, edit) -> entries.add(new RosterEditJournal.Entry(key.courseCode(), edit)));
+                pending.forEach((key, edit) -> entries.add(new RosterEditJournal.Entry(key.courseCode(), edit)));
+            }
+            try {
+                journal.rewrite(entries);
+            } catch (IOException e) {
+                log.error("Roster edit journal could not be compacted", e);
+            }
+        }
+    }
+
+    private static EditKey keyOf(String courseCode, RosterEditDTO edit) {
+        return new EditKey(courseCode, edit.studentId(), edit.field(),
+            edit.field() == RosterEditField.PRESENT ? edit.weekNumber() : 0);
+    }
+
+    private void notifyFailed(String courseCode, int attempt, RuntimeException error) {
+        Listener current = listener;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.onFlushFailed(courseCode, attempt, error);
+        } catch (RuntimeException e) {
+            log.warn("Roster autosave listener failed", e);
+        }
+    }
+
+    private int pendingCount() {
+        synchronized (pending) {
+            return pending.size() + inFlight.size();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package org.example.coursetrackingautomation.service;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.example.coursetrackingautomation.dto.RosterEditDTO;
+import org.example.coursetrackingautomation.dto.RosterEditField;
+
+@Slf4j
+/**
+ * Append-only file journal of autosaved roster edits that have not been written to the database yet.
+ *
+ * <p>Every edit is appended as one tab-separated line and forced to disk before the append returns, so
+ * edits survive a crash or power loss. A torn last line (no trailing newline) is ignored on replay.
+ * After a successful flush the journal is compacted to the edits still pending by writing a temporary
+ * file and atomically moving it over the journal.</p>
+ *
+ * <p>Thread-safe; all file access is serialized.</p>
+ */
+final class RosterEditJournal {
+
+    /**
+     * Journaled edit of a course.
+     *
+     * @param courseCode course code
+     * @param edit the edit
+     */
+    record Entry(String courseCode, RosterEditDTO edit) {
+    }
+
+    private final Path file;
+    private FileChannel channel;
+
+    RosterEditJournal(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Reads all complete entries of the journal.
+     *
+     * @return entries in append order; empty if the journal does not exist
+     * @throws IOException if the journal cannot be read
+     */
+    synchronized List<Entry> readAll() throws IOException {
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        String content = Files.readString(file, StandardCharsets.UTF_8);
+        List<Entry> entries = new ArrayList<>();
+        int start = 0;
+        for (int end = content.indexOf('\n'); end >= 0; end = content.indexOf('\n', start)) {
+            Entry entry = parse(content.substring(start, end));
+            if (entry != null) {
+                entries.add(entry);
+            }
+            start = end + 1;
+        }
+        if (start < content.length()) {
+            log.warn("Ignoring incomplete last line of roster edit journal {}", file);
+        }
+        return entries;
+    }
+
+    /**
+     * Appends one edit and forces it to disk.
+     *
+     * @param courseCode course code
+     * @param edit the edit
+     * @throws IOException if the edit cannot be written
+     */
+    synchronized void append(String courseCode, RosterEditDTO edit) throws IOException {
+        if (channel == null) {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        ByteBuffer line = ByteBuffer.wrap(format(courseCode, edit).getBytes(StandardCharsets.UTF_8));
+        while (line.hasRemaining()) {
+            channel.write(line);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * Replaces the journal with the given entries; deletes it if there are none.
+     *
+     * @param entries entries still pending
+     * @throws IOException if the journal cannot be rewritten
+     */
+    synchronized void rewrite(Collection<Entry> entries) throws IOException {
+        close();
+        if (entries.isEmpty()) {
+            Files.deleteIfExists(file);
+            return;
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            StringBuilder content = new StringBuilder();
+            entries.forEach(entry -> content.append(format(entry.courseCode(), entry.edit())));
+            ByteBuffer buffer = ByteBuffer.wrap(content.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            out.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Closes the append channel; the next append reopens it.
+     */
+    synchronized void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Roster edit journal could not be closed", e);
+        }
+        channel = null;
+    }
+
+    private static String format(String courseCode, RosterEditDTO edit) {
+        return URLEncoder.encode(courseCode, StandardCharsets.UTF_8)
+            + '\t' + edit.studentId()
+            + '\t' + edit.field().name()
+            + '\t' + edit.weekNumber()
+            + '\t' + (edit.value() == null ? "" : edit.value().toString())
+            + '\t' + (edit.expected() == null ? "" : edit.expected().toString())
+            + '\n';
+    }
+
+    private Entry parse(String line) {
+        String[] parts = line.split("\t", -1);
+        if (parts.length != 6) {
+            log.warn("Ignoring malformed roster edit journal line: {}", line);
+            return null;
+        }
+        try {
+            RosterEditDTO edit = new RosterEditDTO(
+                Long.valueOf(parts[1]),
+                RosterEditField.valueOf(parts[2]),
+                Integer.parseInt(parts[3]),
+                parts[4].isEmpty() ? null : Double.valueOf(parts[4]),
+                parts[5].isEmpty() ? null : Double.valueOf(parts[5])
+            );
+            return new Entry(URLDecoder.decode(parts[0], StandardCharsets.UTF_8), edit);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed roster edit journal line: {}", line);
+            return null;
+        }
+    }
+}
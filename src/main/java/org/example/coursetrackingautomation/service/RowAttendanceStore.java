@@ -0,0 +1,117 @@
+package org.example.coursetrackingautomation.service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.example.coursetrackingautomation.dto.AdminAttendanceRowDTO;
+import org.example.coursetrackingautomation.dto.AttendanceCellDTO;
+import org.example.coursetrackingautomation.entity.AttendanceRecord;
+import org.example.coursetrackingautomation.repository.AttendanceRecordRepository;
+import org.example.coursetrackingautomation.repository.EnrollmentRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.attendance.storage", havingValue = "rows", matchIfMissing = true)
+/**
+ * {@link AttendanceStore} keeping one {@code attendance_records} row per enrollment and week.
+ *
+ * <p>A batch of cells is saved with one {@code INSERT ... ON CONFLICT (enrollment_id, week_number) DO UPDATE}
+ * statement; absenteeism counts are recomputed from the absent records.</p>
+ */
+public class RowAttendanceStore implements AttendanceStore {
+
+    private final AttendanceRecordRepository attendanceRecordRepository;
+    private final EnrollmentRepository enrollmentRepository;
+
+    @Override
+    public WeekPresence findPresence(Collection<Long> enrollmentIds, int weekNumber) {
+        List<AttendanceRecord> records = attendanceRecordRepository
+            .findByEnrollmentIdsAndWeekNumberWithEnrollment(enrollmentIds, weekNumber);
+        Map<Long, Boolean> presentByEnrollmentId = new HashMap<>();
+        long courseId = 0L;
+        for (AttendanceRecord record : records) {
+            if (record.getEnrollment() != null && record.getEnrollment().getId() != null) {
+                presentByEnrollmentId.put(record.getEnrollment().getId(), record.isPresent());
+                if (courseId == 0L && record.getEnrollment().getCourse() != null) {
+                    courseId = record.getEnrollment().getCourse().getId();
+                }
+            }
+        }
+        return new WeekPresence(presentByEnrollmentId, courseId);
+    }
+
+    @Override
+    public Map<Long, Integer> markCells(Collection<AttendanceCellDTO> cells, Collection<Long> recountEnrollmentIds) {
+        if (cells.isEmpty()) {
+            return Map.of();
+        }
+        Map<List<Object>, AttendanceCellDTO> lastCellByKey = new LinkedHashMap<>();
+        for (AttendanceCellDTO cell : cells) {
+            lastCellByKey.put(List.of(cell.enrollmentId(), cell.weekNumber()), cell);
+        }
+        Collection<AttendanceCellDTO> unique = lastCellByKey.values();
+        attendanceRecordRepository.upsertCells(
+            unique.stream().map(AttendanceCellDTO::enrollmentId).toArray(Long[]::new),
+            unique.stream().map(AttendanceCellDTO::weekNumber).toArray(Integer[]::new),
+            unique.stream().map(AttendanceCellDTO::present).toArray(Boolean[]::new),
+            LocalDate.now()
+        );
+        if (recountEnrollmentIds.isEmpty()) {
+            return Map.of();
+        }
+        enrollmentRepository.recountAbsenteeismFromRecords(recountEnrollmentIds.toArray(Long[]::new));
+        return toCountMap(enrollmentRepository.findAbsenteeismCountsByIdIn(recountEnrollmentIds));
+    }
+
+    @Override
+    public List<EnrollmentRepository.AttendanceMatrixRow> findMatrix(Long courseId) {
+        return enrollmentRepository.findAttendanceMatrixFromRecords(courseId, AttendanceWeekBits.MAX_WEEK);
+    }
+
+    @Override
+    public Integer findMaxWeekNumber(Long courseId) {
+        return attendanceRecordRepository.findMaxWeekNumberByCourseId(courseId);
+    }
+
+    @Override
+    public List<AdminAttendanceRowDTO> findAllRows() {
+        return attendanceRecordRepository.findAllWithEnrollmentDetails().stream()
+            .map(r -> {
+                var enrollment = r.getEnrollment();
+                var student = enrollment == null ? null : enrollment.getStudent();
+                var course = enrollment == null ? null : enrollment.getCourse();
+
+                Long studentId = student == null ? null : student.getId();
+                Long courseId = course == null ? null : course.getId();
+
+                String studentName = student == null ? "" : (student.getFirstName() + " " + student.getLastName());
+                String courseDisplay = course == null ? "" : (course.getCode() + " - " + course.getName());
+
+                return new AdminAttendanceRowDTO(
+                    r.getId(),
+                    studentId,
+                    courseId,
+                    studentName,
+                    courseDisplay,
+                    r.getWeekNumber(),
+                    r.isPresent(),
+                    r.getDate()
+                );
+            })
+            .toList();
+    }
+
+    static Map<Long, Integer> toCountMap(List<EnrollmentRepository.AbsenteeismCount> rows) {
+        Map<Long, Integer> countByEnrollmentId = new HashMap<>();
+        for (EnrollmentRepository.AbsenteeismCount row : rows) {
+            countByEnrollmentId.put(row.getEnrollmentId(), row.getAbsenteeismCount() == null ? 0 : row.getAbsenteeismCount());
+        }
+        return countByEnrollmentId;
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.coursetrackingautomation.service;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Binary encoding of a value kept in the {@link LocalSnapshotStore}.
+ *
+ * <p>The {@link #version()} is stored with every entry; entries written with another version are treated as
+ * missing, so a codec must change its version whenever its layout changes.</p>
+ *
+ * @param <T> encoded type
+ */
+public interface SnapshotCodec<T> {
+
+    /**
+     * @return layout version of the encoding
+     */
+    int version();
+
+    /**
+     * Encodes a value.
+     *
+     * @param out target
+     * @param value value to encode
+     * @throws IOException if the target cannot be written
+     */
+    void write(DataOutput out, T value) throws IOException;
+
+    /**
+     * Decodes a value written by {@link #write} with the same version.
+     *
+     * @param in buffer positioned at the start of the value
+     * @return decoded value
+     * @throws java.nio.BufferUnderflowException if the buffer is truncated
+     */
+    T read(ByteBuffer in);
+}
@@ -0,0 +1,271 @@
+package org.example.coursetrackingautomation.service;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.example.coursetrackingautomation.dto.AcademicSummaryDTO;
+import org.example.coursetrackingautomation.dto.ClassRankDTO;
+import org.example.coursetrackingautomation.dto.CourseDTO;
+import org.example.coursetrackingautomation.dto.GradeDTO;
+import org.example.coursetrackingautomation.dto.GradeStatus;
+import org.example.coursetrackingautomation.dto.InstructorCourseRosterDTO;
+import org.example.coursetrackingautomation.dto.StudentTranscriptDTO;
+
+/**
+ * {@link SnapshotCodec}s of the views kept in the {@link LocalSnapshotStore}.
+ *
+ * <p>Values are written field by field in declaration order; nullable fields are prefixed with a presence
+ * byte, strings are UTF-8 with a length prefix, decimals are written as their plain string and enums by
+ * name, so reordering enum constants does not corrupt stored entries.</p>
+ */
+public final class SnapshotCodecs {
+
+    /**
+     * Course codes of an instructor's course selector.
+     */
+    public static final SnapshotCodec<List<String>> COURSE_CODES = codec(1,
+        (out, codes) -> writeList(out, codes, SnapshotCodecs::writeString),
+        in -> readList(in, SnapshotCodecs::readString));
+
+    /**
+     * Transcript rows, cumulative summary and class rank of a student.
+     */
+    public static final SnapshotCodec<StudentTranscriptDTO> STUDENT_TRANSCRIPT = codec(1,
+        (out, transcript) -> {
+            writeList(out, transcript.grades(), SnapshotCodecs::writeGrade);
+            writeNullable(out, transcript.summary(), SnapshotCodecs::writeSummary);
+            writeNullable(out, transcript.cumulativeRank(), SnapshotCodecs::writeRank);
+        },
+        in -> new StudentTranscriptDTO(
+            readList(in, SnapshotCodecs::readGrade),
+            readNullable(in, SnapshotCodecs::readSummary),
+            readNullable(in, SnapshotCodecs::readRank)));
+
+    /**
+     * Course, roster rows and enrollment ids of an instructor's course.
+     */
+    public static final SnapshotCodec<InstructorCourseRosterDTO> COURSE_ROSTER = codec(1,
+        (out, roster) -> {
+            writeNullable(out, roster.course(), SnapshotCodecs::writeCourse);
+            writeList(out, roster.rows(), SnapshotCodecs::writeGrade);
+            out.writeInt(roster.enrollmentIdByStudentId().size());
+            for (Map.Entry<Long, Long> entry : roster.enrollmentIdByStudentId().entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeLong(entry.getValue());
+            }
+        },
+        in -> {
+            CourseDTO course = readNullable(in, SnapshotCodecs::readCourse);
+            List<GradeDTO> rows = readList(in, SnapshotCodecs::readGrade);
+            int size = in.getInt();
+            Map<Long, Long> enrollmentIdByStudentId = new LinkedHashMap<>(size * 2);
+            for (int i = 0; i < size; i++) {
+                enrollmentIdByStudentId.put(in.getLong(), in.getLong());
+            }
+            return new InstructorCourseRosterDTO(course, rows, enrollmentIdByStudentId);
+        });
+
+    private SnapshotCodecs() {
+    }
+
+    @FunctionalInterface
+    private interface Writer<T> {
+        void write(DataOutput out, T value) throws IOException;
+    }
+
+    private static <T> SnapshotCodec<T> codec(int version, Writer<T> writer, Function<ByteBuffer, T> reader) {
+        return new SnapshotCodec<>() {
+            @Override
+            public int version() {
+                return version;
+            }
+
+            @Override
+            public void write(DataOutput out, T value) throws IOException {
+                writer.write(out, value);
+            }
+
+            @Override
+            public T read(ByteBuffer in) {
+                return reader.apply(in);
+            }
+        };
+    }
+
+    private static void writeGrade(DataOutput out, GradeDTO grade) throws IOException {
+        writeNullable(out, grade.getStudentId(), DataOutput::writeLong);
+        writeNullable(out, grade.getStudentName(), SnapshotCodecs::writeString);
+        writeNullable(out, grade.getCourseCode(), SnapshotCodecs::writeString);
+        writeNullable(out, grade.getCourseName(), SnapshotCodecs::writeString);
+        writeNullable(out, grade.getCredit(), DataOutput::writeInt);
+        writeNullable(out, grade.getWeeklyTotalHours(), DataOutput::writeInt);
+        writeNullable(out, grade.getWeeklyTheoryHours(), DataOutput::writeInt);
+        writeNullable(out, grade.getWeeklyPracticeHours(), DataOutput::writeInt);
+        writeNullable(out, grade.getMidtermScore(), DataOutput::writeDouble);
+        writeNullable(out, grade.getFinalScore(), DataOutput::writeDouble);
+        writeNullable(out, grade.getAverageScore(), DataOutput::writeDouble);
+        writeNullable(out, grade.getLetterGrade(), SnapshotCodecs::writeString);
+        writeNullable(out, grade.getStatus(), (o, status) -> writeString(o, status.name()));
+        writeNullable(out, grade.getAttendanceCount(), DataOutput::writeInt);
+        out.writeBoolean(grade.isAbsentCritically());
+        writeNullable(out, grade.getPresent(), DataOutput::writeBoolean);
+    }
+
+    private static GradeDTO readGrade(ByteBuffer in) {
+        return new GradeDTO(
+            readNullable(in, ByteBuffer::getLong),
+            readNullable(in, SnapshotCodecs::readString),
+            readNullable(in, SnapshotCodecs::readString),
+            readNullable(in, SnapshotCodecs::readString),
+            readNullable(in, ByteBuffer::getInt),
+            readNullable(in, ByteBuffer::getInt),
+            readNullable(in, ByteBuffer::getInt),
+            readNullable(in, ByteBuffer::getInt),
+            readNullable(in, ByteBuffer::getDouble),
+            readNullable(in, ByteBuffer::getDouble),
+            readNullable(in, ByteBuffer::getDouble),
+            readNullable(in, SnapshotCodecs::readString),
+            readNullable(in, b -> GradeStatus.valueOf(readString(b))),
+            readNullable(in, ByteBuffer::getInt),
+            in.get() != 0,
+            readNullable(in, b -> b.get() != 0)
+        );
+    }
+
+    private static void writeCourse(DataOutput out, CourseDTO course) throws IOException {
+        writeNullable(out, course.getId(), DataOutput::writeLong);
+        writeNullable(out, course.getCode(), SnapshotCodecs::writeString);
+        writeNullable(out, course.getName(), SnapshotCodecs::writeString);
+        writeNullable(out, course.getCredit(), DataOutput::writeInt);
+        writeNullable(out, course.getQuota(), DataOutput::writeInt);
+        writeNullable(out, course.getTerm(), SnapshotCodecs::writeString);
+        writeNullable(out, course.getActive(), DataOutput::writeBoolean);
+        writeNullable(out, course.getWeeklyTotalHours(), DataOutput::writeInt);
+        writeNullable(out, course.getWeeklyTheoryHours(), DataOutput::writeInt);
+        writeNullable(out, course.getWeeklyPracticeHours(), DataOutput::writeInt);
+        writeNullable(out, course.getInstructorId(), DataOutput::writeLong);
+        writeNullable(out, course.getInstructorName(), SnapshotCodecs::writeString);
+        writeNullable(out, course.getCurrentEnrollmentCount(), DataOutput::writeLong);
+        writeNullable(out, course.getAvailableQuota(), DataOutput::writeLong);
+    }
+
+    private static CourseDTO readCourse(ByteBuffer in) {
+        return new CourseDTO(
+            readNullable(in, ByteBuffer::getLong),
+            readNullable(in, SnapshotCodecs::readString),
+            readNullable(in, SnapshotCodecs::readString),
+            readNullable(in, ByteBuffer::getInt),
+            readNullable(in, ByteBuffer::getInt),
+            readNullable(in, SnapshotCodecs::readString),
+            readNullable(in, b -> b.get() != 0),
+            readNullable(in, ByteBuffer::getInt),
+            readNullable(in, ByteBuffer::getInt),
+            readNullable(in, ByteBuffer::getInt),
+            readNullable(in, ByteBuffer::getLong),
+            readNullable(in, SnapshotCodecs::readString),
+            readNullable(in, ByteBuffer::getLong),
+            readNullable(in, ByteBuffer::getLong)
+        );
+    }
+
+    private static void writeSummary(DataOutput out, AcademicSummaryDTO summary) throws IOException {
+        writeNullable(out, summary.studentId(), DataOutput::writeLong);
+        writeNullable(out, summary.term(), SnapshotCodecs::writeString);
+        writeNullable(out, summary.qualityPoints(), SnapshotCodecs::writeDecimal);
+        out.writeInt(summary.attemptedCredits());
+        out.writeInt(summary.earnedCredits());
+        writeNullable(out, summary.gpa(), SnapshotCodecs::writeDecimal);
+    }
+
+    private static AcademicSummaryDTO readSummary(ByteBuffer in) {
+        return new AcademicSummaryDTO(
+            readNullable(in, ByteBuffer::getLong),
+            readNullable(in, SnapshotCodecs::readString),
+            readNullable(in, SnapshotCodecs::readDecimal),
+            in.getInt(),
+            in.getInt(),
+            readNullable(in, SnapshotCodecs::readDecimal)
+        );
+    }
+
+    private static void writeRank(DataOutput out, ClassRankDTO rank) throws IOException {
+        writeNullable(out, rank.studentId(), DataOutput::writeLong);
+        writeNullable(out, rank.term(), SnapshotCodecs::writeString);
+        writeNullable(out, rank.gpa(), SnapshotCodecs::writeDecimal);
+        out.writeInt(rank.rank());
+        out.writeInt(rank.cohortSize());
+        out.writeDouble(rank.percentile());
+    }
+
+    private static ClassRankDTO readRank(ByteBuffer in) {
+        return new ClassRankDTO(
+            readNullable(in, ByteBuffer::getLong),
+            readNullable(in, SnapshotCodecs::readString),
+            readNullable(in, SnapshotCodecs::readDecimal),
+            in.getInt(),
+            in.getInt(),
+            in.getDouble()
+        );
+    }
+
+    private static <T> void writeList(DataOutput out, List<T> values, Writer<? super T> writer) throws IOException {
+        out.writeInt(values.size());
+        for (T value : values) {
+            writer.write(out, value);
+        }
+    }
+
+    private static <T> List<T> readList(ByteBuffer in, Function<ByteBuffer, T> reader) {
+        int size = in.getInt();
+        if (size < 0 || size > in.remaining()) {
+            throw new IllegalStateException("Corrupt snapshot list size: " + size);
+        }
+        List<T> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(reader.apply(in));
+        }
+        return values;
+    }
+
+    private static <T> void writeNullable(DataOutput out, T value, Writer<? super T> writer) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writer.write(out, value);
+        }
+    }
+
+    private static <T> T readNullable(ByteBuffer in, Function<ByteBuffer, T> reader) {
+        return in.get() == 0 ? null : reader.apply(in);
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0 || length > in.remaining()) {
+            throw new IllegalStateException("Corrupt snapshot string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDecimal(DataOutput out, BigDecimal value) throws IOException {
+        writeString(out, value.toPlainString());
+    }
+
+    private static BigDecimal readDecimal(ByteBuffer in) {
+        return new BigDecimal(readString(in));
+    }
+}
@@ -0,0 +1,191 @@
+package org.example.coursetrackingautomation.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.coursetrackingautomation.dto.EntityChangeDTO;
+import org.example.coursetrackingautomation.dto.StudentTranscriptDTO;
+import org.example.coursetrackingautomation.event.EnrollmentSavedEvent;
+import org.example.coursetrackingautomation.event.StudentRecordChangedEvent;
+import org.example.coursetrackingautomation.repository.EnrollmentRepository;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+/**
+ * Academic snapshot (transcript rows, cumulative summary and class rank) of the student logged in to this
+ * client, shared by every student-facing screen.
+ *
+ * <p>The snapshot is {@link #prefetch prefetched} right after login, while the dashboard is being shown, and
+ * loaded at most once until it is invalidated: callers asking for it while it is still loading wait for
+ * that load instead of starting their own. It is dropped when an enrollment of the student is saved on this
+ * client, when the change feed reports a change to one of the student's enrollments or grades from another
+ * client, and at logout; a {@link StudentRecordChangedEvent} is then published so open screens can reload.</p>
+ *
+ * <p>Every loaded snapshot is also written to the {@link LocalSnapshotStore}, so the next session can show
+ * it before the database answers, or instead of it while the database is unreachable.</p>
+ *
+ * <p>The class rank is as of the load; rank moves caused only by other students' grades do not invalidate
+ * the snapshot.</p>
+ */
+public class StudentSnapshotService {
+
+    static final String VIEW_TRANSCRIPT = "transcript";
+
+    private record Snapshot(Long studentId, CompletableFuture<StudentTranscriptDTO> transcript) {
+    }
+
+    private final TranscriptService transcriptService;
+    private final EnrollmentRepository enrollmentRepository;
+    private final ChangeFeedService changeFeedService;
+    private final DomainEventBus domainEventBus;
+    private final LocalSnapshotStore localSnapshotStore;
+
+    private final List<DomainEventBus.Subscription> subscriptions = new ArrayList<>();
+    private final ChangeFeedService.Listener changeFeedListener = this::onRemoteChanges;
+    private ExecutorService loader;
+    private Snapshot snapshot;
+
+    @PostConstruct
+    void start() {
+        loader = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "student-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        changeFeedService.addListener(changeFeedListener);
+        subscriptions.add(domainEventBus.subscribe(EnrollmentSavedEvent.class,
+            event -> invalidate(event.enrollment().studentId())));
+    }
+
+    @PreDestroy
+    void stop() {
+        changeFeedService.removeListener(changeFeedListener);
+        subscriptions.forEach(DomainEventBus.Subscription::cancel);
+        subscriptions.clear();
+        if (loader != null) {
+            loader.shutdownNow();
+        }
+    }
+
+    /**
+     * Starts loading the snapshot of a student in the background, unless it is already loaded or loading.
+     *
+     * @param studentId student identifier
+     */
+    public void prefetch(Long studentId) {
+        if (studentId != null) {
+            snapshotOf(studentId);
+        }
+    }
+
+    /**
+     * Returns the snapshot of a student, loading it on the calling thread's behalf if it is not cached.
+     * Blocks until the load completes, so it must not be called on the UI thread.
+     *
+     * @param studentId student identifier
+     * @return transcript rows, cumulative summary and class rank
+     * @throws IllegalArgumentException if {@code studentId} is null
+     */
+    public StudentTranscriptDTO getTranscript(Long studentId) {
+        if (studentId == null) {
+            throw new IllegalArgumentException("Öğrenci id boş olamaz");
+        }
+        try {
+            return snapshotOf(studentId).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the snapshot of a student stored on disk by an earlier load, possibly from a previous session.
+     * Reads only the local store, so it is cheap enough for the UI thread.
+     *
+     * @param studentId student identifier
+     * @return stored snapshot, or empty if there is none
+     */
+    public Optional<StudentTranscriptDTO> getStoredTranscript(Long studentId) {
+        return localSnapshotStore.read(studentId, VIEW_TRANSCRIPT, SnapshotCodecs.STUDENT_TRANSCRIPT)
+            .map(LocalSnapshotStore.Stored::value);
+    }
+
+    /**
+     * Drops the snapshot of a student, if it is the cached one, and announces the change.
+     *
+     * @param studentId student identifier
+     */
+    public void invalidate(Long studentId) {
+        synchronized (this) {
+            if (snapshot == null || !snapshot.studentId().equals(studentId)) {
+                return;
+            }
+            snapshot = null;
+        }
+        domainEventBus.publishAfterCommit(new StudentRecordChangedEvent(studentId));
+    }
+
+    /**
+     * Drops the cached snapshot, for example at logout.
+     */
+    public synchronized void clear() {
+        snapshot = null;
+    }
+
+    private synchronized CompletableFuture<StudentTranscriptDTO> snapshotOf(Long studentId) {
+        if (snapshot != null && snapshot.studentId().equals(studentId)
+            && !snapshot.transcript().isCompletedExceptionally()) {
+            return snapshot.transcript();
+        }
+        CompletableFuture<StudentTranscriptDTO> transcript = CompletableFuture.supplyAsync(
+            () -> transcriptService.getStudentTranscript(studentId), loader);
+        transcript.thenAccept(loaded ->
+            localSnapshotStore.write(studentId, VIEW_TRANSCRIPT, SnapshotCodecs.STUDENT_TRANSCRIPT, loaded, null));
+        snapshot = new Snapshot(studentId, transcript);
+        return transcript;
+    }
+
+    private void onRemoteChanges(List<EntityChangeDTO> changes) {
+        Long studentId;
+        synchronized (this) {
+            studentId = snapshot == null ? null : snapshot.studentId();
+        }
+        if (studentId == null) {
+            return;
+        }
+
+        List<Long> enrollmentIds = new ArrayList<>();
+        boolean deleted = false;
+        for (EntityChangeDTO change : changes) {
+            if (studentId.equals(change.entityId()) && EntityChangeDTO.TYPE_USER.equals(change.entityType())) {
+                invalidate(studentId);
+                return;
+            }
+            if (EntityChangeDTO.TYPE_ENROLLMENT.equals(change.entityType())
+                || EntityChangeDTO.TYPE_GRADE.equals(change.entityType())) {
+                enrollmentIds.add(change.entityId());
+                deleted |= change.deleted();
+            }
+        }
+        if (enrollmentIds.isEmpty()) {
+            return;
+        }
+        // Deleted enrollments can no longer be traced back to their student, so they invalidate conservatively.
+        if (deleted || enrollmentRepository.existsByIdInAndStudentId(enrollmentIds, studentId)) {
+            log.debug("Academic snapshot of student {} invalidated by {} remote changes", studentId, enrollmentIds.size());
+            invalidate(studentId);
+        }
+    }
+}
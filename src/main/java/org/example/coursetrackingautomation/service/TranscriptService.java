@@ -5,8 +5,10 @@ import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.example.coursetrackingautomation.diagnostics.TranscriptLoadEvent;
 import org.example.coursetrackingautomation.dto.GradeDTO;
 import org.example.coursetrackingautomation.dto.GradeStatus;
+import org.example.coursetrackingautomation.dto.StudentTranscriptDTO;
 import org.example.coursetrackingautomation.entity.Enrollment;
 import org.example.coursetrackingautomation.entity.Grade;
 import org.example.coursetrackingautomation.repository.EnrollmentRepository;
@@ -18,8 +20,9 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * Provides transcript and GPA computations for students.
  *
- * <p>This service returns a list of transcript rows derived from enrollments and computes a
- * GPA string representation by mapping letter grades to grade points.</p>
+ * <p>This service returns a list of transcript rows derived from enrollments. The GPA of a student
+ * is read from the persisted academic summary ({@link AcademicSummaryService}); {@link #calculateGpaText(List)}
+ * remains available for ad-hoc row lists.</p>
  */
 public class TranscriptService {
 
@@ -28,6 +31,29 @@ public class TranscriptService {
     private final EnrollmentRepository enrollmentRepository;
     private final GradeService gradeService;
     private final AttendanceService attendanceService;
+    private final AcademicSummaryService academicSummaryService;
+    private final ClassRankingService classRankingService;
+
+    @Transactional
+    /**
+     * Returns the transcript rows of a student together with the persisted cumulative academic summary
+     * and the cumulative class rank.
+     *
+     * <p>The GPA shown in transcript headers is read from the summary row instead of being recomputed
+     * from the rows.</p>
+     *
+     * @param studentId student identifier
+     * @return transcript rows and cumulative summary
+     * @throws IllegalArgumentException if {@code studentId} is null
+     */
+    public StudentTranscriptDTO getStudentTranscript(Long studentId) {
+        List<GradeDTO> grades = getTranscriptGradesForStudent(studentId);
+        return new StudentTranscriptDTO(
+            grades,
+            academicSummaryService.getCumulativeSummary(studentId),
+            classRankingService.getCumulativeRank(studentId).orElse(null)
+        );
+    }
 
     @Transactional(readOnly = true)
     /**
@@ -44,52 +70,61 @@ public class TranscriptService {
             throw new IllegalArgumentException("Öğrenci id boş olamaz");
         }
 
-        List<Enrollment> enrollments = enrollmentRepository.findByStudentId(studentId);
-        List<GradeDTO> result = new ArrayList<>();
-
-        for (Enrollment enrollment : enrollments) {
-            Grade grade = enrollment.getGrade();
-
-            Double midterm = grade == null || grade.getMidtermScore() == null ? null : grade.getMidtermScore().doubleValue();
-            Double finalScore = grade == null || grade.getFinalScore() == null ? null : grade.getFinalScore().doubleValue();
-
-            boolean graded = midterm != null && finalScore != null;
-
-            Double average = gradeService.calculateAverage(midterm, finalScore);
-            String letter = gradeService.determineLetterGrade(average);
-
-            GradeStatus status;
-            if (!graded) {
-                letter = null;
-                status = GradeStatus.NOT_GRADED;
-            } else {
-                status = gradeService.isPassed(letter) ? GradeStatus.PASSED : GradeStatus.FAILED;
+        TranscriptLoadEvent event = new TranscriptLoadEvent();
+        event.begin();
+        try {
+            List<Enrollment> enrollments = enrollmentRepository.findByStudentIdWithCourseAndGrade(studentId);
+            List<GradeDTO> result = new ArrayList<>();
+
+            for (Enrollment enrollment : enrollments) {
+                Grade grade = enrollment.getGrade();
+
+                Double midterm = grade == null || grade.getMidtermScore() == null ? null : grade.getMidtermScore().doubleValue();
+                Double finalScore = grade == null || grade.getFinalScore() == null ? null : grade.getFinalScore().doubleValue();
+
+                boolean graded = midterm != null && finalScore != null;
+
+                Double average = gradeService.calculateAverage(midterm, finalScore);
+                String letter = gradeService.determineLetterGrade(average);
+
+                GradeStatus status;
+                if (!graded) {
+                    letter = null;
+                    status = GradeStatus.NOT_GRADED;
+                } else {
+                    status = gradeService.isPassed(letter) ? GradeStatus.PASSED : GradeStatus.FAILED;
+                }
+
+                int absentHoursUi = attendanceService.toAbsentHours(enrollment.getCourse(), enrollment.getAbsenteeismCount());
+                boolean critical = attendanceService.isAttendanceCritical(enrollment.getCourse(), enrollment.getAbsenteeismCount());
+
+                result.add(new GradeDTO(
+                    enrollment.getStudent().getId(),
+                    enrollment.getStudent().getFirstName() + " " + enrollment.getStudent().getLastName(),
+                    enrollment.getCourse().getCode(),
+                    enrollment.getCourse().getName(),
+                    enrollment.getCourse().getCredit(),
+                    enrollment.getCourse().getWeeklyTotalHours(),
+                    enrollment.getCourse().getWeeklyTheoryHours(),
+                    enrollment.getCourse().getWeeklyPracticeHours(),
+                    midterm,
+                    finalScore,
+                    average,
+                    letter,
+                    status,
+                    absentHoursUi,
+                    critical,
+                    null
+                ));
             }
 
-            int absentHoursUi = attendanceService.toAbsentHours(enrollment.getCourse(), enrollment.getAbsenteeismCount());
-            boolean critical = attendanceService.isAttendanceCritical(enrollment.getCourse(), enrollment.getAbsenteeismCount());
-
-            result.add(new GradeDTO(
-                enrollment.getStudent().getId(),
-                enrollment.getStudent().getFirstName() + " " + enrollment.getStudent().getLastName(),
-                enrollment.getCourse().getCode(),
-                enrollment.getCourse().getName(),
-                enrollment.getCourse().getCredit(),
-                enrollment.getCourse().getWeeklyTotalHours(),
-                enrollment.getCourse().getWeeklyTheoryHours(),
-                enrollment.getCourse().getWeeklyPracticeHours(),
-                midterm,
-                finalScore,
-                average,
-                letter,
-                status,
-                absentHoursUi,
-                critical,
-                null
-            ));
+            event.setStudentId(studentId);
+            event.setRowCount(result.size());
+            event.setSuccess(true);
+            return result;
+        } finally {
+            event.commit();
         }
-
-        return result;
     }
 
     @Transactional(readOnly = true)
@@ -124,7 +159,7 @@ public class TranscriptService {
                 continue;
             }
 
-            BigDecimal points = letterToPoints(letter);
+            BigDecimal points = gradeService.gradePoints(letter);
             if (points == null) {
                 continue;
             }
@@ -143,23 +178,4 @@ public class TranscriptService {
 
         return gpa.toPlainString();
     }
-
-    private BigDecimal letterToPoints(String letterGrade) {
-        if (letterGrade == null) {
-            return null;
-        }
-
-        return switch (letterGrade.trim().toUpperCase()) {
-            case "AA" -> BigDecimal.valueOf(4.00);
-            case "BA" -> BigDecimal.valueOf(3.50);
-            case "BB" -> BigDecimal.valueOf(3.00);
-            case "CB" -> BigDecimal.valueOf(2.50);
-            case "CC" -> BigDecimal.valueOf(2.00);
-            case "DC" -> BigDecimal.valueOf(1.50);
-            case "DD" -> BigDecimal.valueOf(1.00);
-            case "FD" -> BigDecimal.valueOf(0.50);
-            case "FF" -> BigDecimal.valueOf(0.00);
-            default -> null;
-        };
-    }
 }
@@ -9,6 +9,7 @@ import org.example.coursetrackingautomation.dto.UpdateUserRequest;
 import org.example.coursetrackingautomation.dto.UserDetailsDTO;
 import org.example.coursetrackingautomation.entity.Role;
 import org.example.coursetrackingautomation.entity.User;
+import org.example.coursetrackingautomation.event.UserSavedEvent;
 import org.example.coursetrackingautomation.repository.UserRepository;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -25,6 +26,8 @@ import java.util.List;
  * <p>This service handles creation and updates of {@link User} entities, password changes, and
  * convenience lookups used by the UI. Passwords are always stored encoded via Spring Security's
  * {@link PasswordEncoder}.</p>
+ *
+ * <p>Created and updated users are announced with a {@link UserSavedEvent} after commit.</p>
  */
 public class UserService {
 
@@ -33,6 +36,7 @@ public class UserService {
 
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final DomainEventBus domainEventBus;
 
 	@Transactional
 	/**
@@ -84,6 +88,7 @@ public class UserService {
 
 		User saved = userRepository.save(user);
 		log.info("User created: id={}, username={}, role={}", saved.getId(), saved.getUsername(), saved.getRole());
+		domainEventBus.publishAfterCommit(new UserSavedEvent(AdminRowMapper.toUserRow(saved), true));
 		return saved;
 	}
 
@@ -127,6 +132,7 @@ public class UserService {
 
 		User saved = userRepository.save(user);
 		log.info("User updated: id={}, username={}", saved.getId(), saved.getUsername());
+		domainEventBus.publishAfterCommit(new UserSavedEvent(AdminRowMapper.toUserRow(saved), false));
 		return saved;
 	}
 
@@ -240,21 +246,19 @@ public class UserService {
 	/**
 	 * Returns UI-friendly selection options for active users of the specified role.
 	 *
+	 * <p>Only the option columns are queried; no {@link User} entities are loaded. Forms should prefer the
+	 * cached lists of {@link ReferenceDataService}.</p>
+	 *
 	 * @param role the role to filter by
 	 * @return option list containing user ids and display labels
+	 * @throws IllegalArgumentException if {@code role} is null
 	 */
 	public List<SelectOptionDTO> getActiveUserOptionsByRole(Role role) {
-		return getActiveUsersByRole(role).stream()
-			.map(user -> {
-				String firstName = user.getFirstName() == null ? "" : user.getFirstName();
-				String lastName = user.getLastName() == null ? "" : user.getLastName();
-				String username = user.getUsername() == null ? "" : user.getUsername();
-				String label = (firstName + " " + lastName).trim();
-				if (!username.isBlank()) {
-					label = label.isBlank() ? ("(" + username + ")") : (label + " (" + username + ")");
-				}
-				return new SelectOptionDTO(user.getId(), label);
-			})
+		if (role == null) {
+			throw new IllegalArgumentException("Rol boş olamaz");
+		}
+		return userRepository.findActiveOptionsByRole(role).stream()
+			.map(UserService::toOption)
 			.toList();
 	}
 
@@ -264,20 +268,30 @@ public class UserService {
 	 *
 	 * @param role the role DTO to filter by
 	 * @return option list containing user ids and display labels
+	 * @throws IllegalArgumentException if {@code role} is null
 	 */
 	public List<SelectOptionDTO> getActiveUserOptionsByRole(RoleDTO role) {
-		return getActiveUsersByRole(role).stream()
-			.map(user -> {
-				String firstName = user.getFirstName() == null ? "" : user.getFirstName();
-				String lastName = user.getLastName() == null ? "" : user.getLastName();
-				String username = user.getUsername() == null ? "" : user.getUsername();
-				String label = (firstName + " " + lastName).trim();
-				if (!username.isBlank()) {
-					label = label.isBlank() ? ("(" + username + ")") : (label + " (" + username + ")");
-				}
-				return new SelectOptionDTO(user.getId(), label);
-			})
-			.toList();
+		if (role == null) {
+			throw new IllegalArgumentException("Rol boş olamaz");
+		}
+		return getActiveUserOptionsByRole(Role.valueOf(role.name()));
+	}
+
+	/**
+	 * Builds the selection option of a user, labelled "first last (username)".
+	 *
+	 * @param user option columns of the user
+	 * @return selection option
+	 */
+	static SelectOptionDTO toOption(UserRepository.UserOption user) {
+		String firstName = user.getFirstName() == null ? "" : user.getFirstName();
+		String lastName = user.getLastName() == null ? "" : user.getLastName();
+		String username = user.getUsername() == null ? "" : user.getUsername();
+		String label = (firstName + " " + lastName).trim();
+		if (!username.isBlank()) {
+			label = label.isBlank() ? ("(" + username + ")") : (label + " (" + username + ")");
+		}
+		return new SelectOptionDTO(user.getId(), label);
 	}
 
 	@Transactional(readOnly = true)
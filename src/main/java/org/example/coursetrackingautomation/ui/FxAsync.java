@@ -1,24 +1,45 @@
 package org.example.coursetrackingautomation.ui;
 
+import io.micrometer.core.instrument.Metrics;
 import java.util.Objects;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import javafx.application.Platform;
 import javafx.concurrent.Task;
+import org.example.coursetrackingautomation.diagnostics.FxTaskEvent;
+import org.example.coursetrackingautomation.diagnostics.Span;
+import org.example.coursetrackingautomation.diagnostics.SqlCapture;
+import org.example.coursetrackingautomation.diagnostics.SqlStatementTracker;
+import org.example.coursetrackingautomation.diagnostics.Tracer;
 
 /**
  * Runs potentially blocking work off the JavaFX UI thread using {@link Task}.
  *
  * <p>All UI callbacks are marshalled back to the UI thread via {@link Platform#runLater(Runnable)}
  * to keep controllers/coordinators explicit about thread boundaries.</p>
+ *
+ * <p>Every task records {@code app.fx.task.queue} (time between submission and start) and
+ * {@code app.fx.task.execution} timers, tagged with the class that submitted it, and the number of SQL
+ * statements it issued as {@code app.fx.task.sql}. Each task is also emitted as a {@link FxTaskEvent} JFR event.</p>
+ *
+ * <p>The trace active on the submitting thread is propagated: queue wait, background work, the wait for the
+ * UI thread and the callback are recorded as {@code queue}, {@code task}, {@code fx-wait} and {@code ui} spans.</p>
  */
 public final class FxAsync {
 
-    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new DaemonThreadFactory());
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new DaemonThreadFactory("fx-async-", Thread.NORM_PRIORITY));
+    private static final ExecutorService BACKGROUND_EXECUTOR = Executors.newSingleThreadExecutor(
+        new DaemonThreadFactory("fx-background-", Thread.MIN_PRIORITY));
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private static final AtomicInteger QUEUED_TASKS = Metrics.gauge("app.fx.tasks.queued", new AtomicInteger());
+    private static final AtomicInteger RUNNING_TASKS = Metrics.gauge("app.fx.tasks.running", new AtomicInteger());
 
     private FxAsync() {
     }
@@ -32,24 +53,98 @@ public final class FxAsync {
      * @param <T> result type
      */
     public static <T> void runAsync(Supplier<T> work, Consumer<T> onSuccess, Consumer<Throwable> onFailure) {
+        submit(EXECUTOR, work, onSuccess, onFailure);
+    }
+
+    /**
+     * Runs speculative work at low priority.
+     *
+     * <p>Tasks run one at a time on a minimum-priority thread, so they never compete with
+     * {@link #runAsync(Supplier, Consumer, Consumer)} work for more than one core.</p>
+     *
+     * @param work background work to execute
+     * @param onSuccess success callback (UI thread)
+     * @param onFailure failure callback (UI thread)
+     * @param <T> result type
+     */
+    public static <T> void runInBackground(Supplier<T> work, Consumer<T> onSuccess, Consumer<Throwable> onFailure) {
+        submit(BACKGROUND_EXECUTOR, work, onSuccess, onFailure);
+    }
+
+    /**
+     * Runs work in a background thread and returns its task, so that it can be cancelled; used by
+     * {@link ScreenLoad}. A cancelled task calls neither callback.
+     */
+    static <T> Task<T> fork(Supplier<T> work, Consumer<T> onSuccess, Consumer<Throwable> onFailure) {
+        return submit(EXECUTOR, work, onSuccess, onFailure);
+    }
+
+    private static <T> Task<T> submit(ExecutorService executor, Supplier<T> work, Consumer<T> onSuccess,
+                                      Consumer<Throwable> onFailure) {
         Objects.requireNonNull(work, "work");
         Objects.requireNonNull(onSuccess, "onSuccess");
         Objects.requireNonNull(onFailure, "onFailure");
 
+        String origin = resolveOrigin();
+        Tracer.SpanContext traceContext = Tracer.currentContext();
+        long submittedAt = System.nanoTime();
+        AtomicLong finishedAt = new AtomicLong(submittedAt);
+        QUEUED_TASKS.incrementAndGet();
+
         Task<T> task = new Task<>() {
             @Override
             protected T call() {
-                return work.get();
+                long startedAt = System.nanoTime();
+                QUEUED_TASKS.decrementAndGet();
+                RUNNING_TASKS.incrementAndGet();
+                Metrics.timer("app.fx.task.queue", "origin", origin).record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                Tracer.recordSpan(traceContext, "queue", origin, submittedAt, startedAt, null);
+
+                FxTaskEvent event = new FxTaskEvent();
+                event.begin();
+                event.setOrigin(origin);
+                event.setQueueMillis(TimeUnit.NANOSECONDS.toMillis(startedAt - submittedAt));
+
+                String outcome = "success";
+                Span span = Tracer.resume(traceContext, "task", origin);
+                try {
+                    SqlCapture<T> capture = SqlStatementTracker.capture(work);
+                    Metrics.summary("app.fx.task.sql", "origin", origin).record(capture.statementCount());
+                    event.setSqlStatements(capture.statementCount());
+                    span.setDetail(capture.statementCount() + " SQL");
+                    return capture.result();
+                } catch (RuntimeException | Error e) {
+                    outcome = "error";
+                    span.markError();
+                    throw e;
+                } finally {
+                    span.close();
+                    finishedAt.set(System.nanoTime());
+                    RUNNING_TASKS.decrementAndGet();
+                    Metrics.timer("app.fx.task.execution", "origin", origin, "outcome", outcome)
+                        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    event.setOutcome(outcome);
+                    event.commit();
+                }
             }
         };
 
-        task.setOnSucceeded(event -> Platform.runLater(() -> onSuccess.accept(task.getValue())));
+        task.setOnSucceeded(event -> Platform.runLater(() -> {
+            try (Span ignored = startCallbackSpan(traceContext, origin, finishedAt.get())) {
+                onSuccess.accept(task.getValue());
+            }
+        }));
         task.setOnFailed(event -> {
             Throwable failure = task.getException();
-            Platform.runLater(() -> onFailure.accept(failure == null ? new RuntimeException("Bilinmeyen hata") : failure));
+            Platform.runLater(() -> {
+                try (Span ignored = startCallbackSpan(traceContext, origin, finishedAt.get())) {
+                    onFailure.accept(failure == null ? new RuntimeException("Bilinmeyen hata") : failure);
+                }
+            });
         });
 
-        EXECUTOR.execute(task);
+        executor.execute(task);
+        return task;
     }
 
     /**
@@ -74,13 +169,35 @@ public final class FxAsync {
         );
     }
 
+    private static Span startCallbackSpan(Tracer.SpanContext traceContext, String origin, long finishedAt) {
+        Tracer.recordSpan(traceContext, "fx-wait", origin, finishedAt, System.nanoTime(), null);
+        return Tracer.resume(traceContext, "ui", origin + ".callback");
+    }
+
+    private static String resolveOrigin() {
+        return STACK_WALKER.walk(frames -> frames
+            .map(StackWalker.StackFrame::getDeclaringClass)
+            .filter(clazz -> clazz != FxAsync.class)
+            .findFirst()
+            .map(clazz -> clazz.getName().substring(clazz.getName().lastIndexOf('.') + 1))
+            .orElse("unknown"));
+    }
+
     private static final class DaemonThreadFactory implements ThreadFactory {
-        private static final AtomicInteger COUNTER = new AtomicInteger(1);
+        private final AtomicInteger counter = new AtomicInteger(1);
+        private final String namePrefix;
+        private final int priority;
+
+        private DaemonThreadFactory(String namePrefix, int priority) {
+            this.namePrefix = namePrefix;
+            this.priority = priority;
+        }
 
         @Override
         public Thread newThread(Runnable runnable) {
             Thread thread = new Thread(runnable);
-            thread.setName("fx-async-" + COUNTER.getAndIncrement());
+            thread.setName(namePrefix + counter.getAndIncrement());
+            thread.setPriority(priority);
             thread.setDaemon(true);
             return thread;
         }
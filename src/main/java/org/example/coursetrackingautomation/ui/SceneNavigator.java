@@ -1,5 +1,7 @@
 package org.example.coursetrackingautomation.ui;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
 import java.util.function.Consumer;
 import javafx.stage.Modality;
@@ -23,6 +25,9 @@ import javafx.stage.Stage;
  * <p>This component loads FXML views using Spring's {@link ApplicationContext} so that controllers
  * can be dependency-injected. Exceptions encountered during navigation are delegated to
  * {@link UiExceptionHandler}.</p>
+ *
+ * <p>Each navigation records an {@code app.ui.navigation} timer covering FXML loading and scene setup,
+ * tagged with the view and whether it was a scene switch or a modal.</p>
  */
 public class SceneNavigator {
 
@@ -34,6 +39,7 @@ public class SceneNavigator {
     private final ApplicationContext applicationContext;
     private final AuthService authService;
     private final UiExceptionHandler uiExceptionHandler;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Displays the login view on the given stage.
@@ -104,6 +110,7 @@ public class SceneNavigator {
      * @param ownerWindow the owner window; may be {@code null}
      */
     public void openModal(String fxmlPath, String title, Window ownerWindow) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
             loader.setControllerFactory(clazz -> applicationContext.getAutowireCapableBeanFactory().createBean(clazz));
@@ -121,8 +128,10 @@ public class SceneNavigator {
             dialog.setResizable(true);
             dialog.sizeToScene();
             dialog.centerOnScreen();
+            recordNavigation(sample, fxmlPath, "modal", "success");
             dialog.showAndWait();
         } catch (IOException e) {
+            recordNavigation(sample, fxmlPath, "modal", "error");
             log.error("Failed to open modal: {}", fxmlPath, e);
             uiExceptionHandler.handle(e);
         }
@@ -139,6 +148,7 @@ public class SceneNavigator {
      * @param <T> expected controller type
      */
     public <T> void openModalWithController(String fxmlPath, String title, Window ownerWindow, Consumer<T> controllerConfigurator) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
             loader.setControllerFactory(clazz -> applicationContext.getAutowireCapableBeanFactory().createBean(clazz));
@@ -161,14 +171,17 @@ public class SceneNavigator {
             dialog.setResizable(true);
             dialog.sizeToScene();
             dialog.centerOnScreen();
+            recordNavigation(sample, fxmlPath, "modal", "success");
             dialog.showAndWait();
         } catch (IOException e) {
+            recordNavigation(sample, fxmlPath, "modal", "error");
             log.error("Failed to open modal: {}", fxmlPath, e);
             uiExceptionHandler.handle(e);
         }
     }
 
     private void setScene(Stage stage, String fxmlPath, double width, double height) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
             loader.setControllerFactory(clazz -> applicationContext.getAutowireCapableBeanFactory().createBean(clazz));
@@ -177,9 +190,19 @@ public class SceneNavigator {
             stage.setScene(scene);
             stage.setResizable(true);
             stage.centerOnScreen();
+            recordNavigation(sample, fxmlPath, "scene", "success");
         } catch (IOException e) {
+            recordNavigation(sample, fxmlPath, "scene", "error");
             log.error("Failed to load FXML: {}", fxmlPath, e);
             throw new IllegalStateException("Failed to load UI", e);
         }
     }
-}
\ No newline at end of file
+
+    private void recordNavigation(Timer.Sample sample, String fxmlPath, String type, String outcome) {
+        sample.stop(Timer.builder("app.ui.navigation")
+            .tag("view", fxmlPath)
+            .tag("type", type)
+            .tag("outcome", outcome)
+            .register(meterRegistry));
+    }
+}
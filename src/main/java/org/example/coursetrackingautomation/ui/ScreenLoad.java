@@ -0,0 +1,188 @@
+package org.example.coursetrackingautomation.ui;
+
+import io.micrometer.core.instrument.Metrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javafx.animation.PauseTransition;
+import javafx.concurrent.Task;
+import lombok.extern.slf4j.Slf4j;
+import org.example.coursetrackingautomation.diagnostics.ScreenLoadEvent;
+
+@Slf4j
+/**
+ * Loads the independent queries of a screen concurrently, as one unit of work with a shared deadline.
+ *
+ * <p>Each {@link #fork forked} query runs through {@link FxAsync} and its result is published on the UI
+ * thread as soon as it arrives, so the screen fills in progressively. The load fails as a whole: the first
+ * failure, the deadline or {@link #cancel()} (for example when the user navigates away) cancels the queries
+ * still running and suppresses every later callback, so a screen that is no longer shown is never updated.</p>
+ *
+ * <p>The time from {@link #start} until the last result has been published is recorded as the
+ * {@code app.screen.tti} timer, tagged with the screen and the outcome, and as a {@link ScreenLoadEvent} JFR
+ * event; each query's latency is recorded as {@code app.screen.part}.</p>
+ *
+ * <p>Instances are confined to the JavaFX application thread.</p>
+ */
+public final class ScreenLoad {
+
+    private enum State { RUNNING, SUCCEEDED, FAILED, CANCELLED }
+
+    private final String screen;
+    private final long startedAt;
+    private final PauseTransition deadlineTimer;
+    private final ScreenLoadEvent event = new ScreenLoadEvent();
+    private final List<Task<?>> tasks = new ArrayList<>();
+
+    private State state = State.RUNNING;
+    private int pending;
+    private boolean joined;
+    private Runnable onReady;
+    private Consumer<Throwable> onFailure;
+    private Throwable failure;
+
+    private ScreenLoad(String screen, Duration deadline) {
+        this.screen = screen;
+        this.startedAt = System.nanoTime();
+        this.deadlineTimer = new PauseTransition(javafx.util.Duration.millis(deadline.toMillis()));
+        this.deadlineTimer.setOnFinished(e -> fail(new TimeoutException(
+            "Ekran " + deadline.toMillis() + " ms içinde yüklenemedi: " + screen), "timeout"));
+        event.begin();
+    }
+
+    /**
+     * Starts the load of a screen; the deadline runs from now.
+     *
+     * @param screen screen name used in metrics
+     * @param deadline time within which all queries must have completed
+     * @return the running load
+     */
+    public static ScreenLoad start(String screen, Duration deadline) {
+        Objects.requireNonNull(screen, "screen");
+        Objects.requireNonNull(deadline, "deadline");
+        ScreenLoad load = new ScreenLoad(screen, deadline);
+        load.deadlineTimer.play();
+        return load;
+    }
+
+    /**
+     * Runs a query of the screen concurrently with the other queries.
+     *
+     * @param part query name used in metrics
+     * @param work background work
+     * @param onResult publishes the result (UI thread); not called once the load has failed or was cancelled
+     * @param <T> result type
+     * @return this load
+     */
+    public <T> ScreenLoad fork(String part, Supplier<T> work, Consumer<T> onResult) {
+        Objects.requireNonNull(onResult, "onResult");
+        if (joined) {
+            throw new IllegalStateException("Screen load already joined: " + screen);
+        }
+        if (state != State.RUNNING) {
+            return this;
+        }
+        pending++;
+        long forkedAt = System.nanoTime();
+        tasks.add(FxAsync.fork(
+            work,
+            result -> {
+                if (state != State.RUNNING) {
+                    return;
+                }
+                Metrics.timer("app.screen.part", "screen", screen, "part", part)
+                    .record(System.nanoTime() - forkedAt, TimeUnit.NANOSECONDS);
+                try {
+                    onResult.accept(result);
+                } catch (RuntimeException e) {
+                    fail(e, "error");
+                    return;
+                }
+                pending--;
+                completeIfDone();
+            },
+            error -> fail(error, "error")
+        ));
+        return this;
+    }
+
+    /**
+     * Registers the completion callbacks after the last {@link #fork}; if the load already failed, the
+     * failure callback runs immediately.
+     *
+     * @param onReady called once all results have been published (UI thread)
+     * @param onFailure called once with the first failure or a {@link TimeoutException} (UI thread)
+     */
+    public void join(Runnable onReady, Consumer<Throwable> onFailure) {
+        this.onReady = Objects.requireNonNull(onReady, "onReady");
+        this.onFailure = Objects.requireNonNull(onFailure, "onFailure");
+        joined = true;
+        if (state == State.FAILED) {
+            onFailure.accept(failure);
+            return;
+        }
+        completeIfDone();
+    }
+
+    /**
+     * Cancels the queries still running; no callback of this load runs afterwards. Does nothing once the
+     * load has finished.
+     */
+    public void cancel() {
+        if (state != State.RUNNING) {
+            return;
+        }
+        state = State.CANCELLED;
+        finish("cancelled");
+    }
+
+    /**
+     * @return whether the load is still waiting for results
+     */
+    public boolean isRunning() {
+        return state == State.RUNNING;
+    }
+
+    private void completeIfDone() {
+        if (!joined || pending > 0 || state != State.RUNNING) {
+            return;
+        }
+        state = State.SUCCEEDED;
+        finish("success");
+        onReady.run();
+    }
+
+    private void fail(Throwable error, String outcome) {
+        if (state != State.RUNNING) {
+            return;
+        }
+        state = State.FAILED;
+        failure = error;
+        finish(outcome);
+        if (joined) {
+            onFailure.accept(error);
+        }
+    }
+
+    private void finish(String outcome) {
+        deadlineTimer.stop();
+        int parts = tasks.size();
+        for (Task<?> task : tasks) {
+            task.cancel(true);
+        }
+        tasks.clear();
+
+        long elapsed = System.nanoTime() - startedAt;
+        Metrics.timer("app.screen.tti", "screen", screen, "outcome", outcome).record(elapsed, TimeUnit.NANOSECONDS);
+        event.setScreen(screen);
+        event.setParts(parts);
+        event.setOutcome(outcome);
+        event.commit();
+        log.debug("Screen {} load {} after {} ms", screen, outcome, TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+}
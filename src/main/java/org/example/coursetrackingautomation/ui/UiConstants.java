@@ -29,9 +29,16 @@ public final class UiConstants {
     public static final String UI_STATUS_PASSED = "Geçti";
     public static final String UI_STATUS_FAILED = "Kaldı";
 
+    public static final String UI_RANK_NOT_AVAILABLE = "-";
+    public static final String UI_RANK_FORMAT = "%d / %d (%%%.0f)";
+
     public static final String UI_MESSAGE_SELECT_COURSE_FIRST = "Lütfen önce bir ders seçiniz.";
     public static final String UI_MESSAGE_SELECT_WEEK_FIRST = "Lütfen önce bir hafta seçiniz.";
     public static final String UI_MESSAGE_CHANGES_SAVED = "Değişiklikler kaydedildi.";
+    public static final String UI_MESSAGE_CLASS_ATTENDANCE_SAVED = "Haftalık yoklama tüm sınıf için kaydedildi.";
+    public static final String UI_MESSAGE_AUTOSAVE_RETRYING = "Değişiklikler şu anda kaydedilemedi; arka planda yeniden denenecek.";
+    public static final String UI_MESSAGE_SHOWING_STORED_SNAPSHOT = "Veritabanına ulaşılamadı; son kaydedilen veriler gösteriliyor.";
+    public static final String UI_MESSAGE_AUTOSAVE_CONFLICTS = "Bazı değişiklikler kaydedilmedi:";
     public static final String UI_MESSAGE_PROFILE_UPDATED = "Profil bilgileriniz güncellendi.";
 
     public static final String FXML_LOGIN = "/fxml/login.fxml";
@@ -48,6 +55,7 @@ public final class UiConstants {
     public static final String FXML_EDIT_ENROLLMENT_FORM = "/fxml/edit_enrollment_form.fxml";
     public static final String FXML_ADMIN_ENROLL_STUDENT_FORM = "/fxml/admin_enroll_student_form.fxml";
     public static final String FXML_EDIT_GRADE_POPUP = "/fxml/edit_grade_popup.fxml";
+    public static final String FXML_ATTENDANCE_MATRIX_POPUP = "/fxml/attendance_matrix_popup.fxml";
 
     public static final double DEFAULT_WINDOW_WIDTH = 800.0;
     public static final double DEFAULT_WINDOW_HEIGHT = 600.0;
@@ -65,6 +73,7 @@ public final class UiConstants {
     public static final String WINDOW_TITLE_EDIT_ENROLLMENT = "Kayıt Düzenle";
     public static final String WINDOW_TITLE_ADMIN_ENROLL_STUDENT = "Kayıt Ekle";
     public static final String WINDOW_TITLE_EDIT_GRADE = "Not Düzenle";
+    public static final String WINDOW_TITLE_ATTENDANCE_MATRIX = "Dönem Yoklaması";
 
     private UiConstants() {}
 }
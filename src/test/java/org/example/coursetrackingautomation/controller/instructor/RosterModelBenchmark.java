@@ -0,0 +1,158 @@
+package org.example.coursetrackingautomation.controller.instructor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.example.coursetrackingautomation.dto.GradeDTO;
+import org.example.coursetrackingautomation.dto.GradeStatus;
+
+/**
+ * Stand-alone benchmark comparing {@link RosterModel} with the previous roster layout of the instructor
+ * dashboard at lecture size.
+ *
+ * <p>The previous layout kept the {@link GradeDTO} rows in the table, five boxed-id maps of
+ * {@link SimpleObjectProperty} per student and four maps of original values for dirty tracking. Both
+ * layouts are loaded from the same synthetic roster; the benchmark prints the mean load time and the heap
+ * retained after loading (measured between full GCs, so it is an approximation).</p>
+ *
+ * <p>Not part of the test suite. After {@code mvn test-compile}, run with
+ * {@code java -cp target/test-classes:target/classes:<dependency classpath> ...RosterModelBenchmark [rows]};
+ * the JavaFX toolkit is not needed.</p>
+ */
+public final class RosterModelBenchmark {
+
+    private static final int DEFAULT_ROWS = 2_000;
+    private static final int WARMUP_RUNS = 200;
+    private static final int MEASURED_RUNS = 500;
+
+    private static volatile Object sink;
+
+    private RosterModelBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int rowCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROWS;
+        List<GradeDTO> roster = syntheticRoster(rowCount);
+        Map<Long, Long> enrollmentIdByStudentId = new HashMap<>();
+        roster.forEach(row -> enrollmentIdByStudentId.put(row.getStudentId(), row.getStudentId() + 1_000_000L));
+
+        System.out.printf("Roster of %d rows%n", rowCount);
+        report("legacy property maps", () -> LegacyRoster.load(copyOf(roster), enrollmentIdByStudentId));
+        report("columnar RosterModel", () -> {
+            RosterModel model = new RosterModel();
+            model.load(copyOf(roster), enrollmentIdByStudentId);
+            return model;
+        });
+    }
+
+    private static void report(String name, Supplier<Object> loader) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            sink = loader.get();
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            sink = loader.get();
+        }
+        double loadMicros = (System.nanoTime() - started) / 1_000.0 / MEASURED_RUNS;
+
+        sink = null;
+        long before = usedHeapAfterGc();
+        sink = loader.get();
+        long after = usedHeapAfterGc();
+        System.out.printf("%-22s load %8.1f us   retained %8.1f KiB%n", name, loadMicros, (after - before) / 1024.0);
+        sink = null;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static List<GradeDTO> syntheticRoster(int rowCount) {
+        List<GradeDTO> rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            double midterm = 40 + (i * 7) % 60;
+            double finalScore = 35 + (i * 13) % 65;
+            GradeDTO row = new GradeDTO();
+            row.setStudentId(10_000L + i);
+            row.setStudentName("Öğrenci " + i);
+            row.setCourseCode("BIL101");
+            row.setCourseName("Programlamaya Giriş");
+            row.setMidtermScore(midterm);
+            row.setFinalScore(finalScore);
+            row.setAverageScore(midterm * 0.4 + finalScore * 0.6);
+            row.setLetterGrade("CB");
+            row.setStatus(GradeStatus.PASSED);
+            row.setAttendanceCount(i % 12);
+            row.setPresent(i % 9 != 0);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static List<GradeDTO> copyOf(List<GradeDTO> roster) {
+        List<GradeDTO> copy = new ArrayList<>(roster.size());
+        for (GradeDTO row : roster) {
+            copy.add(new GradeDTO(
+                row.getStudentId(), row.getStudentName(), row.getCourseCode(), row.getCourseName(),
+                row.getCredit(), row.getWeeklyTotalHours(), row.getWeeklyTheoryHours(), row.getWeeklyPracticeHours(),
+                row.getMidtermScore(), row.getFinalScore(), row.getAverageScore(), row.getLetterGrade(),
+                row.getStatus(), row.getAttendanceCount(), row.isAbsentCritically(), row.getPresent()
+            ));
+        }
+        return copy;
+    }
+
+    /**
+     * Previous roster state of the dashboard coordinator, reproduced for comparison.
+     */
+    private record LegacyRoster(
+        ObservableList<GradeDTO> rows,
+        Map<Long, Long> enrollmentIdByStudentId,
+        Map<Long, Double> originalMidterm,
+        Map<Long, Double> originalFinal,
+        Map<Long, Integer> originalAttendance,
+        Map<Long, Boolean> originalPresent,
+        Map<Long, SimpleObjectProperty<Double>> midtermProps,
+        Map<Long, SimpleObjectProperty<Double>> finalProps,
+        Map<Long, SimpleObjectProperty<Double>> averageProps,
+        Map<Long, SimpleObjectProperty<String>> letterProps,
+        Map<Long, SimpleObjectProperty<String>> statusProps
+    ) {
+
+        static LegacyRoster load(List<GradeDTO> source, Map<Long, Long> enrollmentIdByStudentId) {
+            LegacyRoster roster = new LegacyRoster(
+                FXCollections.observableArrayList(source),
+                new HashMap<>(enrollmentIdByStudentId),
+                new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(),
+                new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>()
+            );
+            for (GradeDTO row : roster.rows()) {
+                Long studentId = row.getStudentId();
+                roster.midtermProps().put(studentId, new SimpleObjectProperty<>(row.getMidtermScore()));
+                roster.finalProps().put(studentId, new SimpleObjectProperty<>(row.getFinalScore()));
+                roster.averageProps().put(studentId, new SimpleObjectProperty<>(row.getAverageScore()));
+                roster.letterProps().put(studentId, new SimpleObjectProperty<>(row.getLetterGrade()));
+                roster.statusProps().put(studentId, new SimpleObjectProperty<>(String.valueOf(row.getStatus())));
+                roster.originalMidterm().put(studentId, row.getMidtermScore());
+                roster.originalFinal().put(studentId, row.getFinalScore());
+                roster.originalAttendance().put(studentId, row.getAttendanceCount());
+                roster.originalPresent().put(studentId, row.getPresent());
+            }
+            return roster;
+        }
+    }
+}
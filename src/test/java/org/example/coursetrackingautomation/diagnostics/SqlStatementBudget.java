@@ -0,0 +1,106 @@
+package org.example.coursetrackingautomation.diagnostics;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Test support that fails a test when a single call exceeds its SQL statement or entity-load budget.
+ *
+ * <p>Statement counts come from {@link SqlStatementTracker#capture(Supplier)}: every statement Hibernate
+ * prepares on the calling thread, including native queries, is counted; statements issued through
+ * {@code JdbcTemplate} are not. Entity loads are read from Hibernate {@link Statistics} and are only checked
+ * when {@code hibernate.generate_statistics} is enabled; those counters are global, so the entity budget
+ * assumes that no other thread loads entities during the call.</p>
+ *
+ * <p>A failure lists the statements of the call by normalized query shape, which points at the repeated
+ * query of an N+1.</p>
+ */
+public final class SqlStatementBudget {
+
+    private final Statistics statistics;
+
+    /**
+     * Creates a budget checker reading the entity statistics of the given persistence unit.
+     *
+     * @param entityManagerFactory persistence unit of the checked calls
+     */
+    public SqlStatementBudget(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    /**
+     * Runs an action and fails when it exceeds the given budgets.
+     *
+     * @param label name of the call, used in the failure message
+     * @param maxStatements maximum number of SQL statements
+     * @param maxEntitiesLoaded maximum number of entities loaded or fetched
+     * @param action action to run
+     * @param <T> result type
+     * @return the action result
+     * @throws AssertionError if a budget is exceeded
+     */
+    public <T> T enforce(String label, int maxStatements, int maxEntitiesLoaded, Supplier<T> action) {
+        boolean entityBudgetActive = statistics.isStatisticsEnabled();
+        long loadedBefore = entityBudgetActive ? entityLoads() : 0L;
+
+        SqlCapture<T> capture = SqlStatementTracker.capture(action);
+
+        if (capture.statementCount() > maxStatements) {
+            throw new AssertionError(String.format("%s issued %d SQL statements (budget %d):%n%s",
+                label, capture.statementCount(), maxStatements, describe(capture.statementsByShape())));
+        }
+        if (entityBudgetActive) {
+            long loaded = entityLoads() - loadedBefore;
+            if (loaded > maxEntitiesLoaded) {
+                throw new AssertionError(String.format("%s loaded %d entities (budget %d)",
+                    label, loaded, maxEntitiesLoaded));
+            }
+        }
+        return capture.result();
+    }
+
+    /**
+     * Runs an action and fails when it exceeds the given statement budget.
+     *
+     * @param label name of the call, used in the failure message
+     * @param maxStatements maximum number of SQL statements
+     * @param action action to run
+     * @param <T> result type
+     * @return the action result
+     * @throws AssertionError if the budget is exceeded
+     */
+    public <T> T enforce(String label, int maxStatements, Supplier<T> action) {
+        return enforce(label, maxStatements, Integer.MAX_VALUE, action);
+    }
+
+    /**
+     * Runs an action without a result and fails when it exceeds the given budgets.
+     *
+     * @param label name of the call, used in the failure message
+     * @param maxStatements maximum number of SQL statements
+     * @param maxEntitiesLoaded maximum number of entities loaded or fetched
+     * @param action action to run
+     * @throws AssertionError if a budget is exceeded
+     */
+    public void enforceRun(String label, int maxStatements, int maxEntitiesLoaded, Runnable action) {
+        enforce(label, maxStatements, maxEntitiesLoaded, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private long entityLoads() {
+        return statistics.getEntityLoadCount() + statistics.getEntityFetchCount();
+    }
+
+    private static String describe(Map<String, Integer> statementsByShape) {
+        return statementsByShape.entrySet().stream()
+            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+            .map(entry -> "  " + entry.getValue() + " x " + entry.getKey())
+            .collect(Collectors.joining(System.lineSeparator()));
+    }
+}
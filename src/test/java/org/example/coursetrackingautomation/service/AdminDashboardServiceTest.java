@@ -0,0 +1,234 @@
+package org.example.coursetrackingautomation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.example.coursetrackingautomation.dto.AdminAttendanceRowDTO;
+import org.example.coursetrackingautomation.dto.AdminEnrollmentRowDTO;
+import org.example.coursetrackingautomation.dto.AdminStatistics;
+import org.example.coursetrackingautomation.dto.AdminUserRowDTO;
+import org.example.coursetrackingautomation.dto.CourseDTO;
+import org.example.coursetrackingautomation.dto.SyncDeltaDTO;
+import org.example.coursetrackingautomation.dto.UpdateUserRequest;
+import org.example.coursetrackingautomation.entity.Course;
+import org.example.coursetrackingautomation.entity.Enrollment;
+import org.example.coursetrackingautomation.entity.EnrollmentStatus;
+import org.example.coursetrackingautomation.entity.User;
+import org.example.coursetrackingautomation.support.DatabaseTest;
+import org.example.coursetrackingautomation.support.TestFixtures.Roster;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class AdminDashboardServiceTest extends DatabaseTest {
+
+    private static final int ROSTER_SIZE = 5;
+
+    @Autowired
+    private AdminDashboardService adminDashboardService;
+
+    @Autowired
+    private DeltaSyncService deltaSyncService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private InstructorWorkflowService instructorWorkflowService;
+
+    @Autowired
+    private AcademicSummaryService academicSummaryService;
+
+    @Test
+    void getStatisticsCountsNewRows() {
+        AdminStatistics before = adminDashboardService.getStatistics();
+        fixtures.roster(2);
+
+        AdminStatistics after = budget.enforce("AdminDashboardService.getStatistics", 3, 0,
+            () -> adminDashboardService.getStatistics());
+
+        assertThat(after).isEqualTo(before.plus(3, 1, 2));
+    }
+
+    @Test
+    void getAllUserRowsListsEveryUser() {
+        Roster roster = fixtures.roster(5);
+
+        List<AdminUserRowDTO> rows = budget.enforce("AdminDashboardService.getAllUserRows", 1, 10_000,
+            () -> adminDashboardService.getAllUserRows());
+
+        assertThat(rows).extracting(AdminUserRowDTO::id)
+            .contains(roster.instructor().getId())
+            .containsAll(roster.students().stream().map(User::getId).toList());
+    }
+
+    @Test
+    void getUserRowChangesReturnsUpdatedAndDeletedUsers() {
+        User updated = fixtures.student();
+        User deleted = fixtures.student();
+        User unchanged = fixtures.student();
+        LocalDateTime since = deltaSyncService.databaseTime();
+        userService.updateUser(updated.getId(), new UpdateUserRequest("Yeni", null, "yeni@test.local", null, null));
+        adminDashboardService.deleteUser(deleted.getId());
+
+        SyncDeltaDTO<AdminUserRowDTO> delta = budget.enforce("AdminDashboardService.getUserRowChanges", 2, 1,
+            () -> adminDashboardService.getUserRowChanges(since));
+
+        assertThat(delta.complete()).isFalse();
+        assertThat(delta.upserts()).extracting(AdminUserRowDTO::id)
+            .contains(updated.getId())
+            .doesNotContain(unchanged.getId());
+        assertThat(delta.deletedIds()).contains(deleted.getId());
+        assertThat(adminDashboardService.getUserRowChanges(null).complete()).isTrue();
+    }
+
+    @Test
+    void deleteUserRemovesInstructorCoursesAndRebuildsStudentSummaries() {
+        Roster roster = fixtures.roster(ROSTER_SIZE);
+        roster.students().forEach(student -> fixtures.grade(roster.course(), student, 90, 90));
+
+        budget.enforceRun("AdminDashboardService.deleteUser", 11 + 7 * ROSTER_SIZE, 2 + 4 * ROSTER_SIZE,
+            () -> adminDashboardService.deleteUser(roster.instructor().getId()));
+
+        assertThatThrownBy(() -> userService.getUserById(roster.instructor().getId()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> courseService.getCourseById(roster.course().getId()))
+            .isInstanceOf(IllegalArgumentException.class);
+        for (User student : roster.students()) {
+            assertThat(academicSummaryService.getCumulativeSummary(student.getId()).attemptedCredits()).isZero();
+        }
+        assertThatThrownBy(() -> adminDashboardService.deleteUser(roster.instructor().getId()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void getAllCourseRowsCountsEnrollments() {
+        Roster roster = fixtures.roster(4);
+
+        List<CourseDTO> rows = budget.enforce("AdminDashboardService.getAllCourseRows", 2, 10_000,
+            () -> adminDashboardService.getAllCourseRows());
+
+        assertThat(rows).filteredOn(row -> row.getId().equals(roster.course().getId()))
+            .singleElement()
+            .satisfies(row -> assertThat(row.getCurrentEnrollmentCount()).isEqualTo(4));
+    }
+
+    @Test
+    void getCourseRowChangesReturnsCoursesWithChangedEnrollments() {
+        Roster changed = fixtures.roster(3);
+        Roster unchanged = fixtures.roster(1);
+        Course deleted = fixtures.course(fixtures.instructor());
+        LocalDateTime since = deltaSyncService.databaseTime();
+        enrollmentService.dropEnrollment(changed.students().getFirst().getId(), changed.course().getId());
+        adminDashboardService.deleteUser(deleted.getInstructor().getId());
+
+        SyncDeltaDTO<CourseDTO> delta = budget.enforce("AdminDashboardService.getCourseRowChanges", 5, 2,
+            () -> adminDashboardService.getCourseRowChanges(since));
+
+        assertThat(delta.upserts()).extracting(CourseDTO::getId)
+            .contains(changed.course().getId())
+            .doesNotContain(unchanged.course().getId(), deleted.getId());
+        assertThat(delta.upserts()).filteredOn(row -> row.getId().equals(changed.course().getId()))
+            .singleElement()
+            .satisfies(row -> assertThat(row.getCurrentEnrollmentCount()).isEqualTo(2));
+        assertThat(delta.deletedIds()).contains(deleted.getId());
+    }
+
+    @Test
+    void getAllEnrollmentRowsListsEveryEnrollment() {
+        Roster roster = fixtures.roster(5);
+
+        List<AdminEnrollmentRowDTO> rows = budget.enforce("AdminDashboardService.getAllEnrollmentRows", 1, 10_000,
+            () -> adminDashboardService.getAllEnrollmentRows());
+
+        assertThat(rows).extracting(AdminEnrollmentRowDTO::id)
+            .containsAll(roster.enrollments().stream().map(Enrollment::getId).toList());
+    }
+
+    @Test
+    void searchEnrollmentRowsFiltersInTheDatabase() {
+        Roster roster = fixtures.roster(5);
+        User student = roster.students().getFirst();
+        enrollmentService.dropEnrollment(roster.students().get(1).getId(), roster.course().getId());
+
+        List<AdminEnrollmentRowDTO> byCourse = budget.enforce("AdminDashboardService.searchEnrollmentRows", 1, 9,
+            () -> adminDashboardService.searchEnrollmentRows(null, roster.course().getId(), EnrollmentStatus.ENROLLED));
+
+        assertThat(byCourse).hasSize(4).allSatisfy(row -> {
+            assertThat(row.courseId()).isEqualTo(roster.course().getId());
+            assertThat(row.status()).isEqualTo(EnrollmentStatus.ENROLLED);
+        });
+        assertThat(adminDashboardService.searchEnrollmentRows(student.getUsername(), null, null))
+            .extracting(AdminEnrollmentRowDTO::studentId)
+            .contains(student.getId());
+    }
+
+    @Test
+    void getEnrollmentRowChangesReportsRowsLeavingTheFilterAsDeleted() {
+        Roster roster = fixtures.roster(3);
+        User dropped = roster.students().getFirst();
+        LocalDateTime since = deltaSyncService.databaseTime();
+        enrollmentService.dropEnrollment(dropped.getId(), roster.course().getId());
+        User added = fixtures.student();
+        Long addedId = fixtures.enroll(added, roster.course()).getId();
+
+        SyncDeltaDTO<AdminEnrollmentRowDTO> delta = budget.enforce("AdminDashboardService.getEnrollmentRowChanges", 3, 3,
+            () -> adminDashboardService.getEnrollmentRowChanges(null, roster.course().getId(), EnrollmentStatus.ENROLLED, since));
+
+        assertThat(delta.complete()).isFalse();
+        assertThat(delta.upserts()).extracting(AdminEnrollmentRowDTO::id).containsExactly(addedId);
+        assertThat(delta.deletedIds()).containsExactly(roster.enrollments().getFirst().getId());
+    }
+
+    @Test
+    void dropEnrollmentDelegatesToEnrollmentService() {
+        Roster roster = fixtures.roster(1);
+        User student = roster.students().getFirst();
+
+        budget.enforceRun("AdminDashboardService.dropEnrollment", 6, 5,
+            () -> adminDashboardService.dropEnrollment(student.getId(), roster.course().getId()));
+
+        assertThat(enrollmentService.isStudentEnrolled(student.getId(), roster.course().getId())).isFalse();
+    }
+
+    @Test
+    void enrollStudentDelegatesToEnrollmentService() {
+        User student = fixtures.student();
+        Course course = fixtures.course(fixtures.instructor());
+
+        budget.enforceRun("AdminDashboardService.enrollStudent", 6, 2,
+            () -> adminDashboardService.enrollStudent(student.getId(), course.getId()));
+
+        assertThat(enrollmentService.isStudentEnrolled(student.getId(), course.getId())).isTrue();
+    }
+
+    @Test
+    void getAllAttendanceRowsListsMarkedWeeks() {
+        Roster roster = fixtures.roster(5);
+        User absent = roster.students().getFirst();
+        instructorWorkflowService.markWholeClass(roster.course().getCode(), 1, Set.of(absent.getId()));
+        instructorWorkflowService.markWholeClass(roster.course().getCode(), 2, Set.of());
+
+        List<AdminAttendanceRowDTO> rows = budget.enforce("AdminDashboardService.getAllAttendanceRows", 1, 100_000,
+            () -> adminDashboardService.getAllAttendanceRows());
+
+        List<AdminAttendanceRowDTO> courseRows = rows.stream()
+            .filter(row -> row.courseId().equals(roster.course().getId()))
+            .toList();
+        assertThat(courseRows).hasSize(10);
+        assertThat(courseRows).filteredOn(row -> !row.present())
+            .singleElement()
+            .satisfies(row -> {
+                assertThat(row.studentId()).isEqualTo(absent.getId());
+                assertThat(row.weekNumber()).isEqualTo(1);
+            });
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.coursetrackingautomation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.example.coursetrackingautomation.dto.ClassRankDTO;
+import org.example.coursetrackingautomation.entity.AcademicSummary;
+import org.example.coursetrackingautomation.entity.User;
+import org.example.coursetrackingautomation.repository.AcademicSummaryRepository;
+import org.example.coursetrackingautomation.support.DatabaseTest;
+import org.example.coursetrackingautomation.support.TestFixtures;
+import org.example.coursetrackingautomation.support.TestFixtures.Roster;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class ClassRankingServiceTest extends DatabaseTest {
+
+    @Autowired
+    private ClassRankingService classRankingService;
+
+    @Autowired
+    private AcademicSummaryRepository academicSummaryRepository;
+
+    @Test
+    void queriesDoNotWaitForTheStartupBuild() {
+        Roster roster = fixtures.roster(1);
+        User graded = roster.students().getFirst();
+        fixtures.grade(roster.course(), graded, 90, 90);
+        ClassRankingService notBuilt = new ClassRankingService(academicSummaryRepository);
+
+        assertThat(notBuilt.getCumulativeRank(graded.getId())).isEmpty();
+        assertThat(notBuilt.getTopStudents(TestFixtures.TERM, 10)).isEmpty();
+        awaitStartupBuild();
+        assertThat(classRankingService.getCumulativeRank(graded.getId())).isPresent();
+    }
+
+    @Test
+    void reloadStudentsRestoresRankingsFromPersistedSummaries() {
+        Roster roster = fixtures.roster(2);
+        User graded = roster.students().getFirst();
+        User ungraded = roster.students().get(1);
+        fixtures.grade(roster.course(), graded, 90, 90);
+        awaitStartupBuild();
+        classRankingService.replaceStudent(graded.getId(), Map.of());
+        classRankingService.replaceStudent(ungraded.getId(), Map.of(TestFixtures.TERM, new BigDecimal("2.00")));
+
+        budget.enforceRun("ClassRankingService.reloadStudents", 1, 0,
+            () -> classRankingService.reloadStudents(List.of(graded.getId(), ungraded.getId())));
+
+        assertThat(classRankingService.getCumulativeRank(graded.getId()))
+            .hasValueSatisfying(rank -> assertThat(rank.gpa()).isEqualByComparingTo("4.00"));
+        assertThat(classRankingService.getRank(graded.getId(), TestFixtures.TERM)).isPresent();
+        assertThat(classRankingService.getRank(ungraded.getId(), TestFixtures.TERM)).isEmpty();
+        assertThat(classRankingService.getTopStudents(TestFixtures.TERM, Integer.MAX_VALUE))
+            .extracting(ClassRankDTO::studentId)
+            .contains(graded.getId())
+            .doesNotContain(ungraded.getId());
+    }
+
+    private void awaitStartupBuild() {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (classRankingService.getTopStudents(AcademicSummary.CUMULATIVE_TERM, 1).isEmpty()) {
+            assertThat(System.nanoTime()).as("class ranking startup build").isLessThan(deadline);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
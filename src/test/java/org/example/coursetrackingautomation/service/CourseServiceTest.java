@@ -0,0 +1,292 @@
+package org.example.coursetrackingautomation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Locale;
+import org.example.coursetrackingautomation.dto.AcademicSummaryDTO;
+import org.example.coursetrackingautomation.dto.CourseDTO;
+import org.example.coursetrackingautomation.dto.CreateCourseRequest;
+import org.example.coursetrackingautomation.dto.UpdateCourseRequest;
+import org.example.coursetrackingautomation.entity.Course;
+import org.example.coursetrackingautomation.entity.User;
+import org.example.coursetrackingautomation.support.DatabaseTest;
+import org.example.coursetrackingautomation.support.TestFixtures;
+import org.example.coursetrackingautomation.support.TestFixtures.Roster;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class CourseServiceTest extends DatabaseTest {
+
+    private static final int ROSTER_SIZE = 5;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private AcademicSummaryService academicSummaryService;
+
+    @Test
+    void createCourseWithQuotaOverridesEntityQuota() {
+        User instructor = fixtures.instructor();
+        Course course = newCourse(instructor);
+        course.setQuota(10);
+
+        Course saved = budget.enforce("CourseService.createCourse(Course, Integer)", 3, 0,
+            () -> courseService.createCourse(course, 45));
+
+        assertThat(saved.getId()).isNotNull();
+        assertThat(saved.getQuota()).isEqualTo(45);
+        assertThat(saved.isActive()).isTrue();
+        assertThatThrownBy(() -> courseService.createCourse(newCourse(instructor), 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void createCourseWithoutQuotaAppliesDefaultQuota() {
+        Course course = newCourse(fixtures.instructor());
+
+        Course saved = budget.enforce("CourseService.createCourse(Course)", 3, 0,
+            () -> courseService.createCourse(course));
+
+        assertThat(saved.getQuota()).isEqualTo(30);
+        assertThat(courseService.getCourseById(saved.getId()).getCode()).isEqualTo(course.getCode());
+    }
+
+    @Test
+    void createCourseFromRequestValidatesInstructorAndCode() {
+        User instructor = fixtures.instructor();
+        String code = "n" + instructor.getUsername();
+        CreateCourseRequest request = new CreateCourseRequest(
+            code, "Yeni ders", 3, 20, TestFixtures.TERM, instructor.getId(), 3, 2, 1);
+
+        Course saved = budget.enforce("CourseService.createCourse(CreateCourseRequest)", 5, 1,
+            () -> courseService.createCourse(request));
+
+        assertThat(saved.getCode()).isEqualTo(code.toUpperCase(Locale.ROOT));
+        assertThat(saved.getInstructor().getId()).isEqualTo(instructor.getId());
+        assertThatThrownBy(() -> courseService.createCourse(request))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("zaten mevcut");
+        User student = fixtures.student();
+        assertThatThrownBy(() -> courseService.createCourse(new CreateCourseRequest(
+            "x" + student.getUsername(), "Ders", 3, 20, TestFixtures.TERM, student.getId(), 3, 2, 1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Seçilen kullanıcı akademisyen değil");
+    }
+
+    @Test
+    void createCourseFromRequestReactivatesInactiveCourseAndRebuildsSummaries() {
+        Roster roster = fixtures.roster(ROSTER_SIZE);
+        Course course = roster.course();
+        roster.students().forEach(student -> fixtures.grade(course, student, 90, 90));
+        courseService.deactivateCourse(course.getId());
+        CreateCourseRequest request = new CreateCourseRequest(
+            course.getCode(), "Yeniden açılan ders", 6, null, TestFixtures.TERM, roster.instructor().getId(), 4, 3, 1);
+
+        Course reactivated = budget.enforce("CourseService.createCourse(CreateCourseRequest) reactivation", 8 + 2 * ROSTER_SIZE, 2,
+            () -> courseService.createCourse(request));
+
+        assertThat(reactivated.getId()).isEqualTo(course.getId());
+        assertThat(reactivated.isActive()).isTrue();
+        assertThat(reactivated.getCredit()).isEqualTo(6);
+        AcademicSummaryDTO summary = academicSummaryService.getCumulativeSummary(roster.students().getFirst().getId());
+        assertThat(summary.attemptedCredits()).isEqualTo(6);
+    }
+
+    @Test
+    void updateQuotaRejectsQuotaBelowEnrollments() {
+        Roster roster = fixtures.roster(3);
+        Long courseId = roster.course().getId();
+
+        Course updated = budget.enforce("CourseService.updateQuota", 6, 3,
+            () -> courseService.updateQuota(courseId, 3));
+
+        assertThat(updated.getQuota()).isEqualTo(3);
+        assertThatThrownBy(() -> courseService.updateQuota(courseId, 2))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("küçük olamaz");
+    }
+
+    @Test
+    void updateCourseRebuildsSummariesWhenCreditChanges() {
+        Roster roster = fixtures.roster(ROSTER_SIZE);
+        Course course = roster.course();
+        roster.students().forEach(student -> fixtures.grade(course, student, 90, 90));
+        UpdateCourseRequest request = new UpdateCourseRequest(
+            "Güncel ad", 5, null, null, null, null, null, null, null);
+
+        Course updated = budget.enforce("CourseService.updateCourse", 8 + 2 * ROSTER_SIZE, 3,
+            () -> courseService.updateCourse(course.getId(), request));
+
+        assertThat(updated.getName()).isEqualTo("Güncel ad");
+        assertThat(updated.getCredit()).isEqualTo(5);
+        for (User student : roster.students()) {
+            AcademicSummaryDTO summary = academicSummaryService.getCumulativeSummary(student.getId());
+            assertThat(summary.attemptedCredits()).isEqualTo(5);
+            assertThat(summary.gpaText()).isEqualTo("4.00");
+        }
+        assertThatThrownBy(() -> courseService.updateCourse(course.getId(),
+            new UpdateCourseRequest(null, null, null, null, null, null, 4, 2, 1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void deactivateCourseIsIdempotent() {
+        Course course = fixtures.course(fixtures.instructor());
+
+        budget.enforceRun("CourseService.deactivateCourse", 5, 3,
+            () -> courseService.deactivateCourse(course.getId()));
+        budget.enforceRun("CourseService.deactivateCourse already inactive", 1, 1,
+            () -> courseService.deactivateCourse(course.getId()));
+
+        assertThat(courseService.getCourseById(course.getId()).isActive()).isFalse();
+    }
+
+    @Test
+    void getCourseByIdFailsForUnknownCourse() {
+        Course course = fixtures.course(fixtures.instructor());
+
+        Course found = budget.enforce("CourseService.getCourseById", 1, 1,
+            () -> courseService.getCourseById(course.getId()));
+
+        assertThat(found.getCode()).isEqualTo(course.getCode());
+        assertThatThrownBy(() -> courseService.getCourseById(-1L))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Ders bulunamadı: -1");
+    }
+
+    @Test
+    void getCourseDTOByIdCountsActiveEnrollments() {
+        Roster roster = fixtures.roster(4);
+        Long courseId = roster.course().getId();
+
+        CourseDTO dto = budget.enforce("CourseService.getCourseDTOById", 3, 3,
+            () -> courseService.getCourseDTOById(courseId));
+
+        assertThat(dto.getCurrentEnrollmentCount()).isEqualTo(4);
+        assertThat(dto.getAvailableQuota()).isEqualTo(26);
+        assertThat(dto.getInstructorId()).isEqualTo(roster.instructor().getId());
+    }
+
+    @Test
+    void getCourseByCodeFailsForUnknownCode() {
+        Course course = fixtures.course(fixtures.instructor());
+
+        Course found = budget.enforce("CourseService.getCourseByCode", 1, 1,
+            () -> courseService.getCourseByCode(course.getCode()));
+
+        assertThat(found.getId()).isEqualTo(course.getId());
+        assertThatThrownBy(() -> courseService.getCourseByCode("YOK-" + course.getCode()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void getCurrentEnrollmentCountOfCourseSkipsDroppedEnrollments() {
+        Roster roster = fixtures.roster(3);
+        enrollmentService.dropEnrollment(roster.students().getFirst().getId(), roster.course().getId());
+
+        long count = budget.enforce("CourseService.getCurrentEnrollmentCount(Course)", 1, 0,
+            () -> courseService.getCurrentEnrollmentCount(roster.course()));
+
+        assertThat(count).isEqualTo(2);
+        assertThat(courseService.getCurrentEnrollmentCount((Course) null)).isZero();
+    }
+
+    @Test
+    void getCurrentEnrollmentCountOfCourseIdLoadsCourseOnce() {
+        Roster roster = fixtures.roster(3);
+
+        long count = budget.enforce("CourseService.getCurrentEnrollmentCount(Long)", 2, 1,
+            () -> courseService.getCurrentEnrollmentCount(roster.course().getId()));
+
+        assertThat(count).isEqualTo(3);
+    }
+
+    @Test
+    void isQuotaFullComparesEnrollmentsWithQuota() {
+        User instructor = fixtures.instructor();
+        Course course = fixtures.course(instructor, 2);
+        fixtures.enroll(fixtures.student(), course);
+
+        boolean notFull = budget.enforce("CourseService.isQuotaFull", 2, 1,
+            () -> courseService.isQuotaFull(course.getId()));
+        fixtures.enroll(fixtures.student(), course);
+
+        assertThat(notFull).isFalse();
+        assertThat(courseService.isQuotaFull(course.getId())).isTrue();
+    }
+
+    @Test
+    void getCourseDTOByCodeCountsActiveEnrollments() {
+        Roster roster = fixtures.roster(2);
+
+        CourseDTO dto = budget.enforce("CourseService.getCourseDTOByCode", 3, 3,
+            () -> courseService.getCourseDTOByCode(roster.course().getCode()));
+
+        assertThat(dto.getId()).isEqualTo(roster.course().getId());
+        assertThat(dto.getCurrentEnrollmentCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getAllActiveCourseDTOsSkipsInactiveCourses() {
+        Roster roster = fixtures.roster(3);
+        Course inactive = fixtures.course(roster.instructor());
+        courseService.deactivateCourse(inactive.getId());
+
+        List<CourseDTO> courses = budget.enforce("CourseService.getAllActiveCourseDTOs", 2, 10_000,
+            () -> courseService.getAllActiveCourseDTOs());
+
+        assertThat(courses).extracting(CourseDTO::getId)
+            .contains(roster.course().getId())
+            .doesNotContain(inactive.getId());
+        assertThat(courses).filteredOn(dto -> dto.getId().equals(roster.course().getId()))
+            .singleElement()
+            .satisfies(dto -> assertThat(dto.getCurrentEnrollmentCount()).isEqualTo(3));
+    }
+
+    @Test
+    void getAllCourseDTOsIncludesInactiveCourses() {
+        Roster roster = fixtures.roster(3);
+        Course inactive = fixtures.course(roster.instructor());
+        courseService.deactivateCourse(inactive.getId());
+
+        List<CourseDTO> courses = budget.enforce("CourseService.getAllCourseDTOs", 2, 10_000,
+            () -> courseService.getAllCourseDTOs());
+
+        assertThat(courses).extracting(CourseDTO::getId).contains(roster.course().getId(), inactive.getId());
+    }
+
+    @Test
+    void getCourseDTOsByIdsReturnsRequestedCoursesOnly() {
+        Roster first = fixtures.roster(2);
+        Roster second = fixtures.roster(3);
+        fixtures.course(first.instructor());
+
+        List<CourseDTO> courses = budget.enforce("CourseService.getCourseDTOsByIds", 2, 4,
+            () -> courseService.getCourseDTOsByIds(List.of(first.course().getId(), second.course().getId(), -1L)));
+
+        assertThat(courses).extracting(CourseDTO::getId)
+            .containsExactlyInAnyOrder(first.course().getId(), second.course().getId());
+        assertThat(courses).extracting(CourseDTO::getCurrentEnrollmentCount).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(courseService.getCourseDTOsByIds(List.of())).isEmpty();
+    }
+
+    private static Course newCourse(User instructor) {
+        String code = "E" + instructor.getUsername();
+        return Course.builder()
+            .code(code)
+            .name("Ders " + code)
+            .credit(3)
+            .term(TestFixtures.TERM)
+            .weeklyTotalHours(3)
+            .weeklyTheoryHours(3)
+            .weeklyPracticeHours(0)
+            .instructor(instructor)
+            .build();
+    }
+}
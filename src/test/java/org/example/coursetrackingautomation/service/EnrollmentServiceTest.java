@@ -0,0 +1,177 @@
+package org.example.coursetrackingautomation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.example.coursetrackingautomation.dto.EnrollmentDetailsDTO;
+import org.example.coursetrackingautomation.entity.Course;
+import org.example.coursetrackingautomation.entity.Enrollment;
+import org.example.coursetrackingautomation.entity.EnrollmentStatus;
+import org.example.coursetrackingautomation.entity.User;
+import org.example.coursetrackingautomation.support.DatabaseTest;
+import org.example.coursetrackingautomation.support.TestFixtures.Roster;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class EnrollmentServiceTest extends DatabaseTest {
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private AcademicSummaryService academicSummaryService;
+
+    @Test
+    void enrollStudentRejectsInactiveCourseAndDuplicates() {
+        User student = fixtures.student();
+        Course course = fixtures.course(fixtures.instructor());
+
+        Enrollment enrollment = budget.enforce("EnrollmentService.enrollStudent", 6, 2,
+            () -> enrollmentService.enrollStudent(student.getId(), course.getId()));
+
+        assertThat(enrollment.getId()).isNotNull();
+        assertThat(enrollment.getStatus()).isEqualTo(EnrollmentStatus.ENROLLED);
+        assertThatThrownBy(() -> enrollmentService.enrollStudent(student.getId(), course.getId()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("zaten kayıtlı");
+        courseService.deactivateCourse(course.getId());
+        User other = fixtures.student();
+        assertThatThrownBy(() -> enrollmentService.enrollStudent(other.getId(), course.getId()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Ders aktif değil; kayıt işlemi yapılamaz");
+    }
+
+    @Test
+    void validateQuotaFailsWhenCourseIsFull() {
+        Course course = fixtures.course(fixtures.instructor(), 1);
+
+        budget.enforceRun("EnrollmentService.validateQuota", 1, 0,
+            () -> enrollmentService.validateQuota(course));
+        fixtures.enroll(fixtures.student(), course);
+
+        assertThatThrownBy(() -> enrollmentService.validateQuota(course))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("Kontenjan dolu.");
+    }
+
+    @Test
+    void validateDuplicateEnrollmentIgnoresDroppedEnrollments() {
+        Roster roster = fixtures.roster(1);
+        User student = roster.students().getFirst();
+        Course course = roster.course();
+
+        assertThatThrownBy(() -> budget.enforceRun("EnrollmentService.validateDuplicateEnrollment", 1, 0,
+            () -> enrollmentService.validateDuplicateEnrollment(student, course)))
+            .isInstanceOf(IllegalArgumentException.class);
+        enrollmentService.dropEnrollment(student.getId(), course.getId());
+
+        assertThatCode(() -> enrollmentService.validateDuplicateEnrollment(student, course)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void isStudentEnrolledChecksActiveEnrollments() {
+        Roster roster = fixtures.roster(1);
+        User student = roster.students().getFirst();
+        User other = fixtures.student();
+
+        boolean enrolled = budget.enforce("EnrollmentService.isStudentEnrolled", 1, 0,
+            () -> enrollmentService.isStudentEnrolled(student.getId(), roster.course().getId()));
+
+        assertThat(enrolled).isTrue();
+        assertThat(enrollmentService.isStudentEnrolled(other.getId(), roster.course().getId())).isFalse();
+        assertThatThrownBy(() -> enrollmentService.isStudentEnrolled(null, roster.course().getId()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void dropEnrollmentMarksEnrollmentDroppedAndUpdatesSummary() {
+        Roster roster = fixtures.roster(1);
+        User student = roster.students().getFirst();
+        fixtures.grade(roster.course(), student, 90, 90);
+        assertThat(academicSummaryService.getCumulativeSummary(student.getId()).attemptedCredits()).isEqualTo(4);
+
+        budget.enforceRun("EnrollmentService.dropEnrollment", 9, 8,
+            () -> enrollmentService.dropEnrollment(student.getId(), roster.course().getId()));
+
+        assertThat(enrollmentService.getEnrollmentById(roster.enrollments().getFirst().getId()).getStatus())
+            .isEqualTo(EnrollmentStatus.DROPPED);
+        assertThat(academicSummaryService.getCumulativeSummary(student.getId()).attemptedCredits()).isZero();
+        assertThatThrownBy(() -> enrollmentService.dropEnrollment(student.getId(), roster.course().getId()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Öğrenci bu derse kayıtlı değil");
+    }
+
+    @Test
+    void updateEnrollmentStatusAcceptsCaseInsensitiveStatus() {
+        Roster roster = fixtures.roster(1);
+        Long enrollmentId = roster.enrollments().getFirst().getId();
+
+        Enrollment updated = budget.enforce("EnrollmentService.updateEnrollmentStatus", 6, 5,
+            () -> enrollmentService.updateEnrollmentStatus(enrollmentId, " cancelled "));
+
+        assertThat(updated.getStatus()).isEqualTo(EnrollmentStatus.CANCELLED);
+        assertThatThrownBy(() -> enrollmentService.updateEnrollmentStatus(enrollmentId, "unknown"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Desteklenmeyen kayıt durumu: UNKNOWN");
+    }
+
+    @Test
+    void getActiveEnrollmentsByCourseSkipsDroppedEnrollments() {
+        Roster roster = fixtures.roster(5);
+        enrollmentService.dropEnrollment(roster.students().getFirst().getId(), roster.course().getId());
+
+        List<Enrollment> enrollments = budget.enforce("EnrollmentService.getActiveEnrollmentsByCourse", 1, 4,
+            () -> enrollmentService.getActiveEnrollmentsByCourse(roster.course().getId()));
+
+        assertThat(enrollments).hasSize(4)
+            .extracting(Enrollment::getId)
+            .doesNotContain(roster.enrollments().getFirst().getId());
+    }
+
+    @Test
+    void getActiveEnrollmentsByStudentListsEveryCourse() {
+        User student = fixtures.student();
+        User instructor = fixtures.instructor();
+        for (int i = 0; i < 3; i++) {
+            fixtures.enroll(student, fixtures.course(instructor));
+        }
+
+        List<Enrollment> enrollments = budget.enforce("EnrollmentService.getActiveEnrollmentsByStudent", 1, 3,
+            () -> enrollmentService.getActiveEnrollmentsByStudent(student.getId()));
+
+        assertThat(enrollments).hasSize(3);
+    }
+
+    @Test
+    void getEnrollmentByIdFailsForUnknownEnrollment() {
+        Roster roster = fixtures.roster(1);
+        Long enrollmentId = roster.enrollments().getFirst().getId();
+
+        Enrollment enrollment = budget.enforce("EnrollmentService.getEnrollmentById", 2, 1,
+            () -> enrollmentService.getEnrollmentById(enrollmentId));
+
+        assertThat(enrollment.getId()).isEqualTo(enrollmentId);
+        assertThatThrownBy(() -> enrollmentService.getEnrollmentById(-1L))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Kayıt bulunamadı: -1");
+    }
+
+    @Test
+    void getEnrollmentDetailsByIdFormatsStudentAndCourse() {
+        Roster roster = fixtures.roster(1);
+        User student = roster.students().getFirst();
+        Course course = roster.course();
+
+        EnrollmentDetailsDTO details = budget.enforce("EnrollmentService.getEnrollmentDetailsById", 4, 5,
+            () -> enrollmentService.getEnrollmentDetailsById(roster.enrollments().getFirst().getId()));
+
+        assertThat(details.studentDisplay()).isEqualTo(student.getFirstName() + " " + student.getLastName());
+        assertThat(details.courseDisplay()).isEqualTo(course.getCode() + " - " + course.getName());
+        assertThat(details.status()).isEqualTo(EnrollmentStatus.ENROLLED);
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.coursetrackingautomation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class GpaRankIndexTest {
+
+    private static final Map<Long, BigDecimal> COHORT = Map.of(
+        1L, new BigDecimal("4.00"),
+        2L, new BigDecimal("4.00"),
+        3L, new BigDecimal("3.50"),
+        4L, new BigDecimal("0.00"),
+        5L, new BigDecimal("0.00"),
+        6L, new BigDecimal("2.00"));
+
+    @Test
+    void rankSharesPositionBetweenEqualGpas() {
+        GpaRankIndex index = GpaRankIndex.build(COHORT);
+
+        assertThat(index.size()).isEqualTo(6);
+        assertThat(index.rank(1L)).isEqualTo(1);
+        assertThat(index.rank(2L)).isEqualTo(1);
+        assertThat(index.rank(3L)).isEqualTo(3);
+        assertThat(index.rank(6L)).isEqualTo(4);
+        assertThat(index.rank(4L)).isEqualTo(5);
+        assertThat(index.rank(5L)).isEqualTo(5);
+        assertThat(index.rank(99L)).isZero();
+    }
+
+    @Test
+    void percentileCountsStudentsAtOrBelowGpa() {
+        GpaRankIndex index = GpaRankIndex.build(COHORT);
+
+        assertThat(index.percentile(1L)).isEqualTo(100.0);
+        assertThat(index.percentile(3L)).isCloseTo(400.0 / 6, within(1e-9));
+        assertThat(index.percentile(6L)).isCloseTo(50.0, within(1e-9));
+        assertThat(index.percentile(4L)).isCloseTo(200.0 / 6, within(1e-9));
+        assertThat(index.percentile(99L)).isZero();
+    }
+
+    @Test
+    void topOrdersByGpaThenStudentId() {
+        GpaRankIndex index = GpaRankIndex.build(COHORT);
+
+        assertThat(index.top(0)).isEmpty();
+        assertThat(index.top(1)).containsExactly(1L);
+        assertThat(index.top(3)).containsExactly(1L, 2L, 3L);
+        assertThat(index.top(5)).containsExactly(1L, 2L, 3L, 6L, 4L);
+        assertThat(index.top(100)).containsExactly(1L, 2L, 3L, 6L, 4L, 5L);
+    }
+
+    @Test
+    void boundaryGpasKeepTheirBuckets() {
+        GpaRankIndex index = GpaRankIndex.build(Map.of(
+            1L, new BigDecimal("3.999"),
+            2L, new BigDecimal("4.50"),
+            3L, new BigDecimal("-0.10"),
+            4L, BigDecimal.ZERO));
+
+        assertThat(index.gpa(1L)).isEqualByComparingTo("4.00");
+        assertThat(index.gpa(2L)).isEqualByComparingTo("4.00");
+        assertThat(index.gpa(3L)).isEqualByComparingTo("0.00");
+        assertThat(index.gpa(4L)).isEqualByComparingTo("0.00");
+        assertThat(index.rank(2L)).isEqualTo(1);
+        assertThat(index.rank(4L)).isEqualTo(3);
+        assertThat(index.percentile(3L)).isEqualTo(50.0);
+        assertThat(index.top(4)).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    void updatesMatchAFreshBuild() {
+        GpaRankIndex updated = new GpaRankIndex();
+        COHORT.forEach(updated::update);
+        updated.update(3L, new BigDecimal("4.00"));
+        updated.update(1L, null);
+        updated.update(7L, new BigDecimal("1.25"));
+
+        GpaRankIndex rebuilt = GpaRankIndex.build(Map.of(
+            2L, new BigDecimal("4.00"),
+            3L, new BigDecimal("4.00"),
+            4L, new BigDecimal("0.00"),
+            5L, new BigDecimal("0.00"),
+            6L, new BigDecimal("2.00"),
+            7L, new BigDecimal("1.25")));
+
+        assertThat(updated.contains(1L)).isFalse();
+        assertThat(updated.size()).isEqualTo(rebuilt.size());
+        assertThat(updated.top(100)).containsExactly(2L, 3L, 6L, 7L, 4L, 5L).isEqualTo(rebuilt.top(100));
+        for (long studentId = 1; studentId <= 7; studentId++) {
+            assertThat(updated.rank(studentId)).isEqualTo(rebuilt.rank(studentId));
+            assertThat(updated.percentile(studentId)).isEqualTo(rebuilt.percentile(studentId));
+        }
+    }
+}
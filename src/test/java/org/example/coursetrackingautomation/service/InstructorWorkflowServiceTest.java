@@ -0,0 +1,286 @@
+package org.example.coursetrackingautomation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.example.coursetrackingautomation.dto.AttendanceCellDTO;
+import org.example.coursetrackingautomation.dto.AttendanceMatrixDTO;
+import org.example.coursetrackingautomation.dto.ClassAttendanceResultDTO;
+import org.example.coursetrackingautomation.dto.GradeDTO;
+import org.example.coursetrackingautomation.dto.GradeStatus;
+import org.example.coursetrackingautomation.dto.InstructorCourseRosterDTO;
+import org.example.coursetrackingautomation.dto.InstructorRosterChangesDTO;
+import org.example.coursetrackingautomation.dto.RosterEditDTO;
+import org.example.coursetrackingautomation.dto.RosterEditField;
+import org.example.coursetrackingautomation.dto.RosterEditResultDTO;
+import org.example.coursetrackingautomation.entity.Course;
+import org.example.coursetrackingautomation.entity.Enrollment;
+import org.example.coursetrackingautomation.entity.EntityChange;
+import org.example.coursetrackingautomation.entity.User;
+import org.example.coursetrackingautomation.repository.EntityChangeRepository;
+import org.example.coursetrackingautomation.support.DatabaseTest;
+import org.example.coursetrackingautomation.support.TestFixtures.Roster;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class InstructorWorkflowServiceTest extends DatabaseTest {
+
+    private static final int ROSTER_SIZE = 6;
+
+    @Autowired
+    private InstructorWorkflowService instructorWorkflowService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private AcademicSummaryService academicSummaryService;
+
+    @Autowired
+    private DeltaSyncService deltaSyncService;
+
+    @Autowired
+    private EntityChangeRepository entityChangeRepository;
+
+    @Test
+    void getActiveCourseCodesForInstructorSkipsInactiveCourses() {
+        User instructor = fixtures.instructor();
+        Course active = fixtures.course(instructor);
+        Course inactive = fixtures.course(instructor);
+        courseService.deactivateCourse(inactive.getId());
+
+        List<String> codes = budget.enforce("InstructorWorkflowService.getActiveCourseCodesForInstructor", 1, 1,
+            () -> instructorWorkflowService.getActiveCourseCodesForInstructor(instructor.getId()));
+
+        assertThat(codes).containsExactly(active.getCode());
+    }
+
+    @Test
+    void getCourseRosterLoadsGradesWithoutPerStudentQueries() {
+        Roster roster = fixtures.roster(ROSTER_SIZE);
+        User graded = roster.students().getFirst();
+        fixtures.grade(roster.course(), graded, 90, 90);
+
+        InstructorCourseRosterDTO result = budget.enforce("InstructorWorkflowService.getCourseRoster", 3, 4 + 2 * ROSTER_SIZE,
+            () -> instructorWorkflowService.getCourseRoster(roster.course().getCode()));
+
+        assertThat(result.course().getId()).isEqualTo(roster.course().getId());
+        assertThat(result.rows()).hasSize(ROSTER_SIZE);
+        assertThat(result.enrollmentIdByStudentId()).containsEntry(graded.getId(), roster.enrollments().getFirst().getId());
+        assertThat(result.rows()).filteredOn(row -> row.getStudentId().equals(graded.getId()))
+            .singleElement()
+            .satisfies(row -> {
+                assertThat(row.getLetterGrade()).isEqualTo("AA");
+                assertThat(row.getStatus()).isEqualTo(GradeStatus.PASSED);
+            });
+        assertThatThrownBy(() -> instructorWorkflowService.getCourseRoster(" "))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void getCourseRosterChangesReturnsChangedRowsAndDroppedEnrollments() {
+        Roster roster = fixtures.roster(ROSTER_SIZE);
+        User graded = roster.students().getFirst();
+        User dropped = roster.students().get(1);
+        LocalDateTime since = deltaSyncService.databaseTime();
+        fixtures.grade(roster.course(), graded, 70, 80);
+        enrollmentService.dropEnrollment(dropped.getId(), roster.course().getId());
+
+        InstructorRosterChangesDTO changes = budget.enforce("InstructorWorkflowService.getCourseRosterChanges", 4, 8,
+            () -> instructorWorkflowService.getCourseRosterChanges(roster.course().getCode(), since));
+
+        assertThat(changes.rows().complete()).isFalse();
+        assertThat(changes.rows().upserts()).extracting(GradeDTO::getStudentId)
+            .containsExactlyInAnyOrder(graded.getId(), dropped.getId());
+        assertThat(instructorWorkflowService.getCourseRosterChanges(roster.course().getCode(), null).rows().complete())
+            .isTrue();
+    }
+
+    @Test
+    void getNextWeekNumberFollowsLastMarkedWeek() {
+        Roster roster = fixtures.roster(2);
+        Long courseId = roster.course().getId();
+        assertThat(instructorWorkflowService.getNextWeekNumber(courseId)).isEqualTo(1);
+        instructorWorkflowService.markWholeClass(roster.course().getCode(), 2, Set.of());
+
+        int next = budget.enforce("InstructorWorkflowService.getNextWeekNumber", 1, 0,
+            () -> instructorWorkflowService.getNextWeekNumber(courseId));
+
+        assertThat(next).isEqualTo(3);
+        instructorWorkflowService.markWholeClass(roster.course().getCode(), 14, Set.of());
+        assertThat(instructorWorkflowService.getNextWeekNumber(courseId)).isEqualTo(14);
+    }
+
+    @Test
+    void getPresentByEnrollmentIdsAndWeekNumberReturnsMarkedEnrollments() {
+        Roster roster = fixtures.roster(ROSTER_SIZE);
+        User absent = roster.students().getFirst();
+        instructorWorkflowService.markWholeClass(roster.course().getCode(), 1, Set.of(absent.getId()));
+        List<Long> enrollmentIds = roster.enrollments().stream().map(Enrollment::getId).toList();
+
+        Map<Long, Boolean> presence = budget.enforce("InstructorWorkflowService.getPresentByEnrollmentIdsAndWeekNumber", 1, 2 * ROSTER_SIZE,
+            () -> instructorWorkflowService.getPresentByEnrollmentIdsAndWeekNumber(enrollmentIds, 1));
+
+        assertThat(presence).hasSize(ROSTER_SIZE)
+            .containsEntry(roster.enrollments().getFirst().getId(), false)
+            .containsEntry(roster.enrollments().get(1).getId(), true);
+        assertThat(instructorWorkflowService.getPresentByEnrollmentIdsAndWeekNumber(enrollmentIds, 2)).isEmpty();
+    }
+
+    @Test
+    void saveCourseStudentUpdatesWritesGradesAndPresence() {
+        Roster roster = fixtures.roster(ROSTER_SIZE);
+        List<GradeDTO> rows = new ArrayList<>();
+        for (User student : roster.students()) {
+            GradeDTO row = new GradeDTO();
+            row.setStudentId(student.getId());
+            row.setMidtermScore(90.0);
+            row.setFinalScore(90.0);
+            row.setPresent(!student.equals(roster.students().getFirst()));
+            rows.add(row);
+        }
+
+        budget.enforceRun("InstructorWorkflowService.saveCourseStudentUpdates", 12 + ROSTER_SIZE, 1 + 2 * ROSTER_SIZE,
+            () -> instructorWorkflowService.saveCourseStudentUpdates(roster.course().getCode(), 1, rows));
+
+        assertThat(rows.getFirst().getAttendanceCount()).isEqualTo(4);
+        assertThat(rows.get(1).getAttendanceCount()).isZero();
+        assertThat(rows).allSatisfy(row -> assertThat(row.getLetterGrade()).isEqualTo("AA"));
+        for (User student : roster.students()) {
+            assertThat(academicSummaryService.getCumulativeSummary(student.getId()).gpaText()).isEqualTo("4.00");
+        }
+        GradeDTO stranger = new GradeDTO();
+        stranger.setStudentId(fixtures.student().getId());
+        assertThatThrownBy(() -> instructorWorkflowService.saveCourseStudentUpdates(roster.course().getCode(), 1, List.of(stranger)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Kayıt bulunamadı");
+        assertThatThrownBy(() -> instructorWorkflowService.saveCourseStudentUpdates(roster.course().getCode(), 15, rows))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void saveCourseStudentUpdatesAppliesRegradesToExistingSummaries() {
+        Roster roster = fixtures.roster(ROSTER_SIZE);
+        List<GradeDTO> rows = new ArrayList<>();
+        for (User student : roster.students()) {
+            fixtures.grade(roster.course(), student, 90, 90);
+            GradeDTO row = new GradeDTO();
+            row.setStudentId(student.getId());
+            row.setMidtermScore(0.0);
+            row.setFinalScore(0.0);
+            rows.add(row);
+        }
+
+        budget.enforceRun("InstructorWorkflowService.saveCourseStudentUpdates regrade", 6 + ROSTER_SIZE, 1 + 3 * ROSTER_SIZE,
+            () -> instructorWorkflowService.saveCourseStudentUpdates(roster.course().getCode(), null, rows));
+
+        assertThat(rows).allSatisfy(row -> assertThat(row.getLetterGrade()).isEqualTo("FF"));
+        for (User student : roster.students()) {
+            assertThat(academicSummaryService.getCumulativeSummary(student.getId()).gpaText()).isEqualTo("0.00");
+        }
+    }
+
+    @Test
+    void markWholeClassMarksEveryoneExceptAbsentStudents() {
+        Roster roster = fixtures.roster(ROSTER_SIZE);
+        User absent = roster.students().getFirst();
+        LocalDateTime since = deltaSyncService.databaseTime();
+
+        List<ClassAttendanceResultDTO> results = budget.enforce("InstructorWorkflowService.markWholeClass", 8, 1 + ROSTER_SIZE,
+            () -> instructorWorkflowService.markWholeClass(roster.course().getCode(), 1, Set.of(absent.getId())));
+
+        assertThat(results).hasSize(ROSTER_SIZE);
+        assertThat(results).filteredOn(result -> !result.present())
+            .singleElement()
+            .satisfies(result -> {
+                assertThat(result.studentId()).isEqualTo(absent.getId());
+                assertThat(result.absentHours()).isEqualTo(4);
+            });
+        assertThat(entityChangeRepository.findByCreatedAtGreaterThanEqualOrderByIdAsc(since))
+            .filteredOn(change -> roster.course().getId().equals(change.getScopeId()))
+            .extracting(EntityChange::getEntityId)
+            .containsAll(roster.enrollments().stream().map(Enrollment::getId).toList());
+        User stranger = fixtures.student();
+        assertThatThrownBy(() -> instructorWorkflowService.markWholeClass(roster.course().getCode(), 1, Set.of(stranger.getId())))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Derse kayıtlı olmayan öğrenci seçildi");
+    }
+
+    @Test
+    void getAttendanceMatrixReadsEveryWeekInOneQuery() {
+        Roster roster = fixtures.roster(ROSTER_SIZE);
+        User absent = roster.students().getFirst();
+        instructorWorkflowService.markWholeClass(roster.course().getCode(), 1, Set.of(absent.getId()));
+        instructorWorkflowService.markWholeClass(roster.course().getCode(), 3, Set.of());
+
+        AttendanceMatrixDTO matrix = budget.enforce("InstructorWorkflowService.getAttendanceMatrix", 2, 1,
+            () -> instructorWorkflowService.getAttendanceMatrix(roster.course().getCode()));
+
+        assertThat(matrix.rows()).hasSize(ROSTER_SIZE);
+        assertThat(matrix.rows()).filteredOn(row -> row.studentId().equals(absent.getId()))
+            .singleElement()
+            .satisfies(row -> {
+                assertThat(row.presence(1)).isFalse();
+                assertThat(row.presence(2)).isNull();
+                assertThat(row.presence(3)).isTrue();
+                assertThat(row.absentHours()).isEqualTo(4);
+            });
+    }
+
+    @Test
+    void saveAttendanceMatrixRecountsTouchedEnrollments() {
+        Roster roster = fixtures.roster(ROSTER_SIZE);
+        List<AttendanceCellDTO> cells = new ArrayList<>();
+        for (Enrollment enrollment : roster.enrollments()) {
+            cells.add(new AttendanceCellDTO(enrollment.getId(), 1, false));
+            cells.add(new AttendanceCellDTO(enrollment.getId(), 2, true));
+        }
+
+        AttendanceMatrixDTO matrix = budget.enforce("InstructorWorkflowService.saveAttendanceMatrix", 9, 1 + ROSTER_SIZE,
+            () -> instructorWorkflowService.saveAttendanceMatrix(roster.course().getCode(), cells));
+
+        assertThat(matrix.rows()).hasSize(ROSTER_SIZE).allSatisfy(row -> {
+            assertThat(row.presence(1)).isFalse();
+            assertThat(row.presence(2)).isTrue();
+            assertThat(row.absentHours()).isEqualTo(4);
+        });
+        Roster other = fixtures.roster(1);
+        List<AttendanceCellDTO> foreign = List.of(new AttendanceCellDTO(other.enrollments().getFirst().getId(), 1, true));
+        assertThatThrownBy(() -> instructorWorkflowService.saveAttendanceMatrix(roster.course().getCode(), foreign))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Yoklama hücresi bu derse ait değil");
+    }
+
+    @Test
+    void applyRosterEditsReportsStaleEditsAsConflicts() {
+        Roster roster = fixtures.roster(ROSTER_SIZE);
+        User stale = roster.students().getFirst();
+        fixtures.grade(roster.course(), stale, 50, 50);
+        List<RosterEditDTO> edits = new ArrayList<>();
+        for (User student : roster.students()) {
+            edits.add(new RosterEditDTO(student.getId(), RosterEditField.MIDTERM, 0, 80.0, null));
+            edits.add(RosterEditDTO.presence(student.getId(), 1, false, null));
+        }
+
+        RosterEditResultDTO result = budget.enforce("InstructorWorkflowService.applyRosterEdits", 6 + 2 * ROSTER_SIZE, 2 + 2 * ROSTER_SIZE,
+            () -> instructorWorkflowService.applyRosterEdits(roster.course().getCode(), edits));
+
+        assertThat(result.conflicts()).singleElement()
+            .satisfies(conflict -> assertThat(conflict.edit().studentId()).isEqualTo(stale.getId()));
+        assertThat(result.cells()).hasSize(ROSTER_SIZE);
+        assertThat(result.rows()).hasSize(ROSTER_SIZE).allSatisfy(row -> assertThat(row.getAttendanceCount()).isEqualTo(4));
+        assertThat(result.rows()).filteredOn(row -> !row.getStudentId().equals(stale.getId()))
+            .allSatisfy(row -> assertThat(row.getMidtermScore()).isEqualTo(80.0));
+        assertThat(result.rows()).filteredOn(row -> row.getStudentId().equals(stale.getId()))
+            .singleElement()
+            .satisfies(row -> assertThat(row.getMidtermScore()).isEqualTo(50.0));
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.coursetrackingautomation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.example.coursetrackingautomation.dto.RosterEditConflictDTO;
+import org.example.coursetrackingautomation.dto.RosterEditDTO;
+import org.example.coursetrackingautomation.dto.RosterEditField;
+import org.example.coursetrackingautomation.dto.RosterEditResultDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RosterAutosaveServiceTest {
+
+    private static final String COURSE = "BIL101";
+    private static final String REASON = "Vize notu başka bir oturumda değiştirildi";
+
+    @TempDir
+    Path journalDirectory;
+
+    private InstructorWorkflowService instructorWorkflowService;
+    private RosterAutosaveService autosave;
+    private final List<RosterEditResultDTO> flushed = new ArrayList<>();
+
+    @BeforeEach
+    void createService() {
+        instructorWorkflowService = mock(InstructorWorkflowService.class);
+        autosave = new RosterAutosaveService(instructorWorkflowService, new SimpleMeterRegistry(),
+            journalDirectory.resolve("roster-edits.journal").toString(), 0, 1_000, 50, 60_000);
+        autosave.setListener(new RosterAutosaveService.Listener() {
+            @Override
+            public void onFlushed(String courseCode, RosterEditResultDTO result) {
+                flushed.add(result);
+            }
+
+            @Override
+            public void onFlushFailed(String courseCode, int attempt, RuntimeException error) {
+            }
+        });
+    }
+
+    @Test
+    void newerEditOfConflictingCellIsRejectedExplicitly() {
+        RosterEditDTO written = midterm(70.0, 50.0);
+        RosterEditDTO newer = midterm(80.0, 50.0);
+        when(instructorWorkflowService.applyRosterEdits(eq(COURSE), anyList())).thenAnswer(invocation -> {
+            autosave.record(COURSE, newer);
+            return new RosterEditResultDTO(List.of(), List.of(), List.of(new RosterEditConflictDTO(written, REASON)));
+        });
+        autosave.record(COURSE, written);
+
+        assertThat(autosave.flushAll()).isTrue();
+
+        assertThat(autosave.hasPendingEdits()).isFalse();
+        assertThat(flushed).singleElement()
+            .satisfies(result -> assertThat(result.conflicts())
+                .extracting(RosterEditConflictDTO::edit, RosterEditConflictDTO::reason)
+                .containsExactly(
+                    tuple(written, REASON),
+                    tuple(newer, REASON)));
+    }
+
+    @Test
+    void newerEditOfWrittenCellIsRebasedOntoWrittenValue() {
+        List<List<RosterEditDTO>> batches = new ArrayList<>();
+        when(instructorWorkflowService.applyRosterEdits(eq(COURSE), anyList())).thenAnswer(invocation -> {
+            batches.add(List.copyOf(invocation.getArgument(1)));
+            if (batches.size() == 1) {
+                autosave.record(COURSE, midterm(80.0, 50.0));
+            }
+            return new RosterEditResultDTO(List.of(), List.of(), List.of());
+        });
+        autosave.record(COURSE, midterm(70.0, 50.0));
+
+        assertThat(autosave.flushAll()).isTrue();
+
+        assertThat(batches).containsExactly(List.of(midterm(70.0, 50.0)), List.of(midterm(80.0, 70.0)));
+        assertThat(flushed).hasSize(2).allSatisfy(result -> assertThat(result.conflicts()).isEmpty());
+        assertThat(autosave.hasPendingEdits()).isFalse();
+    }
+
+    private static RosterEditDTO midterm(Double value, Double expected) {
+        return new RosterEditDTO(1L, RosterEditField.MIDTERM, 0, value, expected);
+    }
+}
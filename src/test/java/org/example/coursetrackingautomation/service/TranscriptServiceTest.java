@@ -0,0 +1,81 @@
+package org.example.coursetrackingautomation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.example.coursetrackingautomation.dto.GradeDTO;
+import org.example.coursetrackingautomation.dto.GradeStatus;
+import org.example.coursetrackingautomation.dto.StudentTranscriptDTO;
+import org.example.coursetrackingautomation.entity.Course;
+import org.example.coursetrackingautomation.entity.User;
+import org.example.coursetrackingautomation.support.DatabaseTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class TranscriptServiceTest extends DatabaseTest {
+
+    private static final int COURSE_COUNT = 4;
+
+    @Autowired
+    private TranscriptService transcriptService;
+
+    @Test
+    void getStudentTranscriptReadsPersistedSummary() {
+        User student = studentWithGradedCourses();
+
+        StudentTranscriptDTO transcript = budget.enforce("TranscriptService.getStudentTranscript", 2, 1 + 3 * COURSE_COUNT,
+            () -> transcriptService.getStudentTranscript(student.getId()));
+
+        assertThat(transcript.grades()).hasSize(COURSE_COUNT);
+        assertThat(transcript.summary().attemptedCredits()).isEqualTo(4 * (COURSE_COUNT - 1));
+        assertThat(transcript.summary().gpaText()).isEqualTo(transcriptService.calculateGpaText(transcript.grades()));
+    }
+
+    @Test
+    void getTranscriptGradesForStudentLoadsCoursesAndGradesTogether() {
+        User student = studentWithGradedCourses();
+
+        List<GradeDTO> grades = budget.enforce("TranscriptService.getTranscriptGradesForStudent", 1, 3 * COURSE_COUNT,
+            () -> transcriptService.getTranscriptGradesForStudent(student.getId()));
+
+        assertThat(grades).hasSize(COURSE_COUNT).allSatisfy(row -> assertThat(row.getStudentId()).isEqualTo(student.getId()));
+        assertThat(grades).filteredOn(row -> row.getStatus() == GradeStatus.NOT_GRADED)
+            .singleElement()
+            .satisfies(row -> assertThat(row.getLetterGrade()).isNull());
+        assertThat(grades).filteredOn(row -> row.getStatus() == GradeStatus.PASSED).hasSize(COURSE_COUNT - 1);
+        assertThatThrownBy(() -> transcriptService.getTranscriptGradesForStudent(null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void calculateGpaTextWeighsLetterGradesByCredit() {
+        GradeDTO aa = new GradeDTO();
+        aa.setLetterGrade("AA");
+        aa.setCredit(3);
+        GradeDTO cc = new GradeDTO();
+        cc.setLetterGrade("CC");
+        cc.setCredit(1);
+        GradeDTO ungraded = new GradeDTO();
+        ungraded.setCredit(5);
+
+        String gpa = budget.enforce("TranscriptService.calculateGpaText", 0, 0,
+            () -> transcriptService.calculateGpaText(List.of(aa, cc, ungraded)));
+
+        assertThat(gpa).isEqualTo("3.50");
+        assertThat(transcriptService.calculateGpaText(List.of())).isEqualTo("0.00");
+    }
+
+    private User studentWithGradedCourses() {
+        User student = fixtures.student();
+        User instructor = fixtures.instructor();
+        for (int i = 0; i < COURSE_COUNT; i++) {
+            Course course = fixtures.course(instructor);
+            fixtures.enroll(student, course);
+            if (i > 0) {
+                fixtures.grade(course, student, 90, 90);
+            }
+        }
+        return student;
+    }
+}
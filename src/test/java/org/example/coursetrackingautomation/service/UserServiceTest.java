@@ -0,0 +1,174 @@
+package org.example.coursetrackingautomation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.example.coursetrackingautomation.dto.CreateUserRequest;
+import org.example.coursetrackingautomation.dto.RoleDTO;
+import org.example.coursetrackingautomation.dto.SelectOptionDTO;
+import org.example.coursetrackingautomation.dto.UpdateUserRequest;
+import org.example.coursetrackingautomation.dto.UserDetailsDTO;
+import org.example.coursetrackingautomation.entity.Role;
+import org.example.coursetrackingautomation.entity.User;
+import org.example.coursetrackingautomation.repository.UserRepository;
+import org.example.coursetrackingautomation.support.DatabaseTest;
+import org.example.coursetrackingautomation.support.TestFixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class UserServiceTest extends DatabaseTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    void createUserEncodesPasswordAndRejectsTakenUsername() {
+        User existing = fixtures.student();
+        String username = "new" + existing.getUsername();
+        CreateUserRequest request = new CreateUserRequest(
+            " " + username + " ", "secret", " Ada ", "Yılmaz", RoleDTO.STUDENT, "S-1", null, null, true);
+
+        User created = budget.enforce("UserService.createUser", 3, 0,
+            () -> userService.createUser(request));
+
+        assertThat(created.getUsername()).isEqualTo(username);
+        assertThat(created.getFirstName()).isEqualTo("Ada");
+        assertThat(created.getRole()).isEqualTo(Role.STUDENT);
+        assertThat(passwordEncoder.matches("secret", created.getPassword())).isTrue();
+        assertThatThrownBy(() -> userService.createUser(request))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Bu kullanıcı adı zaten kullanılıyor");
+    }
+
+    @Test
+    void updateUserAppliesPartialUpdate() {
+        User user = fixtures.instructor();
+
+        User updated = budget.enforce("UserService.updateUser", 3, 1,
+            () -> userService.updateUser(user.getId(), new UpdateUserRequest(" ", "Kaya", "kaya@test.local", "555", null)));
+
+        assertThat(updated.getFirstName()).isEqualTo(user.getFirstName());
+        assertThat(updated.getLastName()).isEqualTo("Kaya");
+        assertThat(updated.getEmail()).isEqualTo("kaya@test.local");
+        assertThat(updated.getPhone()).isEqualTo("555");
+        assertThat(passwordEncoder.matches(TestFixtures.PASSWORD, updated.getPassword())).isTrue();
+    }
+
+    @Test
+    void ensureDefaultAdminUserExistsIsIdempotent() {
+        userService.ensureDefaultAdminUserExists();
+
+        budget.enforceRun("UserService.ensureDefaultAdminUserExists", 1, 1,
+            () -> userService.ensureDefaultAdminUserExists());
+
+        assertThat(userRepository.findByUsername("admin"))
+            .hasValueSatisfying(admin -> assertThat(admin.getRole()).isEqualTo(Role.ADMIN));
+    }
+
+    @Test
+    void changePasswordVerifiesCurrentPassword() {
+        User user = fixtures.student();
+
+        budget.enforceRun("UserService.changePassword", 3, 1,
+            () -> userService.changePassword(user.getId(), TestFixtures.PASSWORD, "new-password"));
+
+        assertThat(passwordEncoder.matches("new-password", userService.getUserById(user.getId()).getPassword())).isTrue();
+        assertThatThrownBy(() -> userService.changePassword(user.getId(), TestFixtures.PASSWORD, "other"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Mevcut şifre yanlış");
+    }
+
+    @Test
+    void getUserByIdFailsForUnknownUser() {
+        User user = fixtures.admin();
+
+        User found = budget.enforce("UserService.getUserById", 1, 1,
+            () -> userService.getUserById(user.getId()));
+
+        assertThat(found.getUsername()).isEqualTo(user.getUsername());
+        assertThatThrownBy(() -> userService.getUserById(-1L))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Kullanıcı bulunamadı");
+    }
+
+    @Test
+    void getActiveUsersByRoleSkipsInactiveUsers() {
+        User active = fixtures.instructor();
+        User inactive = inactiveInstructor();
+
+        List<User> instructors = budget.enforce("UserService.getActiveUsersByRole(Role)", 1, 10_000,
+            () -> userService.getActiveUsersByRole(Role.INSTRUCTOR));
+
+        assertThat(instructors).extracting(User::getId)
+            .contains(active.getId())
+            .doesNotContain(inactive.getId());
+        assertThat(instructors).allSatisfy(user -> assertThat(user.getRole()).isEqualTo(Role.INSTRUCTOR));
+    }
+
+    @Test
+    void getActiveUsersByRoleDtoMapsRole() {
+        User student = fixtures.student();
+
+        List<User> students = budget.enforce("UserService.getActiveUsersByRole(RoleDTO)", 1, 10_000,
+            () -> userService.getActiveUsersByRole(RoleDTO.STUDENT));
+
+        assertThat(students).extracting(User::getId).contains(student.getId());
+        assertThatThrownBy(() -> userService.getActiveUsersByRole((RoleDTO) null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void getActiveUserOptionsByRoleLoadsNoEntities() {
+        User active = fixtures.instructor();
+        User inactive = inactiveInstructor();
+
+        List<SelectOptionDTO> options = budget.enforce("UserService.getActiveUserOptionsByRole(Role)", 1, 0,
+            () -> userService.getActiveUserOptionsByRole(Role.INSTRUCTOR));
+
+        assertThat(options).extracting(SelectOptionDTO::id)
+            .contains(active.getId())
+            .doesNotContain(inactive.getId());
+        assertThat(options).filteredOn(option -> option.id().equals(active.getId()))
+            .singleElement()
+            .satisfies(option -> assertThat(option.label())
+                .isEqualTo(active.getFirstName() + " " + active.getLastName() + " (" + active.getUsername() + ")"));
+    }
+
+    @Test
+    void getActiveUserOptionsByRoleDtoLoadsNoEntities() {
+        User student = fixtures.student();
+
+        List<SelectOptionDTO> options = budget.enforce("UserService.getActiveUserOptionsByRole(RoleDTO)", 1, 0,
+            () -> userService.getActiveUserOptionsByRole(RoleDTO.STUDENT));
+
+        assertThat(options).extracting(SelectOptionDTO::id).contains(student.getId());
+        assertThatCode(() -> userService.getActiveUserOptionsByRole(RoleDTO.ADMIN)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void getUserDetailsByIdCopiesContactFields() {
+        User user = fixtures.student();
+
+        UserDetailsDTO details = budget.enforce("UserService.getUserDetailsById", 1, 1,
+            () -> userService.getUserDetailsById(user.getId()));
+
+        assertThat(details).isEqualTo(new UserDetailsDTO(
+            user.getId(), user.getUsername(), user.getFirstName(), user.getLastName(), user.getEmail(), user.getPhone()));
+    }
+
+    private User inactiveInstructor() {
+        User instructor = fixtures.instructor();
+        return userService.createUser(new CreateUserRequest(
+            "off" + instructor.getUsername(), TestFixtures.PASSWORD, "Pasif", "Hoca", RoleDTO.INSTRUCTOR,
+            null, null, null, false));
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.coursetrackingautomation.support;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.coursetrackingautomation.diagnostics.SqlStatementBudget;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest
+@ActiveProfiles("test")
+/**
+ * Base class of the tests that run the services against PostgreSQL with the full application context.
+ *
+ * <p>All subclasses share one context and one database (see {@link TestDatabase}); the tests are skipped
+ * when no database is available. Tests are not rolled back, because a surrounding test transaction would
+ * change the statements the services issue, so every test creates its own rows with {@link TestFixtures}.
+ * The {@link #budget} checks the SQL statements and entity loads of one call.</p>
+ */
+public abstract class DatabaseTest {
+
+    @Autowired
+    protected TestFixtures fixtures;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    protected SqlStatementBudget budget;
+
+    @BeforeAll
+    static void requireDatabase() {
+        assumeTrue(TestDatabase.isAvailable(),
+            "No test database: set -D" + TestDatabase.URL_PROPERTY + " or make Docker available");
+    }
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) {
+        TestDatabase.registerProperties(registry);
+    }
+
+    @BeforeEach
+    void createBudget() {
+        budget = new SqlStatementBudget(entityManagerFactory);
+    }
+}
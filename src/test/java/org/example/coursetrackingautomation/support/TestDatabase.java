@@ -0,0 +1,57 @@
+package org.example.coursetrackingautomation.support;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * PostgreSQL database of the {@link DatabaseTest database tests}.
+ *
+ * <p>A database named by the {@value #URL_PROPERTY} system property (with {@value #USERNAME_PROPERTY} and
+ * {@value #PASSWORD_PROPERTY}) is used as is, for example
+ * {@code mvn test -Dtest.database.url=jdbc:postgresql://localhost:5432/coursetracking_test}. Otherwise a
+ * PostgreSQL container is started once per test run when Docker is available. The database tests are
+ * skipped when neither is the case.</p>
+ */
+final class TestDatabase {
+
+    static final String URL_PROPERTY = "test.database.url";
+    static final String USERNAME_PROPERTY = "test.database.username";
+    static final String PASSWORD_PROPERTY = "test.database.password";
+
+    private static final String IMAGE = "postgres:16-alpine";
+
+    private static PostgreSQLContainer container;
+
+    private TestDatabase() {
+    }
+
+    /**
+     * @return whether a database is configured or can be started
+     */
+    static boolean isAvailable() {
+        return System.getProperty(URL_PROPERTY) != null || DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    /**
+     * Points the application data source at the test database, starting the container on first use.
+     *
+     * @param registry registry of the test context properties
+     */
+    static synchronized void registerProperties(DynamicPropertyRegistry registry) {
+        String url = System.getProperty(URL_PROPERTY);
+        if (url != null) {
+            registry.add("spring.datasource.url", () -> url);
+            registry.add("spring.datasource.username", () -> System.getProperty(USERNAME_PROPERTY, "postgres"));
+            registry.add("spring.datasource.password", () -> System.getProperty(PASSWORD_PROPERTY, ""));
+            return;
+        }
+        if (container == null) {
+            container = new PostgreSQLContainer(IMAGE);
+            container.start();
+        }
+        registry.add("spring.datasource.url", container::getJdbcUrl);
+        registry.add("spring.datasource.username", container::getUsername);
+        registry.add("spring.datasource.password", container::getPassword);
+    }
+}
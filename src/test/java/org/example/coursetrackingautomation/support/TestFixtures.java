@@ -0,0 +1,168 @@
+package org.example.coursetrackingautomation.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import org.example.coursetrackingautomation.dto.CreateCourseRequest;
+import org.example.coursetrackingautomation.dto.CreateUserRequest;
+import org.example.coursetrackingautomation.dto.GradeDTO;
+import org.example.coursetrackingautomation.dto.RoleDTO;
+import org.example.coursetrackingautomation.entity.Course;
+import org.example.coursetrackingautomation.entity.Enrollment;
+import org.example.coursetrackingautomation.entity.User;
+import org.example.coursetrackingautomation.service.CourseService;
+import org.example.coursetrackingautomation.service.EnrollmentService;
+import org.example.coursetrackingautomation.service.InstructorWorkflowService;
+import org.example.coursetrackingautomation.service.UserService;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+/**
+ * Creates the users, courses and enrollments of the {@link DatabaseTest database tests} through the
+ * services, so they go through the same validation and events as rows created in the application.
+ *
+ * <p>Usernames and course codes carry a per-run prefix, so tests can run repeatedly against the same
+ * database.</p>
+ */
+public class TestFixtures {
+
+    public static final String PASSWORD = "test-password";
+    public static final String TERM = "2025-2026 Güz";
+
+    private static final String RUN_PREFIX = Long.toString(System.currentTimeMillis(), 36).toUpperCase(Locale.ROOT);
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private final UserService userService;
+    private final CourseService courseService;
+    private final EnrollmentService enrollmentService;
+    private final InstructorWorkflowService instructorWorkflowService;
+
+    /**
+     * A course with enrolled students.
+     *
+     * @param course the course
+     * @param instructor instructor of the course
+     * @param students enrolled students, in enrollment order
+     * @param enrollments enrollments of the students, in the same order
+     */
+    public record Roster(Course course, User instructor, List<User> students, List<Enrollment> enrollments) {
+    }
+
+    /**
+     * @return a new active instructor
+     */
+    public User instructor() {
+        return user(RoleDTO.INSTRUCTOR);
+    }
+
+    /**
+     * @return a new active student
+     */
+    public User student() {
+        return user(RoleDTO.STUDENT);
+    }
+
+    /**
+     * @return a new active administrator
+     */
+    public User admin() {
+        return user(RoleDTO.ADMIN);
+    }
+
+    /**
+     * Creates an active user.
+     *
+     * @param role role of the user
+     * @return the user
+     */
+    public User user(RoleDTO role) {
+        String username = uniqueName(role.name().toLowerCase(Locale.ROOT));
+        return userService.createUser(new CreateUserRequest(
+            username,
+            PASSWORD,
+            "Test",
+            username,
+            role,
+            role == RoleDTO.STUDENT ? username : null,
+            username + "@test.local",
+            null,
+            true
+        ));
+    }
+
+    /**
+     * Creates an active course of 4 credits and 4 weekly hours (3 theory, 1 practice) with a quota of 30.
+     *
+     * @param instructor instructor of the course
+     * @return the course
+     */
+    public Course course(User instructor) {
+        return course(instructor, 30);
+    }
+
+    /**
+     * Creates an active course of 4 credits and 4 weekly hours (3 theory, 1 practice).
+     *
+     * @param instructor instructor of the course
+     * @param quota quota of the course
+     * @return the course
+     */
+    public Course course(User instructor, int quota) {
+        String code = uniqueName("T");
+        return courseService.createCourse(new CreateCourseRequest(
+            code, "Test dersi " + code, 4, quota, TERM, instructor.getId(), 4, 3, 1));
+    }
+
+    /**
+     * Enrolls a student into a course.
+     *
+     * @param student the student
+     * @param course the course
+     * @return the enrollment
+     */
+    public Enrollment enroll(User student, Course course) {
+        return enrollmentService.enrollStudent(student.getId(), course.getId());
+    }
+
+    /**
+     * Creates a course of a new instructor with new students enrolled.
+     *
+     * @param studentCount number of students
+     * @return the course and its students
+     */
+    public Roster roster(int studentCount) {
+        User instructor = instructor();
+        Course course = course(instructor, Math.max(30, studentCount));
+        List<User> students = new ArrayList<>(studentCount);
+        List<Enrollment> enrollments = new ArrayList<>(studentCount);
+        for (int i = 0; i < studentCount; i++) {
+            User student = student();
+            students.add(student);
+            enrollments.add(enroll(student, course));
+        }
+        return new Roster(course, instructor, List.copyOf(students), List.copyOf(enrollments));
+    }
+
+    /**
+     * Saves the midterm and final scores of a student through the instructor workflow.
+     *
+     * @param course course of the enrollment
+     * @param student enrolled student
+     * @param midterm midterm score
+     * @param finalScore final score
+     */
+    public void grade(Course course, User student, double midterm, double finalScore) {
+        GradeDTO row = new GradeDTO();
+        row.setStudentId(student.getId());
+        row.setMidtermScore(midterm);
+        row.setFinalScore(finalScore);
+        instructorWorkflowService.saveCourseStudentUpdates(course.getCode(), null, List.of(row));
+    }
+
+    private static String uniqueName(String prefix) {
+        return prefix + RUN_PREFIX + SEQUENCE.incrementAndGet();
+    }
+}